@@ -0,0 +1,139 @@
+package com.undercooked.game.benchmarks;
+
+/**
+ * A piece of work to be timed by the {@link BenchmarkLauncher}.
+ * <br>
+ * Each run calls {@link #setUp()}, which isn't timed, and then
+ * {@link #run()}, which is. The first {@link #WARMUP_RUNS} runs are
+ * not counted, so that the JIT has compiled the code being timed.
+ */
+public abstract class Benchmark {
+
+  /**
+   * The number of runs before the timed runs.
+   */
+  public static final int WARMUP_RUNS = 5;
+
+  /**
+   * The number of timed runs.
+   */
+  public static final int MEASURED_RUNS = 20;
+
+  /**
+   * The timings of a {@link Benchmark}.
+   */
+  public static class Report {
+    /**
+     * The name of the {@link Benchmark}.
+     */
+    public String name;
+
+    /**
+     * The number of timed runs.
+     */
+    public int runs;
+
+    /**
+     * The mean time of a run, in nanoseconds.
+     */
+    public double meanNanos;
+
+    /**
+     * The fastest run, in nanoseconds.
+     */
+    public long minNanos;
+
+    /**
+     * The slowest run, in nanoseconds.
+     */
+    public long maxNanos;
+
+    @Override
+    public String toString() {
+      return String.format("%-48s mean %10.3fms, min %10.3fms, max %10.3fms (%d runs)",
+              name, meanNanos / 1e6, minNanos / 1e6, maxNanos / 1e6, runs);
+    }
+  }
+
+  /**
+   * The name of the {@link Benchmark}.
+   */
+  private final String name;
+
+  /**
+   * The results of the runs, added together so that the work
+   * can't be skipped by the JIT.
+   */
+  private long sink;
+
+  /**
+   * Constructor for the {@link Benchmark}.
+   *
+   * @param name {@link String} : The name of the {@link Benchmark}.
+   */
+  protected Benchmark(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Set up anything that's needed before a run, which isn't timed.
+   */
+  protected void setUp() {
+
+  }
+
+  /**
+   * Do the work being timed.
+   *
+   * @return {@code long} : Any result of the work, such as a count, so
+   *         that the work isn't removed by the JIT.
+   */
+  protected abstract long run();
+
+  /**
+   * Warm up and then time the {@link Benchmark}.
+   *
+   * @return {@link Report} : The timings.
+   */
+  public Report measure() {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      setUp();
+      sink += run();
+    }
+
+    Report report = new Report();
+    report.name = name;
+    report.runs = MEASURED_RUNS;
+    report.minNanos = Long.MAX_VALUE;
+    long total = 0;
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      setUp();
+      long start = System.nanoTime();
+      sink += run();
+      long time = System.nanoTime() - start;
+      total += time;
+      report.minNanos = Math.min(report.minNanos, time);
+      report.maxNanos = Math.max(report.maxNanos, time);
+    }
+    report.meanNanos = (double) total / MEASURED_RUNS;
+    return report;
+  }
+
+  /**
+   * Returns the name of the {@link Benchmark}.
+   *
+   * @return {@link String} : The name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the results of all the runs added together.
+   *
+   * @return {@code long} : The results of the runs.
+   */
+  public long getSink() {
+    return sink;
+  }
+}
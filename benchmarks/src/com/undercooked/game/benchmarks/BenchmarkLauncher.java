@@ -0,0 +1,67 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Runs the {@link Benchmark}s from the command line, and prints their
+ * {@link Benchmark.Report}s.
+ * <br><br>
+ * Any arguments filter which {@link Benchmark}s are run, by only running
+ * those with a name containing one of them. With no arguments, they are
+ * all run. It should be run from the assets directory, which the
+ * {@code benchmark} Gradle task does.
+ */
+public class BenchmarkLauncher {
+
+  /**
+   * Run the {@link Benchmark}s from the command line.
+   *
+   * @param args {@link String}[] : The arguments.
+   */
+  public static void main(final String[] args) {
+    HeadlessLauncher.launch(new Runnable() {
+      @Override
+      public void run() {
+        for (Benchmark benchmark : getBenchmarks()) {
+          if (!matches(benchmark, args)) {
+            continue;
+          }
+          System.out.println(benchmark.measure());
+        }
+      }
+    });
+  }
+
+  /**
+   * Returns all of the {@link Benchmark}s.
+   *
+   * @return {@link Array}&lt;{@link Benchmark}&gt; : The {@link Benchmark}s.
+   */
+  public static Array<Benchmark> getBenchmarks() {
+    Array<Benchmark> benchmarks = new Array<>();
+    MapEntityIndexBenchmarks.addTo(benchmarks);
+    NavigationBenchmarks.addTo(benchmarks);
+    SnapshotBenchmarks.addTo(benchmarks);
+    return benchmarks;
+  }
+
+  /**
+   * Returns whether a {@link Benchmark} should be run.
+   *
+   * @param benchmark {@link Benchmark} : The {@link Benchmark}.
+   * @param filters   {@link String}[] : The filters, which may be empty.
+   * @return {@code boolean} : {@code true} if there are no filters, or its
+   *         name contains one of them, {@code false} if not.
+   */
+  private static boolean matches(Benchmark benchmark, String[] filters) {
+    if (filters.length == 0) {
+      return true;
+    }
+    for (String filter : filters) {
+      if (benchmark.getName().contains(filter)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,39 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * A class to run a task inside a {@link HeadlessApplication}, so that it
+ * can use {@link Gdx#files} and {@link Gdx#audio} without opening a window.
+ */
+public final class HeadlessLauncher {
+
+  private HeadlessLauncher() {
+
+  }
+
+  /**
+   * Start a {@link HeadlessApplication}, run the task once it has been
+   * created, and then close it.
+   *
+   * @param task {@link Runnable} : The task to run.
+   */
+  public static void launch(final Runnable task) {
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // Nothing needs to be rendered, only created
+    config.updatesPerSecond = -1;
+    new HeadlessApplication(new ApplicationAdapter() {
+      @Override
+      public void create() {
+        try {
+          task.run();
+        } finally {
+          Gdx.app.exit();
+        }
+      }
+    }, config);
+  }
+}
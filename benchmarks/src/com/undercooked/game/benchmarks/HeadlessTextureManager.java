@@ -0,0 +1,115 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.undercooked.game.assets.TextureManager;
+
+/**
+ * A {@link TextureManager} that never loads any {@link Texture}s, for running
+ * the game without a window or OpenGL.
+ * <br>
+ * Every path gives the same placeholder {@link Texture}, which has a size
+ * but no image, so that the game can still make its
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite}s and animations from it.
+ */
+public class HeadlessTextureManager extends TextureManager {
+
+  /**
+   * The width and height of the placeholder {@link Texture}. It only needs
+   * to be large enough for the cook walk sheets to be split into frames.
+   */
+  public static final int PLACEHOLDER_SIZE = 64;
+
+  /**
+   * The placeholder given for every path.
+   */
+  private final Texture placeholder;
+
+  /**
+   * The {@link TextureRegion} covering the whole {@link #placeholder}.
+   */
+  private final TextureRegion placeholderRegion;
+
+  /**
+   * Constructor for the {@link HeadlessTextureManager}.
+   *
+   * @param assetManager {@link AssetManager} : The {@link AssetManager} the
+   *                     rest of the game's assets are loaded with.
+   */
+  public HeadlessTextureManager(AssetManager assetManager) {
+    super(assetManager);
+    this.placeholder = new PlaceholderTexture(PLACEHOLDER_SIZE, PLACEHOLDER_SIZE);
+    this.placeholderRegion = new TextureRegion(placeholder);
+  }
+
+  @Override
+  protected void loadManager() {
+    // There is no default texture to load
+  }
+
+  @Override
+  public Texture get(String path) {
+    return placeholder;
+  }
+
+  @Override
+  public TextureRegion getRegion(String path) {
+    return placeholderRegion;
+  }
+
+  @Override
+  public boolean pack(String textureGroup) {
+    return false;
+  }
+
+  @Override
+  public boolean load(String textureGroup, String path) {
+    return true;
+  }
+
+  @Override
+  public void unload(String textureGroup, boolean unloadRepeats) {
+
+  }
+
+  @Override
+  public void unloadTexture(String texturePath) {
+
+  }
+
+  /**
+   * A {@link Texture} with a size, but without any image or OpenGL texture.
+   */
+  private static class PlaceholderTexture extends Texture {
+
+    private final int width;
+
+    private final int height;
+
+    PlaceholderTexture(int width, int height) {
+      // A handle of 0 means that there is no OpenGL texture to delete
+      super(GL20.GL_TEXTURE_2D, 0, new GLOnlyTextureData(width, height, 0, 0, 0, 0));
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public void load(TextureData data) {
+      // Nothing is uploaded, as there is no OpenGL
+    }
+
+    @Override
+    public int getWidth() {
+      return width;
+    }
+
+    @Override
+    public int getHeight() {
+      return height;
+    }
+  }
+}
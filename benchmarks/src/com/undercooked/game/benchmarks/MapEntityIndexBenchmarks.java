@@ -0,0 +1,121 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapEntity;
+
+/**
+ * {@link Benchmark}s for placing, listing and removing the {@link MapEntity}s
+ * of a large {@link Map}, which are indexed by the cells they take up.
+ * <br>
+ * The {@link Map} is {@link #SIZE} cells wide and tall, with a row of
+ * stations on every other row.
+ */
+public final class MapEntityIndexBenchmarks {
+
+  /**
+   * The width and height of the {@link Map}.
+   */
+  public static final int SIZE = 200;
+
+  private MapEntityIndexBenchmarks() {
+
+  }
+
+  /**
+   * Add the {@link Benchmark}s to an {@link Array}.
+   *
+   * @param benchmarks {@link Array}&lt;{@link Benchmark}&gt; : The
+   *                   {@link Array} to add to.
+   */
+  public static void addTo(Array<Benchmark> benchmarks) {
+    benchmarks.add(new Benchmark("map index: place " + SIZE + "x" + SIZE) {
+      private Map map;
+      private Array<MapEntity> entities;
+
+      @Override
+      protected void setUp() {
+        map = new Map(SIZE, SIZE);
+        entities = newStations();
+      }
+
+      @Override
+      protected long run() {
+        place(map, entities);
+        return map.getEntityCount();
+      }
+    });
+
+    benchmarks.add(new Benchmark("map index: getAllEntities " + SIZE + "x" + SIZE) {
+      private Map map;
+
+      @Override
+      protected void setUp() {
+        if (map == null) {
+          map = new Map(SIZE, SIZE);
+          place(map, newStations());
+        }
+      }
+
+      @Override
+      protected long run() {
+        // As ScenarioLogic.reset does
+        return map.getAllEntities().size;
+      }
+    });
+
+    benchmarks.add(new Benchmark("map index: remove " + SIZE + "x" + SIZE) {
+      private Map map;
+      private Array<MapEntity> entities;
+
+      @Override
+      protected void setUp() {
+        map = new Map(SIZE, SIZE);
+        entities = newStations();
+        place(map, entities);
+      }
+
+      @Override
+      protected long run() {
+        long removed = 0;
+        for (MapEntity entity : entities) {
+          if (map.removeEntity(entity)) {
+            removed++;
+          }
+        }
+        return removed;
+      }
+    });
+  }
+
+  /**
+   * Returns enough 1x1 stations to fill every other row of the {@link Map}.
+   *
+   * @return {@link Array}&lt;{@link MapEntity}&gt; : The stations.
+   */
+  private static Array<MapEntity> newStations() {
+    Array<MapEntity> entities = new Array<>();
+    for (int i = 0; i < SIZE * SIZE / 2; i++) {
+      MapEntity entity = new MapEntity();
+      entity.setWidth(1);
+      entity.setHeight(1);
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  /**
+   * Place the stations on every other row of the {@link Map}.
+   *
+   * @param map      {@link Map} : The {@link Map} to place on.
+   * @param entities {@link Array}&lt;{@link MapEntity}&gt; : The stations.
+   */
+  private static void place(Map map, Array<MapEntity> entities) {
+    int i = 0;
+    for (int y = 0; y < SIZE; y += 2) {
+      for (int x = 0; x < SIZE; x++) {
+        map.addFullMapEntity(entities.get(i++), x, y, null, true);
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.map.FlowField;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapEntity;
+import com.undercooked.game.map.NavigationGrid;
+
+/**
+ * {@link Benchmark}s for {@link #AGENTS} agents walking to random stations
+ * using the {@link NavigationGrid} of a generated kitchen.
+ * <br>
+ * The kitchen is {@link #SIZE} cells wide and tall, with rows of counters
+ * that have a gap every 10 cells, so that the agents have to walk around them.
+ */
+public final class NavigationBenchmarks {
+
+  /**
+   * The width and height of the kitchen.
+   */
+  public static final int SIZE = 100;
+
+  /**
+   * The number of agents walking at once.
+   */
+  public static final int AGENTS = 100;
+
+  /**
+   * The seed for picking the agents' cells and stations, so that
+   * every run walks the same paths.
+   */
+  public static final long SEED = 12345L;
+
+  private NavigationBenchmarks() {
+
+  }
+
+  /**
+   * Add the {@link Benchmark}s to an {@link Array}.
+   *
+   * @param benchmarks {@link Array}&lt;{@link Benchmark}&gt; : The
+   *                   {@link Array} to add to.
+   */
+  public static void addTo(Array<Benchmark> benchmarks) {
+    final Kitchen kitchen = new Kitchen();
+
+    benchmarks.add(new Benchmark("navigation: build " + AGENTS + " flow fields "
+            + SIZE + "x" + SIZE) {
+      @Override
+      protected void setUp() {
+        kitchen.placeAgents();
+        kitchen.navigation.invalidate();
+      }
+
+      @Override
+      protected long run() {
+        for (int i = 0; i < AGENTS; i++) {
+          kitchen.navigation.getFlowField(kitchen.agentTargets[i]);
+        }
+        return kitchen.navigation.getFlowFieldCount();
+      }
+    });
+
+    benchmarks.add(new Benchmark("navigation: walk " + AGENTS + " agents "
+            + SIZE + "x" + SIZE) {
+      @Override
+      protected void setUp() {
+        kitchen.placeAgents();
+        // Build the flow fields first, so only the walking is timed
+        for (int i = 0; i < AGENTS; i++) {
+          kitchen.navigation.getFlowField(kitchen.agentTargets[i]);
+        }
+      }
+
+      @Override
+      protected long run() {
+        return kitchen.walkAgents();
+      }
+    });
+  }
+
+  /**
+   * The generated kitchen and the agents walking in it.
+   */
+  private static class Kitchen {
+    final Map map;
+    final Array<MapEntity> stations;
+    final NavigationGrid navigation;
+    final int[] agentCells;
+    final MapEntity[] agentTargets;
+
+    Kitchen() {
+      map = new Map(SIZE, SIZE);
+      stations = new Array<>();
+      // Rows of counters, with a gap every 10 cells
+      for (int y = 3; y < SIZE; y += 4) {
+        for (int x = 0; x < SIZE; x++) {
+          if (x % 10 == 5) {
+            continue;
+          }
+          MapEntity counter = new MapEntity();
+          counter.setWidth(1);
+          counter.setHeight(1);
+          map.addFullMapEntity(counter, x, y, null, true);
+          stations.add(counter);
+        }
+      }
+      navigation = map.getNavigation();
+      agentCells = new int[AGENTS];
+      agentTargets = new MapEntity[AGENTS];
+    }
+
+    /**
+     * Put each agent in a random open cell, walking to a random station.
+     */
+    void placeAgents() {
+      MathUtils.random.setSeed(SEED);
+      for (int i = 0; i < AGENTS; i++) {
+        agentCells[i] = map.randomOpenCellFull(Map.MapCellType.COLLIDABLE, null).getIndex();
+        agentTargets[i] = stations.get(MathUtils.random(stations.size - 1));
+      }
+    }
+
+    /**
+     * Step every agent a cell at a time until they have all arrived.
+     *
+     * @return {@code int} : The number of ticks it took.
+     */
+    int walkAgents() {
+      int ticks = 0;
+      int arrived = 0;
+      while (arrived < AGENTS && ticks < SIZE * SIZE) {
+        arrived = 0;
+        for (int i = 0; i < AGENTS; i++) {
+          int next = navigation.getNextCell(agentTargets[i], agentCells[i]);
+          // Agents that can't reach their station stay where they are
+          if (next == agentCells[i] || next == FlowField.UNREACHABLE) {
+            arrived++;
+            continue;
+          }
+          agentCells[i] = next;
+        }
+        ticks++;
+      }
+      return ticks;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.undercooked.game.input.InputController;
+import com.undercooked.game.input.Keys;
+
+/**
+ * A player for a simulated {@link com.undercooked.game.logic.GameLogic},
+ * which presses random inputs so that the game can be played without
+ * a keyboard.
+ * <br>
+ * The current {@link com.undercooked.game.entity.cook.Cook} walks in a
+ * random direction for a random number of updates, and every so often
+ * presses interact, take or drop. Everything it does goes through the same
+ * inputs as a player's key presses, so the {@link com.undercooked.game.entity.cook.Cook}
+ * moves and collides, and uses the stations it happens to face, just as it
+ * would in the game.
+ * <br>
+ * It does not try to cook or serve anything, so it is only a load for the
+ * game to update, and not a measure of how well it can be played.
+ */
+public class RandomCook {
+
+  /**
+   * The fewest updates that a direction is walked in for.
+   */
+  public static final int MIN_WALK_TICKS = 5;
+
+  /**
+   * The most updates that a direction is walked in for.
+   */
+  public static final int MAX_WALK_TICKS = 40;
+
+  /**
+   * The chance, each update, of pressing one of the {@link #PRESS_INPUTS}.
+   */
+  public static final float PRESS_CHANCE = 0.05f;
+
+  /**
+   * The inputs that walk the {@link com.undercooked.game.entity.cook.Cook}.
+   */
+  private static final String[] WALK_INPUTS = {
+    Keys.cook_up, Keys.cook_down, Keys.cook_left, Keys.cook_right
+  };
+
+  /**
+   * The inputs that are pressed for a single update at a time.
+   */
+  private static final String[] PRESS_INPUTS = {
+    Keys.interact, Keys.take, Keys.drop
+  };
+
+  /**
+   * The random numbers used to pick the inputs. This is separate from the
+   * game's random numbers, so that playing doesn't change what the game does.
+   */
+  private final RandomXS128 random;
+
+  /**
+   * The number of updates left before a new direction is picked.
+   */
+  private int walkTicks;
+
+  /**
+   * Constructor for the {@link RandomCook}.
+   *
+   * @param seed {@code long} : The seed for picking the inputs.
+   */
+  public RandomCook(long seed) {
+    this.random = new RandomXS128(seed);
+  }
+
+  /**
+   * Set the inputs for the next update of the game.
+   * This should be called once before every update.
+   */
+  public void act() {
+    // Let go of anything pressed for the last update, so it can be pressed again
+    for (String input : PRESS_INPUTS) {
+      InputController.setInputPressed(input, false);
+    }
+
+    // Pick a new direction, or to stand still
+    walkTicks--;
+    if (walkTicks <= 0) {
+      int walkIndex = random.nextInt(WALK_INPUTS.length + 1) - 1;
+      for (int i = 0; i < WALK_INPUTS.length; i++) {
+        InputController.setInputPressed(WALK_INPUTS[i], i == walkIndex);
+      }
+      walkTicks = MIN_WALK_TICKS + random.nextInt(MAX_WALK_TICKS - MIN_WALK_TICKS + 1);
+    }
+
+    // Sometimes use whatever the Cook is facing
+    if (random.nextFloat() < PRESS_CHANCE) {
+      InputController.setInputPressed(PRESS_INPUTS[random.nextInt(PRESS_INPUTS.length)], true);
+    }
+  }
+
+  /**
+   * Let go of all of the inputs that the {@link RandomCook} presses.
+   */
+  public void release() {
+    for (String input : WALK_INPUTS) {
+      InputController.setInputPressed(input, false);
+    }
+    for (String input : PRESS_INPUTS) {
+      InputController.setInputPressed(input, false);
+    }
+    walkTicks = 0;
+  }
+}
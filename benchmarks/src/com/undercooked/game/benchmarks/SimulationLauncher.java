@@ -0,0 +1,96 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.logic.Difficulty;
+import com.undercooked.game.logic.EndlessLogic;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.logic.ScenarioLogic;
+import com.undercooked.game.map.MapManager;
+
+/**
+ * Runs a {@link SimulationRunner} from the command line, and prints its
+ * {@link SimulationRunner.Result}.
+ * <br><br>
+ * The arguments, which are all optional, are:
+ * <ol>
+ *   <li>The scenario id, such as {@code <main>:burger_salad}.</li>
+ *   <li>The number of seconds of game time to simulate.</li>
+ *   <li>The seed for the random numbers.</li>
+ *   <li>{@code endless} to play the scenario as an Endless game.</li>
+ * </ol>
+ * It should be run from the assets directory, which the {@code simulate}
+ * Gradle task does.
+ */
+public class SimulationLauncher {
+
+  /**
+   * The scenario that is simulated if none is given.
+   */
+  public static final String DEFAULT_SCENARIO = "<main>:burger_salad";
+
+  /**
+   * The seconds of game time that are simulated if none are given.
+   */
+  public static final int DEFAULT_SECONDS = 180;
+
+  /**
+   * The seed that is used if none is given.
+   */
+  public static final long DEFAULT_SEED = 12345L;
+
+  /**
+   * Simulate a game from the command line.
+   *
+   * @param args {@link String}[] : The arguments.
+   */
+  public static void main(String[] args) {
+    final String scenarioId = args.length > 0 ? args[0] : DEFAULT_SCENARIO;
+    final int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+    final long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+    final boolean endless = args.length > 3 && args[3].equalsIgnoreCase("endless");
+
+    HeadlessLauncher.launch(new Runnable() {
+      @Override
+      public void run() {
+        SimulationRunner.Result result = simulate(scenarioId, endless,
+                (int) (GameLogic.TICK_RATE * seconds), seed);
+        System.out.println(scenarioId + (endless ? " (endless)" : "") + ": " + result);
+      }
+    });
+  }
+
+  /**
+   * Load a game without any {@link com.badlogic.gdx.graphics.Texture}s,
+   * and simulate it.
+   *
+   * @param scenarioId {@link String} : The id of the scenario.
+   * @param endless    {@code boolean} : Whether it's an Endless game.
+   * @param ticks      {@code int} : The most updates to run.
+   * @param seed       {@code long} : The seed for the random numbers.
+   * @return {@link SimulationRunner.Result} : The results of the simulation.
+   */
+  public static SimulationRunner.Result simulate(String scenarioId, boolean endless,
+                                                 int ticks, long seed) {
+    AssetManager assetManager = new AssetManager();
+    TextureManager textureManager = new HeadlessTextureManager(assetManager);
+    AudioManager audioManager = new AudioManager(assetManager);
+    GameLogic logic;
+    if (endless) {
+      logic = new EndlessLogic(null, textureManager, audioManager);
+    } else {
+      logic = new ScenarioLogic(null, textureManager, audioManager);
+    }
+    logic.setId(scenarioId);
+    logic.setDifficulty(Difficulty.MEDIUM);
+
+    SimulationRunner runner = new SimulationRunner(logic,
+            new MapManager(textureManager, audioManager));
+    runner.setSeed(seed);
+    runner.load(assetManager);
+    SimulationRunner.Result result = runner.run(ticks);
+    assetManager.dispose();
+    return result;
+  }
+}
@@ -0,0 +1,237 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.undercooked.game.entity.cook.Cook;
+import com.undercooked.game.input.InputController;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.MapManager;
+import com.undercooked.game.render.HeadlessRenderer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A class to run a {@link GameLogic} without a window or
+ * {@link com.undercooked.game.screen.GameScreen}, for measuring
+ * how fast the game can update.
+ * <br>
+ * The {@link GameLogic} is given a {@link HeadlessRenderer}, so nothing is
+ * drawn, and is updated at the fixed {@link GameLogic#TICK_DELTA} as fast
+ * as possible. It should use a {@link HeadlessTextureManager}, so that no
+ * {@link com.badlogic.gdx.graphics.Texture}s are loaded either.
+ * <br>
+ * A {@link RandomCook} plays the game while it runs. The game's random
+ * numbers and the {@link RandomCook}'s are seeded, so that the same seed
+ * always plays out the same way.
+ */
+public class SimulationRunner {
+
+  /**
+   * The results of a simulation.
+   */
+  public static class Result {
+    /**
+     * The number of updates that were run.
+     */
+    public int ticks;
+
+    /**
+     * The real time that the updates took, in seconds.
+     */
+    public double seconds;
+
+    /**
+     * The number of customers served during the simulation.
+     */
+    public int customersServed;
+
+    /**
+     * The distance the current {@link com.undercooked.game.entity.cook.Cook}
+     * walked during the simulation, in pixels.
+     */
+    public float cookDistance;
+
+    /**
+     * The number of bytes allocated by the updates, or {@code -1}
+     * if the JVM can't measure it.
+     */
+    public long allocatedBytes;
+
+    /**
+     * Returns the number of updates per second of real time.
+     *
+     * @return {@code double} : The updates per second.
+     */
+    public double ticksPerSecond() {
+      if (seconds <= 0) {
+        return 0;
+      }
+      return ticks / seconds;
+    }
+
+    /**
+     * Returns the number of bytes allocated per second of real time,
+     * or {@code -1} if it couldn't be measured.
+     *
+     * @return {@code double} : The bytes allocated per second.
+     */
+    public double allocationRate() {
+      if (allocatedBytes < 0 || seconds <= 0) {
+        return -1;
+      }
+      return allocatedBytes / seconds;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d ticks in %.3fs (%.0f ticks/s), %d customers served, "
+              + "cook walked %.0fpx, %d bytes allocated (%.0f bytes/s)",
+              ticks, seconds, ticksPerSecond(), customersServed, cookDistance,
+              allocatedBytes, allocationRate());
+    }
+  }
+
+  /**
+   * The {@link GameLogic} being simulated.
+   */
+  private final GameLogic logic;
+
+  /**
+   * The {@link RandomCook} playing the game, or {@code null} to not play it.
+   */
+  private RandomCook randomCook;
+
+  /**
+   * Whether a {@link RandomCook} plays the game.
+   */
+  private boolean played;
+
+  /**
+   * The seed for the game's and the {@link RandomCook}'s random numbers,
+   * or {@code null} to not seed them.
+   */
+  private Long seed;
+
+  /**
+   * Constructor for the {@link SimulationRunner}.
+   *
+   * @param logic      {@link GameLogic} : The {@link GameLogic} to simulate. It
+   *                   should have its id and difficulty set already.
+   * @param mapManager {@link MapManager} : The {@link MapManager} to load the map with.
+   */
+  public SimulationRunner(GameLogic logic, MapManager mapManager) {
+    this.logic = logic;
+    logic.setGameScreen(null);
+    logic.setMapManager(mapManager);
+    logic.setGameRenderer(new HeadlessRenderer(logic));
+    this.played = true;
+  }
+
+  /**
+   * Set whether a {@link RandomCook} plays the game while it runs.
+   *
+   * @param played {@code boolean} : {@code true} to press random inputs,
+   *               {@code false} to leave the {@link com.undercooked.game.entity.cook.Cook}s still.
+   */
+  public void setPlayed(boolean played) {
+    this.played = played;
+  }
+
+  /**
+   * Set the seed for the game's and the {@link RandomCook}'s random
+   * numbers, which is used when the {@link GameLogic} is loaded.
+   *
+   * @param seed {@code long} : The seed.
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Load the {@link GameLogic}, waiting for all of its assets to load,
+   * and then reset it so that it's ready to start.
+   *
+   * @param assetManager {@link AssetManager} : The {@link AssetManager} the
+   *                     {@link GameLogic}'s managers are using.
+   */
+  public void load(AssetManager assetManager) {
+    if (seed != null) {
+      MathUtils.random.setSeed(seed);
+    }
+    if (played) {
+      randomCook = new RandomCook(seed != null ? seed : MathUtils.random.nextLong());
+    } else {
+      randomCook = null;
+    }
+    logic.load();
+    logic.finishLoading();
+    assetManager.finishLoading();
+    logic.postLoad();
+    logic.reset();
+  }
+
+  /**
+   * Run the {@link GameLogic} for a number of updates, or until
+   * the game is over.
+   *
+   * @param maxTicks {@code int} : The most updates to run.
+   * @return {@link Result} : The results of the simulation.
+   */
+  public Result run(int maxTicks) {
+    Result result = new Result();
+    int startServed = logic.getRequestsComplete();
+    Cook cook = logic.getCookController().getCurrentCook();
+    float cookDistance = 0;
+
+    long startBytes = allocatedBytes();
+    long startTime = System.nanoTime();
+    int ticks = 0;
+    while (ticks < maxTicks && !logic.isGameOver()) {
+      if (randomCook != null) {
+        randomCook.act();
+      }
+      float cookX = cook != null ? cook.pos.x : 0;
+      float cookY = cook != null ? cook.pos.y : 0;
+      logic.update(GameLogic.TICK_DELTA);
+      // Just pressed inputs should only be seen by one update
+      InputController.clearJustInputs();
+      if (cook != null) {
+        cookDistance += Vector2.dst(cookX, cookY, cook.pos.x, cook.pos.y);
+      }
+      // Follow the Cook being controlled, if it changed
+      cook = logic.getCookController().getCurrentCook();
+      ticks++;
+    }
+    if (randomCook != null) {
+      randomCook.release();
+    }
+    long endTime = System.nanoTime();
+    long endBytes = allocatedBytes();
+
+    result.ticks = ticks;
+    result.seconds = (endTime - startTime) / 1e9;
+    result.customersServed = logic.getRequestsComplete() - startServed;
+    result.cookDistance = cookDistance;
+    result.allocatedBytes = (startBytes < 0 || endBytes < 0) ? -1 : endBytes - startBytes;
+    return result;
+  }
+
+  /**
+   * Returns the number of bytes the current thread has allocated, or
+   * {@code -1} if the JVM can't measure it.
+   *
+   * @return {@code long} : The number of bytes allocated.
+   */
+  private static long allocatedBytes() {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+      return -1;
+    }
+    com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) threadBean;
+    if (!sunBean.isThreadAllocatedMemorySupported()) {
+      return -1;
+    }
+    return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+}
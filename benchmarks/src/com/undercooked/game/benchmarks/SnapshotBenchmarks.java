@@ -0,0 +1,231 @@
+package com.undercooked.game.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.files.SnapshotCodec;
+import com.undercooked.game.files.SnapshotWriter;
+import com.undercooked.game.logic.Difficulty;
+import com.undercooked.game.logic.EndlessLogic;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.MapManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * {@link Benchmark}s comparing saving and loading a game as Json against
+ * saving and loading it as a snapshot with the {@link SnapshotWriter}.
+ * <br>
+ * The game is an Endless game that has been played by a {@link RandomCook}
+ * for {@link #PLAY_SECONDS}, so that there is something to save. It is only
+ * loaded when one of the {@link Benchmark}s is first run.
+ */
+public final class SnapshotBenchmarks {
+
+  /**
+   * The seconds of game time that are played before saving.
+   */
+  public static final int PLAY_SECONDS = 60;
+
+  /**
+   * The game being saved, which is only loaded when it's first needed.
+   */
+  private static GameLogic logic;
+
+  /**
+   * The directory the saves are written to.
+   */
+  private static File dir;
+
+  private SnapshotBenchmarks() {
+
+  }
+
+  /**
+   * Add the {@link Benchmark}s to an {@link Array}.
+   *
+   * @param benchmarks {@link Array}&lt;{@link Benchmark}&gt; : The
+   *                   {@link Array} to add to.
+   */
+  public static void addTo(Array<Benchmark> benchmarks) {
+    // How long the game is blocked for by each kind of save
+    benchmarks.add(new Benchmark("save: Json, game thread") {
+      @Override
+      protected void setUp() {
+        load();
+      }
+
+      @Override
+      protected long run() {
+        byte[] data = logic.serialise().toJson(JsonWriter.OutputType.json)
+                .getBytes(StandardCharsets.UTF_8);
+        write(new File(dir, "save.json"), data);
+        return data.length;
+      }
+    });
+
+    benchmarks.add(new SnapshotSave("save: snapshot, game thread",
+            "thread.snap", false, false));
+
+    // How long each kind of snapshot takes to be written. The game isn't
+    // updated between saves, so the incremental save is the cost of
+    // serialising and encoding the whole game to find that nothing changed.
+    benchmarks.add(new SnapshotSave("save: snapshot, written",
+            "full.snap", false, true));
+    benchmarks.add(new SnapshotSave("save: incremental snapshot, written",
+            "incremental.snap", true, true));
+
+    // How long each kind of save takes to load
+    benchmarks.add(new Benchmark("load: Json") {
+      private String json;
+
+      @Override
+      protected void setUp() {
+        load();
+        if (json == null) {
+          json = logic.serialise().toJson(JsonWriter.OutputType.json);
+        }
+      }
+
+      @Override
+      protected long run() {
+        return new JsonReader().parse(json).size;
+      }
+    });
+
+    benchmarks.add(new Benchmark("load: snapshot") {
+      private byte[] snapshot;
+
+      @Override
+      protected void setUp() {
+        load();
+        if (snapshot == null) {
+          snapshot = encode(logic.serialise());
+        }
+      }
+
+      @Override
+      protected long run() {
+        try {
+          return SnapshotCodec.readSnapshot(new ByteArrayInputStream(snapshot)).size;
+        } catch (IOException e) {
+          throw new GdxRuntimeException(e);
+        }
+      }
+    });
+  }
+
+  /**
+   * A {@link Benchmark} that saves using a {@link SnapshotWriter}.
+   */
+  private static class SnapshotSave extends Benchmark {
+    private final String fileName;
+    private final boolean incremental;
+    private final boolean waitForWrite;
+    private SnapshotWriter writer;
+
+    SnapshotSave(String name, String fileName, boolean incremental, boolean waitForWrite) {
+      super(name);
+      this.fileName = fileName;
+      this.incremental = incremental;
+      this.waitForWrite = waitForWrite;
+    }
+
+    @Override
+    protected void setUp() {
+      load();
+      if (writer == null) {
+        writer = new SnapshotWriter(dir.getPath(), fileName);
+        // Incremental saves need a full save to add to
+        writer.save(logic.serialise());
+      }
+      // Don't time the last run's write
+      writer.flush();
+    }
+
+    @Override
+    protected long run() {
+      JsonValue save = logic.serialise();
+      if (incremental) {
+        writer.saveIncremental(save);
+      } else {
+        writer.save(save);
+      }
+      if (waitForWrite) {
+        writer.flush();
+      }
+      return save.size;
+    }
+  }
+
+  /**
+   * Load and play the game to save, if it hasn't been already.
+   */
+  private static void load() {
+    if (logic != null) {
+      return;
+    }
+    AssetManager assetManager = new AssetManager();
+    TextureManager textureManager = new HeadlessTextureManager(assetManager);
+    AudioManager audioManager = new AudioManager(assetManager);
+    logic = new EndlessLogic(null, textureManager, audioManager);
+    logic.setId("<main>:everything");
+    logic.setDifficulty(Difficulty.MEDIUM);
+    SimulationRunner runner = new SimulationRunner(logic,
+            new MapManager(textureManager, audioManager));
+    runner.setSeed(SimulationLauncher.DEFAULT_SEED);
+    runner.load(assetManager);
+    runner.run((int) (GameLogic.TICK_RATE * PLAY_SECONDS));
+
+    try {
+      dir = Files.createTempDirectory("snapshot").toFile();
+    } catch (IOException e) {
+      throw new GdxRuntimeException(e);
+    }
+  }
+
+  /**
+   * Encode a save as a full snapshot.
+   *
+   * @param root {@link JsonValue} : The save.
+   * @return {@code byte[]} : The snapshot.
+   */
+  private static byte[] encode(JsonValue root) {
+    Array<String> names = new Array<>();
+    Array<byte[]> sections = new Array<>();
+    for (JsonValue child = root.child; child != null; child = child.next) {
+      names.add(child.name());
+      sections.add(SnapshotCodec.encodeValue(child));
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      SnapshotCodec.writeRecord(out, SnapshotCodec.RECORD_FULL, names, sections);
+    } catch (IOException e) {
+      throw new GdxRuntimeException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Write data to a file, as the Json save does.
+   *
+   * @param file {@link File} : The file to write to.
+   * @param data {@code byte[]} : The data to write.
+   */
+  private static void write(File file, byte[] data) {
+    try {
+      Files.write(file.toPath(), data);
+    } catch (IOException e) {
+      throw new GdxRuntimeException(e);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.undercooked.game.assets.AudioManager;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.audio.AudioSettings;
+import com.undercooked.game.files.FileControl;
 import com.undercooked.game.files.SettingsControl;
 import com.undercooked.game.input.InputController;
 import com.undercooked.game.map.MapManager;
@@ -25,6 +26,11 @@ import com.undercooked.game.screen.ScreenController;
 import com.undercooked.game.screen.WinScreen;
 import com.undercooked.game.util.CameraController;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.SaveLoadGame;
+import com.undercooked.game.util.log.Log;
+import com.undercooked.game.util.log.LogFileSink;
+import com.undercooked.game.util.profiler.Profiler;
+import com.undercooked.game.util.profiler.ProfilerOverlay;
 
 /**
  * The main game class of the game. This is the class starts the game,
@@ -89,6 +95,11 @@ public class MainGameClass extends Game {
    */
   public static ShapeRenderer shapeRenderer;
 
+  /**
+   * The {@link ProfilerOverlay} which shows the frame timings when toggled on.
+   */
+  private final ProfilerOverlay profilerOverlay;
+
   /**
    * Constructor for the Game.
    */
@@ -102,6 +113,7 @@ public class MainGameClass extends Game {
     textureManager = new TextureManager(assetManager);
     mapManager = new MapManager(textureManager, audioManager);
     screenController = new ScreenController(this, assetManager);
+    profilerOverlay = new ProfilerOverlay();
   }
 
   /**
@@ -109,6 +121,9 @@ public class MainGameClass extends Game {
    * over.
    */
   public void load() {
+    // Write the log to the data folder, so it can be read after the game closes
+    Log.setFileSink(new LogFileSink(FileControl.getDataPath("/logs/"), "game.log"));
+
     // Load the settings
     settingsControl.loadData();
 
@@ -227,14 +242,26 @@ public class MainGameClass extends Game {
 
   @Override
   public void render() {
+    // Time the whole frame
+    long frameStart = Profiler.begin();
     super.render();
+    Profiler.end(Profiler.FRAME, frameStart);
+
+    // Then update and draw the profiler overlay over it
+    profilerOverlay.update(Gdx.graphics.getDeltaTime());
+    profilerOverlay.draw(batch, shapeRenderer, font,
+            CameraController.getCamera(Constants.UI_CAMERA_ID));
   }
 
   @Override
   public void dispose() {
+    // Make sure any saves have finished being written
+    SaveLoadGame.flush();
     mapManager.unload();
     assetManager.dispose();
     batch.dispose();
     shapeRenderer.dispose();
+    // Write the rest of the log before closing
+    Log.setFileSink(null);
   }
 }
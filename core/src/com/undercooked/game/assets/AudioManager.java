@@ -8,6 +8,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.undercooked.game.files.FileControl;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.log.Log;
 
 /**
  * A class to control the Audio within the game. Use this to allow for
@@ -55,6 +56,11 @@ public class AudioManager {
    */
   AssetManager assetManager;
 
+  /**
+   * The {@link VoiceManager} that plays the short sound effects.
+   */
+  private final VoiceManager voices;
+
   /**
    * Constructor to set up the Maps for music, sound and volumes.
    *
@@ -64,6 +70,7 @@ public class AudioManager {
     musicVolumes = new ObjectMap<>();
     soundVolumes = new ObjectMap<>();
     this.assetManager = assetManager;
+    this.voices = new VoiceManager(this);
     // this.soundStateChecker = soundStateChecker;
     load();
   }
@@ -80,8 +87,7 @@ public class AudioManager {
       assetManager.load(Constants.DEFAULT_SOUND, Sound.class);
     } catch (GdxRuntimeException e) {
       // Of course, make sure it actually doesn't crash if they can't load
-      System.out.println("Couldn't load default music.");
-      e.printStackTrace();
+      Log.AUDIO.error("Couldn't load default music.", e);
     }
   }
 
@@ -109,11 +115,11 @@ public class AudioManager {
     if (assetManager.isLoaded(path)) {
       return assetManager.get(path);
     } else {
-      System.out.println(path + " not loaded.");
+      Log.AUDIO.debug("{} not loaded.", path);
       // If music is not loaded, then load the missing music
       // But return null if that isn't loaded
       if (!assetManager.isLoaded(Constants.DEFAULT_MUSIC)) {
-        System.out.println("Default music not loaded.");
+        Log.AUDIO.warn("Default music not loaded.");
         return null;
       }
       return assetManager.get(Constants.DEFAULT_MUSIC);
@@ -156,7 +162,7 @@ public class AudioManager {
     try {
       assetManager.load(path, Music.class);
     } catch (GdxRuntimeException e) {
-      e.printStackTrace();
+      Log.AUDIO.error("Couldn't load music {}.", path, e);
       // If it couldn't load, then return.
       return false;
     }
@@ -229,11 +235,11 @@ public class AudioManager {
     if (assetManager.isLoaded(path)) {
       return assetManager.get(path);
     } else {
-      System.out.println(path + " not loaded.");
+      Log.AUDIO.debug("{} not loaded.", path);
       // If music is not loaded, then load the missing music
       // But return null if that isn't loaded
       if (!assetManager.isLoaded(Constants.DEFAULT_SOUND)) {
-        System.out.println("Default sound not loaded.");
+        Log.AUDIO.warn("Default sound not loaded.");
         return null;
       }
       return assetManager.get(Constants.DEFAULT_SOUND);
@@ -277,7 +283,7 @@ public class AudioManager {
     try {
       assetManager.load(path, Sound.class);
     } catch (GdxRuntimeException e) {
-      System.out.println(e);
+      Log.AUDIO.error("Couldn't load sound {}.", path, e);
       // Return false if it can't
       return false;
     }
@@ -337,7 +343,7 @@ public class AudioManager {
         Music thisMusic = assetManager.get(path);
         thisMusic.setVolume(volGroup.volume);
       } catch (GdxRuntimeException e) {
-        e.printStackTrace();
+        Log.AUDIO.error("Couldn't set the volume of {}.", path, e);
       }
     }
   }
@@ -387,8 +393,32 @@ public class AudioManager {
     }
     // If it does, then set it to the volume input
     soundVolumes.get(soundVolumeGroup).volume = volume;
-    // Update the volume for that audioGroup
-    // updateVolume("sound/" + audioGroup)
+    // Update the volume of the sounds playing in that audioGroup
+    voices.updateVolume(soundVolumeGroup, volume);
+  }
+
+  /**
+   * Returns the volume of the {@link Sound}s for the specified volume group.
+   *
+   * @param soundVolumeGroup {@link String} : The volume group.
+   * @return {@code float} : The volume of the group, or the
+   *                         {@link Constants#DEFAULT_SOUND_VOLUME} if it doesn't exist.
+   */
+  public float getSoundVolume(String soundVolumeGroup) {
+    VolumeGroup volGroup = soundVolumes.get(soundVolumeGroup);
+    if (volGroup == null) {
+      return Constants.DEFAULT_SOUND_VOLUME;
+    }
+    return volGroup.volume;
+  }
+
+  /**
+   * Returns the {@link VoiceManager} used to play short sound effects.
+   *
+   * @return {@link VoiceManager} : The {@link VoiceManager}.
+   */
+  public VoiceManager getVoices() {
+    return voices;
   }
 
   /**
@@ -399,23 +429,40 @@ public class AudioManager {
    *                    afterwards or not.
    */
   public void unload(String audioGroup, boolean forgetGroup) {
+    unload(musicVolumes, audioGroup, forgetGroup);
+    unload(soundVolumes, audioGroup, forgetGroup);
+  }
+
+  /**
+   * Unloads all paths in an audio group of either the music or the
+   * sound volume groups from the {@link AssetManager}.
+   *
+   * @param volumes     {@link ObjectMap} : The music or sound volume groups.
+   * @param audioGroup  A {@link String} of the {@code audioGroup}'s id.
+   * @param forgetGroup {@code boolean} : If the volume group should be deleted
+   *                    afterwards or not.
+   */
+  private void unload(ObjectMap<String, VolumeGroup> volumes, String audioGroup,
+                      boolean forgetGroup) {
     // Check if the group exists
-    if (!musicVolumes.containsKey(audioGroup)) {
+    if (!volumes.containsKey(audioGroup)) {
       // If it's not, then return
       return;
     }
     // If the audioGroup exists, then unload all the paths, if they're loaded.
     // It only unloads each path once, so if they're loaded multiple times (such
     // as for multiple Screens needing it), then it'll stay loaded for them.
-    VolumeGroup group = musicVolumes.get(audioGroup);
+    VolumeGroup group = volumes.get(audioGroup);
     Array<String> pathsRemoved = new Array<>();
     for (int i = group.paths.size - 1; i >= 0; i--) {
       String path = group.paths.get(i);
       // Only continue if the current path hasn't been removed.
       if (!pathsRemoved.contains(path, false)) {
         if (assetManager.isLoaded(path)) {
+          // Stop any sound effects playing it first
+          voices.unloaded(path);
           assetManager.unload(path);
-          System.out.println("Unloaded " + path + ".");
+          Log.AUDIO.debug("Unloaded {}.", path);
         }
         pathsRemoved.add(path);
         group.paths.removeIndex(i);
@@ -423,7 +470,7 @@ public class AudioManager {
     }
     // If forgetGroup is true, then remove it from the map.
     if (forgetGroup) {
-      musicVolumes.remove(audioGroup);
+      volumes.remove(audioGroup);
     }
   }
 
@@ -440,6 +487,8 @@ public class AudioManager {
    * Disposes of all music and their volumes.
    */
   public void dispose() {
+    // Stop all the sound effects
+    voices.stopAll();
     // Go through all the music and unload them.
     for (VolumeGroup volMusicGroup : musicVolumes.values()) {
       for (String path : volMusicGroup.paths) {
@@ -452,6 +501,7 @@ public class AudioManager {
     // Go through all the sounds and unload them.
     for (VolumeGroup volSoundGroup : soundVolumes.values()) {
       for (String path : volSoundGroup.paths) {
+        voices.unloaded(path);
         assetManager.unload(path);
       }
     }
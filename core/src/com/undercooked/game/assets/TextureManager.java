@@ -1,18 +1,42 @@
 package com.undercooked.game.assets;
 
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.undercooked.game.files.FileControl;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.log.Log;
 
 /**
  * A class to manage the {@link Texture}s within the game.
  */
 public class TextureManager {
 
+  /**
+   * The width and height of each page of a packed {@link TextureAtlas}.
+   */
+  public static final int ATLAS_PAGE_SIZE = 2048;
+
+  /**
+   * The largest width or height a {@link Texture} can have to be packed
+   * into a {@link TextureAtlas}. Anything larger (such as backgrounds)
+   * keeps using its own {@link Texture}.
+   */
+  public static final int ATLAS_MAX_REGION_SIZE = 512;
+
+  /**
+   * The number of pixels between each packed {@link TextureRegion}.
+   * The borders are duplicated into this padding so that nothing
+   * bleeds between regions when drawn at non-integer positions.
+   */
+  public static final int ATLAS_PADDING = 2;
+
   /**
    * An ObjectMap of the textures. The first is the groupID while
    * the second is the path.
@@ -27,6 +51,21 @@ public class TextureManager {
    */
   AssetManager assetManager;
 
+  /**
+   * An ObjectMap of the {@link TextureAtlas}es that have been packed.
+   * The key is the texture group that the atlas was packed from.
+   */
+  ObjectMap<String, TextureAtlas> atlases;
+
+  /**
+   * An ObjectMap of the {@link TextureRegion}s that have been requested,
+   * using the path of the {@link Texture} as the key.
+   * <br>
+   * If the path was packed into a {@link TextureAtlas}, then the region
+   * is from the atlas. Otherwise, it covers the whole {@link Texture}.
+   */
+  ObjectMap<String, TextureRegion> regions;
+
   /**
    * Constructor to set up the {@link ObjectMap} for the {@link #textures}.
    *
@@ -35,6 +74,8 @@ public class TextureManager {
   public TextureManager(AssetManager assetManager) {
     this.assetManager = assetManager;
     this.textures = new ObjectMap<>();
+    this.atlases = new ObjectMap<>();
+    this.regions = new ObjectMap<>();
     loadManager();
   }
 
@@ -42,13 +83,12 @@ public class TextureManager {
    * Loads the default assets for the textures for if they
    * haven't been loaded, to prevent any crashes.
    */
-  private void loadManager() {
+  protected void loadManager() {
     try {
       assetManager.load(Constants.DEFAULT_TEXTURE, Texture.class);
     } catch (GdxRuntimeException e) {
       // Of course, make sure it actually doesn't crash if they can't load
-      System.out.println("Couldn't load default texture.");
-      e.printStackTrace();
+      Log.TEXTURES.error("Couldn't load default texture.", e);
     }
   }
 
@@ -61,15 +101,15 @@ public class TextureManager {
    * @return {@link Texture} : The {@link Texture} loaded from the path.
    */
   public Texture get(String path) {
-    System.out.println("Getting Texture: " + path);
+    Log.TEXTURES.debug("Getting Texture: {}", path);
     if (assetManager.isLoaded(path)) {
       return assetManager.get(path, Texture.class);
     } else {
-      System.out.println(path + " not loaded.");
+      Log.TEXTURES.debug("{} not loaded.", path);
       // If the Texture isn't loaded, then return the default texture.
       // If it's not loaded, then just return null.
       if (!assetManager.isLoaded(Constants.DEFAULT_TEXTURE)) {
-        System.out.println("Default path not loaded.");
+        Log.TEXTURES.warn("Default path not loaded.");
         return null;
       }
       return assetManager.get(Constants.DEFAULT_TEXTURE, Texture.class);
@@ -91,6 +131,154 @@ public class TextureManager {
     return get(path);
   }
 
+  /**
+   * Returns the {@link TextureRegion} for the path provided.
+   * <br>
+   * If the path was packed using {@link #pack(String)}, then the
+   * {@link TextureRegion} is from the packed {@link TextureAtlas}, allowing
+   * the {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} to draw it without
+   * switching {@link Texture}s.
+   * <br>
+   * If not, then a {@link TextureRegion} covering the whole
+   * {@link Texture} from {@link #get(String)} is returned.
+   *
+   * @param path {@link String} : The path of the {@link Texture}.
+   * @return {@link TextureRegion} : The {@link TextureRegion} for the path.
+   */
+  public TextureRegion getRegion(String path) {
+    // If it's already been requested or packed, return that region
+    if (path != null && regions.containsKey(path)) {
+      return regions.get(path);
+    }
+    Texture texture = get(path);
+    if (texture == null) {
+      return null;
+    }
+    TextureRegion region = new TextureRegion(texture);
+    // Only store the region if the path is actually loaded, as otherwise
+    // this is the default texture, and the path may be loaded later.
+    if (path != null && assetManager.isLoaded(path, Texture.class)) {
+      regions.put(path, region);
+    }
+    return region;
+  }
+
+  /**
+   * Gets a {@link TextureRegion} from an asset path.
+   *
+   * @param path {@link String} : The asset path of the {@link Texture}.
+   * @return {@link TextureRegion} : The {@link TextureRegion} for the path.
+   */
+  public TextureRegion getAssetRegion(String path) {
+    // Only try if it's not null
+    if (path == null) {
+      return getRegion(null);
+    }
+    return getRegion(FileControl.getAssetPath(path, "textures"));
+  }
+
+  /**
+   * Packs all of the loaded {@link Texture}s of a texture group into a
+   * {@link TextureAtlas}, so that {@link #getRegion(String)} returns
+   * regions of the atlas for them.
+   * <br>
+   * This should be called once the {@link AssetManager} has finished loading
+   * the group. The images are read again from the same files that the
+   * {@link AssetManager} loaded them from, so both {@code <main>:} and external
+   * asset paths from {@link FileControl#getAssetPath(String, String)} are packed.
+   * <br><br>
+   * {@link Texture}s larger than {@link #ATLAS_MAX_REGION_SIZE} are not packed.
+   * Calling this again for the same group will repack it.
+   *
+   * @param textureGroup {@link String} : The texture group to pack.
+   * @return {@code boolean} : {@code true} if a {@link TextureAtlas} was created,
+   *         {@code false} if there was nothing to pack.
+   */
+  public boolean pack(String textureGroup) {
+    // If the textureGroup doesn't exist, there is nothing to pack
+    if (!textures.containsKey(textureGroup)) {
+      return false;
+    }
+    // Remove the previous atlas of this group, if there is one
+    disposeAtlas(textureGroup);
+
+    PixmapPacker packer = new PixmapPacker(ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE,
+            Pixmap.Format.RGBA8888, ATLAS_PADDING, true);
+    Array<String> packedPaths = new Array<>();
+    for (String path : textures.get(textureGroup)) {
+      // Skip any paths that are already packed (as a group can contain
+      // the same path multiple times), or that didn't load.
+      if (packer.getRect(path) != null || !assetManager.isLoaded(path, Texture.class)) {
+        continue;
+      }
+      Texture texture = assetManager.get(path, Texture.class);
+      if (texture.getWidth() > ATLAS_MAX_REGION_SIZE
+              || texture.getHeight() > ATLAS_MAX_REGION_SIZE) {
+        continue;
+      }
+      // Read the image from the same file that the AssetManager used
+      Pixmap pixmap;
+      try {
+        pixmap = new Pixmap(assetManager.getFileHandleResolver().resolve(path));
+      } catch (GdxRuntimeException e) {
+        // If it can't be read, then it just uses its own Texture
+        continue;
+      }
+      packer.pack(path, pixmap);
+      pixmap.dispose();
+      packedPaths.add(path);
+    }
+
+    // If nothing was packed, then no atlas is needed
+    if (packedPaths.size == 0) {
+      packer.dispose();
+      return false;
+    }
+
+    TextureAtlas atlas = packer.generateTextureAtlas(
+            Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+    // The packer's Pixmaps are no longer needed once the atlas is created
+    packer.dispose();
+    atlases.put(textureGroup, atlas);
+
+    // Replace the regions of the packed paths with the atlas's
+    for (String path : packedPaths) {
+      regions.put(path, atlas.findRegion(path));
+    }
+    return true;
+  }
+
+  /**
+   * Disposes the {@link TextureAtlas} of a texture group, if it has one,
+   * and removes its {@link TextureRegion}s.
+   *
+   * @param textureGroup {@link String} : The texture group of the atlas.
+   */
+  private void disposeAtlas(String textureGroup) {
+    TextureAtlas atlas = atlases.remove(textureGroup);
+    if (atlas == null) {
+      return;
+    }
+    for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+      // Only remove it if it's still the region of the atlas
+      if (regions.get(region.name) == region) {
+        regions.remove(region.name);
+      }
+    }
+    atlas.dispose();
+  }
+
+  /**
+   * Returns whether a texture group has been packed into a {@link TextureAtlas}.
+   *
+   * @param textureGroup {@link String} : The texture group to check.
+   * @return {@code boolean} : {@code true} if it has been packed,
+   *         {@code false} if not.
+   */
+  public boolean isPacked(String textureGroup) {
+    return atlases.containsKey(textureGroup);
+  }
+
   /**
    * Loads a {@link Texture} from a path.
    *
@@ -105,12 +293,12 @@ public class TextureManager {
     if (path.equals(Constants.DEFAULT_TEXTURE)) {
       return true;
     }
-    System.out.println("Loading Texture: " + path);
+    Log.TEXTURES.debug("Loading Texture: {}", path);
     try {
       // Try to load the Texture
       assetManager.load(path, Texture.class);
     } catch (GdxRuntimeException e) {
-      e.printStackTrace();
+      Log.TEXTURES.error("Couldn't load texture {}.", path, e);
       // If the file doesn't exist, then return nothing
       return false;
     }
@@ -189,6 +377,8 @@ public class TextureManager {
     if (!textures.containsKey(textureGroup)) {
       return;
     }
+    // Dispose the group's atlas, if it was packed
+    disposeAtlas(textureGroup);
     // Loop through the paths and unload only the first instance of each path.
     // This allows for loading a page multiple times when using the "nextScreen"
     // function in the ScreenController
@@ -205,6 +395,7 @@ public class TextureManager {
         if (assetManager.isLoaded(path)) {
           assetManager.unload(path);
         }
+        removeRegion(path);
       }
     }
     // Then remove the textureGroup as it's no longer needed
@@ -239,6 +430,25 @@ public class TextureManager {
         paths.removeIndex(pathIndex);
       }
     }
+    removeRegion(texturePath);
+  }
+
+  /**
+   * Removes the {@link TextureRegion} of a path if its {@link Texture}
+   * is no longer loaded.
+   * <br>
+   * Regions from a {@link TextureAtlas} are kept until the atlas is disposed.
+   *
+   * @param path {@link String} : The path of the {@link Texture}.
+   */
+  private void removeRegion(String path) {
+    TextureRegion region = regions.get(path);
+    if (region == null || region instanceof TextureAtlas.AtlasRegion) {
+      return;
+    }
+    if (!assetManager.isLoaded(path, Texture.class)) {
+      regions.remove(path);
+    }
   }
 
   /**
@@ -0,0 +1,372 @@
+package com.undercooked.game.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.undercooked.game.files.FileControl;
+
+/**
+ * A class to play short sound effects as {@link Sound}s, which are
+ * decoded once when loaded, instead of streaming them as
+ * {@link com.badlogic.gdx.audio.Music}.
+ * <br><br>
+ * Each thing that plays sounds, such as a {@link com.undercooked.game.station.Station},
+ * has its own {@link Voice}, so that the same sound can play from more than one
+ * of them at once. Only {@link #getMaxVoices()} {@link Voice}s can play at once,
+ * so when that many are playing, a new sound will only play if it has a higher
+ * priority than one that's playing, which it then takes the place of. This keeps
+ * the cost of the audio the same, no matter how many things are making sounds.
+ * <br><br>
+ * The {@link Sound}s are looked up through {@link SoundHandle}s, which keep the
+ * {@link Sound} once it has been loaded, so that playing a sound doesn't need
+ * to look up its path each time.
+ */
+public class VoiceManager {
+
+  /**
+   * The default number of {@link Voice}s that can play at once.
+   */
+  public static final int DEFAULT_MAX_VOICES = 8;
+
+  /**
+   * A sound that can be played by a {@link Voice}.
+   */
+  public static class SoundHandle {
+
+    /**
+     * The path to the {@link Sound}.
+     */
+    private final String path;
+
+    /**
+     * The volume group of the {@link Sound}.
+     */
+    private final String volumeGroup;
+
+    /**
+     * The {@link Sound}, once it has been loaded.
+     */
+    private Sound sound;
+
+    /**
+     * Constructor for the {@link SoundHandle}.
+     *
+     * @param path        {@link String} : The path to the {@link Sound}.
+     * @param volumeGroup {@link String} : The volume group of the {@link Sound}.
+     */
+    SoundHandle(String path, String volumeGroup) {
+      this.path = path;
+      this.volumeGroup = volumeGroup;
+    }
+
+    /**
+     * Returns the path to the {@link Sound}.
+     *
+     * @return {@link String} : The path to the {@link Sound}.
+     */
+    public String getPath() {
+      return path;
+    }
+  }
+
+  /**
+   * A voice that plays a single {@link SoundHandle} at a time.
+   */
+  public static class Voice {
+
+    /**
+     * The {@link SoundHandle} that the {@link Voice} is playing,
+     * or {@code null} if it isn't playing.
+     */
+    private SoundHandle handle;
+
+    /**
+     * The id of the {@link Sound} instance that's playing.
+     */
+    private long soundId;
+
+    /**
+     * The priority of the {@link Voice}.
+     */
+    private int priority;
+
+    /**
+     * When the {@link Voice} started playing, compared to the other {@link Voice}s.
+     */
+    private long started;
+
+    /**
+     * Returns whether the {@link Voice} is playing or not.
+     *
+     * @return {@code boolean} : {@code true} if it is playing,
+     *                           {@code false} if not.
+     */
+    public boolean isPlaying() {
+      return handle != null;
+    }
+
+    /**
+     * Returns whether the {@link Voice} is playing a {@link SoundHandle} or not.
+     *
+     * @param handle {@link SoundHandle} : The {@link SoundHandle} to check.
+     * @return {@code boolean} : {@code true} if it is playing the {@link SoundHandle},
+     *                           {@code false} if not.
+     */
+    public boolean isPlaying(SoundHandle handle) {
+      return handle != null && this.handle == handle;
+    }
+  }
+
+  /**
+   * The {@link AudioManager} that the {@link Sound}s are loaded through.
+   */
+  private final AudioManager audioManager;
+
+  /**
+   * The {@link SoundHandle}s, mapped by their path.
+   */
+  private final ObjectMap<String, SoundHandle> handles;
+
+  /**
+   * The {@link Voice}s that are currently playing.
+   */
+  private final Array<Voice> playing;
+
+  /**
+   * The number of {@link Voice}s that can play at once.
+   */
+  private int maxVoices;
+
+  /**
+   * The number of times a {@link Voice} has started, used to
+   * find the oldest {@link Voice}.
+   */
+  private long playCount;
+
+  /**
+   * Constructor for the {@link VoiceManager}.
+   *
+   * @param audioManager {@link AudioManager} : The {@link AudioManager} to use.
+   */
+  public VoiceManager(AudioManager audioManager) {
+    this.audioManager = audioManager;
+    this.handles = new ObjectMap<>();
+    this.playing = new Array<>(DEFAULT_MAX_VOICES);
+    this.maxVoices = DEFAULT_MAX_VOICES;
+  }
+
+  /**
+   * Returns the {@link SoundHandle} of a sound asset path, which should
+   * be kept and used to play the sound.
+   * <br>
+   * The {@link Sound} should be loaded using
+   * {@link AudioManager#loadSoundAsset(String, String)}.
+   *
+   * @param assetPath   {@link String} : The asset path to the {@link Sound}.
+   * @param volumeGroup {@link String} : The volume group of the {@link Sound}.
+   * @return {@link SoundHandle} : The {@link SoundHandle}, or {@code null}
+   *                               if the asset path is {@code null}.
+   */
+  public SoundHandle getHandle(String assetPath, String volumeGroup) {
+    if (assetPath == null) {
+      return null;
+    }
+    String path = FileControl.getAssetPath(assetPath, "sounds");
+    SoundHandle handle = handles.get(path);
+    if (handle == null) {
+      handle = new SoundHandle(path, volumeGroup);
+      handles.put(path, handle);
+    }
+    return handle;
+  }
+
+  /**
+   * Play a {@link SoundHandle} on a {@link Voice}, looping it until it's stopped.
+   * <br>
+   * If the {@link Voice} is already playing it, then only its priority is
+   * updated, so this can be called every frame that the sound should be heard.
+   * If there are already {@link #getMaxVoices()} playing, then it takes the
+   * place of the lowest priority {@link Voice}, as long as that has a lower
+   * priority.
+   *
+   * @param voice    {@link Voice} : The {@link Voice} to play it on.
+   * @param handle   {@link SoundHandle} : The {@link SoundHandle} to play.
+   * @param priority {@code int} : The priority of the {@link Voice}.
+   * @return {@code boolean} : {@code true} if it is playing,
+   *                           {@code false} if it couldn't be played.
+   */
+  public boolean play(Voice voice, SoundHandle handle, int priority) {
+    if (handle == null) {
+      return false;
+    }
+    // If it's already playing, keep it playing
+    if (voice.handle == handle) {
+      voice.priority = priority;
+      return true;
+    }
+    // Otherwise stop whatever it was playing
+    stop(voice);
+    Sound sound = getSound(handle);
+    if (sound == null) {
+      return false;
+    }
+    // If there's no space, then take the place of a lower priority voice
+    if (playing.size >= maxVoices) {
+      Voice lowest = getLowestPriority();
+      if (lowest == null || lowest.priority >= priority) {
+        return false;
+      }
+      stop(lowest);
+    }
+    long soundId = sound.loop(audioManager.getSoundVolume(handle.volumeGroup));
+    if (soundId == -1) {
+      return false;
+    }
+    voice.handle = handle;
+    voice.soundId = soundId;
+    voice.priority = priority;
+    voice.started = playCount++;
+    playing.add(voice);
+    return true;
+  }
+
+  /**
+   * Returns the playing {@link Voice} with the lowest priority, and the
+   * oldest one if more than one has that priority.
+   *
+   * @return {@link Voice} : The lowest priority {@link Voice}, or {@code null}
+   *                         if none are playing.
+   */
+  private Voice getLowestPriority() {
+    Voice lowest = null;
+    for (int i = 0; i < playing.size; i++) {
+      Voice voice = playing.get(i);
+      if (lowest == null || voice.priority < lowest.priority
+              || (voice.priority == lowest.priority && voice.started < lowest.started)) {
+        lowest = voice;
+      }
+    }
+    return lowest;
+  }
+
+  /**
+   * Returns the {@link Sound} of a {@link SoundHandle}, keeping it in the
+   * {@link SoundHandle} once it has been loaded.
+   *
+   * @param handle {@link SoundHandle} : The {@link SoundHandle}.
+   * @return {@link Sound} : The {@link Sound}, or {@code null} if it isn't loaded.
+   */
+  private Sound getSound(SoundHandle handle) {
+    if (handle.sound == null) {
+      AssetManager assetManager = audioManager.assetManager;
+      if (!assetManager.isLoaded(handle.path, Sound.class)) {
+        return null;
+      }
+      handle.sound = assetManager.get(handle.path, Sound.class);
+    }
+    return handle.sound;
+  }
+
+  /**
+   * Stop a {@link Voice}, if it's playing.
+   *
+   * @param voice {@link Voice} : The {@link Voice} to stop.
+   */
+  public void stop(Voice voice) {
+    if (voice.handle == null) {
+      return;
+    }
+    if (voice.handle.sound != null) {
+      voice.handle.sound.stop(voice.soundId);
+    }
+    voice.handle = null;
+    playing.removeValue(voice, true);
+  }
+
+  /**
+   * Stop a {@link Voice}, only if it's playing a specific {@link SoundHandle}.
+   *
+   * @param voice  {@link Voice} : The {@link Voice} to stop.
+   * @param handle {@link SoundHandle} : The {@link SoundHandle} to stop.
+   */
+  public void stop(Voice voice, SoundHandle handle) {
+    if (voice.isPlaying(handle)) {
+      stop(voice);
+    }
+  }
+
+  /**
+   * Stop all of the {@link Voice}s.
+   */
+  public void stopAll() {
+    while (playing.size > 0) {
+      stop(playing.peek());
+    }
+  }
+
+  /**
+   * Update the volume of the {@link Voice}s playing {@link Sound}s of a volume group.
+   *
+   * @param volumeGroup {@link String} : The volume group.
+   * @param volume      {@code float} : The volume of the group.
+   */
+  void updateVolume(String volumeGroup, float volume) {
+    for (int i = 0; i < playing.size; i++) {
+      Voice voice = playing.get(i);
+      if (voice.handle.volumeGroup.equals(volumeGroup)) {
+        voice.handle.sound.setVolume(voice.soundId, volume);
+      }
+    }
+  }
+
+  /**
+   * Forget the {@link Sound} of a path, as it has been unloaded, stopping any
+   * {@link Voice}s that are playing it.
+   *
+   * @param path {@link String} : The path that was unloaded.
+   */
+  void unloaded(String path) {
+    SoundHandle handle = handles.get(path);
+    if (handle == null) {
+      return;
+    }
+    for (int i = playing.size - 1; i >= 0; i--) {
+      if (playing.get(i).handle == handle) {
+        stop(playing.get(i));
+      }
+    }
+    handle.sound = null;
+  }
+
+  /**
+   * Set the number of {@link Voice}s that can play at once. If more than
+   * that are playing, the lowest priority ones are stopped.
+   *
+   * @param maxVoices {@code int} : The number of {@link Voice}s.
+   */
+  public void setMaxVoices(int maxVoices) {
+    this.maxVoices = Math.max(0, maxVoices);
+    while (playing.size > this.maxVoices) {
+      stop(getLowestPriority());
+    }
+  }
+
+  /**
+   * Returns the number of {@link Voice}s that can play at once.
+   *
+   * @return {@code int} : The number of {@link Voice}s.
+   */
+  public int getMaxVoices() {
+    return maxVoices;
+  }
+
+  /**
+   * Returns the number of {@link Voice}s that are playing.
+   *
+   * @return {@code int} : The number of playing {@link Voice}s.
+   */
+  public int getPlayingCount() {
+    return playing.size;
+  }
+}
@@ -90,6 +90,21 @@ public class Entity {
 
   }
 
+  /**
+   * Returns whether the {@link Entity} has anything to draw in
+   * {@link #draw(ShapeRenderer)} or not, so that the
+   * {@link ShapeRenderer} is only started when it's needed.
+   * <br>
+   * Anything that overrides {@link #draw(ShapeRenderer)} should also
+   * override this.
+   *
+   * @return {@code boolean} : {@code true} if it draws shapes,
+   *                           {@code false} if not.
+   */
+  public boolean hasShapes() {
+    return false;
+  }
+
   /**
    * Draw post, drawn after the two {@link #draw(SpriteBatch)} and
    * {@link #draw(ShapeRenderer)} functions.
@@ -142,7 +157,7 @@ public class Entity {
    */
   public void postLoad(TextureManager textureManager) {
     // Get texture
-    this.sprite = new Sprite(textureManager.getAsset(texturePath));
+    this.sprite = new Sprite(textureManager.getAssetRegion(texturePath));
   }
 
   /**
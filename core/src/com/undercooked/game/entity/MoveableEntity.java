@@ -8,6 +8,28 @@ import com.undercooked.game.map.MapManager;
  */
 public class MoveableEntity extends Entity {
 
+  /**
+   * The ways that a {@link MoveableEntity} can resolve its
+   * collisions with the {@link Map}.
+   */
+  public enum MovementMode {
+    /**
+     * Move in steps, and when colliding move 0.01 pixels at a time
+     * until touching what it collided with.
+     */
+    STEPPED,
+    /**
+     * Sweep the collision along each axis, and move straight
+     * to the edge of the first thing it would hit.
+     */
+    SWEPT
+  }
+
+  /**
+   * The {@link MovementMode} used by {@link #moveAndCollide(Map, float, float, float)}.
+   */
+  protected MovementMode movementMode = MovementMode.SWEPT;
+
   /**
    * The movement speed of the {@link MoveableEntity}.
    */
@@ -33,6 +55,18 @@ public class MoveableEntity extends Entity {
    */
   protected boolean collidedY = false;
 
+  /**
+   * The position of the {@link MoveableEntity} before the last update,
+   * or {@link Float#NaN} if it hasn't been saved yet.
+   */
+  protected float prevX = Float.NaN, prevY = Float.NaN;
+
+  /**
+   * The position of the {@link MoveableEntity} after the last update, kept
+   * while it's moved to where it's drawn by {@link #interpolate(float)}.
+   */
+  private float tickX, tickY;
+
   /**
    * Calculates the movement distance of the {@link MoveableEntity} on a {@link Map}.
    *
@@ -108,6 +142,53 @@ public class MoveableEntity extends Entity {
    * @param delta {@link float} : The time the {@link MoveableEntity} has been moving for.
    */
   public void moveAndCollide(Map map, float x, float y, float delta) {
+    if (movementMode == MovementMode.STEPPED) {
+      moveAndCollideStepped(map, x, y, delta);
+    } else {
+      moveAndCollideSwept(map, x, y, delta);
+    }
+  }
+
+  /**
+   * Move and collide by sweeping the collision along the x-axis, and then
+   * along the y-axis, moving up to whatever it would hit first.
+   * <br>
+   * If it is stopped on one axis, it still moves along the other, so it
+   * slides along whatever it collided with.
+   *
+   * @param map   {@link Map} : The {@link Map} to use for collisions.
+   * @param x     {@code float} : The distance to move x.
+   * @param y     {@code float} : the distance to move y.
+   * @param delta {@link float} : The time the {@link MoveableEntity} has been moving for.
+   */
+  protected void moveAndCollideSwept(Map map, float x, float y, float delta) {
+    x = moveCalc(x, delta);
+    y = moveCalc(y, delta);
+
+    // X
+    float moveX = map.sweepX(collision.x, collision.y, collision.width, collision.height, x);
+    collidedX = (moveX != x);
+    collision.x += moveX;
+
+    // Y
+    float moveY = map.sweepY(collision.x, collision.y, collision.width, collision.height, y);
+    collidedY = (moveY != y);
+    collision.y += moveY;
+
+    pos.x = collision.x - offsetX;
+    pos.y = collision.y - offsetY;
+  }
+
+  /**
+   * Move and collide in steps, moving 0.01 pixels at a time when it
+   * collides with something.
+   *
+   * @param map   {@link Map} : The {@link Map} to use for collisions.
+   * @param x     {@code float} : The distance to move x.
+   * @param y     {@code float} : the distance to move y.
+   * @param delta {@link float} : The time the {@link MoveableEntity} has been moving for.
+   */
+  protected void moveAndCollideStepped(Map map, float x, float y, float delta) {
 
     collidedX = false;
     collidedY = false;
@@ -173,4 +254,74 @@ public class MoveableEntity extends Entity {
     pos.x = collision.x - offsetX;
     pos.y = collision.y - offsetY;
   }
+
+  /**
+   * Set the {@link MovementMode} used to resolve collisions.
+   *
+   * @param movementMode {@link MovementMode} : The {@link MovementMode} to use.
+   */
+  public void setMovementMode(MovementMode movementMode) {
+    this.movementMode = movementMode;
+  }
+
+  /**
+   * Returns the {@link MovementMode} used to resolve collisions.
+   *
+   * @return {@link MovementMode} : The current {@link MovementMode}.
+   */
+  public MovementMode getMovementMode() {
+    return movementMode;
+  }
+
+  /**
+   * Save the current position as the position before the next update,
+   * so that it can be drawn between the two.
+   */
+  public void savePosition() {
+    prevX = pos.x;
+    prevY = pos.y;
+  }
+
+  /**
+   * Move the {@link #pos} to between the position before the last update
+   * and the position after it, for drawing. {@link #endInterpolate()} must
+   * be called once drawing is finished.
+   * <br>
+   * Only the {@link #pos} is moved, so the {@link #collision} is left
+   * where the game has it.
+   *
+   * @param alpha {@code float} : How far between the two positions to draw it,
+   *              from {@code 0} to {@code 1}.
+   */
+  public void interpolate(float alpha) {
+    tickX = pos.x;
+    tickY = pos.y;
+    // If there's no position from before, then just draw it where it is
+    if (Float.isNaN(prevX) || Float.isNaN(prevY)) {
+      return;
+    }
+    pos.x = prevX + (tickX - prevX) * alpha;
+    pos.y = prevY + (tickY - prevY) * alpha;
+  }
+
+  /**
+   * Move the {@link #pos} back to where it was before {@link #interpolate(float)}.
+   */
+  public void endInterpolate() {
+    pos.x = tickX;
+    pos.y = tickY;
+  }
+
+  @Override
+  public void setX(float x) {
+    super.setX(x);
+    // Don't draw it moving from where it was
+    prevX = x;
+  }
+
+  @Override
+  public void setY(float y) {
+    super.setY(y);
+    prevY = y;
+  }
 }
@@ -3,6 +3,7 @@ package com.undercooked.game.entity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
 
 /**
  * A class for the {@link PowerUp} entity that can spawn on the
@@ -37,12 +38,30 @@ public class PowerUp extends Entity {
    */
   private Listener<PowerUp> removeListener;
 
+  /**
+   * The {@link TimingWheel} that the {@link #timer} is scheduled on,
+   * or {@code null} if the timers are counted down in {@link #update(float)}.
+   */
+  private TimingWheel timers;
+
+  /**
+   * The {@link TimingWheel.Timer} for despawning the {@link PowerUp}, or for its
+   * effect running out once it's in use.
+   */
+  private final TimingWheel.Timer timer;
+
   /**
    * Constructor for the {@link PowerUp}.
    */
   public PowerUp() {
     super();
     collision.setSize(30, 30);
+    timer = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer value) {
+        remove();
+      }
+    });
   }
 
   @Override
@@ -56,6 +75,11 @@ public class PowerUp extends Entity {
     collision.x = pos.x - collision.getWidth() / 2f;
     collision.y = pos.y - collision.getHeight() / 2f;
 
+    // If the timers are on a TimingWheel, there's nothing else to do
+    if (timers != null) {
+      return;
+    }
+
     // If it's in use, then slowly decrease the timer
     if (inUse) {
       useTimer -= delta;
@@ -111,6 +135,35 @@ public class PowerUp extends Entity {
    */
   public void use() {
     inUse = true;
+    scheduleTimer();
+  }
+
+  /**
+   * Schedule the {@link #timer} on the {@link #timers}, for the
+   * {@link #useTimer} if it's in use, or the {@link #despawnTimer} if not.
+   */
+  private void scheduleTimer() {
+    if (timers == null) {
+      return;
+    }
+    if (inUse) {
+      timers.schedule(timer, useTimer);
+      return;
+    }
+    // It only despawns if the despawn time is >= 0
+    if (despawnTimer >= 0) {
+      timers.schedule(timer, despawnTimer);
+    } else {
+      timer.cancel();
+    }
+  }
+
+  /**
+   * Cancel the {@link PowerUp}'s despawn or use timer, for when it's
+   * removed from the game.
+   */
+  public void cancelTimer() {
+    timer.cancel();
   }
 
   @Override
@@ -163,6 +216,20 @@ public class PowerUp extends Entity {
     this.removeListener = listener;
   }
 
+  /**
+   * Sets the {@link TimingWheel} that the {@link PowerUp}'s despawn and use
+   * timers are scheduled on, rather than counting them down in
+   * {@link #update(float)}, and schedules the current one.
+   *
+   * @param timers {@link TimingWheel} : The {@link TimingWheel} to use,
+   *               or {@code null} to count down in {@link #update(float)}.
+   */
+  public void setTimers(TimingWheel timers) {
+    timer.cancel();
+    this.timers = timers;
+    scheduleTimer();
+  }
+
   /**
    * Returns the type of {@link PowerUp} this is.
    *
@@ -22,6 +22,7 @@ import com.undercooked.game.map.MapCell;
 import com.undercooked.game.map.MapManager;
 import com.undercooked.game.station.Station;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.IdRegistry;
 import com.undercooked.game.util.Listener;
 import com.undercooked.game.util.Observer;
 
@@ -30,14 +31,13 @@ import com.undercooked.game.util.Observer;
  * game {@link Map} and other {@link com.undercooked.game.entity.Entity}s.
  */
 public class Cook extends MoveableEntity {
-  private static final int FRAME_COLS = 5;
-  private static final int FRAME_ROWS = 4;
-
   private Vector2 direction;
   private final int cookno;
   private final TextureManager textureManager;
+  private CookAnimations animations;
   private Animation<TextureRegion> walkAnimation;
-  private TextureRegion[][] spriteSheet;
+  private int walkRow;
+  private int frameIndex;
   private TextureRegion currentFrame;
   private float stateTime = 0;
 
@@ -129,14 +129,15 @@ public class Cook extends MoveableEntity {
 
   @Override
   public void load(TextureManager textureManager, String textureGroup) {
-    textureManager.load(textureGroup, "entities/cook_walk_" + cookno + ".png");
-    textureManager.load(textureGroup, "entities/cook_walk_hands_" + cookno + ".png");
+    textureManager.load(textureGroup, CookAnimations.getSheetPath(cookno, false));
+    textureManager.load(textureGroup, CookAnimations.getSheetPath(cookno, true));
   }
 
   @Override
   public void postLoad(TextureManager textureManager) {
+    // Get the shared animations for this cook number
+    animations = CookAnimations.get(textureManager, cookno);
     updateTexture();
-    // setWalkTexture("entities/cook_walk_" + cookno + ".png");
   }
 
   /**
@@ -156,22 +157,22 @@ public class Cook extends MoveableEntity {
   }
 
   private void movementCheck() {
-    if (InputController.isInputPressed(Keys.cook_down)) {
+    if (InputController.isInputPressed(Keys.cook_down_id)) {
       dirY -= 1;
       setWalkFrames(0);
       direction.set(0, -1);
     }
-    if (InputController.isInputPressed(Keys.cook_up)) {
+    if (InputController.isInputPressed(Keys.cook_up_id)) {
       dirY += 1;
       setWalkFrames(2);
       direction.set(0, 1);
     }
-    if (InputController.isInputPressed(Keys.cook_left)) {
+    if (InputController.isInputPressed(Keys.cook_left_id)) {
       dirX -= 1;
       setWalkFrames(1);
       direction.set(-1, 0);
     }
-    if (InputController.isInputPressed(Keys.cook_right)) {
+    if (InputController.isInputPressed(Keys.cook_right_id)) {
       dirX += 1;
       setWalkFrames(3);
       direction.set(1, 0);
@@ -186,7 +187,7 @@ public class Cook extends MoveableEntity {
     if (stationTarget.isDisabled()) {
       // If they're disabled, then try to buy the station if
       // interact is pressed
-      if (InputController.isInputJustPressed("interact")) {
+      if (InputController.isInputJustPressed(Keys.interact_id)) {
         if (moneyUsedListener != null && moneyObserver != null) {
           if (stationTarget.buy(moneyObserver.observe())) {
             moneyUsedListener.tell(stationTarget.getPrice());
@@ -198,9 +199,9 @@ public class Cook extends MoveableEntity {
 
     /// Custom station interactions
     // If it's a phone...
-    if (stationTarget.getId().equals(Constants.PHONE_ID)) {
+    if (stationTarget.getIntId() == Constants.PHONE_INT_ID) {
       // Then check if the player is interacting with it
-      if (InputController.isInputJustPressed("interact")) {
+      if (InputController.isInputJustPressed(Keys.interact_id)) {
         // If they are, and the listener for it isn't null, then tell
         // the phone interaction listener that it has been interacted with
         if (interactPhoneListener != null) {
@@ -214,11 +215,11 @@ public class Cook extends MoveableEntity {
     }
 
     // If it's a Register...
-    if (stationTarget.getId().equals(Constants.REGISTER_ID)) {
+    if (stationTarget.getIntId() == Constants.REGISTER_INT_ID) {
       // Then do a few custom checks
       // If they're trying to interact, call the Interact listener
       // if it exists
-      if (InputController.isInputJustPressed("interact")) {
+      if (InputController.isInputJustPressed(Keys.interact_id)) {
         if (interactRegisterListener != null) {
           interactRegisterListener.tell(interactTarget);
         }
@@ -227,7 +228,7 @@ public class Cook extends MoveableEntity {
 
       // If the above doesn't apply, then check if they're trying to
       // put down their item
-      if (InputController.isInputJustPressed("drop")) {
+      if (InputController.isInputJustPressed(Keys.drop_id)) {
         // If they are, check if the serve listener exists
         if (serveListener != null) {
           // If it does, then tell it that the Cook is trying to serve
@@ -242,7 +243,7 @@ public class Cook extends MoveableEntity {
 
     // Station interactions
     // Check for station interactions
-    if (InputController.isInputJustPressed("take")) {
+    if (InputController.isInputJustPressed(Keys.take_id)) {
       // If the station has an item, take it
       if (stationTarget.items.size() > 0) {
         // If the Cook can also take it...
@@ -259,7 +260,7 @@ public class Cook extends MoveableEntity {
       }
     }
 
-    if (InputController.isInputJustPressed("drop")) {
+    if (InputController.isInputJustPressed(Keys.drop_id)) {
       // If the cook has an item, drop it
       if (heldItems.size() > 0) {
         // If the station can hold it...
@@ -283,19 +284,20 @@ public class Cook extends MoveableEntity {
     }
 
     // Check for every input
-    for (Object curKey : InputController.getInputs().keys().iterator()) {
-      String keyId = (String) curKey;
+    for (int inputId = 0; inputId < InputController.getInputCount(); inputId++) {
       // If it's not an interaction key, then ignore and skip
-      if (!InputController.isInteraction(keyId)) {
+      if (!InputController.isInteraction(inputId)) {
         continue;
       }
       InteractResult interactResult = InteractResult.NONE;
       // Loop through the InputTypes
       for (InputType inputType : InputType.values()) {
-        if (InputController.isInput(keyId, inputType)) {
+        if (InputController.isInput(inputId, inputType)) {
           if (interactTarget.getMapEntity() == null) {
             return;
           }
+          // The interactions still use the id that's in their Json
+          String keyId = IdRegistry.INPUTS.getName(inputId);
           interactResult = interactTarget.getMapEntity().interact(this, keyId, inputType);
           // If it's repeat, then repeat the check
           if (interactResult == InteractResult.RESTART) {
@@ -368,7 +370,7 @@ public class Cook extends MoveableEntity {
     }
 
     // Update animation
-    currentFrame = walkAnimation.getKeyFrame(stateTime, true);
+    updateFrame();
     if (dirX != 0 || dirY != 0) {
       stateTime += delta;
     } else {
@@ -403,9 +405,10 @@ public class Cook extends MoveableEntity {
    * @param y     {@code float} : The {@code y} position to draw at.
    */
   public void draw_top(SpriteBatch batch, int x, int y) {
-    TextureRegion chefTop = new TextureRegion(currentFrame, 0, 0, currentFrame.getRegionWidth(),
-            currentFrame.getRegionHeight() / 2);
-    batch.draw(chefTop, x, y, 128, 128);
+    if (animations == null) {
+      return;
+    }
+    batch.draw(animations.getTopFrame(isHolding(), walkRow, frameIndex), x, y, 128, 128);
   }
 
   /**
@@ -445,31 +448,40 @@ public class Cook extends MoveableEntity {
   }
 
   /**
-   * Set the texture to draw the {@link Cook}.
+   * Set the walk frames to use.
    *
-   * @param path {@link String} : The path to the {@link Texture}.
+   * @param row {@code int} : The row on the walk sheet.
    */
-  private void setWalkTexture(String path) {
-    Texture walkSheet = textureManager.get(path);
-    spriteSheet = TextureRegion.split(walkSheet, walkSheet.getWidth() / FRAME_COLS,
-            walkSheet.getHeight() / FRAME_ROWS);
-    // walkFrames = new TextureRegion[FRAME_COLS];
-    setWalkFrames(0);
+  private void setWalkFrames(int row) {
+    walkRow = row;
+    // If the animations aren't loaded yet, the row is used once they are
+    if (animations == null) {
+      return;
+    }
+    walkAnimation = animations.getAnimation(isHolding(), walkRow);
+    updateFrame();
   }
 
   /**
-   * Set the walk frames to use.
+   * Update the {@link #currentFrame} to the frame of the
+   * {@link #walkAnimation} for the current state time.
+   */
+  private void updateFrame() {
+    if (walkAnimation == null) {
+      return;
+    }
+    frameIndex = walkAnimation.getKeyFrameIndex(stateTime);
+    currentFrame = walkAnimation.getKeyFrames()[frameIndex];
+  }
+
+  /**
+   * Returns whether the {@link Cook} is holding any {@link Item}s.
    *
-   * @param row {@code int} : The row on the {@link #spriteSheet}.
+   * @return {@code boolean} : {@code true} if they are holding {@link Item}s,
+   *         {@code false} if not.
    */
-  private void setWalkFrames(int row) {
-    /*
-     * for (int i = 0; i < FRAME_COLS; i++) {
-     * walkFrames[i] = spriteSheet[row][i];
-     * }
-     */
-    walkAnimation = new Animation<>(0.09f, spriteSheet[row]);
-    currentFrame = walkAnimation.getKeyFrame(stateTime, true);
+  public boolean isHolding() {
+    return heldItems.size() > 0;
   }
 
   /**
@@ -658,13 +670,12 @@ public class Cook extends MoveableEntity {
   /**
    * Updates the {@link Cook}'s current {@link Texture}s depending on
    * if they are holding {@link Item}s or not.
+   * <br>
+   * This only swaps which of the shared {@link CookAnimations} is used, so it
+   * does not allocate.
    */
   public void updateTexture() {
-    if (heldItems.size() > 0) {
-      setWalkTexture("entities/cook_walk_hands_" + cookno + ".png");
-    } else {
-      setWalkTexture("entities/cook_walk_" + cookno + ".png");
-    }
+    setWalkFrames(walkRow);
   }
 
   /**
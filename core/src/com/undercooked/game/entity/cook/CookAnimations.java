@@ -0,0 +1,173 @@
+package com.undercooked.game.entity.cook;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.IntMap;
+import com.undercooked.game.assets.TextureManager;
+
+/**
+ * A class that stores the walking {@link Animation}s of a single
+ * {@link Cook} number, for both when they're holding {@link com.undercooked.game.food.Item}s
+ * and when they aren't.
+ * <br>
+ * These are shared between every {@link Cook} using the same number, so that
+ * changing direction or picking up an item only has to swap which
+ * {@link Animation} is being used, rather than splitting the walk sheet again.
+ */
+public class CookAnimations {
+
+  /**
+   * The number of frames in each row of the walk sheet.
+   */
+  public static final int FRAME_COLS = 5;
+
+  /**
+   * The number of rows (directions) in the walk sheet.
+   */
+  public static final int FRAME_ROWS = 4;
+
+  /**
+   * The time, in seconds, that each frame is shown for.
+   */
+  public static final float FRAME_DURATION = 0.09f;
+
+  /**
+   * The {@link CookAnimations} that have been built, using the
+   * cook number as the key.
+   */
+  private static final IntMap<CookAnimations> cache = new IntMap<>();
+
+  /**
+   * The walk sheet the animations were built from.
+   */
+  private final TextureRegion walkSheet;
+
+  /**
+   * The walk sheet, with hands, the animations were built from.
+   */
+  private final TextureRegion handsSheet;
+
+  /**
+   * The {@link Animation}s for each row. The first index is {@code 1}
+   * if holding items, or {@code 0} if not.
+   */
+  private final Animation<TextureRegion>[][] animations;
+
+  /**
+   * The top half of every frame, indexed the same as the {@link #animations},
+   * followed by the frame index.
+   */
+  private final TextureRegion[][][] topFrames;
+
+  /**
+   * Constructor for the {@link CookAnimations}, which splits the two
+   * walk sheets into their {@link Animation}s.
+   *
+   * @param walkSheet  {@link TextureRegion} : The walk sheet.
+   * @param handsSheet {@link TextureRegion} : The walk sheet, with hands.
+   */
+  @SuppressWarnings("unchecked")
+  public CookAnimations(TextureRegion walkSheet, TextureRegion handsSheet) {
+    this.walkSheet = walkSheet;
+    this.handsSheet = handsSheet;
+    this.animations = new Animation[2][FRAME_ROWS];
+    this.topFrames = new TextureRegion[2][FRAME_ROWS][];
+    buildSheet(0, walkSheet);
+    buildSheet(1, handsSheet);
+  }
+
+  /**
+   * Split a walk sheet into its {@link Animation}s and top frames.
+   *
+   * @param index {@code int} : The index to store them at.
+   * @param sheet {@link TextureRegion} : The walk sheet to split.
+   */
+  private void buildSheet(int index, TextureRegion sheet) {
+    TextureRegion[][] frames = sheet.split(sheet.getRegionWidth() / FRAME_COLS,
+            sheet.getRegionHeight() / FRAME_ROWS);
+    for (int row = 0; row < FRAME_ROWS; row++) {
+      Animation<TextureRegion> animation = new Animation<>(FRAME_DURATION, frames[row]);
+      animation.setPlayMode(Animation.PlayMode.LOOP);
+      animations[index][row] = animation;
+
+      // Get the top half of each of the frames
+      topFrames[index][row] = new TextureRegion[frames[row].length];
+      for (int col = 0; col < frames[row].length; col++) {
+        TextureRegion frame = frames[row][col];
+        topFrames[index][row][col] = new TextureRegion(frame, 0, 0,
+                frame.getRegionWidth(), frame.getRegionHeight() / 2);
+      }
+    }
+  }
+
+  /**
+   * Returns the walking {@link Animation} for a direction.
+   *
+   * @param holding {@code boolean} : Whether the {@link Cook} is holding
+   *                items or not.
+   * @param row     {@code int} : The row of the walk sheet.
+   * @return {@link Animation}&lt;{@link TextureRegion}&gt; : The walking animation.
+   */
+  public Animation<TextureRegion> getAnimation(boolean holding, int row) {
+    return animations[holding ? 1 : 0][row];
+  }
+
+  /**
+   * Returns the top half of a frame of a walking {@link Animation}.
+   *
+   * @param holding    {@code boolean} : Whether the {@link Cook} is holding
+   *                   items or not.
+   * @param row        {@code int} : The row of the walk sheet.
+   * @param frameIndex {@code int} : The index of the frame.
+   * @return {@link TextureRegion} : The top half of the frame.
+   */
+  public TextureRegion getTopFrame(boolean holding, int row, int frameIndex) {
+    return topFrames[holding ? 1 : 0][row][frameIndex];
+  }
+
+  /**
+   * Returns the path of the walk sheet for a cook number.
+   *
+   * @param cookNo  {@code int} : The cook number.
+   * @param holding {@code boolean} : Whether it's the sheet for holding items.
+   * @return {@link String} : The path to the walk sheet.
+   */
+  public static String getSheetPath(int cookNo, boolean holding) {
+    if (holding) {
+      return "entities/cook_walk_hands_" + cookNo + ".png";
+    }
+    return "entities/cook_walk_" + cookNo + ".png";
+  }
+
+  /**
+   * Returns the {@link CookAnimations} for a cook number, only building it
+   * if it hasn't been built for the currently loaded walk sheets.
+   *
+   * @param textureManager {@link TextureManager} : The {@link TextureManager} to
+   *                       get the walk sheets from.
+   * @param cookNo         {@code int} : The cook number.
+   * @return {@link CookAnimations} : The animations for the cook number.
+   */
+  public static CookAnimations get(TextureManager textureManager, int cookNo) {
+    TextureRegion walkSheet = textureManager.getRegion(getSheetPath(cookNo, false));
+    TextureRegion handsSheet = textureManager.getRegion(getSheetPath(cookNo, true));
+    CookAnimations cookAnimations = cache.get(cookNo);
+    // If the walk sheets have changed since it was built (such as being
+    // unloaded, reloaded or packed), then it needs to be built again.
+    if (cookAnimations == null
+            || cookAnimations.walkSheet != walkSheet
+            || cookAnimations.handsSheet != handsSheet) {
+      cookAnimations = new CookAnimations(walkSheet, handsSheet);
+      cache.put(cookNo, cookAnimations);
+    }
+    return cookAnimations;
+  }
+
+  /**
+   * Clears all of the built {@link CookAnimations}. This should be called
+   * when the walk sheets are unloaded, so that their regions aren't kept.
+   */
+  public static void clear() {
+    cache.clear();
+  }
+}
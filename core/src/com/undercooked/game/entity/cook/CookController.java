@@ -116,11 +116,11 @@ public class CookController {
     // If processing inputs and if there are cooks...
     if (processInput && cooks.size > 0) {
       // Change between cooks if needed
-      if (InputController.isInputJustPressed(Keys.cook_next)) {
+      if (InputController.isInputJustPressed(Keys.cook_next_id)) {
         currentCook = (currentCook + 1) % cooks.size;
         currentCook = Math.max(currentCook, 0);
       }
-      if (InputController.isInputJustPressed(Keys.cook_prev)) {
+      if (InputController.isInputJustPressed(Keys.cook_prev_id)) {
         currentCook = currentCook - 1;
         currentCook = Math.min(currentCook, cooks.size - 1);
         if (currentCook < 0) {
@@ -143,6 +143,35 @@ public class CookController {
     }
   }
 
+  /**
+   * Save the positions of the {@link Cook}s before an update.
+   */
+  public void savePositions() {
+    for (Cook cook : cooks) {
+      cook.savePosition();
+    }
+  }
+
+  /**
+   * Move the {@link Cook}s to between their last two positions for drawing.
+   *
+   * @param alpha {@code float} : How far between the two positions to draw them.
+   */
+  public void interpolate(float alpha) {
+    for (Cook cook : cooks) {
+      cook.interpolate(alpha);
+    }
+  }
+
+  /**
+   * Move the {@link Cook}s back after {@link #interpolate(float)}.
+   */
+  public void endInterpolate() {
+    for (Cook cook : cooks) {
+      cook.endInterpolate();
+    }
+  }
+
   /**
    * Function to stop all {@link Cook} movement for when the
    * {@link com.undercooked.game.screen.GameScreen} pauses.
@@ -225,6 +254,9 @@ public class CookController {
    */
   public void unload() {
     cooks.clear();
+    // The cooks' walk sheets are unloaded with the game's textures,
+    // so their animations can't be used again.
+    CookAnimations.clear();
   }
 
   /**
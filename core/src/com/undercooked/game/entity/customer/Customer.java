@@ -3,6 +3,7 @@ package com.undercooked.game.entity.customer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.JsonValue;
 import com.undercooked.game.assets.TextureManager;
@@ -11,6 +12,7 @@ import com.undercooked.game.food.Request;
 import com.undercooked.game.map.MapManager;
 import com.undercooked.game.map.Register;
 import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
 
 /**
  * The class used for the {@link Customer}s that appear on the map,
@@ -30,26 +32,38 @@ public class Customer {
   public float posY;
 
   /**
-   * The front facing {@link Texture} of the {@link Customer}.
+   * The position of the {@link Customer} before the last update,
+   * or {@link Float#NaN} if it hasn't been saved yet.
    */
-  Texture textf;
+  float prevX = Float.NaN, prevY = Float.NaN;
+
+  /**
+   * The position of the {@link Customer} after the last update, kept
+   * while it's moved to where it's drawn by {@link #interpolate(float)}.
+   */
+  private float tickX, tickY;
+
+  /**
+   * The front facing {@link TextureRegion} of the {@link Customer}.
+   */
+  TextureRegion textf;
   /**
-   * The back facing {@link Texture} of the {@link Customer}.
+   * The back facing {@link TextureRegion} of the {@link Customer}.
    */
-  Texture textb;
+  TextureRegion textb;
   /**
-   * The right facing {@link Texture} of the {@link Customer}.
+   * The right facing {@link TextureRegion} of the {@link Customer}.
    */
-  Texture textr;
+  TextureRegion textr;
   /**
-   * The left facing {@link Texture} of the {@link Customer}.
+   * The left facing {@link TextureRegion} of the {@link Customer}.
    */
-  Texture textl;
+  TextureRegion textl;
 
   /**
-   * The current {@link Texture} that the {@link Customer} should draw.
+   * The current {@link TextureRegion} that the {@link Customer} should draw.
    */
-  Texture curTexture;
+  TextureRegion curTexture;
 
   /**
    * How far the {@link Customer} moves per second.
@@ -87,14 +101,17 @@ public class Customer {
   public Request order;
 
   /**
-   * The time that the {@link Customer} has left before they leave.
+   * The time that the {@link Customer} has left before they leave, while
+   * the {@link #waitDeadline} isn't scheduled.
    */
   public float waitTimer;
 
   /**
-   * The speed that the {@link #waitTimer} decreases per second.
+   * The {@link TimingWheel.Timer} for when the {@link Customer} runs out of time
+   * waiting, scheduled on the {@link CustomerController}'s timers, which
+   * count down at the {@link Customer}s' wait speed.
    */
-  public float waitSpeed;
+  final TimingWheel.Timer waitDeadline;
 
   /**
    * Whether the {@link Customer} is waiting ({@code true}) or not ({@code false}).
@@ -111,6 +128,24 @@ public class Customer {
    */
   private final int custNo;
 
+  /**
+   * The {@code x} of the cell that the {@link Customer} is in on the
+   * {@link CustomerController}'s {@link CustomerOccupancy}.
+   */
+  int occupiedX;
+
+  /**
+   * The {@code y} of the cell that the {@link Customer} is in on the
+   * {@link CustomerController}'s {@link CustomerOccupancy}.
+   */
+  int occupiedY;
+
+  /**
+   * Whether the {@link Customer} is on the {@link CustomerController}'s
+   * {@link CustomerOccupancy} or not.
+   */
+  boolean occupying;
+
   /**
    * Constructor for {@link Customer}.
    *
@@ -125,9 +160,9 @@ public class Customer {
                   TextureManager textureManager) {
     TextureManager assetManager = textureManager;
     this.custNo = custNo;
-    textf = textureManager.get("entities/cust" + custNo + "f.png");
-    textb = textureManager.get("entities/cust" + custNo + "b.png");
-    textr = textureManager.get("entities/cust" + custNo + "r.png");
+    textf = textureManager.getRegion("entities/cust" + custNo + "f.png");
+    textb = textureManager.getRegion("entities/cust" + custNo + "b.png");
+    textr = textureManager.getRegion("entities/cust" + custNo + "r.png");
     curTexture = textb;
 
     // textb = assetManager.get("entities/cust" + custno + "b.png");
@@ -148,13 +183,18 @@ public class Customer {
     this.customerController = customerController;
     this.moveSpeed = 2F;
     this.waitTimer = -1F;
-    this.waitSpeed = 1F;
+    this.waitDeadline = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer value) {
+        waitFinished();
+      }
+    });
   }
 
   /**
    * Update function of the {@link Customer}.
-   * <br>Updates their position if they're entering or leaving, or
-   * lowers their wait timer if they have one.
+   * <br>Updates their position if they're entering or leaving. Their
+   * wait timer is counted down by the {@link CustomerController}'s timers.
    *
    * @param delta {@code float} : The time since the last frame.
    */
@@ -173,21 +213,9 @@ public class Customer {
     }
     // If they're not visible, make them visible
     visibility = Math.min(1, visibility + 0.05F);
-    // If this customer is waiting...
+    // If this customer is waiting, then there's nothing to do until
+    // they're served or their waitDeadline is reached
     if (waiting) {
-      // If waitTimer is not already < 0
-      if (waitTimer >= 0) {
-        // Then decrease the wait timer
-        waitTimer -= delta * waitSpeed;
-        // If waitTimer reaches 0, and the customer hasn't been served,
-        // then tell the listener
-        if (waitTimer <= 0) {
-          leave();
-          if (failedListener != null) {
-            failedListener.tell(this);
-          }
-        }
-      }
       return;
     }
 
@@ -201,7 +229,7 @@ public class Customer {
       // If posy >= registerCell's y, + 0.5, then wait
       float targetY = register.getRegisterCell().getCollisionY() - MapManager.gridToPos(0.3F);
       if (posY >= targetY) {
-        waiting = true;
+        startWaiting();
         curTexture = textr;
         posY = targetY;
       }
@@ -237,15 +265,51 @@ public class Customer {
    *                       use
    */
   public void postLoad(TextureManager textureManager) {
-    textf = textureManager.get("entities/cust" + custNo + "f.png");
-    textb = textureManager.get("entities/cust" + custNo + "b.png");
-    textr = textureManager.get("entities/cust" + custNo + "r.png");
+    textf = textureManager.getRegion("entities/cust" + custNo + "f.png");
+    textb = textureManager.getRegion("entities/cust" + custNo + "b.png");
+    textr = textureManager.getRegion("entities/cust" + custNo + "r.png");
     curTexture = textb;
     if (getRequest() != null) {
       getRequest().postLoad(textureManager);
     }
   }
 
+  /**
+   * Save the current position as the position before the next update,
+   * so that it can be drawn between the two.
+   */
+  public void savePosition() {
+    prevX = posX;
+    prevY = posY;
+  }
+
+  /**
+   * Move the {@link Customer} to between the position before the last update
+   * and the position after it, for drawing. {@link #endInterpolate()} must
+   * be called once drawing is finished.
+   *
+   * @param alpha {@code float} : How far between the two positions to draw it,
+   *              from {@code 0} to {@code 1}.
+   */
+  public void interpolate(float alpha) {
+    tickX = posX;
+    tickY = posY;
+    // If there's no position from before, then just draw it where it is
+    if (Float.isNaN(prevX) || Float.isNaN(prevY)) {
+      return;
+    }
+    posX = prevX + (tickX - prevX) * alpha;
+    posY = prevY + (tickY - prevY) * alpha;
+  }
+
+  /**
+   * Move the {@link Customer} back to where it was before {@link #interpolate(float)}.
+   */
+  public void endInterpolate() {
+    posX = tickX;
+    posY = tickY;
+  }
+
   /**
    * Draw the {@link Customer}'s {@link Texture}.
    *
@@ -276,7 +340,7 @@ public class Customer {
     float height = 60;
     shape.setColor(Color.GRAY);
     shape.rect(posX, posY + 16, width, height);
-    float percentFilled = waitTimer / getRequest().getTime();
+    float percentFilled = getWaitTimer() / getRequest().getTime();
     shape.setColor(Color.BLACK);
     shape.rect(posX + padding, posY + 16 + padding,
             width - padding * 2, height - padding * 2);
@@ -298,7 +362,7 @@ public class Customer {
    *                           {@code false} if not.
    */
   public boolean serve(Item item) {
-    if (item.getId().equals(this.order.itemId)) {
+    if (item.getIntId() == this.order.getItemIntId()) {
       // Remove this customer from the register
       customerController.customerOffRegister(register);
       // Then leave
@@ -310,6 +374,30 @@ public class Customer {
     return false;
   }
 
+  /**
+   * Set the {@link Customer} to be waiting at their {@link Register}, and
+   * schedule their {@link #waitDeadline} if they have a wait time.
+   */
+  void startWaiting() {
+    waiting = true;
+    // If waitTimer is not < 0, then they'll leave once it runs out
+    if (waitTimer >= 0) {
+      customerController.getTimers().schedule(waitDeadline, waitTimer);
+    }
+  }
+
+  /**
+   * Called when the {@link Customer} has run out of time waiting
+   * without being served, so they leave and tell the listener.
+   */
+  void waitFinished() {
+    waitTimer = 0;
+    leave();
+    if (failedListener != null) {
+      failedListener.tell(this);
+    }
+  }
+
   /**
    * Called when the {@link Customer} should leave the map.
    */
@@ -320,13 +408,16 @@ public class Customer {
     }
     // Set the Customer to leave
     leaving = true;
-    // And that they are no longer waiting
+    // And that they are no longer waiting, keeping the time they had left
+    waitTimer = getWaitTimer();
+    waitDeadline.cancel();
     waiting = false;
     // If the Customer is at a register, then tell the
     // CustomerController that.
     customerController.customerOffRegister(register);
     // Move to the left path
     this.posX -= MapManager.gridToPos(1);
+    customerController.customerMoved(this);
     // Update the texture
     curTexture = textf;
   }
@@ -414,14 +505,16 @@ public class Customer {
   }
 
   /**
-   * Set the speed at which a customer will wait. It is the amount
-   * that the {@link #waitTimer} is lowered per second.
-   * <br>Default is 1.
+   * Returns the time that the {@link Customer} has left before they leave.
    *
-   * @param waitSpeed {@code float} : The speed to wait at.
+   * @return {@code float} : The time left, or a value {@code < 0} if they
+   *                         will wait forever.
    */
-  public void setWaitSpeed(float waitSpeed) {
-    this.waitSpeed = Math.max(0, waitSpeed);
+  public float getWaitTimer() {
+    if (waitDeadline.isScheduled()) {
+      return waitDeadline.getRemaining();
+    }
+    return waitTimer;
   }
 
   /**
@@ -442,7 +535,7 @@ public class Customer {
       customerRoot.addChild("reg_y", new JsonValue(register.getRegisterCell().getY()));
     }
     customerRoot.addChild("custno", new JsonValue(custNo));
-    customerRoot.addChild("wait_timer", new JsonValue(waitTimer));
+    customerRoot.addChild("wait_timer", new JsonValue(getWaitTimer()));
     customerRoot.addChild("move_speed", new JsonValue(moveSpeed));
     customerRoot.addChild("request", order.serial());
     return customerRoot;
@@ -2,11 +2,14 @@ package com.undercooked.game.entity.customer;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.Queue;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.food.Item;
 import com.undercooked.game.food.Request;
+import com.undercooked.game.logic.GameLogic;
 import com.undercooked.game.map.Map;
 import com.undercooked.game.map.MapCell;
 import com.undercooked.game.map.MapEntity;
@@ -15,6 +18,7 @@ import com.undercooked.game.map.Register;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.Listener;
 import com.undercooked.game.util.MathUtil;
+import com.undercooked.game.util.TimingWheel;
 import java.util.Comparator;
 
 /**
@@ -44,9 +48,21 @@ public class CustomerController {
   Array<Customer> toSpawn;
 
   /**
-   * An {@link Array} of the {@link Register}s on the {@link #map}.
+   * The cells that the {@link #customers} are in.
    */
-  Array<Register> registers;
+  CustomerOccupancy occupancy;
+
+  /**
+   * The {@link #customers} that are waiting for a {@link Register}, in the
+   * order that they spawned. {@link Customer}s are added when they spawn
+   * without a {@link Register}, and removed when they are given one.
+   */
+  Queue<Customer> waitingCustomers;
+
+  /**
+   * The {@link Register}s on the {@link #map}.
+   */
+  RegisterService registers;
 
   /**
    * The {@link Map} to use for finding {@link Register}s.
@@ -73,6 +89,12 @@ public class CustomerController {
    */
   float waitSpeed;
 
+  /**
+   * The {@link TimingWheel} that the {@link Customer}s' wait timers are
+   * scheduled on, which runs at the {@link #waitSpeed}.
+   */
+  TimingWheel timers;
+
   /**
    * The {@link Listener} that the {@link Customer}s call when they are served successfully.
    */
@@ -108,7 +130,10 @@ public class CustomerController {
     this.customers = new Array<>();
     this.drawCustomers = new Array<>();
     this.toSpawn = new Array<>();
-    this.registers = new Array<>();
+    this.occupancy = new CustomerOccupancy();
+    this.waitingCustomers = new Queue<>();
+    this.registers = new RegisterService();
+    this.timers = new TimingWheel(GameLogic.TICK_RATE);
     // computeCustomerZone(gameMap);
 
     this.spawnX = 3;
@@ -205,6 +230,10 @@ public class CustomerController {
    * @param delta {@code float} : The time since the last frame.
    */
   public void update(float delta) {
+    // Count down the waiting Customers' timers, which makes them
+    // leave if they run out
+    timers.advance(delta);
+
     // Check if there is a Customer waiting for
     // an open space
     Customer waitingCustomer = customerWaiting();
@@ -216,18 +245,90 @@ public class CustomerController {
     }
     // Update the Customers
     for (int index = 0; index < customers.size; index++) {
-      customers.get(index).update(delta);
+      Customer customer = customers.get(index);
+      customer.update(delta);
+      // Move them on the occupancy grid straight away, so that the
+      // next Customers see where they are now
+      customerMoved(customer);
     }
     // If there are customers to spawn...
     if (toSpawn.size > 0) {
       // And one can be spawned...
       if (canSpawn()) {
         // then move it over to the customers array
-        customers.add(toSpawn.removeIndex(0));
+        addCustomer(toSpawn.removeIndex(0));
       }
     }
   }
 
+  /**
+   * Add a {@link Customer} to the {@link #customers}, putting them on the
+   * {@link #occupancy} grid, and in the {@link #waitingCustomers} if they
+   * don't have a {@link Register}.
+   *
+   * @param customer {@link Customer} : The {@link Customer} to add.
+   */
+  private void addCustomer(Customer customer) {
+    customers.add(customer);
+    occupancy.add(customer);
+    if (customer.getRegister() == null) {
+      waitingCustomers.addLast(customer);
+    }
+  }
+
+  /**
+   * Remove a {@link Customer} from the {@link #waitingCustomers}.
+   *
+   * @param customer {@link Customer} : The {@link Customer} to remove.
+   */
+  private void removeWaiting(Customer customer) {
+    // It's almost always the first one, so check that first
+    if (waitingCustomers.size > 0 && waitingCustomers.first() == customer) {
+      waitingCustomers.removeFirst();
+      return;
+    }
+    waitingCustomers.removeValue(customer, true);
+  }
+
+  /**
+   * Update the cell that a {@link Customer} is in on the occupancy grid,
+   * which should be called whenever they move.
+   *
+   * @param customer {@link Customer} : The {@link Customer} that moved.
+   */
+  void customerMoved(Customer customer) {
+    occupancy.move(customer);
+  }
+
+
+  /**
+   * Save the positions of the {@link Customer}s before an update.
+   */
+  public void savePositions() {
+    for (Customer customer : drawCustomers) {
+      customer.savePosition();
+    }
+  }
+
+  /**
+   * Move the {@link Customer}s to between their last two positions for drawing.
+   *
+   * @param alpha {@code float} : How far between the two positions to draw them.
+   */
+  public void interpolate(float alpha) {
+    for (Customer customer : drawCustomers) {
+      customer.interpolate(alpha);
+    }
+  }
+
+  /**
+   * Move the {@link Customer}s back after {@link #interpolate(float)}.
+   */
+  public void endInterpolate() {
+    for (Customer customer : drawCustomers) {
+      customer.endInterpolate();
+    }
+  }
 
   /**
    * Draw all of the {@link Customer}s' {@link com.badlogic.gdx.graphics.Texture}s.
@@ -235,12 +336,30 @@ public class CustomerController {
    * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
    */
   public void draw(SpriteBatch batch) {
+    draw(batch, null);
+  }
+
+  /**
+   * Draw the {@link Customer}s' {@link com.badlogic.gdx.graphics.Texture}s
+   * that are inside of the view.
+   *
+   * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
+   * @param view  {@link Rectangle} : The area to draw the {@link Customer}s in,
+   *              or {@code null} to draw all of them.
+   * @return {@code int} : The number of {@link Customer}s drawn.
+   */
+  public int draw(SpriteBatch batch, Rectangle view) {
     // First sort the draw array
     drawCustomers.sort(customerDrawComparator);
-    // Draw all the Customers
+    // Draw all the Customers that can be seen
+    int drawn = 0;
     for (Customer customer : drawCustomers) {
-      customer.draw(batch);
+      if (isInView(customer, view)) {
+        customer.draw(batch);
+        drawn++;
+      }
     }
+    return drawn;
   }
 
   /**
@@ -249,14 +368,52 @@ public class CustomerController {
    * @param shape {@link ShapeRenderer} : The {@link ShapeRenderer} to use.
    */
   public void draw(ShapeRenderer shape) {
+    draw(shape, null);
+  }
+
+  /**
+   * Draw the shapes of the {@link Customer}s that are inside of the view.
+   *
+   * @param shape {@link ShapeRenderer} : The {@link ShapeRenderer} to use.
+   * @param view  {@link Rectangle} : The area to draw the {@link Customer}s in,
+   *              or {@code null} to draw all of them.
+   */
+  public void draw(ShapeRenderer shape, Rectangle view) {
     // First sort the draw array
     drawCustomers.sort(customerDrawComparator);
-    // Draw all the Customers
+    // Draw all the Customers that can be seen
     for (Customer customer : drawCustomers) {
-      customer.draw(shape);
+      if (isInView(customer, view)) {
+        customer.draw(shape);
+      }
     }
   }
 
+  /**
+   * Returns whether a {@link Customer}'s sprite is inside of the view.
+   *
+   * @param customer {@link Customer} : The {@link Customer} to check.
+   * @param view     {@link Rectangle} : The view, or {@code null} for everything.
+   * @return {@code boolean} : {@code true} if it can be seen, {@code false} if not.
+   */
+  private boolean isInView(Customer customer, Rectangle view) {
+    if (view == null) {
+      return true;
+    }
+    // Customers are drawn 64 wide and 128 tall from their position
+    return view.x < customer.posX + 64 && view.x + view.width > customer.posX
+            && view.y < customer.posY + 128 && view.y + view.height > customer.posY;
+  }
+
+  /**
+   * Returns the number of {@link Customer}s that are drawn.
+   *
+   * @return {@code int} : The number of {@link Customer}s to draw.
+   */
+  public int getDrawCount() {
+    return drawCustomers.size;
+  }
+
   /**
    * Returns the first {@link Customer} that does not have a
    * {@link Register} linked to them.
@@ -265,15 +422,12 @@ public class CustomerController {
    *                            a {@link Register}, or {@code null}.
    */
   public Customer customerWaiting() {
-    // Check through the customers, and if there is one
-    // that doesn't have a register set, then that means
-    // that they're waiting.
-    for (Customer customer : customers) {
-      if (customer.getRegister() == null) {
-        return customer;
-      }
+    // The waiting customers are kept in the order that they
+    // spawned, so it's the first one.
+    if (waitingCustomers.size == 0) {
+      return null;
     }
-    return null;
+    return waitingCustomers.first();
   }
 
   /**
@@ -300,24 +454,23 @@ public class CustomerController {
     // Create the new customer
     Customer newCustomer = new Customer(custNo, this, textureManager);
 
+    // Set position, before it's added, so it's put in the right cell
+    newCustomer.posX = MapManager.gridToPos(spawnX);
+    newCustomer.posY = MapManager.gridToPos(spawnY);
+
     // Add the customer if it's valid. If not, add to the "to spawn" array
     // If toSpawn already has something in it, then add it to the end
     // of that, as it can't be added before.
     if (!(toSpawn.size > 0) && canSpawn()) {
-      customers.add(newCustomer);
+      addCustomer(newCustomer);
     } else {
       toSpawn.add(newCustomer);
     }
     // Either way, add it to the draw array
     drawCustomers.add(newCustomer);
 
-    // Set position
-    newCustomer.posX = MapManager.gridToPos(spawnX);
-    newCustomer.posY = MapManager.gridToPos(spawnY);
-
     // Set speed
     newCustomer.setMoveSpeed(customerSpeed);
-    newCustomer.setWaitSpeed(waitSpeed);
 
     // Set their listeners
     setCustomersListeners(newCustomer);
@@ -338,30 +491,6 @@ public class CustomerController {
     customer.failedListener = loseReputation;
   }
 
-  /**
-   * A {@code y} comparator for the {@link Register}s, to be used
-   * to sort them in {@link #getOpenRegister()} for the
-   * {@link CustomerTarget#CLOSEST} and {@link CustomerTarget#FARTHEST}
-   * targeting types.
-   */
-  Comparator<Register> registerComparator = new Comparator<Register>() {
-    @Override
-    public int compare(Register o1, Register o2) {
-      MapCell mapCell1 = o1.getRegisterCell();
-      MapCell mapCell2 = o2.getRegisterCell();
-      // If higher, return 1
-      if (mapCell1.getCollisionY() > mapCell1.getCollisionY()) {
-        return 1;
-      }
-      // If lower, return -1
-      if (mapCell2.getCollisionY() < mapCell2.getCollisionY()) {
-        return -1;
-      }
-      // Return 0 if they're the same.
-      return 0;
-    }
-  };
-
   /**
    * Gets a {@link Register} that has no {@link Customer} on it,
    * changing which one is selected depending on the {@link #targetType}.
@@ -370,35 +499,9 @@ public class CustomerController {
    *                            or {@code null} if there isn't one.
    */
   public Register getOpenRegister() {
-    // Loop through the registers, and add them to an array
-    // if they have no customer on them
-    Array<Register> openRegisters = new Array<>();
-    for (Register register : registers) {
-      // Return it if the Customer is null
-      if (register.getCustomer() == null) {
-        openRegisters.add(register);
-      }
-    }
-    // If it doesn't find one, return null.
-    if (openRegisters.size == 0) {
-      return null;
-    }
-
-    // If it did find one, depending on the CustomerTarget, select a register
-    switch (targetType) {
-      case FARTHEST:
-        openRegisters.sort(registerComparator);
-        return openRegisters.first();
-      case CLOSEST:
-        openRegisters.sort(registerComparator);
-        openRegisters.reverse();
-        return openRegisters.first();
-      case RANDOM:
-        // Get a random index
-        return openRegisters.random();
-      default:
-        return openRegisters.first();
-    }
+    // The RegisterService keeps track of which are open, so
+    // this doesn't need to check or sort them all.
+    return registers.getOpen(targetType);
   }
 
   /**
@@ -412,20 +515,9 @@ public class CustomerController {
    *                           {@code false} if there is not.
    */
   public boolean customerInSquareGrid(float x, float y, Customer ignoredCustomer) {
-    x = (int) x;
-    y = (int) y;
-    // Check for all customers
-    for (Customer customer : customers) {
-      if (customer == ignoredCustomer) {
-        continue;
-      }
-      int customerX = MapManager.posToGridFloor(customer.posX);
-      int customerY = MapManager.posToGridFloor(customer.posY);
-      if (x == customerX & y == customerY) {
-        return true;
-      }
-    }
-    return false;
+    // Look up the cell on the occupancy grid, rather than
+    // checking every customer
+    return occupancy.isOccupied((int) x, (int) y, ignoredCustomer);
   }
 
   /**
@@ -489,8 +581,10 @@ public class CustomerController {
       return;
     }
     // Add the customer to the register
-    register.setCustomer(customer);
+    registers.setCustomer(register, customer);
     customer.setRegister(register);
+    // They're no longer waiting for one
+    removeWaiting(customer);
   }
 
   /**
@@ -509,7 +603,7 @@ public class CustomerController {
       return;
     }
     // Remove the Customer from the register
-    register.setCustomer(null);
+    registers.setCustomer(register, null);
   }
 
   /**
@@ -518,6 +612,8 @@ public class CustomerController {
    * @param customer {@link Customer} : The {@link Customer} to remove.
    */
   protected void deleteCustomer(Customer customer) {
+    occupancy.remove(customer);
+    removeWaiting(customer);
     customers.removeValue(customer, true);
     toSpawn.removeValue(customer, true);
     drawCustomers.removeValue(customer, true);
@@ -573,14 +669,19 @@ public class CustomerController {
    * @param multiplier {@code float} : The speed to wait at.
    */
   public void setCustomerWaitSpeed(float multiplier) {
-    this.waitSpeed = multiplier;
-    // Update for all Customers
-    for (Customer customer : customers) {
-      customer.setWaitSpeed(multiplier);
-    }
-    for (Customer customer : toSpawn) {
-      customer.setWaitSpeed(multiplier);
-    }
+    this.waitSpeed = Math.max(0, multiplier);
+    // All the Customers' timers are on the same wheel, so just change its rate
+    timers.setRate(waitSpeed);
+  }
+
+  /**
+   * Returns the {@link TimingWheel} that the {@link Customer}s' wait timers
+   * are scheduled on.
+   *
+   * @return {@link TimingWheel} : The {@link Customer}s' {@link TimingWheel}.
+   */
+  public TimingWheel getTimers() {
+    return timers;
   }
 
   /**
@@ -608,13 +709,15 @@ public class CustomerController {
       }
 
       // If it gets here, make sure it's the register
-      if (!thisEntity.getId().equals(Constants.REGISTER_ID)) {
+      if (thisEntity.getIntId() != Constants.REGISTER_INT_ID) {
         continue;
       }
 
       // If it's a register, then add the MapCell to the array
       registers.add(new Register(thisCell));
     }
+    // Then rank and index them
+    registers.build();
   }
 
   /**
@@ -661,15 +764,8 @@ public class CustomerController {
    *                           {@code false} if there is not.
    */
   public Register getRegisterAtPos(int x, int y) {
-    // Check through all registers
-    for (Register register : registers) {
-      // If the Cell position matches, return the register
-      if (register.getRegisterCell().getX() == x && register.getRegisterCell().getY() == y) {
-        return register;
-      }
-    }
-    // If none found, return null
-    return null;
+    // Look it up by its position
+    return registers.getAt(x, y);
   }
 
   /**
@@ -682,15 +778,8 @@ public class CustomerController {
    *                            or {@code null} if there isn't one.
    */
   public Register getRegisterFromCell(MapCell mapCell) {
-    // Check through all registers
-    for (Register register : registers) {
-      // If the Cell matches, return the register
-      if (register.getRegisterCell() == mapCell) {
-        return register;
-      }
-    }
-    // If none found, return null
-    return null;
+    // Look it up by its cell
+    return registers.get(mapCell);
   }
 
   /**
@@ -699,20 +788,34 @@ public class CustomerController {
    */
   public void reset() {
     // Clear the customer arrays
+    clearOccupancy();
+    timers.clear();
     customers.clear();
     toSpawn.clear();
     drawCustomers.clear();
 
     // Remove all customers from the registers
-    for (Register register : registers) {
-      register.setCustomer(null);
+    registers.clearCustomers();
+  }
+
+  /**
+   * Take all of the {@link #customers} off of the {@link #occupancy} grid,
+   * and clear the {@link #waitingCustomers}.
+   */
+  private void clearOccupancy() {
+    for (Customer customer : customers) {
+      occupancy.remove(customer);
     }
+    occupancy.clear();
+    waitingCustomers.clear();
   }
 
   /**
    * Clear all variables that should be disposed.
    */
   public void dispose() {
+    clearOccupancy();
+    timers.clear();
     customers.clear();
     toSpawn.clear();
     drawCustomers.clear();
@@ -758,6 +861,8 @@ public class CustomerController {
    */
   public void deserializeCustomers(JsonValue jsonValue) {
     // Clear the customers
+    clearOccupancy();
+    timers.clear();
     customers.clear();
     toSpawn.clear();
     drawCustomers.clear();
@@ -787,13 +892,14 @@ public class CustomerController {
         customerOnRegister(customer, registerAtPos);
 
         // Add the Cook to the cooks array
-        customers.add(customer);
+        addCustomer(customer);
         // Add the Cook to the drawCustomers array
         drawCustomers.add(customer);
 
         if (customer.posY >= MapManager.gridToPos(customerObject.getInt("reg_y"))) {
-          customer.waiting = true;
+          customer.startWaiting();
           customer.posY = MapManager.gridToPos(customerObject.getInt("reg_y"));
+          customerMoved(customer);
         }
       }
     }
@@ -0,0 +1,128 @@
+package com.undercooked.game.entity.customer;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.undercooked.game.map.MapManager;
+
+/**
+ * An occupancy grid of the cells that {@link Customer}s are in, so that
+ * checking whether a cell has a {@link Customer} in it doesn't need to go
+ * through all of them.
+ * <br><br>
+ * The {@link Customer}s walk in lanes that can go below and outside of the
+ * {@link com.undercooked.game.map.Map}, so the cells are stored by an
+ * {@code int} key of their position rather than in an array the size
+ * of the {@link com.undercooked.game.map.Map}.
+ */
+class CustomerOccupancy {
+
+  /**
+   * The number of {@link Customer}s in each cell, by the key of the cell.
+   * Cells with no {@link Customer}s in them are not stored.
+   */
+  private final IntIntMap counts;
+
+  /**
+   * Constructor for the {@link CustomerOccupancy}.
+   */
+  CustomerOccupancy() {
+    this.counts = new IntIntMap();
+  }
+
+  /**
+   * Returns the key of a cell.
+   *
+   * @param x {@code int} : The {@code x} position of the cell.
+   * @param y {@code int} : The {@code y} position of the cell.
+   * @return {@code int} : The key of the cell.
+   */
+  private static int key(int x, int y) {
+    return (y << 16) | (x & 0xFFFF);
+  }
+
+  /**
+   * Add a {@link Customer} to the cell they are in.
+   *
+   * @param customer {@link Customer} : The {@link Customer} to add.
+   */
+  void add(Customer customer) {
+    if (customer.occupying) {
+      return;
+    }
+    customer.occupiedX = MapManager.posToGridFloor(customer.posX);
+    customer.occupiedY = MapManager.posToGridFloor(customer.posY);
+    customer.occupying = true;
+    counts.getAndIncrement(key(customer.occupiedX, customer.occupiedY), 0, 1);
+  }
+
+  /**
+   * Remove a {@link Customer} from the cell they were last in.
+   *
+   * @param customer {@link Customer} : The {@link Customer} to remove.
+   */
+  void remove(Customer customer) {
+    if (!customer.occupying) {
+      return;
+    }
+    customer.occupying = false;
+    int key = key(customer.occupiedX, customer.occupiedY);
+    if (counts.getAndIncrement(key, 0, -1) <= 1) {
+      counts.remove(key, 0);
+    }
+  }
+
+  /**
+   * Move a {@link Customer} to the cell they are now in, if it has changed.
+   *
+   * @param customer {@link Customer} : The {@link Customer} that moved.
+   */
+  void move(Customer customer) {
+    if (!customer.occupying) {
+      return;
+    }
+    int x = MapManager.posToGridFloor(customer.posX);
+    int y = MapManager.posToGridFloor(customer.posY);
+    if (x == customer.occupiedX && y == customer.occupiedY) {
+      return;
+    }
+    remove(customer);
+    add(customer);
+  }
+
+  /**
+   * Returns the number of {@link Customer}s in a cell.
+   *
+   * @param x {@code int} : The {@code x} position of the cell.
+   * @param y {@code int} : The {@code y} position of the cell.
+   * @return {@code int} : The number of {@link Customer}s in the cell.
+   */
+  int count(int x, int y) {
+    return counts.get(key(x, y), 0);
+  }
+
+  /**
+   * Returns whether there is a {@link Customer} in a cell, other than the
+   * {@link Customer} provided.
+   *
+   * @param x               {@code int} : The {@code x} position of the cell.
+   * @param y               {@code int} : The {@code y} position of the cell.
+   * @param ignoredCustomer {@link Customer} : The {@link Customer} to ignore,
+   *                        or {@code null}.
+   * @return {@code boolean} : {@code true} if there is a {@link Customer},
+   *                           {@code false} if there is not.
+   */
+  boolean isOccupied(int x, int y, Customer ignoredCustomer) {
+    int count = count(x, y);
+    if (ignoredCustomer != null && ignoredCustomer.occupying
+            && ignoredCustomer.occupiedX == x && ignoredCustomer.occupiedY == y) {
+      count--;
+    }
+    return count > 0;
+  }
+
+  /**
+   * Remove all of the {@link Customer}s.
+   */
+  void clear() {
+    counts.clear();
+  }
+}
@@ -0,0 +1,276 @@
+package com.undercooked.game.entity.customer;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.undercooked.game.map.MapCell;
+import com.undercooked.game.map.Register;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The {@link Register}s that the {@link CustomerController} gives to the
+ * {@link Customer}s, which keeps track of which of them are open so that
+ * one can be found for any {@link CustomerTarget} without going through
+ * all of them.
+ * <br><br>
+ * The {@link Register}s are ranked once, from farthest to closest from
+ * where the {@link Customer}s spawn. The open ones are then kept both as a
+ * set of their ranks, for {@link CustomerTarget#FARTHEST} and
+ * {@link CustomerTarget#CLOSEST}, and as a list, for
+ * {@link CustomerTarget#RANDOM}.
+ */
+class RegisterService {
+
+  /**
+   * A {@code y} comparator for the {@link Register}s, which puts the highest
+   * ones first, as they're the farthest from where the {@link Customer}s spawn.
+   */
+  static final Comparator<Register> FARTHEST_FIRST = new Comparator<Register>() {
+    @Override
+    public int compare(Register o1, Register o2) {
+      MapCell mapCell1 = o1.getRegisterCell();
+      MapCell mapCell2 = o2.getRegisterCell();
+      // If higher, it comes first
+      if (mapCell1.getCollisionY() > mapCell2.getCollisionY()) {
+        return -1;
+      }
+      // If lower, it comes after
+      if (mapCell1.getCollisionY() < mapCell2.getCollisionY()) {
+        return 1;
+      }
+      // Return 0 if they're the same.
+      return 0;
+    }
+  };
+
+  /**
+   * The {@link Register}s, in order of their rank.
+   */
+  private final Array<Register> registers;
+
+  /**
+   * The rank of each {@link Register}.
+   */
+  private final ObjectIntMap<Register> ranks;
+
+  /**
+   * The {@link Register}s by the {@link MapCell} that they're on.
+   */
+  private final ObjectMap<MapCell, Register> byCell;
+
+  /**
+   * The {@link Register}s by the key of their {@link MapCell}'s position.
+   */
+  private final IntMap<Register> byPosition;
+
+  /**
+   * The ranks of the open {@link Register}s.
+   */
+  private final Bits open;
+
+  /**
+   * The ranks of the open {@link Register}s, in no particular order.
+   */
+  private final IntArray openList;
+
+  /**
+   * Where each rank is in {@link #openList}, plus one, or {@code 0}
+   * if it isn't open.
+   */
+  private int[] openSlots;
+
+  /**
+   * Constructor for the {@link RegisterService}.
+   */
+  RegisterService() {
+    this.registers = new Array<>();
+    this.ranks = new ObjectIntMap<>();
+    this.byCell = new ObjectMap<>();
+    this.byPosition = new IntMap<>();
+    this.open = new Bits();
+    this.openList = new IntArray();
+    this.openSlots = new int[0];
+  }
+
+  /**
+   * Returns the key of a position.
+   *
+   * @param x {@code int} : The {@code x} position.
+   * @param y {@code int} : The {@code y} position.
+   * @return {@code int} : The key of the position.
+   */
+  private static int key(int x, int y) {
+    return (y << 16) | (x & 0xFFFF);
+  }
+
+  /**
+   * Remove all of the {@link Register}s.
+   */
+  void clear() {
+    registers.clear();
+    ranks.clear();
+    byCell.clear();
+    byPosition.clear();
+    open.clear();
+    openList.clear();
+  }
+
+  /**
+   * Add a {@link Register}. {@link #build()} must be called once they
+   * have all been added.
+   *
+   * @param register {@link Register} : The {@link Register} to add.
+   */
+  void add(Register register) {
+    registers.add(register);
+  }
+
+  /**
+   * Rank the {@link Register}s that have been added, and index them.
+   */
+  void build() {
+    registers.sort(FARTHEST_FIRST);
+    ranks.clear();
+    byCell.clear();
+    byPosition.clear();
+    open.clear();
+    openList.clear();
+    if (openSlots.length < registers.size) {
+      openSlots = new int[registers.size];
+    }
+    Arrays.fill(openSlots, 0);
+    for (int rank = 0; rank < registers.size; rank++) {
+      Register register = registers.get(rank);
+      MapCell cell = register.getRegisterCell();
+      ranks.put(register, rank);
+      byCell.put(cell, register);
+      byPosition.put(key(cell.getX(), cell.getY()), register);
+      updateOpen(rank);
+    }
+  }
+
+  /**
+   * Update whether a {@link Register} is open, from whether it has a
+   * {@link Customer} or not.
+   *
+   * @param rank {@code int} : The rank of the {@link Register}.
+   */
+  private void updateOpen(int rank) {
+    boolean isOpen = !registers.get(rank).hasCustomer();
+    if (isOpen == (openSlots[rank] != 0)) {
+      return;
+    }
+    if (isOpen) {
+      open.set(rank);
+      openList.add(rank);
+      openSlots[rank] = openList.size;
+      return;
+    }
+    open.clear(rank);
+    // Move the last open rank into its place
+    int slot = openSlots[rank] - 1;
+    int last = openList.pop();
+    if (slot < openList.size) {
+      openList.set(slot, last);
+      openSlots[last] = slot + 1;
+    }
+    openSlots[rank] = 0;
+  }
+
+  /**
+   * Set the {@link Customer} of a {@link Register}.
+   *
+   * @param register {@link Register} : The {@link Register}.
+   * @param customer {@link Customer} : The {@link Customer}, or {@code null}
+   *                 for it to be open.
+   */
+  void setCustomer(Register register, Customer customer) {
+    register.setCustomer(customer);
+    int rank = ranks.get(register, -1);
+    // If it's not one of the registers, there's nothing to update
+    if (rank < 0) {
+      return;
+    }
+    updateOpen(rank);
+  }
+
+  /**
+   * Remove the {@link Customer}s from all of the {@link Register}s.
+   */
+  void clearCustomers() {
+    for (int rank = 0; rank < registers.size; rank++) {
+      registers.get(rank).setCustomer(null);
+      updateOpen(rank);
+    }
+  }
+
+  /**
+   * Returns an open {@link Register}, depending on the {@link CustomerTarget}.
+   *
+   * @param targetType {@link CustomerTarget} : How to pick the {@link Register}.
+   * @return {@link Register} : An open {@link Register}, or {@code null}
+   *                            if there isn't one.
+   */
+  Register getOpen(CustomerTarget targetType) {
+    if (openList.size == 0) {
+      return null;
+    }
+    switch (targetType) {
+      case FARTHEST:
+        return registers.get(open.nextSetBit(0));
+      case CLOSEST:
+        return registers.get(open.length() - 1);
+      case RANDOM:
+        return registers.get(openList.get(MathUtils.random(openList.size - 1)));
+      default:
+        return registers.get(openList.first());
+    }
+  }
+
+  /**
+   * Returns the number of open {@link Register}s.
+   *
+   * @return {@code int} : The number of {@link Register}s without a {@link Customer}.
+   */
+  int getOpenCount() {
+    return openList.size;
+  }
+
+  /**
+   * Returns the {@link Register} on a {@link MapCell}.
+   *
+   * @param mapCell {@link MapCell} : The {@link MapCell}.
+   * @return {@link Register} : The {@link Register}, or {@code null} if there isn't one.
+   */
+  Register get(MapCell mapCell) {
+    if (mapCell == null) {
+      return null;
+    }
+    return byCell.get(mapCell);
+  }
+
+  /**
+   * Returns the {@link Register} at a position.
+   *
+   * @param x {@code int} : The {@code x} position of the {@link MapCell}.
+   * @param y {@code int} : The {@code y} position of the {@link MapCell}.
+   * @return {@link Register} : The {@link Register}, or {@code null} if there isn't one.
+   */
+  Register getAt(int x, int y) {
+    return byPosition.get(key(x, y));
+  }
+
+  /**
+   * Returns all of the {@link Register}s, from farthest to closest.
+   *
+   * @return {@link Array}&lt;{@link Register}&gt; : The {@link Register}s.
+   */
+  Array<Register> getRegisters() {
+    return registers;
+  }
+}
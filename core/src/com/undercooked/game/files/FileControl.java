@@ -7,6 +7,7 @@ import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.log.Log;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -91,7 +92,7 @@ public class FileControl {
       }
       Files.write(file.toPath(), Collections.singleton(data), StandardCharsets.UTF_8);
     } catch (IOException e) {
-      e.printStackTrace();
+      Log.FILES.error("Couldn't save file {}.", file.getPath(), e);
     }
   }
 
@@ -135,14 +136,14 @@ public class FileControl {
     // If file isn't a file, or it doesn't exist, then create the
     // file using the default data.
     if (!file.file().isFile() && !internal) {
-      System.out.println("File doesn't exist: " + fileName);
+      Log.FILES.info("File doesn't exist: {}", fileName);
       try {
         if (!file.file().createNewFile()) {
           throw new RuntimeException("Could not create file: " + file.file().getAbsolutePath());
         }
         saveToFile(dir, fileName, "");
       } catch (IOException e) {
-        e.printStackTrace();
+        Log.FILES.error("Couldn't create file {}.", fileName, e);
       }
     }
     // Otherwise, load the Json file.
@@ -199,7 +200,7 @@ public class FileControl {
     // If directory isn't a directory, or it doesn't exist, then
     // return nothing.
     if (!directory.isDirectory() && !internal) {
-      System.out.println("External directory doesn't exist: " + dir);
+      Log.FILES.info("External directory doesn't exist: {}", dir);
       return null;
     }
     FileHandle file;
@@ -211,7 +212,7 @@ public class FileControl {
     // If file isn't a file, or it doesn't exist, then return
     // nothing.
     if (!file.file().isFile() && !internal) {
-      System.out.println("External file doesn't exist: " + dirAndName(dir, fileName));
+      Log.FILES.info("External file doesn't exist: {}", dirAndName(dir, fileName));
       return null;
     }
     // Otherwise, load the Json file.
@@ -221,7 +222,7 @@ public class FileControl {
     try {
       fileData = json.parse(jsonData);
     } catch (GdxRuntimeException e) {
-      e.printStackTrace();
+      Log.FILES.error("Couldn't parse json file {}.", fileName, e);
       return null;
     }
     return fileData;
@@ -234,7 +235,9 @@ public class FileControl {
    * @return {@link JsonValue} : The file's data, or {@code null} if it couldn't load.
    */
   public static JsonValue loadJsonData(String fileName) {
-    System.out.println("Loading json from " + dirAndName(getDataPath(), fileName));
+    if (Log.FILES.isEnabled(Log.INFO)) {
+      Log.FILES.info("Loading json from {}", dirAndName(getDataPath(), fileName));
+    }
     return loadJsonFile(getDataPath(), fileName, false);
   }
 
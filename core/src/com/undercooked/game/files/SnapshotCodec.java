@@ -0,0 +1,349 @@
+package com.undercooked.game.files;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * This static class converts {@link JsonValue}s to and from the compact
+ * binary snapshot format used for saving the game.
+ * <br><br>
+ * A snapshot file is made of records, each of which is a list of named
+ * sections. The first record is always a full snapshot, while any records
+ * after it only contain the sections that changed, which replace those of
+ * the same name when loading.
+ * <br><br>
+ * Each section is stored with its own string table, so that the names and
+ * {@link String} values (such as item, station and asset IDs), which are
+ * repeated a lot, are only written once.
+ */
+public class SnapshotCodec {
+
+  /**
+   * The value at the start of every record, to check that the file is a snapshot.
+   */
+  public static final int MAGIC = 0x55435356;
+
+  /**
+   * The version of the format. This should be increased whenever the
+   * format changes, so that older saves are not read incorrectly.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * The record type for a full snapshot.
+   */
+  public static final byte RECORD_FULL = 0;
+
+  /**
+   * The record type for a snapshot of only the sections that changed.
+   */
+  public static final byte RECORD_DELTA = 1;
+
+  //region Value Types
+  private static final byte TYPE_NULL = 0;
+  private static final byte TYPE_OBJECT = 1;
+  private static final byte TYPE_ARRAY = 2;
+  private static final byte TYPE_STRING = 3;
+  private static final byte TYPE_DOUBLE = 4;
+  private static final byte TYPE_FLOAT = 5;
+  private static final byte TYPE_LONG = 6;
+  private static final byte TYPE_TRUE = 7;
+  private static final byte TYPE_FALSE = 8;
+  //endregion
+
+  /**
+   * Encodes a {@link JsonValue} into bytes, with a string table of all the
+   * names and {@link String} values inside it.
+   *
+   * @param value {@link JsonValue} : The value to encode.
+   * @return {@code byte[]} : The encoded value.
+   */
+  public static byte[] encodeValue(JsonValue value) {
+    try {
+      // First find all the Strings, to make the string table
+      ObjectIntMap<String> stringIds = new ObjectIntMap<>();
+      Array<String> strings = new Array<>();
+      collectStrings(value, stringIds, strings);
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      writeVarInt(out, strings.size);
+      for (String string : strings) {
+        out.writeUTF(string);
+      }
+      writeValue(out, value, stringIds);
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      // Writing to a byte array can't fail
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Decodes bytes encoded by {@link #encodeValue(JsonValue)} back into
+   * a {@link JsonValue}.
+   *
+   * @param data {@code byte[]} : The encoded value.
+   * @return {@link JsonValue} : The decoded value.
+   * @throws IOException If the data is not a valid encoded value.
+   */
+  public static JsonValue decodeValue(byte[] data) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+    int stringCount = readVarInt(in);
+    String[] strings = new String[stringCount];
+    for (int i = 0; i < stringCount; i++) {
+      strings[i] = in.readUTF();
+    }
+    return readValue(in, strings);
+  }
+
+  /**
+   * Writes a record of sections to an {@link OutputStream}.
+   * <br>
+   * The record is written with its length first, so that a record that
+   * was only partly written can be detected and ignored when reading.
+   *
+   * @param output     {@link OutputStream} : The stream to write to.
+   * @param recordType {@code byte} : {@link #RECORD_FULL} or {@link #RECORD_DELTA}.
+   * @param names      {@link Array}&lt;{@link String}&gt; : The names of the sections.
+   * @param sections   {@link Array}&lt;{@code byte[]}&gt; : The sections, encoded
+   *                   using {@link #encodeValue(JsonValue)}.
+   * @throws IOException If the stream can't be written to.
+   */
+  public static void writeRecord(OutputStream output, byte recordType,
+                                 Array<String> names, Array<byte[]> sections)
+          throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream record = new DataOutputStream(bytes);
+    record.writeInt(MAGIC);
+    record.writeByte(VERSION);
+    record.writeByte(recordType);
+    writeVarInt(record, names.size);
+    for (int i = 0; i < names.size; i++) {
+      record.writeUTF(names.get(i));
+      byte[] section = sections.get(i);
+      writeVarInt(record, section.length);
+      record.write(section);
+    }
+    record.flush();
+
+    DataOutputStream out = new DataOutputStream(output);
+    out.writeInt(bytes.size());
+    bytes.writeTo(out);
+    out.flush();
+  }
+
+  /**
+   * Reads a snapshot file's records, and combines them into a single
+   * {@link JsonValue} object, with each section as a child of it.
+   * <br>
+   * If the last record was only partly written, it is ignored.
+   *
+   * @param input {@link InputStream} : The stream to read from.
+   * @return {@link JsonValue} : The snapshot, or {@code null} if it has
+   *         no full snapshot record.
+   * @throws IOException If the data is not a valid snapshot.
+   */
+  public static JsonValue readSnapshot(InputStream input) throws IOException {
+    DataInputStream in = new DataInputStream(input);
+    JsonValue root = null;
+    while (true) {
+      byte[] recordData;
+      try {
+        int length = in.readInt();
+        recordData = new byte[length];
+        in.readFully(recordData);
+      } catch (EOFException e) {
+        // Either the end of the file, or a record that wasn't finished
+        break;
+      }
+
+      DataInputStream record = new DataInputStream(new ByteArrayInputStream(recordData));
+      if (record.readInt() != MAGIC) {
+        throw new IOException("Not a snapshot record.");
+      }
+      int version = record.readUnsignedByte();
+      if (version != VERSION) {
+        throw new IOException("Unsupported snapshot version: " + version);
+      }
+      byte recordType = record.readByte();
+      if (recordType == RECORD_FULL) {
+        // A full record replaces everything before it
+        root = new JsonValue(JsonValue.ValueType.object);
+      } else if (root == null) {
+        // A delta needs a full snapshot before it
+        throw new IOException("Snapshot delta has no full snapshot before it.");
+      }
+
+      int sectionCount = readVarInt(record);
+      for (int i = 0; i < sectionCount; i++) {
+        String name = record.readUTF();
+        byte[] section = new byte[readVarInt(record)];
+        record.readFully(section);
+        // Replace the section if it's already there
+        root.remove(name);
+        root.addChild(name, decodeValue(section));
+      }
+    }
+    return root;
+  }
+
+  /**
+   * Adds all of the names and {@link String} values of a {@link JsonValue}
+   * to the string table.
+   *
+   * @param value     {@link JsonValue} : The value to find the Strings of.
+   * @param stringIds {@link ObjectIntMap}&lt;{@link String}&gt; : The index of each
+   *                  String in the table.
+   * @param strings   {@link Array}&lt;{@link String}&gt; : The string table.
+   */
+  private static void collectStrings(JsonValue value, ObjectIntMap<String> stringIds,
+                                     Array<String> strings) {
+    String name = value.name();
+    if (name != null && !stringIds.containsKey(name)) {
+      stringIds.put(name, strings.size);
+      strings.add(name);
+    }
+    if (value.isString() && !stringIds.containsKey(value.asString())) {
+      stringIds.put(value.asString(), strings.size);
+      strings.add(value.asString());
+    }
+    for (JsonValue child = value.child; child != null; child = child.next) {
+      collectStrings(child, stringIds, strings);
+    }
+  }
+
+  private static void writeValue(DataOutputStream out, JsonValue value,
+                                 ObjectIntMap<String> stringIds) throws IOException {
+    switch (value.type()) {
+      case object:
+        out.writeByte(TYPE_OBJECT);
+        writeVarInt(out, value.size);
+        for (JsonValue child = value.child; child != null; child = child.next) {
+          writeVarInt(out, stringIds.get(child.name(), 0));
+          writeValue(out, child, stringIds);
+        }
+        break;
+      case array:
+        out.writeByte(TYPE_ARRAY);
+        writeVarInt(out, value.size);
+        for (JsonValue child = value.child; child != null; child = child.next) {
+          writeValue(out, child, stringIds);
+        }
+        break;
+      case stringValue:
+        out.writeByte(TYPE_STRING);
+        writeVarInt(out, stringIds.get(value.asString(), 0));
+        break;
+      case doubleValue:
+        double doubleValue = value.asDouble();
+        // Most values are floats, which only need half the space
+        if ((double) (float) doubleValue == doubleValue) {
+          out.writeByte(TYPE_FLOAT);
+          out.writeFloat((float) doubleValue);
+        } else {
+          out.writeByte(TYPE_DOUBLE);
+          out.writeDouble(doubleValue);
+        }
+        break;
+      case longValue:
+        out.writeByte(TYPE_LONG);
+        long longValue = value.asLong();
+        // ZigZag encode, so that small negative numbers are small too
+        writeVarLong(out, (longValue << 1) ^ (longValue >> 63));
+        break;
+      case booleanValue:
+        out.writeByte(value.asBoolean() ? TYPE_TRUE : TYPE_FALSE);
+        break;
+      default:
+        out.writeByte(TYPE_NULL);
+        break;
+    }
+  }
+
+  private static JsonValue readValue(DataInputStream in, String[] strings) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case TYPE_OBJECT: {
+        JsonValue object = new JsonValue(JsonValue.ValueType.object);
+        int size = readVarInt(in);
+        for (int i = 0; i < size; i++) {
+          String name = readString(in, strings);
+          object.addChild(name, readValue(in, strings));
+        }
+        return object;
+      }
+      case TYPE_ARRAY: {
+        JsonValue array = new JsonValue(JsonValue.ValueType.array);
+        int size = readVarInt(in);
+        for (int i = 0; i < size; i++) {
+          array.addChild(readValue(in, strings));
+        }
+        return array;
+      }
+      case TYPE_STRING:
+        return new JsonValue(readString(in, strings));
+      case TYPE_DOUBLE:
+        return new JsonValue(in.readDouble());
+      case TYPE_FLOAT:
+        return new JsonValue(in.readFloat());
+      case TYPE_LONG:
+        long zigZag = readVarLong(in);
+        return new JsonValue((zigZag >>> 1) ^ -(zigZag & 1));
+      case TYPE_TRUE:
+        return new JsonValue(true);
+      case TYPE_FALSE:
+        return new JsonValue(false);
+      case TYPE_NULL:
+        return new JsonValue(JsonValue.ValueType.nullValue);
+      default:
+        throw new IOException("Unknown snapshot value type: " + type);
+    }
+  }
+
+  private static String readString(DataInputStream in, String[] strings) throws IOException {
+    int index = readVarInt(in);
+    if (index < 0 || index >= strings.length) {
+      throw new IOException("Snapshot string index out of range: " + index);
+    }
+    return strings[index];
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    writeVarLong(out, value & 0xFFFFFFFFL);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    return (int) readVarLong(in);
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Snapshot varint is too long.");
+  }
+}
@@ -0,0 +1,237 @@
+package com.undercooked.game.files;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.undercooked.game.util.log.Log;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A class that writes snapshots, using the {@link SnapshotCodec}, to a single
+ * file on a background thread, so that saving doesn't block the game.
+ * <br><br>
+ * Full snapshots are written to a temporary file first, which is then renamed
+ * over the snapshot file, so that a crash while saving never leaves a broken save.
+ * <br>
+ * Incremental snapshots only add the sections that have changed since the
+ * last snapshot to the end of the file. After {@link #MAX_DELTAS} of these, a
+ * full snapshot is written instead, so that the file doesn't keep growing.
+ */
+public class SnapshotWriter {
+
+  /**
+   * The number of incremental snapshots that can be added to the file
+   * before a full snapshot is written instead.
+   */
+  public static final int MAX_DELTAS = 16;
+
+  /**
+   * The directory of the snapshot file.
+   */
+  private final String dir;
+
+  /**
+   * The name of the snapshot file.
+   */
+  private final String fileName;
+
+  /**
+   * The thread that the snapshots are written on.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * The encoded sections that were last written, used to find which sections
+   * have changed. This is only used on the {@link #executor}'s thread.
+   */
+  private final ObjectMap<String, byte[]> lastSections;
+
+  /**
+   * The number of incremental snapshots written since the last full snapshot.
+   * This is only used on the {@link #executor}'s thread.
+   */
+  private int deltaCount;
+
+  /**
+   * The most recent snapshot task, so that it can be waited for.
+   */
+  private Future<?> lastTask;
+
+  /**
+   * Constructor for the {@link SnapshotWriter}.
+   *
+   * @param dir      {@link String} : The directory to save the snapshot to.
+   * @param fileName {@link String} : The name of the snapshot file.
+   */
+  public SnapshotWriter(String dir, String fileName) {
+    this.dir = dir;
+    this.fileName = fileName;
+    this.lastSections = new ObjectMap<>();
+    this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Snapshot Writer");
+        // Don't stop the game from closing
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  /**
+   * Writes a full snapshot of the {@link JsonValue} on the background thread.
+   * <br>
+   * The {@link JsonValue} must not be changed after being passed here.
+   *
+   * @param root {@link JsonValue} : The object to save, where each child is a section.
+   * @return {@link Future} : The task writing the snapshot.
+   */
+  public synchronized Future<?> save(final JsonValue root) {
+    return submit(root, false);
+  }
+
+  /**
+   * Writes only the sections of the {@link JsonValue} that have changed since
+   * the last snapshot, on the background thread.
+   * <br>
+   * The {@link JsonValue} must not be changed after being passed here.
+   *
+   * @param root {@link JsonValue} : The object to save, where each child is a section.
+   * @return {@link Future} : The task writing the snapshot.
+   */
+  public synchronized Future<?> saveIncremental(final JsonValue root) {
+    return submit(root, true);
+  }
+
+  private Future<?> submit(final JsonValue root, final boolean incremental) {
+    lastTask = executor.submit(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          write(root, incremental);
+        } catch (IOException e) {
+          Log.FILES.error("Couldn't write snapshot {}.", fileName, e);
+        }
+      }
+    });
+    return lastTask;
+  }
+
+  /**
+   * Writes the snapshot. This is called on the background thread.
+   *
+   * @param root        {@link JsonValue} : The object to save.
+   * @param incremental {@code boolean} : Whether to only write the changed sections.
+   * @throws IOException If the file couldn't be written.
+   */
+  private void write(JsonValue root, boolean incremental) throws IOException {
+    File directory = new File(dir);
+    if (!directory.exists() && !directory.mkdirs()) {
+      throw new IOException("Could not create directory: " + directory.getAbsolutePath());
+    }
+    File file = new File(FileControl.dirAndName(dir, fileName));
+
+    // Encode all the sections, and find which have changed
+    Array<String> names = new Array<>();
+    Array<byte[]> sections = new Array<>();
+    Array<String> changedNames = new Array<>();
+    Array<byte[]> changedSections = new Array<>();
+    for (JsonValue child = root.child; child != null; child = child.next) {
+      byte[] section = SnapshotCodec.encodeValue(child);
+      names.add(child.name());
+      sections.add(section);
+      if (!Arrays.equals(section, lastSections.get(child.name()))) {
+        changedNames.add(child.name());
+        changedSections.add(section);
+      }
+    }
+
+    // Only add to the end of the file if it's already there, and it
+    // hasn't had too many added already.
+    if (incremental && file.exists() && lastSections.size > 0 && deltaCount < MAX_DELTAS) {
+      if (changedNames.size > 0) {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file, true));
+        try {
+          SnapshotCodec.writeRecord(out, SnapshotCodec.RECORD_DELTA, changedNames, changedSections);
+        } finally {
+          out.close();
+        }
+        deltaCount++;
+      }
+    } else {
+      // Write to a temporary file, and then replace the snapshot with it
+      File tempFile = new File(file.getPath() + ".tmp");
+      OutputStream out = new BufferedOutputStream(new FileOutputStream(tempFile));
+      try {
+        SnapshotCodec.writeRecord(out, SnapshotCodec.RECORD_FULL, names, sections);
+      } finally {
+        out.close();
+      }
+      try {
+        Files.move(tempFile.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      deltaCount = 0;
+      lastSections.clear();
+    }
+
+    for (int i = 0; i < names.size; i++) {
+      lastSections.put(names.get(i), sections.get(i));
+    }
+  }
+
+  /**
+   * Waits for all of the snapshots that have been requested to be written.
+   */
+  public void flush() {
+    Future<?> task;
+    synchronized (this) {
+      task = lastTask;
+    }
+    if (task == null) {
+      return;
+    }
+    try {
+      task.get();
+    } catch (Exception e) {
+      Log.FILES.error("Couldn't wait for snapshot {} to be written.", fileName, e);
+    }
+  }
+
+  /**
+   * Forget the sections that were last written, so that the next
+   * snapshot is a full snapshot.
+   */
+  public synchronized void reset() {
+    executor.submit(new Runnable() {
+      @Override
+      public void run() {
+        lastSections.clear();
+        deltaCount = 0;
+      }
+    });
+  }
+
+  /**
+   * Returns the snapshot {@link File}.
+   *
+   * @return {@link File} : The file the snapshots are written to.
+   */
+  public File getFile() {
+    return new File(FileControl.dirAndName(dir, fileName));
+  }
+}
@@ -1,6 +1,7 @@
 package com.undercooked.game.food;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.JsonValue;
 import com.undercooked.game.assets.TextureManager;
 
@@ -10,9 +11,9 @@ import com.undercooked.game.assets.TextureManager;
  */
 public class Instruction {
   /**
-   * The {@link Texture} to show.
+   * The {@link TextureRegion} of the {@link Texture} to show.
    */
-  private Texture texture;
+  private TextureRegion texture;
 
   /**
    * The path for the {@link #texture}.
@@ -32,7 +33,7 @@ public class Instruction {
    *                       use.
    */
   public void postLoad(TextureManager textureManager) {
-    texture = textureManager.getAsset(texturePath);
+    texture = textureManager.getAssetRegion(texturePath);
   }
 
   /**
@@ -49,11 +50,11 @@ public class Instruction {
   }
 
   /**
-   * Returns the {@link Texture} to display with the text.
+   * Returns the {@link TextureRegion} to display with the text.
    *
-   * @return {@link Texture} : The {@link #texture}
+   * @return {@link TextureRegion} : The {@link #texture}
    */
-  public Texture getTexture() {
+  public TextureRegion getTexture() {
     return texture;
   }
 
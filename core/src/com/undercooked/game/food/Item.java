@@ -3,6 +3,8 @@ package com.undercooked.game.food;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.undercooked.game.util.IdRegistry;
 
 /**
  * A class that holds the information for a specific item,
@@ -14,6 +16,10 @@ public class Item {
    * The ID of the {@link Item}.
    */
   private String itemId;
+  /**
+   * The {@code int} id of the {@link Item} in {@link IdRegistry#ITEMS}.
+   */
+  private int intId;
   /**
    * The display name of the {@link Item}.
    */
@@ -65,6 +71,7 @@ public class Item {
    */
   public Item(String itemId) {
     this.itemId = itemId;
+    this.intId = IdRegistry.ITEMS.register(itemId);
   }
 
   /**
@@ -77,6 +84,16 @@ public class Item {
     updateSpriteSize();
   }
 
+  /**
+   * Updates the {@link Sprite} to use the {@link TextureRegion} provided.
+   *
+   * @param region {@link TextureRegion} : The TextureRegion to use.
+   */
+  public void updateSprite(TextureRegion region) {
+    this.sprite = new Sprite(region);
+    updateSpriteSize();
+  }
+
   /**
    * Draw the sprite of the {@link Item} at the specified location.
    *
@@ -175,6 +192,16 @@ public class Item {
     return itemId;
   }
 
+  /**
+   * Returns the {@code int} ID of the {@link Item}, which should be
+   * used instead of {@link #getId()} when comparing {@link Item}s.
+   *
+   * @return {@code int} : The {@code int} ID in {@link IdRegistry#ITEMS}.
+   */
+  public int getIntId() {
+    return intId;
+  }
+
   /**
    * Returns the display name of the {@link Item}.
    *
@@ -0,0 +1,57 @@
+package com.undercooked.game.food;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.util.IdRegistry;
+
+/**
+ * Keys for multisets of {@link Item} ids, where the order of the
+ * ids doesn't matter, but how many of each there are does.
+ * <br><br>
+ * Every {@link Item} id's {@code int} id from {@link IdRegistry#ITEMS} is
+ * mixed into a 64-bit hash. The key of a multiset is the sum of the hashes of all of
+ * its ids, so it's the same no matter the order they were added in, and can
+ * be kept up to date by adding an id's hash when it's added and taking it
+ * away when it's removed.
+ * <br><br>
+ * Two different multisets having the same key is possible, though very
+ * unlikely, so anything matched using a key should still be checked.
+ */
+public final class ItemKey {
+
+  /**
+   * The key of an empty multiset.
+   */
+  public static final long EMPTY = 0;
+
+  private ItemKey() {
+  }
+
+  /**
+   * Returns the hash of an {@link Item}'s {@code int} id, which is added to
+   * a multiset's key for each time it's in the multiset.
+   *
+   * @param id {@code int} : The {@code int} id of the {@link Item}.
+   * @return {@code long} : The hash of the id.
+   */
+  public static long hash(int id) {
+    // SplitMix64's finaliser, so every id has a different, well spread hash
+    long hash = (id + 1) * 0x9E3779B97F4A7C15L;
+    hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+    return hash ^ (hash >>> 31);
+  }
+
+  /**
+   * Returns the key of an {@link Array} of {@link Item} ids.
+   *
+   * @param itemIds {@link Array}&lt;{@link String}&gt; : The {@link Item} ids.
+   * @return {@code long} : The key of the ids.
+   */
+  public static long of(Array<String> itemIds) {
+    long key = EMPTY;
+    for (String itemId : itemIds) {
+      key += hash(IdRegistry.ITEMS.register(itemId));
+    }
+    return key;
+  }
+}
@@ -2,6 +2,7 @@ package com.undercooked.game.food;
 
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
+import com.undercooked.game.util.IdRegistry;
 import java.util.Iterator;
 
 /**
@@ -13,6 +14,12 @@ public class ItemStack implements Iterable<Item> {
    */
   private final Array<Item> items;
 
+  /**
+   * The {@link ItemKey} of the ids of the {@link #items}, kept up
+   * to date as they are added and removed.
+   */
+  private long key;
+
   /**
    * Constructor for the class.
    */
@@ -49,7 +56,9 @@ public class ItemStack implements Iterable<Item> {
    * @see #peek()
    */
   public Item pop() {
-    return items.pop();
+    Item item = items.pop();
+    key -= ItemKey.hash(item.getIntId());
+    return item;
   }
 
   /**
@@ -57,6 +66,7 @@ public class ItemStack implements Iterable<Item> {
    */
   public void clear() {
     items.clear();
+    key = ItemKey.EMPTY;
   }
 
   /**
@@ -66,6 +76,7 @@ public class ItemStack implements Iterable<Item> {
    */
   public void add(Item item) {
     items.add(item);
+    key += ItemKey.hash(item.getIntId());
   }
 
   /**
@@ -78,6 +89,33 @@ public class ItemStack implements Iterable<Item> {
     return items.get(index);
   }
 
+  /**
+   * Returns the {@link ItemKey} of the ids of the {@link Item}s in the stack,
+   * which is the same for any stack with the same {@link Item}s, no matter
+   * which order they are in.
+   *
+   * @return {@code long} : The key of the stack.
+   */
+  public long getKey() {
+    return key;
+  }
+
+  /**
+   * Returns how many of the {@link Item}s in the stack have an {@code int} ID.
+   *
+   * @param intId {@code int} : The {@code int} ID of the {@link Item}.
+   * @return {@code int} : The number of {@link Item}s with that ID.
+   */
+  public int count(int intId) {
+    int count = 0;
+    for (int i = 0; i < items.size; i++) {
+      if (items.get(i).getIntId() == intId) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   public Iterator<Item> iterator() {
     return items.iterator();
   }
@@ -91,12 +129,19 @@ public class ItemStack implements Iterable<Item> {
    *                           {@code false} if it does not.
    */
   public boolean hasId(String itemId) {
-    for (Item item : items) {
-      if (item.getId().equals(itemId)) {
-        return true;
-      }
-    }
-    return false;
+    return hasId(items, itemId);
+  }
+
+  /**
+   * Returns whether the {@link ItemStack} has an {@link Item}
+   * with the provided {@code int} ID or not.
+   *
+   * @param intId {@code int} : The {@code int} ID of the {@link Item}.
+   * @return {@code boolean} : {@code true} if it has the ID,
+   *                           {@code false} if it does not.
+   */
+  public boolean hasId(int intId) {
+    return hasId(items, intId);
   }
 
   /**
@@ -108,8 +153,25 @@ public class ItemStack implements Iterable<Item> {
    *                           {@code false} if it does not.
    */
   public static boolean hasId(Array<Item> items, String itemId) {
-    for (Item item : items) {
-      if (item.getId() == itemId) {
+    // If the ID was never registered, no Item can have it
+    int intId = IdRegistry.ITEMS.get(itemId);
+    if (intId == IdRegistry.NONE) {
+      return false;
+    }
+    return hasId(items, intId);
+  }
+
+  /**
+   * A static version of the {@link #hasId(int)} function.
+   *
+   * @param items {@link Array}&lt;{@link Item}&gt; : An {@link Array} of the {@link Item}s.
+   * @param intId {@code int} : The {@code int} ID of the {@link Item}.
+   * @return {@code boolean} : {@code true} if it has the ID,
+   *                           {@code false} if it does not.
+   */
+  public static boolean hasId(Array<Item> items, int intId) {
+    for (int i = 0; i < items.size; i++) {
+      if (items.get(i).getIntId() == intId) {
         return true;
       }
     }
@@ -119,6 +181,9 @@ public class ItemStack implements Iterable<Item> {
   /**
    * Returns an {@link Array} of the {@link #items} {@link Array}
    * that the ItemStack uses, either as a copy or not.
+   * <br>
+   * If it isn't a copy, it shouldn't be changed, as the stack's
+   * {@link #getKey()} wouldn't be updated.
    *
    * @param copy {@code boolean} : Whether it should return as a copy or
    *             not.
@@ -6,6 +6,7 @@ import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.files.FileControl;
 import com.undercooked.game.util.DefaultJson;
 import com.undercooked.game.util.json.JsonFormat;
+import com.undercooked.game.util.log.Log;
 
 /**
  * All available ingredient.
@@ -46,11 +47,33 @@ public class Items {
     if (items.containsKey(itemId)) {
       return items.get(itemId);
     }
-    Item newItem = new Item(itemId, name, texturePath, value);
-    System.out.println(String.format("New Item (%s, %s) with texturePath '%s' and value '%d'",
-        name, itemId, texturePath, value));
-    items.put(itemId, newItem);
-    return newItem;
+    return addItem(new Item(itemId, name, texturePath, value));
+  }
+
+  /**
+   * Adds an {@link Item} that has already been created, such as by the
+   * {@link com.undercooked.game.logic.ScenarioPreloader}, if its id doesn't
+   * exist yet.
+   * <br>
+   * If the item id already exists, it instead returns the already created
+   * {@link Item}.
+   *
+   * @param item {@link Item} : The {@link Item} to add.
+   * @return {@link Item} : The {@link Item} if the id didn't yet exist,
+   *         or the {@link Item} that was created for the id already.
+   */
+  public Item addItem(Item item) {
+    // If the item already exists, return that
+    if (items.containsKey(item.getId())) {
+      return items.get(item.getId());
+    }
+    // Checked first, as there are too many values to pass to the logger
+    if (Log.ITEMS.isDebug()) {
+      Log.ITEMS.debug(String.format("New Item (%s, %s) with texturePath '%s' and value '%d'",
+          item.name, item.getId(), item.getTexturePath(), item.getValue()));
+    }
+    items.put(item.getId(), item);
+    return item;
   }
 
   /**
@@ -78,7 +101,23 @@ public class Items {
       return null;
     }
     JsonFormat.formatJson(ingredientRoot, DefaultJson.itemFormat());
-    Item newItem = addItem(assetPath,
+    return addItem(createItem(assetPath, ingredientRoot));
+  }
+
+  /**
+   * Creates an {@link Item} from the formatted {@link JsonValue} of an
+   * item asset, without adding it to the {@link Items}.
+   * <br>
+   * This doesn't load the {@link Item}'s texture, so it can be used
+   * off of the main thread.
+   *
+   * @param assetPath      {@link String} : The path to the asset, used as the id.
+   * @param ingredientRoot {@link JsonValue} : The item's Json, formatted using
+   *                       {@link DefaultJson#itemFormat()}.
+   * @return {@link Item} : The created {@link Item}.
+   */
+  public static Item createItem(String assetPath, JsonValue ingredientRoot) {
+    Item newItem = new Item(assetPath,
         ingredientRoot.getString("name"),
         ingredientRoot.getString("texture_path"),
         ingredientRoot.getInt("value"));
@@ -109,8 +148,7 @@ public class Items {
   public void load(TextureManager textureManager, String textureGroup) {
     // Loop through all ingredients and load their textures
     for (Item item : items.values()) {
-      System.out.println(String.format("Loading texture %s for item %s.",
-          item.getTexturePath(), item.name));
+      Log.ITEMS.debug("Loading texture {} for item {}.", item.getTexturePath(), item.name);
       textureManager.loadAsset(textureGroup, item.getTexturePath(), "textures");
     }
   }
@@ -124,9 +162,8 @@ public class Items {
   public void postLoad(TextureManager textureManager) {
     // Loop through all ingredients and set their textures
     for (Item item : items.values()) {
-      System.out.println(String.format("Giving texture %s to item %s",
-          item.getTexturePath(), item.name));
-      item.updateSprite(textureManager.getAsset(item.getTexturePath()));
+      Log.ITEMS.debug("Giving texture {} to item {}", item.getTexturePath(), item.name);
+      item.updateSprite(textureManager.getAssetRegion(item.getTexturePath()));
       // item.updateSprite(textureManager.getAsset("<main>:station/blank.png"));
     }
   }
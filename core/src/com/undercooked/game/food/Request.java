@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.util.IdRegistry;
 
 /**
  * The class for a request that a {@link com.undercooked.game.entity.customer.Customer}
@@ -16,6 +17,11 @@ public class Request {
    */
   public String itemId;
 
+  /**
+   * The {@code int} id of the {@link Item} in {@link IdRegistry#ITEMS}.
+   */
+  private final int itemIntId;
+
   /**
    * How much money the {@link Request} is worth.
    */
@@ -44,6 +50,7 @@ public class Request {
    */
   public Request(String itemId) {
     this.itemId = itemId;
+    this.itemIntId = IdRegistry.ITEMS.register(itemId);
     this.instructions = new Array<>();
     this.time = -1;
   }
@@ -58,6 +65,15 @@ public class Request {
     deserialise(requestRoot);
   }
 
+  /**
+   * Returns the {@code int} id of the {@link Item} requested.
+   *
+   * @return {@code int} : The {@code int} id of the {@link Item}.
+   */
+  public int getItemIntId() {
+    return itemIntId;
+  }
+
   /**
    * Load the {@link Instruction}s.
    *
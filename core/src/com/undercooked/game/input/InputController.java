@@ -1,16 +1,19 @@
 package com.undercooked.game.input;
 
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.undercooked.game.files.FileControl;
+import com.undercooked.game.util.IdRegistry;
 import com.undercooked.game.util.StringUtil;
 import com.undercooked.game.util.json.JsonArray;
 import com.undercooked.game.util.json.JsonBool;
 import com.undercooked.game.util.json.JsonFormat;
 import com.undercooked.game.util.json.JsonObject;
 import com.undercooked.game.util.json.JsonString;
+import com.undercooked.game.util.log.Log;
 
 /**
  * A class composing of static functions, with no constructor,
@@ -23,6 +26,12 @@ public class InputController {
    */
   static final ObjectMap<String, InputKey> inputs = new ObjectMap<>();
 
+  /**
+   * The {@link InputKey} of each input's {@code int} id in {@link IdRegistry#INPUTS},
+   * or {@code null} if it hasn't been added.
+   */
+  static final Array<InputKey> inputsById = new Array<>();
+
   /**
    * Returns all the mappings of input ids to their {@link InputKey}s.
    *
@@ -39,13 +48,65 @@ public class InputController {
    * @param newKey  {@code int} : The key value identifier.
    */
   public static void addKey(String inputId, int newKey) {
-    // First check that the key actually exists in the inputs map
-    if (!inputs.containsKey(inputId)) {
-      // If it doesn't, add it.
-      inputs.put(inputId, new InputKey());
-    }
     // Add the key
-    inputs.get(inputId).addKey(newKey);
+    getOrAddInput(inputId).addKey(newKey);
+  }
+
+  /**
+   * Returns the {@link InputKey} of an input id, adding it
+   * if it doesn't exist yet.
+   *
+   * @param inputId {@link String} : The key's id.
+   * @return {@link InputKey} : The {@link InputKey} of the input.
+   */
+  private static InputKey getOrAddInput(String inputId) {
+    InputKey inputKey = inputs.get(inputId);
+    if (inputKey != null) {
+      return inputKey;
+    }
+    // If it doesn't exist, add it to both the map and its int id
+    inputKey = new InputKey();
+    inputs.put(inputId, inputKey);
+    int intId = IdRegistry.INPUTS.register(inputId);
+    if (intId >= inputsById.size) {
+      inputsById.setSize(intId + 1);
+    }
+    inputsById.set(intId, inputKey);
+    return inputKey;
+  }
+
+  /**
+   * Returns the {@link InputKey} of an {@code int} input id.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@link InputKey} : The {@link InputKey}, or {@code null} if it doesn't exist.
+   */
+  private static InputKey getInput(int inputId) {
+    if (inputId < 0 || inputId >= inputsById.size) {
+      return null;
+    }
+    return inputsById.get(inputId);
+  }
+
+  /**
+   * Returns the {@code int} id of an input id, which can be used
+   * instead of the {@link String} id when checking the input.
+   *
+   * @param inputId {@link String} : The key's id.
+   * @return {@code int} : The key's {@code int} id.
+   */
+  public static int getInputId(String inputId) {
+    return IdRegistry.INPUTS.register(inputId);
+  }
+
+  /**
+   * Returns the number of {@code int} input ids. Every {@code int} id
+   * of an input that exists is less than this.
+   *
+   * @return {@code int} : The number of {@code int} ids.
+   */
+  public static int getInputCount() {
+    return inputsById.size;
   }
 
   /**
@@ -57,13 +118,8 @@ public class InputController {
    *                    interaction or not.
    */
   public static void setInteraction(String inputId, boolean interaction) {
-    // First check that the key actually exists in the inputs map
-    if (!inputs.containsKey(inputId)) {
-      // If it doesn't, add it.
-      inputs.put(inputId, new InputKey());
-    }
     // Set the interaction value
-    inputs.get(inputId).interaction = interaction;
+    getOrAddInput(inputId).interaction = interaction;
   }
 
   /**
@@ -83,13 +139,70 @@ public class InputController {
     return inputs.get(inputId).interaction;
   }
 
+  /**
+   * Returns whether a certain key is an interaction or not.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@code boolean} : If the key id is ({@code true}) or
+   *                           isn't ({@code false}) an interaction.
+   */
+  public static boolean isInteraction(int inputId) {
+    InputKey inputKey = getInput(inputId);
+    return inputKey != null && inputKey.interaction;
+  }
+
   /**
    * Updates all of the {@link InputKey}s in the
    * {@link #inputs}.
    */
   public static void updateKeys() {
-    for (InputKey key : inputs.values()) {
-      key.update();
+    updateKeys(false);
+  }
+
+  /**
+   * Updates all of the {@link InputKey}s in the
+   * {@link #inputs}, with the option to keep the just pressed
+   * and just released inputs that haven't been cleared yet.
+   *
+   * @param keepJust {@code boolean} : Whether to keep the just pressed and
+   *                 just released inputs or not.
+   * @see #clearJustInputs()
+   */
+  public static void updateKeys(boolean keepJust) {
+    for (int i = 0; i < inputsById.size; i++) {
+      InputKey key = inputsById.get(i);
+      if (key != null) {
+        key.update(keepJust);
+      }
+    }
+  }
+
+  /**
+   * Sets whether an input is pressed, as if one of its keys was, so that
+   * the game can be played without a keyboard, such as when it's
+   * being simulated.
+   * <br>
+   * It stays this way until it is set again, or until the next time
+   * the inputs are updated by {@link #updateKeys()}.
+   *
+   * @param inputId {@link String} : The key's id.
+   * @param pressed {@code boolean} : Whether the input is pressed or not.
+   */
+  public static void setInputPressed(String inputId, boolean pressed) {
+    getOrAddInput(inputId).setPressed(pressed);
+  }
+
+  /**
+   * Clears the just pressed and just released inputs of all
+   * of the {@link InputKey}s in the {@link #inputs}, so that
+   * they are only seen by one update of the game.
+   */
+  public static void clearJustInputs() {
+    for (int i = 0; i < inputsById.size; i++) {
+      InputKey key = inputsById.get(i);
+      if (key != null) {
+        key.clearJust();
+      }
     }
   }
 
@@ -108,6 +221,18 @@ public class InputController {
     return inputs.get(inputId).isPressed();
   }
 
+  /**
+   * Returns whether the input is being pressed or not.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@code boolean} : {@code true} if the key is being pressed,
+   *                           {@code false} false if not.
+   */
+  public static boolean isInputPressed(int inputId) {
+    InputKey inputKey = getInput(inputId);
+    return inputKey != null && inputKey.isPressed();
+  }
+
   /**
    * Returns whether the input was just pressed or not.
    *
@@ -123,6 +248,35 @@ public class InputController {
     return inputs.get(inputId).isJustPressed();
   }
 
+  /**
+   * Returns whether the input was just pressed or not.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@code boolean} : {@code true} if the key was just pressed,
+   *                           {@code false} false if not.
+   */
+  public static boolean isInputJustPressed(int inputId) {
+    InputKey inputKey = getInput(inputId);
+    return inputKey != null && inputKey.isJustPressed();
+  }
+
+  /**
+   * Returns whether the input was just pressed this frame, without
+   * needing the inputs to have been updated.
+   *
+   * @param inputId {@link String} : The key's id.
+   * @return {@code boolean} : {@code true} if the key was just pressed,
+   *                           {@code false} false if not.
+   * @see InputKey#pollJustPressed()
+   */
+  public static boolean pollJustPressed(String inputId) {
+    if (!inputExists(inputId)) {
+      return false;
+    }
+
+    return inputs.get(inputId).pollJustPressed();
+  }
+
   /**
    * Returns whether the input is released or not.
    *
@@ -138,6 +292,18 @@ public class InputController {
     return inputs.get(inputId).isReleased();
   }
 
+  /**
+   * Returns whether the input is released or not.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@code boolean} : {@code true} if the key is released,
+   *                           {@code false} false if not.
+   */
+  public static boolean isInputReleased(int inputId) {
+    InputKey inputKey = getInput(inputId);
+    return inputKey != null && inputKey.isReleased();
+  }
+
   /**
    * Returns whether the input has just been released or not.
    *
@@ -153,6 +319,18 @@ public class InputController {
     return inputs.get(inputId).isJustReleased();
   }
 
+  /**
+   * Returns whether the input has just been released or not.
+   *
+   * @param inputId {@code int} : The key's {@code int} id.
+   * @return {@code boolean} : {@code true} if the key was just released,
+   *                           {@code false} false if not.
+   */
+  public static boolean isInputJustReleased(int inputId) {
+    InputKey inputKey = getInput(inputId);
+    return inputKey != null && inputKey.isJustReleased();
+  }
+
   /**
    * Returns whether a key is being given a certain {@link InputType}.
    *
@@ -175,6 +353,29 @@ public class InputController {
         return false;
     }
   }
+  /**
+   * Returns whether a key is being given a certain {@link InputType}.
+   *
+   * @param inputId   {@code int} : The key's {@code int} id.
+   * @param inputType {@link InputType} : The type of input to check for.
+   * @return {@code boolean} : {@code true} if the key has an input of {@code inputType},
+   *                           {@code false} if not.
+   */
+  public static boolean isInput(int inputId, InputType inputType) {
+    switch (inputType) {
+      case PRESSED:
+        return isInputPressed(inputId);
+      case JUST_PRESSED:
+        return isInputJustPressed(inputId);
+      case RELEASED:
+        return isInputReleased(inputId);
+      case JUST_RELEASED:
+        return isInputJustReleased(inputId);
+      default:
+        return false;
+    }
+  }
+
 
   /**
    * Returns whether an input id exists or not.
@@ -227,7 +428,7 @@ public class InputController {
     JsonValue defaultRoot = FileControl.loadJsonFile("defaults", "controls.json", true);
     // If the json hasn't loaded...
     if (root == null) {
-      System.out.println("No controls.json exists. It will be created from the default.");
+      Log.INPUT.info("No controls.json exists. It will be created from the default.");
       // Load the json from the defaults folder internally instead, and save it to the data path
       root = FileControl.loadJsonFile("defaults", "controls.json", true);
       if (root == null) {
@@ -154,7 +154,26 @@ public class InputKey {
    * in {@link Gdx#input}.
    */
   public void update() {
+    update(false);
+  }
+
+  /**
+   * Updates the pressed and released variables
+   * to be true and false depending on if they match
+   * in {@link Gdx#input}.
+   * <br>
+   * If {@code keepJust} is {@code true}, then the just pressed and
+   * just released values stay {@code true} if they already were, so
+   * that they aren't lost if nothing checked them since the last update.
+   *
+   * @param keepJust {@code boolean} : Whether to keep the just pressed and
+   *                 just released values or not.
+   * @see #clearJust()
+   */
+  public void update(boolean keepJust) {
     boolean beforePressed = keyPressed;
+    boolean beforeJustPressed = keepJust && keyJustPressed;
+    boolean beforeJustReleased = keepJust && keyJustReleased;
     resetKeys();
     for (int key : keys) {
       keyPressed = keyPressed || Gdx.input.isKeyPressed(key);
@@ -168,5 +187,49 @@ public class InputKey {
         keyJustReleased = true;
       }
     }
+    // Keep the just values, if needed
+    keyJustPressed = keyJustPressed || beforeJustPressed;
+    keyJustReleased = keyJustReleased || beforeJustReleased;
+  }
+
+  /**
+   * Sets whether the input is pressed, without reading from {@link Gdx#input},
+   * so that it is just pressed or just released if it changed.
+   *
+   * @param pressed {@code boolean} : Whether the input is pressed or not.
+   */
+  public void setPressed(boolean pressed) {
+    boolean beforePressed = keyPressed;
+    keyPressed = pressed;
+    keyReleased = !pressed;
+    keyJustPressed = pressed && !beforePressed;
+    keyJustReleased = !pressed && beforePressed;
+  }
+
+  /**
+   * Returns whether any of the keys of this input were just pressed
+   * this frame, reading directly from {@link Gdx#input}.
+   * <br>
+   * Unlike {@link #isJustPressed()}, this doesn't depend on or change
+   * the last update, so it can be used outside of the game's updates.
+   *
+   * @return {@code boolean} : Whether the input was just pressed this frame.
+   */
+  public boolean pollJustPressed() {
+    for (int i = 0; i < keys.size; i++) {
+      if (Gdx.input.isKeyJustPressed(keys.get(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sets the just pressed and just released variables
+   * to false, so that they are only used once.
+   */
+  public void clearJust() {
+    keyJustPressed = false;
+    keyJustReleased = false;
   }
 }
\ No newline at end of file
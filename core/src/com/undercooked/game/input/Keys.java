@@ -58,4 +58,71 @@ public class Keys {
 
   //endregion
 
+  //region Cook Key Ids
+  // The int ids of the Cook keys, for checking them every frame
+  /**
+   * The {@code int} id of {@link #cook_up}.
+   */
+  public static final int cook_up_id = InputController.getInputId(cook_up);
+
+  /**
+   * The {@code int} id of {@link #cook_down}.
+   */
+  public static final int cook_down_id = InputController.getInputId(cook_down);
+
+  /**
+   * The {@code int} id of {@link #cook_left}.
+   */
+  public static final int cook_left_id = InputController.getInputId(cook_left);
+
+  /**
+   * The {@code int} id of {@link #cook_right}.
+   */
+  public static final int cook_right_id = InputController.getInputId(cook_right);
+
+  /**
+   * The {@code int} id of {@link #cook_prev}.
+   */
+  public static final int cook_prev_id = InputController.getInputId(cook_prev);
+
+  /**
+   * The {@code int} id of {@link #cook_next}.
+   */
+  public static final int cook_next_id = InputController.getInputId(cook_next);
+
+  /**
+   * The {@code int} id of {@link #interact}.
+   */
+  public static final int interact_id = InputController.getInputId(interact);
+
+  /**
+   * The {@code int} id of {@link #take}.
+   */
+  public static final int take_id = InputController.getInputId(take);
+
+  /**
+   * The {@code int} id of {@link #drop}.
+   */
+  public static final int drop_id = InputController.getInputId(drop);
+
+  //endregion
+
+  //region Debug Keys
+  /**
+   * Toggle the {@link com.undercooked.game.util.profiler.ProfilerOverlay}.
+   */
+  public static final String profiler = "profiler";
+
+  /**
+   * Save the {@link com.undercooked.game.util.profiler.Profiler}'s trace.
+   */
+  public static final String profiler_dump = "profiler_dump";
+
+  /**
+   * Toggle drawing the floor using the {@link com.undercooked.game.map.FloorCache}.
+   */
+  public static final String floor_cache = "floor_cache";
+
+  //endregion
+
 }
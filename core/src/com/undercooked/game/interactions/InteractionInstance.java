@@ -1,9 +1,11 @@
 package com.undercooked.game.interactions;
 
-import com.badlogic.gdx.Gdx;
 import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.VoiceManager;
 import com.undercooked.game.food.Items;
 import com.undercooked.game.station.Station;
+import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
 
 /**
  * The class for controlling the variables of the {@link InteractionStep}.
@@ -31,12 +33,38 @@ public class InteractionInstance {
    * The elapsed time for the Interaction.
    */
   public float elapsedTime;
+
+  /**
+   * The {@link TimingWheel} that the {@link #timer} is scheduled on,
+   * or {@code null} if the {@link InteractionStep}s count the time
+   * themselves.
+   */
+  private TimingWheel timers;
+
+  /**
+   * The {@link TimingWheel.Timer} for the current {@link InteractionStep}.
+   */
+  private final TimingWheel.Timer timer;
+
+  /**
+   * The {@link InteractionStep} that scheduled the {@link #timer}.
+   */
+  private InteractionStep timedStep;
+
+  /**
+   * The {@link #elapsedTime} that the {@link #timer} ends at.
+   */
+  private float timerEnd;
   /**
    * The {@link AudioManager} to use to play the sound.
    */
   private final AudioManager audioManager;
   /**
-   * The result of the last delta check, the time since the last frame.
+   * The {@link VoiceManager.Voice} that the {@link Station}'s sounds play on.
+   */
+  private final VoiceManager.Voice voice;
+  /**
+   * The result of the last delta check, the time since the last update.
    */
   private float lastDeltaCheck;
 
@@ -56,8 +84,15 @@ public class InteractionInstance {
     this.gameItems = gameItems;
     this.interactControl = interactControl;
     this.audioManager = audioManager;
+    this.voice = new VoiceManager.Voice();
     this.elapsedTime = 0;
     this.lastDeltaCheck = 0;
+    this.timer = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer value) {
+        timerFinished();
+      }
+    });
   }
 
   /**
@@ -69,24 +104,41 @@ public class InteractionInstance {
   }
 
   /**
-   * Plays a sound using {@link com.badlogic.gdx.audio.Music}.
+   * Plays a sound on the {@link Station}'s {@link VoiceManager.Voice}, if it
+   * isn't already playing. A {@link Station} with a {@link com.undercooked.game.entity.cook.Cook}
+   * locked to it has a higher priority, so it's heard over the others.
    *
-   * @param soundPath {@link String} : The asset path to the sound.
+   * @param soundHandle {@link VoiceManager.SoundHandle} : The handle of the sound.
    */
-  public void playSound(String soundPath) {
-    if (soundPath != null) {
-      //if (!audioManager.musicIsPlaying(soundID)) {
-      audioManager.getMusicAsset(soundPath).play();
+  public void playSound(VoiceManager.SoundHandle soundHandle) {
+    if (soundHandle == null || audioManager == null) {
+      return;
     }
+    audioManager.getVoices().play(voice, soundHandle, station.hasCookLocked() ? 1 : 0);
   }
 
   /**
-   * Stops a sound using {@link com.badlogic.gdx.audio.Music}.
+   * Stops a sound, if it's the one playing on the {@link Station}'s
+   * {@link VoiceManager.Voice}.
    *
-   * @param soundPath {@link String} : The asset path to the sound.
+   * @param soundHandle {@link VoiceManager.SoundHandle} : The handle of the sound.
+   */
+  public void stopSound(VoiceManager.SoundHandle soundHandle) {
+    if (soundHandle == null || audioManager == null) {
+      return;
+    }
+    audioManager.getVoices().stop(voice, soundHandle);
+  }
+
+  /**
+   * Stops whatever sound is playing on the {@link Station}'s
+   * {@link VoiceManager.Voice}.
    */
-  public void stopSound(String soundPath) {
-    audioManager.getMusicAsset(soundPath).stop();
+  public void stopSounds() {
+    if (audioManager == null) {
+      return;
+    }
+    audioManager.getVoices().stop(voice);
   }
 
   /**
@@ -94,13 +146,94 @@ public class InteractionInstance {
    */
   public void reset() {
     elapsedTime = 0;
+    timer.cancel();
+    timedStep = null;
+  }
+
+  /**
+   * Set the {@link TimingWheel} that the {@link InteractionStep}s can
+   * schedule their time on.
+   *
+   * @param timers {@link TimingWheel} : The {@link TimingWheel} to use, or
+   *               {@code null} for the {@link InteractionStep}s to count
+   *               the time themselves.
+   */
+  public void setTimers(TimingWheel timers) {
+    // Anything that was scheduled goes back to being counted by the step
+    if (timer.isScheduled()) {
+      elapsedTime = getElapsedTime();
+      timer.cancel();
+      timedStep = null;
+    }
+    this.timers = timers;
+  }
+
+  /**
+   * Schedule the rest of an {@link InteractionStep}'s time on the
+   * {@link TimingWheel}, after which its
+   * {@link InteractionStep#timerFinished(InteractionInstance, com.undercooked.game.entity.cook.Cook)}
+   * is called, so that it doesn't need to count it every update.
+   *
+   * @param step    {@link InteractionStep} : The {@link InteractionStep} waiting.
+   * @param endTime {@code float} : The {@link #elapsedTime} to finish at.
+   * @return {@code boolean} : {@code true} if it was scheduled,
+   *                           {@code false} if there's no {@link TimingWheel}
+   *                           and the step has to count the time itself.
+   */
+  public boolean scheduleTimer(InteractionStep step, float endTime) {
+    if (timers == null) {
+      return false;
+    }
+    timedStep = step;
+    timerEnd = endTime;
+    timers.schedule(timer, endTime - elapsedTime);
+    return true;
+  }
+
+  /**
+   * Returns whether an {@link InteractionStep}'s time is scheduled
+   * on the {@link TimingWheel} or not.
+   *
+   * @return {@code boolean} : {@code true} if it is scheduled,
+   *                           {@code false} if not.
+   */
+  public boolean isTimerScheduled() {
+    return timer.isScheduled();
+  }
+
+  /**
+   * Returns the elapsed time for the Interaction, including the time
+   * counted by the {@link TimingWheel}.
+   *
+   * @return {@code float} : The elapsed time.
+   */
+  public float getElapsedTime() {
+    if (timer.isScheduled()) {
+      return timerEnd - timer.getRemaining();
+    }
+    return elapsedTime;
+  }
+
+  /**
+   * Called when the {@link #timer} has been reached, to tell the
+   * {@link InteractionStep} that scheduled it.
+   */
+  private void timerFinished() {
+    InteractionStep step = timedStep;
+    timedStep = null;
+    elapsedTime = timerEnd;
+    if (step != null) {
+      step.timerFinished(this, station.getLockedCook());
+    }
   }
 
   /**
    * Updates the delta variable.
+   *
+   * @param delta {@code float} : The time since the last update.
    */
-  public void updateDelta() {
-    this.lastDeltaCheck = Gdx.graphics.getDeltaTime();
+  public void updateDelta(float delta) {
+    this.lastDeltaCheck = delta;
   }
 
   /**
@@ -1,6 +1,9 @@
 package com.undercooked.game.interactions;
 
 import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.food.ItemKey;
+import com.undercooked.game.food.ItemStack;
+import com.undercooked.game.util.IdRegistry;
 
 /**
  * A class of an interaction having the id of the {@link com.undercooked.game.food.Item}s
@@ -14,12 +17,27 @@ public class InteractionObject {
    */
   protected Array<String> items;
 
+  /**
+   * The {@code int} ids of the {@link #items}.
+   */
+  protected int[] itemIntIds;
+
+  /**
+   * The {@link ItemKey} of the {@link #items}.
+   */
+  protected long key;
+
   /**
    * An {@link Array} of the {@link InteractionStep}s that the
    * interaction is made of.
    */
   protected Array<InteractionStep> steps;
 
+  /**
+   * The {@link #steps} compiled into an {@link InteractionProgram}.
+   */
+  protected InteractionProgram program;
+
   /**
    * Constructor for the {@link InteractionObject}.
    *
@@ -32,6 +50,12 @@ public class InteractionObject {
   public InteractionObject(Array<InteractionStep> steps, Array<String> ingredients) {
     this.steps = steps;
     this.items = ingredients;
+    this.itemIntIds = new int[ingredients.size];
+    for (int i = 0; i < ingredients.size; i++) {
+      itemIntIds[i] = IdRegistry.ITEMS.register(ingredients.get(i));
+    }
+    this.key = ItemKey.of(ingredients);
+    this.program = InteractionProgram.compile(steps);
   }
 
   /**
@@ -46,6 +70,44 @@ public class InteractionObject {
     return items;
   }
 
+  /**
+   * Returns the {@link ItemKey} of the {@link com.undercooked.game.food.Item}s
+   * needed for the interaction.
+   *
+   * @return {@code long} : The key of the needed items.
+   */
+  public long getKey() {
+    return key;
+  }
+
+  /**
+   * Returns whether an {@link ItemStack} has exactly the
+   * {@link com.undercooked.game.food.Item}s needed for the interaction,
+   * in any order.
+   *
+   * @param stack {@link ItemStack} : The {@link ItemStack} to check.
+   * @return {@code boolean} : {@code true} if it has the needed items,
+   *                           {@code false} if not.
+   */
+  public boolean matches(ItemStack stack) {
+    if (stack.size() != itemIntIds.length) {
+      return false;
+    }
+    // Every needed item has to be on the stack the same number of times
+    for (int i = 0; i < itemIntIds.length; i++) {
+      int needed = 0;
+      for (int j = 0; j < itemIntIds.length; j++) {
+        if (itemIntIds[j] == itemIntIds[i]) {
+          needed++;
+        }
+      }
+      if (stack.count(itemIntIds[i]) != needed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns the {@link Array} of {@link InteractionStep}s that make
    * up this interaction.
@@ -57,11 +119,22 @@ public class InteractionObject {
     return steps;
   }
 
+  /**
+   * Returns the {@link InteractionProgram} that the {@link InteractionStep}s
+   * were compiled into.
+   *
+   * @return {@link InteractionProgram} : The compiled {@link InteractionStep}s.
+   */
+  public InteractionProgram getProgram() {
+    return program;
+  }
+
   /**
    * Unload the {@link InteractionObject} by clearing the
    * {@link InteractionStep}s {@link Array}.
    */
   public void unload() {
     steps.clear();
+    program = InteractionProgram.EMPTY;
   }
 }
\ No newline at end of file
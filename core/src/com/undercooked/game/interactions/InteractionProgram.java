@@ -0,0 +1,185 @@
+package com.undercooked.game.interactions;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * An interaction's tree of {@link InteractionStep}s, compiled into a flat
+ * program so that a {@link StationInteractControl} can run it with just
+ * the index of the current {@link InteractionStep}.
+ * <br><br>
+ * Each {@link InteractionStep} in the tree has an index in the program, along
+ * with the index to jump to when it finishes with a success, and when it
+ * finishes with a failure. These are the first of its success or failure
+ * {@link InteractionStep}s, or, if it doesn't have any, the step that comes
+ * after it: its next sibling, or the one after its parent, and so on, up to
+ * {@link #END}.
+ * <br><br>
+ * This is the same order that the {@link InteractionStep}s were run in by
+ * adding the success or failure {@link InteractionStep}s in front of the
+ * ones still to follow, but worked out once when the interaction is loaded.
+ */
+public class InteractionProgram {
+
+  /**
+   * The index of the end of the program.
+   */
+  public static final int END = -1;
+
+  /**
+   * A program with no {@link InteractionStep}s.
+   */
+  public static final InteractionProgram EMPTY = new InteractionProgram(
+          new InteractionStep[0], new int[0], new int[0], END);
+
+  /**
+   * The {@link InteractionStep} at each index.
+   */
+  private final InteractionStep[] steps;
+
+  /**
+   * The index to go to when the {@link InteractionStep} at each index
+   * finishes with a success.
+   */
+  private final int[] success;
+
+  /**
+   * The index to go to when the {@link InteractionStep} at each index
+   * finishes with a failure.
+   */
+  private final int[] failure;
+
+  /**
+   * The index of the first {@link InteractionStep}.
+   */
+  private final int start;
+
+  /**
+   * Constructor for the {@link InteractionProgram}.
+   *
+   * @param steps   {@link InteractionStep}[] : The {@link InteractionStep} at each index.
+   * @param success {@code int[]} : The index to go to on success for each index.
+   * @param failure {@code int[]} : The index to go to on failure for each index.
+   * @param start   {@code int} : The index of the first {@link InteractionStep}.
+   */
+  private InteractionProgram(InteractionStep[] steps, int[] success, int[] failure, int start) {
+    this.steps = steps;
+    this.success = success;
+    this.failure = failure;
+    this.start = start;
+  }
+
+  /**
+   * Compiles an {@link Array} of {@link InteractionStep}s, and all of their
+   * success and failure {@link InteractionStep}s, into an {@link InteractionProgram}.
+   *
+   * @param rootSteps {@link Array}&lt;{@link InteractionStep}&gt; : The
+   *                  {@link InteractionStep}s of the interaction.
+   * @return {@link InteractionProgram} : The compiled program.
+   */
+  public static InteractionProgram compile(Array<InteractionStep> rootSteps) {
+    if (rootSteps == null || rootSteps.size == 0) {
+      return EMPTY;
+    }
+    Array<InteractionStep> steps = new Array<>(InteractionStep.class);
+    IntArray success = new IntArray();
+    IntArray failure = new IntArray();
+    int start = compileSteps(rootSteps, END, steps, success, failure);
+    return new InteractionProgram(steps.toArray(), success.toArray(),
+            failure.toArray(), start);
+  }
+
+  /**
+   * Compiles an {@link Array} of sibling {@link InteractionStep}s, going
+   * from the last to the first so that each knows the index of the one
+   * after it.
+   *
+   * @param siblings {@link Array}&lt;{@link InteractionStep}&gt; : The siblings.
+   * @param next     {@code int} : The index to go to after the last sibling.
+   * @param steps    {@link Array}&lt;{@link InteractionStep}&gt; : The program's steps.
+   * @param success  {@link IntArray} : The program's success indexes.
+   * @param failure  {@link IntArray} : The program's failure indexes.
+   * @return {@code int} : The index of the first sibling, or {@code next}
+   *                       if there are none.
+   */
+  private static int compileSteps(Array<InteractionStep> siblings, int next,
+                                  Array<InteractionStep> steps,
+                                  IntArray success, IntArray failure) {
+    if (siblings == null) {
+      return next;
+    }
+    for (int i = siblings.size - 1; i >= 0; i--) {
+      next = compileStep(siblings.get(i), next, steps, success, failure);
+    }
+    return next;
+  }
+
+  /**
+   * Compiles a single {@link InteractionStep}, and then its success and
+   * failure {@link InteractionStep}s.
+   *
+   * @param step    {@link InteractionStep} : The {@link InteractionStep}.
+   * @param next    {@code int} : The index of the step after it.
+   * @param steps   {@link Array}&lt;{@link InteractionStep}&gt; : The program's steps.
+   * @param success {@link IntArray} : The program's success indexes.
+   * @param failure {@link IntArray} : The program's failure indexes.
+   * @return {@code int} : The index of the {@link InteractionStep}.
+   */
+  private static int compileStep(InteractionStep step, int next,
+                                 Array<InteractionStep> steps,
+                                 IntArray success, IntArray failure) {
+    int index = steps.size;
+    steps.add(step);
+    success.add(END);
+    failure.add(END);
+    // Its success and failure steps both carry on to the step after it
+    success.set(index, compileSteps(step.success, next, steps, success, failure));
+    failure.set(index, compileSteps(step.failure, next, steps, success, failure));
+    return index;
+  }
+
+  /**
+   * Returns the index of the first {@link InteractionStep}.
+   *
+   * @return {@code int} : The first index, or {@link #END} if it's empty.
+   */
+  public int getStart() {
+    return start;
+  }
+
+  /**
+   * Returns the {@link InteractionStep} at an index.
+   *
+   * @param index {@code int} : The index.
+   * @return {@link InteractionStep} : The {@link InteractionStep}, or {@code null}
+   *                                   if the index is {@link #END}.
+   */
+  public InteractionStep getStep(int index) {
+    if (index == END) {
+      return null;
+    }
+    return steps[index];
+  }
+
+  /**
+   * Returns the index to go to after the {@link InteractionStep} at an index
+   * has finished.
+   *
+   * @param index     {@code int} : The index of the {@link InteractionStep}.
+   * @param succeeded {@code boolean} : {@code true} if it finished with a success,
+   *                  {@code false} if it finished with a failure.
+   * @return {@code int} : The next index, or {@link #END} if there are none.
+   */
+  public int getNext(int index, boolean succeeded) {
+    return succeeded ? success[index] : failure[index];
+  }
+
+  /**
+   * Returns the number of {@link InteractionStep}s in the program.
+   *
+   * @return {@code int} : The number of {@link InteractionStep}s.
+   */
+  public int size() {
+    return steps.length;
+  }
+}
@@ -3,6 +3,7 @@ package com.undercooked.game.interactions;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.assets.VoiceManager;
 import com.undercooked.game.entity.cook.Cook;
 import com.undercooked.game.input.InputType;
 import java.util.Collections;
@@ -27,6 +28,11 @@ public abstract class InteractionStep {
    */
   protected String sound;
 
+  /**
+   * The {@link VoiceManager.SoundHandle} of the {@link #sound}.
+   */
+  protected VoiceManager.SoundHandle soundHandle;
+
   /**
    * The ID of the sound as it's playing.
    */
@@ -53,13 +59,25 @@ public abstract class InteractionStep {
     instance.elapsedTime += delta * powerUpMultiplier;
   }
 
+  /**
+   * Called when the time that the {@link InteractionStep} scheduled using
+   * {@link InteractionInstance#scheduleTimer(InteractionStep, float)} has passed.
+   *
+   * @param instance {@link InteractionInstance} : The interaction instance.
+   * @param cook     {@link Cook} : The {@link Cook} locked to the
+   *                 {@link com.undercooked.game.station.Station}, if there is one.
+   */
+  public void timerFinished(InteractionInstance instance, Cook cook) {
+
+  }
+
   /**
    * Play the sound of the instance.
    *
    * @param instance {@link InteractionInstance} : The interaction instance.
    */
   public final void playSound(InteractionInstance instance) {
-    instance.playSound(sound);
+    instance.playSound(soundHandle);
   }
 
   /**
@@ -81,7 +99,7 @@ public abstract class InteractionStep {
                                        String inputId, InputType inputType,
                                        boolean success) {
     // Stop playing the sound
-    instance.stopSound(sound);
+    instance.stopSound(soundHandle);
     // Tell the Interact Controller it's done, so it can move on to the next Interaction
     return instance.interactControl.finished(cook, inputId, inputType, success);
   }
@@ -149,7 +167,7 @@ public abstract class InteractionStep {
     // First unlock the Cooks
     instance.station.unlockCooks();
     // Then stop playing the sound
-    instance.stopSound(sound);
+    instance.stopSound(soundHandle);
   }
 
   /**
@@ -268,6 +286,15 @@ public abstract class InteractionStep {
     this.sound = sound;
   }
 
+  /**
+   * Update the {@link VoiceManager.SoundHandle} used to play the sound.
+   *
+   * @param soundHandle {@link VoiceManager.SoundHandle} : The handle of the sound.
+   */
+  public void setSoundHandle(VoiceManager.SoundHandle soundHandle) {
+    this.soundHandle = soundHandle;
+  }
+
   /**
    * Update the time value.
    *
@@ -25,6 +25,7 @@ import com.undercooked.game.station.StationController;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.DefaultJson;
 import com.undercooked.game.util.json.JsonFormat;
+import com.undercooked.game.util.log.Log;
 
 /**
  * A class that holds all of the {@link InteractionObject}s in the game.
@@ -41,12 +42,18 @@ public class Interactions {
    */
   private final ObjectMap<String, InteractionObject> interactions;
 
+  /**
+   * A mapping of stationId to the {@link RecipeIndex} of its interactions.
+   */
+  private final ObjectMap<String, RecipeIndex> stationRecipes;
+
   /**
    * Constructor for the class, setting up the class' {@link ObjectMap}s.
    */
   public Interactions() {
     this.stationInteractions = new ObjectMap<>();
     this.interactions = new ObjectMap<>();
+    this.stationRecipes = new ObjectMap<>();
   }
 
   /**
@@ -64,6 +71,8 @@ public class Interactions {
     JsonValue interactionRoot = FileControl.loadJsonAsset(assetPath, "interactions");
     // If it's not null...
     if (interactionRoot != null) {
+      // Make sure it's formatted correctly
+      JsonFormat.formatJson(interactionRoot, DefaultJson.interactionFormat());
       // load the interaction
       loadInteraction(assetPath, interactionRoot, stationController, audioManager, items);
     }
@@ -88,7 +97,7 @@ public class Interactions {
       // Add this interaction
       InteractionStep thisStep = addInteraction(interaction, audioManager, items);
       if (thisStep == null) {
-        System.out.println("Failed on step: " + interaction.getString("type"));
+        Log.INTERACTIONS.warn("Failed on step: {}", interaction.getString("type"));
         return null;
       }
       steps.add(thisStep);
@@ -129,7 +138,7 @@ public class Interactions {
         // If it fails to load, return null as it could mess up the
         // whole interaction
         if (items.addItemAsset(value) == null) {
-          System.out.println("Set failed to load: " + value + " does not exist.");
+          Log.INTERACTIONS.warn("Set failed to load: {} does not exist.", value);
           return null;
         }
         break;
@@ -138,7 +147,7 @@ public class Interactions {
         // If it fails to load, return null as it could mess up
         // the whole interaction
         if (items.addItemAsset(value) == null) {
-          System.out.println("Give failed to load: " + value + " does not exist.");
+          Log.INTERACTIONS.warn("Give failed to load: {} does not exist.", value);
           return null;
         }
         break;
@@ -190,7 +199,11 @@ public class Interactions {
     interactionStep.setTime(interactionRoot.getFloat("time"));
     interactionStep.setSound(interactionRoot.getString("sound"));
     if (interactionStep.sound != null) {
-      audioManager.loadMusicAsset(interactionStep.sound, Constants.GAME_GROUP);
+      // Sounds are short, so they're loaded as Sounds and played using voices
+      if (audioManager.loadSoundAsset(interactionStep.sound, Constants.GAME_GROUP)) {
+        interactionStep.setSoundHandle(audioManager.getVoices()
+                .getHandle(interactionStep.sound, Constants.GAME_GROUP));
+      }
     }
     interactionStep.setValue(interactionRoot.getString("value"));
 
@@ -213,19 +226,21 @@ public class Interactions {
    * Loads a {@link JsonValue} interaction to the {@link #interactions} and
    * {@link #stationInteractions} {@link ObjectMap}s, mapped the
    * {@code interactionID} provided.
+   * <br>
+   * The {@link JsonValue} should already be formatted using
+   * {@link DefaultJson#interactionFormat()}, such as by the
+   * {@link com.undercooked.game.logic.ScenarioPreloader}.
    *
    * @param interactionId     {@link String} : The id of the interaction.
-   * @param interactionRoot   {@link JsonValue} : The Json for the interaction.
+   * @param interactionRoot   {@link JsonValue} : The formatted Json for the interaction.
    * @param stationController {@link StationController} : The {@link StationController} to load the
    *                                                      station needed for the interaction.
    * @param audioManager      {@link AudioManager} : The {@link AudioManager} to use to load sounds.
    * @param items             {@link Items} : The {@link Items} to use to load items.
    */
-  private void loadInteraction(String interactionId, JsonValue interactionRoot,
-                               StationController stationController, AudioManager audioManager,
-                               Items items) {
-    // Make sure it's formatted correctly
-    JsonFormat.formatJson(interactionRoot, DefaultJson.interactionFormat());
+  public void loadInteraction(String interactionId, JsonValue interactionRoot,
+                              StationController stationController, AudioManager audioManager,
+                              Items items) {
     // Check for ID
     Array<InteractionStep> out;
     Array<String> neededIngredients;
@@ -281,7 +296,21 @@ public class Interactions {
     stationInteractions.get(stationId).add(interactionId);
 
     // Then do the same for the interaction itself
-    interactions.put(interactionId, new InteractionObject(out, neededIngredients));
+    InteractionObject interaction = new InteractionObject(out, neededIngredients);
+    InteractionObject previous = interactions.put(interactionId, interaction);
+
+    // And index it by the items it needs, replacing the old one if it was loaded before
+    RecipeIndex recipes = stationRecipes.get(stationId);
+    if (recipes == null) {
+      recipes = new RecipeIndex();
+      stationRecipes.put(stationId, recipes);
+    }
+    if (previous != null) {
+      for (RecipeIndex stationIndex : stationRecipes.values()) {
+        stationIndex.remove(previous);
+      }
+    }
+    recipes.add(interaction);
   }
 
   /**
@@ -289,6 +318,9 @@ public class Interactions {
    */
   public void unload() {
     stationInteractions.clear();
+    for (RecipeIndex recipes : stationRecipes.values()) {
+      recipes.clear();
+    }
     for (InteractionObject intObj : interactions.values()) {
       intObj.unload();
     }
@@ -307,6 +339,19 @@ public class Interactions {
     return stationInteractions.get(stationId);
   }
 
+  /**
+   * Returns the {@link RecipeIndex} of the interactions that a specific
+   * {@link String} station id can do.
+   *
+   * @param stationId {@link String} : The id of the {@link com.undercooked.game.station.Station}.
+   * @return {@link RecipeIndex} : The interactions of the
+   *                               {@link com.undercooked.game.station.Station},
+   *                               or {@code null} if it has none.
+   */
+  public RecipeIndex getStationRecipes(String stationId) {
+    return stationRecipes.get(stationId);
+  }
+
   /**
    * Returns the {@link InteractionObject} that is mapped to the id provided.
    *
@@ -0,0 +1,101 @@
+package com.undercooked.game.interactions;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.undercooked.game.food.ItemKey;
+import com.undercooked.game.food.ItemStack;
+
+/**
+ * An index of the {@link InteractionObject}s that a station type can do,
+ * by the {@link ItemKey} of the {@link com.undercooked.game.food.Item}s
+ * that they need.
+ * <br><br>
+ * Finding the interaction for an {@link ItemStack} is then a single lookup
+ * of the stack's {@link ItemStack#getKey()}, rather than checking the
+ * stack against every interaction the station can do.
+ */
+public class RecipeIndex {
+
+  /**
+   * The {@link InteractionObject}s for each key, in the order they were added,
+   * so that if more than one needs the same {@link com.undercooked.game.food.Item}s,
+   * the first is used.
+   */
+  private final LongMap<Array<InteractionObject>> recipes;
+
+  /**
+   * Constructor for the {@link RecipeIndex}.
+   */
+  public RecipeIndex() {
+    this.recipes = new LongMap<>();
+  }
+
+  /**
+   * Add an {@link InteractionObject} to the index.
+   *
+   * @param interaction {@link InteractionObject} : The {@link InteractionObject} to add.
+   */
+  public void add(InteractionObject interaction) {
+    Array<InteractionObject> matching = recipes.get(interaction.getKey());
+    if (matching == null) {
+      matching = new Array<>(1);
+      recipes.put(interaction.getKey(), matching);
+    }
+    matching.add(interaction);
+  }
+
+  /**
+   * Remove an {@link InteractionObject} from the index.
+   *
+   * @param interaction {@link InteractionObject} : The {@link InteractionObject} to remove.
+   */
+  public void remove(InteractionObject interaction) {
+    Array<InteractionObject> matching = recipes.get(interaction.getKey());
+    if (matching == null) {
+      return;
+    }
+    matching.removeValue(interaction, true);
+    if (matching.size == 0) {
+      recipes.remove(interaction.getKey());
+    }
+  }
+
+  /**
+   * Find the first {@link InteractionObject} that needs exactly the
+   * {@link com.undercooked.game.food.Item}s in an {@link ItemStack}.
+   *
+   * @param items {@link ItemStack} : The {@link ItemStack} to match.
+   * @return {@link InteractionObject} : The matching {@link InteractionObject},
+   *                                     or {@code null} if there isn't one.
+   */
+  public InteractionObject find(ItemStack items) {
+    Array<InteractionObject> matching = recipes.get(items.getKey());
+    if (matching == null) {
+      return null;
+    }
+    // Check them, in case a different set of items has the same key
+    for (int i = 0; i < matching.size; i++) {
+      InteractionObject interaction = matching.get(i);
+      if (interaction.matches(items)) {
+        return interaction;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Remove all of the {@link InteractionObject}s from the index.
+   */
+  public void clear() {
+    recipes.clear();
+  }
+
+  /**
+   * Returns the number of different keys in the index.
+   *
+   * @return {@code int} : The number of keys.
+   */
+  public int size() {
+    return recipes.size;
+  }
+}
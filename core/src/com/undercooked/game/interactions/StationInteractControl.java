@@ -2,7 +2,6 @@ package com.undercooked.game.interactions;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.utils.Array;
 import com.undercooked.game.assets.AudioManager;
 import com.undercooked.game.entity.cook.Cook;
 import com.undercooked.game.food.Item;
@@ -10,6 +9,7 @@ import com.undercooked.game.food.ItemStack;
 import com.undercooked.game.food.Items;
 import com.undercooked.game.input.InputType;
 import com.undercooked.game.station.Station;
+import com.undercooked.game.util.TimingWheel;
 
 /**
  * The {@link InteractionInstance} controller for a {@link Station}.
@@ -32,9 +32,10 @@ public class StationInteractControl {
   private Interactions interactions;
 
   /**
-   * Possible {@link InteractionStep}s that can be started.
+   * The {@link RecipeIndex} of the interactions that can be started,
+   * or {@code null} if there are none.
    */
-  private final Array<InteractionObject> possibleInteractions;
+  private RecipeIndex possibleInteractions;
 
   /**
    * The currently active {@link InteractionStep}.
@@ -42,9 +43,15 @@ public class StationInteractControl {
   private InteractionStep currentInteraction;
 
   /**
-   * The steps to follow the {@link #currentInteraction}.
+   * The {@link InteractionProgram} of the current interaction.
    */
-  private final Array<InteractionStep> stepsToFollow;
+  private InteractionProgram program;
+
+  /**
+   * The index of the {@link #currentInteraction} in the {@link #program},
+   * or {@link InteractionProgram#END} if there isn't one.
+   */
+  private int programCounter;
 
   /**
    * Constructor for the {@link StationInteractControl}.
@@ -58,20 +65,21 @@ public class StationInteractControl {
     this.station = station;
     this.interactionInstance = new InteractionInstance(station, this, audioManager, items);
 
-    this.possibleInteractions = new Array<>();
-    this.stepsToFollow = new Array<>();
+    this.program = InteractionProgram.EMPTY;
+    this.programCounter = InteractionProgram.END;
   }
 
   /**
    * Updates the {@link InteractionInstance} through the {@link #currentInteraction}.
    *
    * @param cook              {@link Cook} : The locked {@link Cook}, if there is one.
+   * @param delta             {@code float} : The time since the last update.
    * @param powerUpMultiplier {@code float} : The multiplier from power ups.
    */
-  public void update(Cook cook, float powerUpMultiplier) {
+  public void update(Cook cook, float delta, float powerUpMultiplier) {
     // Only update if there's an interaction currently
     if (currentInteraction != null) {
-      interactionInstance.updateDelta();
+      interactionInstance.updateDelta(delta);
       currentInteraction.playSound(interactionInstance);
       currentInteraction.update(interactionInstance, cook,
                                 interactionInstance.getDelta(), powerUpMultiplier);
@@ -79,66 +87,29 @@ public class StationInteractControl {
   }
 
   /**
-   * Go to the next {@link InteractionStep}.
-   */
-  private void nextInteraction() {
-    InteractionStep nextStep = null;
-    if (stepsToFollow.size > 0) {
-      nextStep = stepsToFollow.first();
-      stepsToFollow.removeIndex(0);
-    }
-    currentInteraction = nextStep;
-  }
-
-  /**
-   * Set the {@link #currentInteraction}.
+   * Go to an index of the {@link #program}, setting the
+   * {@link #currentInteraction} to the {@link InteractionStep} there.
    *
-   * @param interaction {@link InteractionStep} : The {@link InteractionStep} to set to.
-   */
-  private void setInteraction(InteractionStep interaction) {
-    interactionInstance.reset();
-    stepsToFollow.clear();
-
-    currentInteraction = interaction;
-  }
-
-  /**
-   * Add {@link InteractionStep}s to the {@link #stepsToFollow} that come after
-   * the {@link #currentInteraction}.
+   * @param index {@code int} : The index to go to, or {@link InteractionProgram#END}.
    */
-  private void addFollowingInteractions(Array<InteractionStep> interactions) {
-    if (interactions == null) {
-      return;
-    }
-    // Add them to the front of the stepsToFollow array, from back to front of
-    // the interactions array so that they go before whatever else was there before,
-    // and also in the correct order.
-    for (int i = interactions.size - 1; i >= 0; i--) {
-      stepsToFollow.insert(0, interactions.get(i));
-    }
+  private void jump(int index) {
+    programCounter = index;
+    currentInteraction = program.getStep(index);
   }
 
   /**
-   * Set the {@link #currentInteraction} and {@link #stepsToFollow}.
+   * Start running an {@link InteractionProgram} from its first
+   * {@link InteractionStep}.
    *
-   * @param interactions {@link Array}&lt;{@link InteractionStep}&gt; : The steps to use.
+   * @param newProgram {@link InteractionProgram} : The program to run.
    */
-  private void setInteractionSteps(Array<InteractionStep> interactions) {
-    clear();
-    if (interactions == null || interactions.size == 0) {
+  private void setProgram(InteractionProgram newProgram) {
+    clearInteraction();
+    if (newProgram == null) {
       return;
     }
-    // Make a copy of the array
-    Array<InteractionStep> arrayCopy = new Array<>();
-    for (InteractionStep interaction : interactions) {
-      arrayCopy.add(interaction);
-    }
-    // Set the interaction to the first index
-    setInteraction(arrayCopy.first());
-    // Remove the first index
-    arrayCopy.removeIndex(0);
-    // Then add the rest
-    addFollowingInteractions(arrayCopy);
+    program = newProgram;
+    jump(program.getStart());
   }
 
   /**
@@ -151,12 +122,53 @@ public class StationInteractControl {
     this.interactions = interactions;
   }
 
+  /**
+   * Set the {@link TimingWheel} that the {@link InteractionStep}s can
+   * schedule their time on.
+   *
+   * @param timers {@link TimingWheel} : The {@link TimingWheel} to use, or
+   *               {@code null} for the {@link InteractionStep}s to count
+   *               the time themselves.
+   */
+  public void setTimers(TimingWheel timers) {
+    interactionInstance.setTimers(timers);
+  }
+
   /**
    * Clear the currently loaded interaction.
    */
   public void clear() {
-    currentInteraction = null;
-    stepsToFollow.clear();
+    stopSounds();
+    clearInteraction();
+    station.updateActive();
+  }
+
+  /**
+   * Stop any sound that the {@link Station} is playing.
+   */
+  public void stopSounds() {
+    interactionInstance.stopSounds();
+  }
+
+  /**
+   * Clear the currently loaded interaction, without telling the
+   * {@link Station} that it's no longer active.
+   */
+  private void clearInteraction() {
+    interactionInstance.reset();
+    program = InteractionProgram.EMPTY;
+    jump(InteractionProgram.END);
+  }
+
+  /**
+   * Returns whether there is an interaction currently, which is when the
+   * {@link Station} needs to be updated.
+   *
+   * @return {@code boolean} : {@code true} if there is an interaction,
+   *                           {@code false} if not.
+   */
+  public boolean isActive() {
+    return currentInteraction != null;
   }
 
   /**
@@ -194,20 +206,15 @@ public class StationInteractControl {
    * @return {@link InteractResult} : The result of the interaction.
    */
   public InteractResult finished(Cook cook, String inputId, InputType inputType, boolean success) {
-    // First add the following Interactions
-    if (success) {
-      addFollowingInteractions(currentInteraction.success);
-    } else {
-      addFollowingInteractions(currentInteraction.failure);
-    }
     // Reset interaction variables
     interactionInstance.reset();
-    // Then move to the next Interaction
-    nextInteraction();
-    interactionInstance.updateDelta();
+    // Then jump to the next Interaction, depending on the success
+    jump(program.getNext(programCounter, success));
     // If currentInteraction is null, update.
     if (currentInteraction == null) {
       station.updateStationInteractions();
+      // Which drops it out of the active stations if there's nothing else to do
+      station.updateActive();
       return InteractResult.STOP;
     } else {
       // Otherwise call the finished last of the previous
@@ -216,30 +223,19 @@ public class StationInteractControl {
   }
 
   /**
-   * Update the array of {@link #possibleInteractions}.
+   * Update the {@link #possibleInteractions}.
    *
    * @param stationId {@link String} : The id of the {@link Station} to get
    *                                   the possible {@link InteractionStep}s for.
    */
   public void updatePossibleInteractions(String stationId) {
-    // Clear the possible reactions
-    possibleInteractions.clear();
-    // If the interactions instance is null, return
+    // If the interactions instance is null, there are none
     if (interactions == null) {
+      possibleInteractions = null;
       return;
     }
-    Array<String> stationInteractions = interactions.getStationInteractions(stationId);
-
-    // If it's null, return
-    if (stationInteractions == null) {
-      possibleInteractions.clear();
-      return;
-    }
-
-    // Load all the possible interactions for this station
-    for (String stationInteraction : stationInteractions) {
-      possibleInteractions.add(interactions.getInteractionSteps(stationInteraction));
-    }
+    // Otherwise use the index of the interactions for this station
+    possibleInteractions = interactions.getStationRecipes(stationId);
   }
 
   /**
@@ -253,46 +249,12 @@ public class StationInteractControl {
    *                                     Otherwise, returns {@code null}.
    */
   public InteractionObject findValidInteraction(ItemStack items) {
-    // Find an interaction with a matching item requirement.
-    // Loop through possibleInteractions
-    for (InteractionObject possibleInt : possibleInteractions) {
-      // First make sure the stack sizes are the same
-      if (possibleInt.items.size != items.size()) {
-        // If they aren't, then it's invalid
-        continue;
-      }
-
-      // Check if, for every item in the ItemStack, that there is matching item
-      // in the possibleInteraction items.
-      Array<Item> checkArray = items.asArray();
-
-      // Loop through the item IDs in the possibleInteractions
-      for (String itemId : possibleInt.items) {
-        // Check for if the checkArray has the ID.
-        int itemInd = -1;
-        for (int i = 0; i < checkArray.size; i++) {
-          Item item = checkArray.get(i);
-          if (item.getId().equals(itemId)) {
-            itemInd = i;
-            break;
-          }
-        }
-        // If it doesn't, this is an invalid interaction
-        if (itemInd == -1) {
-          break;
-        }
-        // If it does, then remove the ingredient from the
-        // items list
-        checkArray.removeIndex(itemInd);
-      }
-
-      // Finally, if the checkArray is empty, then it's valid
-      if (checkArray.size <= 0) {
-        return possibleInt;
-      }
+    if (possibleInteractions == null) {
+      return null;
     }
-    // Nothing matches, so return null.
-    return null;
+    // Look up the interaction with a matching item requirement
+    // using the ItemStack's key.
+    return possibleInteractions.find(items);
   }
 
   /**
@@ -308,9 +270,8 @@ public class StationInteractControl {
     // Then set the new interaction, if it's not null
     if (interaction != null) {
       // Move to the new interactions
-      setInteractionSteps(interaction.steps);
-      // Update last delta check
-      interactionInstance.updateDelta();
+      setProgram(interaction.getProgram());
+      station.updateActive();
       return;
     }
     // If it's null, then just clear
@@ -352,6 +313,17 @@ public class StationInteractControl {
     currentInteraction.draw(interactionInstance, shape);
   }
 
+  /**
+   * Returns whether there is an {@link InteractionStep} which may draw
+   * using {@link ShapeRenderer}.
+   *
+   * @return {@code boolean} : {@code true} if there is,
+   *                           {@code false} if not.
+   */
+  public boolean hasShapes() {
+    return currentInteraction != null;
+  }
+
   /**
    * Draw the {@link InteractionStep} after the normal {@code draw()} functions
    * using {@link SpriteBatch}.
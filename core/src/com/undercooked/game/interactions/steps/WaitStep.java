@@ -43,12 +43,24 @@ public class WaitStep extends InteractionStep {
   @Override
   public void update(InteractionInstance instance, Cook cook,
                      float delta, float powerUpMultiplier) {
+    // If the rest of the wait is scheduled, then the timer will finish it
+    if (instance.isTimerScheduled()) {
+      return;
+    }
     updateTime(instance, delta, powerUpMultiplier);
     // Check if elapsed time is >= time
     if (instance.elapsedTime >= time) {
       // If it is, then the wait is finished.
       waitFinished(instance, cook);
+      return;
     }
+    // Otherwise, schedule the rest of the wait, if it can be
+    instance.scheduleTimer(this, time);
+  }
+
+  @Override
+  public void timerFinished(InteractionInstance instance, Cook cook) {
+    waitFinished(instance, cook);
   }
 
   /**
@@ -69,7 +81,7 @@ public class WaitStep extends InteractionStep {
    * @return {@code float} : The percentage that the timer has completed.
    */
   public float getDrawPercent(InteractionInstance instance) {
-    return Math.min(1f, instance.elapsedTime / time);
+    return Math.min(1f, instance.getElapsedTime() / time);
   }
 
   /**
@@ -8,8 +8,10 @@ import com.undercooked.game.entity.PowerUp;
 import com.undercooked.game.entity.PowerUpType;
 import com.undercooked.game.entity.customer.Customer;
 import com.undercooked.game.food.Request;
-import com.undercooked.game.input.InputController;
 import com.undercooked.game.screen.GameScreen;
+import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
+import com.undercooked.game.util.profiler.Profiler;
 
 /**
  * The class for running the endless mode logic of the game.
@@ -27,10 +29,18 @@ public class EndlessLogic extends ScenarioLogic {
   int customerLimit;
 
   /**
-   * The time before the next {@link Customer} can spawn.
+   * The time before the next {@link Customer} can spawn, while the
+   * {@link #customerSpawnTimer} isn't scheduled.
    */
   float spawnTimer;
 
+  /**
+   * The {@link TimingWheel.Timer} for spawning the next {@link Customer}, which
+   * is only scheduled while there are fewer {@link Customer}s than the
+   * {@link #customerLimit}.
+   */
+  final TimingWheel.Timer customerSpawnTimer;
+
   /**
    * Where the {@link #spawnTimer} starts counting down from.
    */
@@ -55,6 +65,14 @@ public class EndlessLogic extends ScenarioLogic {
     customerLimit = 1;
     spawnTimerStart = 10f;
 
+    customerSpawnTimer = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer timer) {
+        spawnCustomer();
+        resetTimer();
+      }
+    });
+
     this.powerUpPool = new PowerUpType[] {
         PowerUpType.COOK_SPEED_UP,
         PowerUpType.COOK_ITEM_MAX_UP,
@@ -101,35 +119,34 @@ public class EndlessLogic extends ScenarioLogic {
   @Override
   public void update(float delta) {
 
-    // Update inputs
-    InputController.updateKeys();
-
     // Update time
     elapsedTime += delta;
 
     // Update the Stations
+    long sectionStart = Profiler.begin();
     stationController.update(delta, interactSpeedMultiplier);
+    Profiler.end(Profiler.STATIONS, sectionStart);
 
     // Update cooks.
+    sectionStart = Profiler.begin();
     cookController.update(delta);
+    Profiler.end(Profiler.COOKS, sectionStart);
 
     // Update Customers.
+    sectionStart = Profiler.begin();
     customerController.update(delta);
+    Profiler.end(Profiler.CUSTOMERS, sectionStart);
     updateCustomerLimit();
 
-
-    // Only lower spawn timer if it's not at the customer limit already
-    if (numOfCustomers < customerLimit) {
-      spawnTimer -= delta;
-      // If spawnTimer <= 0, then spawn the customer
-      if (spawnTimer <= 0) {
-        spawnCustomer();
-        resetTimer();
-      }
-    }
-
     // Update the Power Ups
+    sectionStart = Profiler.begin();
     updatePowerUps(delta);
+    Profiler.end(Profiler.POWER_UPS, sectionStart);
+
+    // Spawning Customers and Power Ups is done by the timers
+    sectionStart = Profiler.begin();
+    timers.advance(delta);
+    Profiler.end(Profiler.TIMERS, sectionStart);
 
     // Check if game is over.
     checkGameOver();
@@ -138,7 +155,7 @@ public class EndlessLogic extends ScenarioLogic {
   @Override
   protected void addEffect(PowerUpType powerUpType, PowerUp powerUp) {
     if (powerUpType == PowerUpType.CUSTOMER_SPAWN_PREVENT) {
-      spawnTimer = Math.min(spawnTimer * 1.5f, spawnTimerStart * 2);
+      setSpawnTimer(Math.min(getSpawnTimer() * 1.5f, spawnTimerStart * 2));
       removePowerUp(powerUp, false);
       return;
     }
@@ -150,6 +167,7 @@ public class EndlessLogic extends ScenarioLogic {
    * can be spawned at one time.
    */
   protected void updateCustomerLimit() {
+    int oldLimit = customerLimit;
     if (elapsedTime > 60 * 6) {
       // After 6 minutes, allow spawning 3
       customerLimit = 3;
@@ -159,6 +177,30 @@ public class EndlessLogic extends ScenarioLogic {
       // After 3 minutes, allow spawning 3
       customerLimit = 2;
     }
+    // If it changed, the spawn timer may need to start again
+    if (customerLimit != oldLimit) {
+      updateCustomerSpawning();
+    }
+  }
+
+  /**
+   * Schedules the {@link #customerSpawnTimer} if there are fewer
+   * {@link Customer}s than the {@link #customerLimit}, or cancels it and
+   * keeps the time it had left if not, so that the time is only counted
+   * down while a {@link Customer} can be spawned.
+   */
+  protected void updateCustomerSpawning() {
+    boolean canSpawn = numOfCustomers < customerLimit;
+    // If it's already right, there's nothing to do
+    if (canSpawn == customerSpawnTimer.isScheduled()) {
+      return;
+    }
+    if (canSpawn) {
+      timers.schedule(customerSpawnTimer, spawnTimer);
+      return;
+    }
+    spawnTimer = customerSpawnTimer.getRemaining();
+    customerSpawnTimer.cancel();
   }
 
   @Override
@@ -175,6 +217,7 @@ public class EndlessLogic extends ScenarioLogic {
       displayCustomer = null;
     }
     numOfCustomers -= 1;
+    updateCustomerSpawning();
   }
 
   @Override
@@ -184,6 +227,7 @@ public class EndlessLogic extends ScenarioLogic {
       Request newRequest = requests.random();
       customerController.spawnCustomer(newRequest);
       numOfCustomers += 1;
+      updateCustomerSpawning();
     }
   }
 
@@ -191,7 +235,32 @@ public class EndlessLogic extends ScenarioLogic {
    * Resets the {@link #spawnTimer} of the {@link Customer}s.
    */
   public void resetTimer() {
-    spawnTimer = spawnTimerStart;
+    setSpawnTimer(spawnTimerStart);
+  }
+
+  /**
+   * Set the time before the next {@link Customer} spawns, and reschedule
+   * the {@link #customerSpawnTimer}.
+   *
+   * @param spawnTimer {@code float} : The time before the next {@link Customer} spawns.
+   */
+  protected void setSpawnTimer(float spawnTimer) {
+    this.spawnTimer = spawnTimer;
+    customerSpawnTimer.cancel();
+    updateCustomerSpawning();
+  }
+
+  /**
+   * Returns the time before the next {@link Customer} spawns, not counting
+   * any time where it can't spawn one.
+   *
+   * @return {@code float} : The time before the next {@link Customer} spawns.
+   */
+  public float getSpawnTimer() {
+    if (customerSpawnTimer.isScheduled()) {
+      return customerSpawnTimer.getRemaining();
+    }
+    return spawnTimer;
   }
 
   @Override
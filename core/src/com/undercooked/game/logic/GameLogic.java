@@ -13,8 +13,10 @@ import com.undercooked.game.entity.customer.Customer;
 import com.undercooked.game.entity.customer.CustomerController;
 import com.undercooked.game.food.Items;
 import com.undercooked.game.food.Request;
+import com.undercooked.game.input.InputController;
 import com.undercooked.game.interactions.Interactions;
 import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapManager;
 import com.undercooked.game.render.GameRenderer;
 import com.undercooked.game.screen.GameScreen;
 import com.undercooked.game.screen.WinScreen;
@@ -23,7 +25,10 @@ import com.undercooked.game.util.CameraController;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.Listener;
 import com.undercooked.game.util.Observer;
+import com.undercooked.game.util.SaveLoadGame;
 import com.undercooked.game.util.StringUtil;
+import com.undercooked.game.util.TimingWheel;
+import com.undercooked.game.util.profiler.Profiler;
 
 /**
  * A class to extend from that indicates the logic of the
@@ -82,6 +87,74 @@ public abstract class GameLogic {
    */
   Map map;
   float elapsedTime;
+
+  /**
+   * The {@link MapManager} to load the {@link Map} with. If {@code null},
+   * the {@link GameScreen}'s {@link MapManager} is used.
+   */
+  protected MapManager mapManager;
+
+  /**
+   * Whether the game has been won or lost.
+   */
+  protected boolean gameOver;
+
+  /**
+   * The number of times the game is updated per second.
+   */
+  public static final float TICK_RATE = 120f;
+
+  /**
+   * The time between each update of the game, in seconds.
+   */
+  public static final float TICK_DELTA = 1f / TICK_RATE;
+
+  /**
+   * The most updates that can happen in one frame. If the game falls
+   * behind further than this, the extra time is dropped so that it
+   * doesn't keep getting further behind.
+   */
+  public static final int MAX_TICKS_PER_FRAME = 12;
+
+  /**
+   * The time that has passed which the game hasn't been updated for yet.
+   */
+  protected float tickAccumulator;
+
+  /**
+   * The {@link TimingWheel} for the game's timers that run at normal speed,
+   * such as spawning and despawning.
+   */
+  protected TimingWheel timers;
+
+  /**
+   * Whether the game has been paused by {@link #pause()}, and hasn't
+   * been resumed yet.
+   */
+  protected boolean paused;
+
+  /**
+   * Whether the game is updated at the fixed {@link #TICK_RATE}, or once
+   * per frame with the frame's delta.
+   */
+  protected boolean fixedTimestep = true;
+
+  /**
+   * How often, in seconds, the game is automatically saved.
+   * If it's {@code 0} or less, then the game isn't autosaved.
+   */
+  protected float autosaveInterval;
+
+  /**
+   * The time since the game was last autosaved.
+   */
+  protected float autosaveTimer;
+
+  /**
+   * Save data that was given before the game finished loading, which is
+   * loaded once it has.
+   */
+  protected JsonValue pendingSave;
   /**
    * How much reputation the player has.
    */
@@ -182,6 +255,7 @@ public abstract class GameLogic {
     this.interactions = new Interactions();
 
     this.stationController = new StationController();
+    this.timers = new TimingWheel(TICK_RATE);
 
     this.textureManager = textureManager;
     this.audioManager = audioManager;
@@ -252,6 +326,11 @@ public abstract class GameLogic {
   public void win() {
     // Stop anything that needs stopped
     stop();
+    gameOver = true;
+    // If there's no GameScreen, such as when simulating, stop here
+    if (gameScreen == null) {
+      return;
+    }
     // Get the WinScreen
     WinScreen winScreen = (WinScreen) (
             gameScreen.getScreenController().getScreen(Constants.WIN_SCREEN_ID)
@@ -275,6 +354,11 @@ public abstract class GameLogic {
   public void lose() {
     // Stop anything that needs stopped
     stop();
+    gameOver = true;
+    // If there's no GameScreen, such as when simulating, stop here
+    if (gameScreen == null) {
+      return;
+    }
     // If lost, go to loss screen
     gameScreen.getScreenController().nextScreen(Constants.LOSS_SCREEN_ID);
   }
@@ -285,9 +369,34 @@ public abstract class GameLogic {
    * @param path {@link String} of the path.
    */
   public final void loadMap(String path) {
-    map = gameScreen.getMapManager().load(path, stationController,
-                                          cookController, interactions,
-                                          items);
+    MapManager loadManager = mapManager != null ? mapManager : gameScreen.getMapManager();
+    useLoadedMap(loadManager.load(path, stationController,
+                                  cookController, interactions,
+                                  items));
+  }
+
+  /**
+   * Loads a {@link Map} from its Json, which has already been read
+   * from the path provided.
+   *
+   * @param path {@link String} of the path.
+   * @param root {@link JsonValue} : The map's formatted Json.
+   */
+  public final void loadMap(String path, JsonValue root) {
+    MapManager loadManager = mapManager != null ? mapManager : gameScreen.getMapManager();
+    useLoadedMap(loadManager.load(path, root, stationController,
+                                  cookController, interactions,
+                                  items));
+  }
+
+  /**
+   * Sets the {@link Map} that has just been loaded, adding its
+   * {@link Entity}s and the {@link Cook}s to the renderer.
+   *
+   * @param map {@link Map} : The loaded {@link Map}.
+   */
+  private void useLoadedMap(Map map) {
+    this.map = map;
     // If the map fails to load, then return that
     if (map == null) {
       return;
@@ -316,6 +425,138 @@ public abstract class GameLogic {
    */
   public abstract void update(float delta);
 
+  /**
+   * Called once per frame to update the game. The time is added to
+   * the {@link #tickAccumulator}, and then {@link #update(float)} is called
+   * with {@link #TICK_DELTA} for as many ticks as have passed, up to
+   * {@link #MAX_TICKS_PER_FRAME}.
+   * <br>
+   * This way the stations, cooks, customers and power ups are all updated
+   * with the same fixed time, no matter the frame rate.
+   *
+   * @param delta {@code float} : The time since the last frame.
+   */
+  public void tick(float delta) {
+    // If it's being ticked again after a pause, resume it
+    if (paused) {
+      resume();
+    }
+    // Update inputs once per frame, keeping any just pressed inputs
+    // which no update has seen yet.
+    long inputStart = Profiler.begin();
+    InputController.updateKeys(true);
+    Profiler.end(Profiler.INPUT, inputStart);
+    updateFrame(delta);
+    updateAutosave(delta);
+
+    // If not using a fixed timestep, just update once.
+    if (!fixedTimestep) {
+      update(delta);
+      InputController.clearJustInputs();
+      return;
+    }
+
+    tickAccumulator += delta;
+    int ticks = 0;
+    while (tickAccumulator >= TICK_DELTA && ticks < MAX_TICKS_PER_FRAME) {
+      savePositions();
+      update(TICK_DELTA);
+      tickAccumulator -= TICK_DELTA;
+      ticks++;
+      // Just pressed inputs should only be seen by one update
+      InputController.clearJustInputs();
+      // If the game is over or has moved to another screen, stop updating
+      if (gameOver
+              || gameScreen != null && !gameScreen.getScreenController().onScreen(gameScreen)) {
+        tickAccumulator = 0;
+        return;
+      }
+    }
+    // If it's still behind, drop the extra time
+    if (tickAccumulator >= TICK_DELTA) {
+      tickAccumulator = 0;
+    }
+  }
+
+  /**
+   * Save the positions of everything that moves before an update, so that
+   * they can be drawn between their positions from the last two updates.
+   */
+  protected void savePositions() {
+    cookController.savePositions();
+    customerController.savePositions();
+  }
+
+  /**
+   * Returns how far the time since the last update is between updates.
+   * The {@link com.undercooked.game.render.GameRenderer} draws everything
+   * that moves this far between their positions from the last two updates,
+   * so that they move smoothly at any frame rate.
+   *
+   * @return {@code float} : How far through the next update the game is,
+   *                         from {@code 0} to {@code 1}. It is always {@code 1}
+   *                         when not using a fixed timestep.
+   */
+  public float getInterpolationAlpha() {
+    if (!fixedTimestep) {
+      return 1f;
+    }
+    return Math.min(1f, tickAccumulator / TICK_DELTA);
+  }
+
+  /**
+   * Called once per frame by {@link #tick(float)}, before any updates, for
+   * anything that needs to be checked every frame rather than every update.
+   *
+   * @param delta {@code float} : The time since the last frame.
+   */
+  protected void updateFrame(float delta) {
+
+  }
+
+  /**
+   * Set whether the game is updated at the fixed {@link #TICK_RATE}, or once
+   * per frame.
+   *
+   * @param fixedTimestep {@code boolean} : {@code true} to use a fixed timestep,
+   *                      {@code false} to update once per frame.
+   */
+  public void setFixedTimestep(boolean fixedTimestep) {
+    this.fixedTimestep = fixedTimestep;
+    this.tickAccumulator = 0;
+  }
+
+  /**
+   * Autosaves the game if the {@link #autosaveInterval} has passed since
+   * the last autosave.
+   * <br>
+   * Autosaves only write what has changed since the last save, and are
+   * written on a background thread.
+   *
+   * @param delta {@code float} : The time since the last frame.
+   */
+  protected void updateAutosave(float delta) {
+    if (autosaveInterval <= 0 || !canSave() || gameOver) {
+      return;
+    }
+    autosaveTimer += delta;
+    if (autosaveTimer >= autosaveInterval) {
+      autosaveTimer = 0;
+      SaveLoadGame.autosave(this);
+    }
+  }
+
+  /**
+   * Set how often the game is automatically saved.
+   *
+   * @param autosaveInterval {@code float} : The time between autosaves, in seconds.
+   *                         {@code 0} or less disables autosaving.
+   */
+  public void setAutosaveInterval(float autosaveInterval) {
+    this.autosaveInterval = autosaveInterval;
+    this.autosaveTimer = 0;
+  }
+
   /**
    * The GameLogic should load the game assets in this function.
    * For example, a {@link ScenarioLogic} would only need to load the
@@ -325,6 +566,76 @@ public abstract class GameLogic {
    */
   public abstract void load();
 
+  /**
+   * Called every frame by the {@link com.undercooked.game.screen.LoadScreen}
+   * after {@link #load()}, for loading that isn't done through the
+   * {@link com.badlogic.gdx.assets.AssetManager}.
+   *
+   * @return {@code boolean} : {@code true} if it has finished loading,
+   *                           {@code false} if not.
+   */
+  public boolean updateLoad() {
+    return true;
+  }
+
+  /**
+   * Returns how much of the loading that isn't done through the
+   * {@link com.badlogic.gdx.assets.AssetManager} has been done.
+   *
+   * @return {@code float} : The progress, from {@code 0} to {@code 1}.
+   */
+  public float getLoadProgress() {
+    return 1f;
+  }
+
+  /**
+   * Returns whether the game is still loading after {@link #load()}.
+   *
+   * @return {@code boolean} : {@code true} if it is still loading,
+   *                           {@code false} if not.
+   */
+  public boolean isLoading() {
+    return false;
+  }
+
+  /**
+   * Waits for the loading started by {@link #load()} to finish, for
+   * when the game isn't loaded through the
+   * {@link com.undercooked.game.screen.LoadScreen}.
+   */
+  public void finishLoading() {
+    while (!updateLoad()) {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Loads the save data, using {@link #deserialise(JsonValue)}, once
+   * the game has finished loading.
+   *
+   * @param saveData {@link JsonValue} : The save Json.
+   */
+  public void deserialiseWhenLoaded(JsonValue saveData) {
+    if (isLoading()) {
+      pendingSave = saveData;
+      return;
+    }
+    deserialise(saveData);
+  }
+
+  /**
+   * Loads the save data given to {@link #deserialiseWhenLoaded(JsonValue)}
+   * while the game was still loading, if there was any.
+   */
+  protected void loadPendingSave() {
+    if (pendingSave == null) {
+      return;
+    }
+    JsonValue saveData = pendingSave;
+    pendingSave = null;
+    deserialise(saveData);
+  }
+
   /**
    * Should unload everything that was loaded in load.
    */
@@ -370,6 +681,41 @@ public abstract class GameLogic {
     cookController.stopMovement();
     // Stop the game, as it's paused
     stop();
+    // And stop the timers until it's resumed, even if it's still updated
+    setTimersPaused(true);
+    paused = true;
+  }
+
+  /**
+   * Called when the game is ticked again after being paused, which
+   * resumes all of the timers.
+   */
+  public void resume() {
+    setTimersPaused(false);
+    paused = false;
+  }
+
+  /**
+   * Returns whether the game has been paused by {@link #pause()},
+   * and hasn't been resumed yet.
+   *
+   * @return {@code boolean} : {@code true} if it is paused,
+   *         {@code false} if not.
+   */
+  public boolean isPaused() {
+    return paused;
+  }
+
+  /**
+   * Pause or resume all of the {@link TimingWheel}s of the game.
+   *
+   * @param paused {@code boolean} : {@code true} to pause them,
+   *               {@code false} to resume them.
+   */
+  protected void setTimersPaused(boolean paused) {
+    timers.setPaused(paused);
+    customerController.getTimers().setPaused(paused);
+    stationController.getTimers().setPaused(paused);
   }
 
   /**
@@ -391,6 +737,16 @@ public abstract class GameLogic {
     this.gameScreen = gameScreen;
   }
 
+  /**
+   * Set the {@link MapManager} that the game will load its {@link Map} with,
+   * instead of the {@link GameScreen}'s.
+   *
+   * @param mapManager {@link MapManager} : The {@link MapManager} to use.
+   */
+  public void setMapManager(MapManager mapManager) {
+    this.mapManager = mapManager;
+  }
+
   /**
    * Set the {@link StationController} that the game will use.
    *
@@ -437,6 +793,9 @@ public abstract class GameLogic {
     }
     // Reset the game
     elapsedTime = 0;
+    tickAccumulator = 0;
+    autosaveTimer = 0;
+    gameOver = false;
     reputation = startReputation;
     displayCustomer = null;
     customerController.reset();
@@ -510,6 +869,15 @@ public abstract class GameLogic {
     return customerController;
   }
 
+  /**
+   * Returns the {@link StationController} instance of the game.
+   *
+   * @return {@link StationController} : The {@link StationController} for the game.
+   */
+  public StationController getStationController() {
+    return stationController;
+  }
+
   /**
    * Returns the {@link CookController} instance of the game.
    *
@@ -597,6 +965,25 @@ public abstract class GameLogic {
     return this.difficulty;
   }
 
+  /**
+   * Returns the number of requests that have been served correctly.
+   *
+   * @return {@code int} : The number of requests served.
+   */
+  public int getRequestsComplete() {
+    return requestsComplete;
+  }
+
+  /**
+   * Returns whether the game has been won or lost.
+   *
+   * @return {@code boolean} : {@code true} if the game is over,
+   *                           {@code false} if not.
+   */
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
   /**
    * Returns the {@link GameRenderer} that the game renders using.
    *
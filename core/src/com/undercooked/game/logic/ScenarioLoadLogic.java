@@ -1,5 +1,6 @@
 package com.undercooked.game.logic;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.undercooked.game.assets.AudioManager;
@@ -23,6 +24,12 @@ import java.util.Random;
  */
 abstract class ScenarioLoadLogic extends GameLogic {
 
+  /**
+   * The {@link ScenarioPreloader} reading the scenario's files, or
+   * {@code null} if it isn't loading.
+   */
+  protected ScenarioPreloader preloader;
+
   /**
    * Constructor for the {@link ScenarioLoadLogic}.
    *
@@ -38,6 +45,57 @@ abstract class ScenarioLoadLogic extends GameLogic {
 
   @Override
   public void load() {
+    // Start reading the scenario's files on the worker threads.
+    // The rest is loaded in updateLoad once they've all been read.
+    if (preloader != null) {
+      preloader.cancel();
+    }
+    preloader = new ScenarioPreloader();
+    preloader.start(id);
+  }
+
+  @Override
+  public boolean updateLoad() {
+    // If it's not loading, then it's finished
+    if (preloader == null) {
+      return true;
+    }
+    // Wait for the worker threads to read all the files
+    if (!preloader.isFinished()) {
+      return false;
+    }
+    // Then load the scenario from what they read
+    loadScenarioAssets();
+    preloader = null;
+    // And if a save was given while loading, load that now
+    loadPendingSave();
+    return true;
+  }
+
+  @Override
+  public float getLoadProgress() {
+    return preloader == null ? 1f : preloader.getProgress();
+  }
+
+  @Override
+  public boolean isLoading() {
+    return preloader != null;
+  }
+
+  @Override
+  public void finishLoading() {
+    if (preloader != null) {
+      preloader.await();
+    }
+    super.finishLoading();
+  }
+
+  /**
+   * Loads the scenario and sets all of its assets to load through the
+   * {@link TextureManager} and {@link AudioManager}. This is called on
+   * the main thread once the scenario's files have been read.
+   */
+  protected void loadScenarioAssets() {
     // Load the Scenario
     loadScenario(id);
     // Load all the items
@@ -103,7 +161,7 @@ abstract class ScenarioLoadLogic extends GameLogic {
   @Override
   public void unload() {
     if (items != null) {
-      items.unload(gameScreen.getTextureManager());
+      items.unload(textureManager);
     }
     if (interactions != null) {
       interactions.unload();
@@ -130,7 +188,8 @@ abstract class ScenarioLoadLogic extends GameLogic {
    *                      scenario file.
    */
   protected void loadScenario(String scenarioAsset) {
-    JsonValue scenarioData = FileControl.loadJsonAsset(scenarioAsset, "scenarios");
+    JsonValue scenarioData = loadJsonAsset(scenarioAsset, ScenarioPreloader.SCENARIOS,
+                                           DefaultJson.scenarioFormat());
     if (scenarioData == null) {
       // It didn't load the scenario, so it's a failure.
       return;
@@ -139,18 +198,26 @@ abstract class ScenarioLoadLogic extends GameLogic {
     // loaded.
     unload();
 
-    // If it loaded, format it correctly
-    JsonFormat.formatJson(scenarioData, DefaultJson.scenarioFormat());
+    // Add the StationData and Items that were already created
+    if (preloader != null) {
+      preloader.addTo(stationController, items);
+    }
 
     // Try to load the map
     // If map fails to load
-    loadMap(scenarioData.getString("map_id"));
+    String mapId = scenarioData.getString("map_id");
+    loadMap(mapId, loadJsonAsset(mapId, ScenarioPreloader.MAPS, DefaultJson.mapFormat()));
 
     // Load all the Interactions
     for (JsonValue interaction : scenarioData.get("interactions")) {
-      interactions.loadInteractionAsset(interaction.asString(),
-                                        stationController, audioManager,
-                                        items);
+      JsonValue interactionRoot = loadJsonAsset(interaction.asString(),
+                                                ScenarioPreloader.INTERACTIONS,
+                                                DefaultJson.interactionFormat());
+      if (interactionRoot != null) {
+        interactions.loadInteraction(interaction.asString(), interactionRoot,
+                                     stationController, audioManager,
+                                     items);
+      }
     }
 
     // Update all the stations to use the interactions
@@ -177,6 +244,28 @@ abstract class ScenarioLoadLogic extends GameLogic {
     loadScenarioContents(scenarioData);
   }
 
+  /**
+   * Returns the formatted Json of an asset, using the one read by the
+   * {@link #preloader} if there is one, or otherwise reading it now.
+   *
+   * @param assetPath {@link String} : The asset path of the file.
+   * @param folder    {@link String} : The folder of the asset.
+   * @param format    {@link JsonObject} : The format to use if it has to be read now.
+   * @return {@link JsonValue} : The formatted Json, or {@code null} if it couldn't be read.
+   */
+  protected JsonValue loadJsonAsset(String assetPath, String folder, JsonObject format) {
+    if (assetPath == null) {
+      return null;
+    }
+    if (preloader != null) {
+      JsonValue root = preloader.getJson(assetPath, folder);
+      if (root != null) {
+        return root;
+      }
+    }
+    return JsonFormat.formatJson(FileControl.loadJsonAsset(assetPath, folder), format);
+  }
+
   /**
    * For loading scenario data from the {@link #loadScenario(String)}
    * {@link JsonValue}.
@@ -206,7 +295,7 @@ abstract class ScenarioLoadLogic extends GameLogic {
     ObjectMap<String, Request> loadedRequests = new ObjectMap<>();
 
     // Create random
-    Random rand = new Random();
+    Random rand = MathUtils.random;
 
     // Loop through all the requests
     for (JsonValue request : requestData) {
@@ -225,15 +314,15 @@ abstract class ScenarioLoadLogic extends GameLogic {
           // And then the following can be skipped
           continue;
         }
-        // If it's not loaded yet, load it.
-        thisReqData = FileControl.loadJsonAsset(request.asString(), "requests");
+        // If it's not loaded yet, load it, making sure it's
+        // formatted correctly.
+        thisReqData = loadJsonAsset(request.asString(), ScenarioPreloader.REQUESTS,
+                                    requestFormat);
         // If it's null, skip
         if (thisReqData == null) {
           continue;
         }
-        // Otherwise, make sure it's formatted correctly
-        JsonFormat.formatJson(thisReqData, requestFormat);
-        // And store the request
+        // Otherwise, store the request
         storeRequest = true;
       } else {
         // Otherwise it's just the request
@@ -1,9 +1,11 @@
 package com.undercooked.game.logic;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.Predicate;
 import com.undercooked.game.GameType;
 import com.undercooked.game.assets.AudioManager;
 import com.undercooked.game.assets.TextureManager;
@@ -14,7 +16,6 @@ import com.undercooked.game.entity.customer.Customer;
 import com.undercooked.game.entity.customer.CustomerTarget;
 import com.undercooked.game.food.Item;
 import com.undercooked.game.food.Request;
-import com.undercooked.game.input.InputController;
 import com.undercooked.game.map.Map;
 import com.undercooked.game.map.MapCell;
 import com.undercooked.game.map.MapEntity;
@@ -23,6 +24,8 @@ import com.undercooked.game.screen.GameScreen;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.Listener;
 import com.undercooked.game.util.MathUtil;
+import com.undercooked.game.util.TimingWheel;
+import com.undercooked.game.util.profiler.Profiler;
 import java.util.Random;
 
 /**
@@ -58,10 +61,17 @@ public class ScenarioLogic extends ScenarioLoadLogic {
   protected float powerUpTimerMax;
 
   /**
-   * The time left until the next {@link PowerUp} spawn.
+   * The time left until the next {@link PowerUp} spawn, while the
+   * {@link #powerUpSpawnTimer} isn't scheduled.
    */
   protected float powerUpTimer;
 
+  /**
+   * The {@link TimingWheel.Timer} for spawning the next {@link PowerUp}, which is
+   * only scheduled while there is room for another {@link PowerUp}.
+   */
+  protected final TimingWheel.Timer powerUpSpawnTimer;
+
   /**
    * The time that a {@link PowerUp} lasts before it runs out.
    */
@@ -87,6 +97,30 @@ public class ScenarioLogic extends ScenarioLoadLogic {
    */
   protected PowerUpType[] powerUpPool;
 
+  /**
+   * Excludes the {@link MapCell}s that a new {@link PowerUp} can't be
+   * spawned on, those being ones touching the current {@link Cook}
+   * or another {@link PowerUp}.
+   */
+  protected final Predicate<MapCell> powerUpCellFilter = new Predicate<MapCell>() {
+    @Override
+    public boolean evaluate(MapCell cell) {
+      Rectangle cellCollision = cell.getCellCollision();
+      // Check if cook is touching the cell
+      Cook currentCook = cookController.getCurrentCook();
+      if (currentCook != null && currentCook.isColliding(cellCollision)) {
+        return true;
+      }
+      // Check against all power ups
+      for (int i = 0; i < powerUps.size; i++) {
+        if (powerUps.get(i).isColliding(cellCollision)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  };
+
   // Power Up variables
   /**
    * The multiplier for the speed of the
@@ -149,7 +183,7 @@ public class ScenarioLogic extends ScenarioLoadLogic {
         }
         // And that it's also a register
         MapEntity targetEntity = target.getMapEntity();
-        if (targetEntity == null || !targetEntity.getId().equals(Constants.REGISTER_ID)) {
+        if (targetEntity == null || targetEntity.getIntId() != Constants.REGISTER_INT_ID) {
           return;
         }
 
@@ -183,6 +217,16 @@ public class ScenarioLogic extends ScenarioLoadLogic {
       }
     };
 
+    powerUpSpawnTimer = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer timer) {
+        // Pick the next time first, so that it's paused again if
+        // the new power up fills the last space
+        updatePowerUpTimer();
+        createNewPowerUp();
+      }
+    });
+
     this.gameType = GameType.SCENARIO;
     this.requestTarget = -1;
 
@@ -222,32 +266,44 @@ public class ScenarioLogic extends ScenarioLoadLogic {
   @Override
   public void update(float delta) {
 
-    // Update inputs
-    InputController.updateKeys();
-
     elapsedTime += delta;
 
     // Update the Stations
+    long sectionStart = Profiler.begin();
     stationController.update(delta, interactSpeedMultiplier);
+    Profiler.end(Profiler.STATIONS, sectionStart);
 
     // Update cooks.
+    sectionStart = Profiler.begin();
     cookController.update(delta);
+    Profiler.end(Profiler.COOKS, sectionStart);
 
     // Update Customers.
+    sectionStart = Profiler.begin();
     customerController.update(delta);
+    Profiler.end(Profiler.CUSTOMERS, sectionStart);
 
     // Update the Power Ups
+    sectionStart = Profiler.begin();
     updatePowerUps(delta);
+    Profiler.end(Profiler.POWER_UPS, sectionStart);
+
+    // Spawning and despawning is done by the timers
+    sectionStart = Profiler.begin();
+    timers.advance(delta);
+    Profiler.end(Profiler.TIMERS, sectionStart);
 
     // Check if game is over.
     checkGameOver();
   }
 
   /**
-   * Spawns more {@link PowerUp}s, updates all of the {@link PowerUp}s in the
-   * game,
-   * and also checks if the currently selected {@link Cook} has collected a
-   * {@link PowerUp} to get its effect.
+   * Updates all of the {@link PowerUp}s in the game, and checks if the
+   * currently selected {@link Cook} has collected a {@link PowerUp} to
+   * get its effect.
+   * <br>
+   * Spawning, despawning and running out is done by their
+   * {@link TimingWheel.Timer}s on the {@link #timers}.
    *
    * @param delta {@code float} : The time since the last frame.
    */
@@ -263,18 +319,26 @@ public class ScenarioLogic extends ScenarioLoadLogic {
         powerup.update(delta);
       }
     }
+  }
 
-    // If not currently at the max number of power ups,
-    // go to spawn one (if the timer is >= 0)
-    if (powerUpTimer >= 0) {
-      if (powerUps.size < maxPowerups) {
-        powerUpTimer -= delta;
-        if (powerUpTimer <= 0) {
-          createNewPowerUp();
-          updatePowerUpTimer();
-        }
-      }
+  /**
+   * Schedules the {@link #powerUpSpawnTimer} if there is room for another
+   * {@link PowerUp} and the {@link #powerUpTimer} is valid, or cancels it
+   * and keeps the time it had left if there isn't, so that the time is only
+   * counted down while a {@link PowerUp} can be spawned.
+   */
+  protected void updatePowerUpSpawning() {
+    boolean canSpawn = powerUpTimer >= 0 && powerUps.size < maxPowerups;
+    // If it's already right, there's nothing to do
+    if (canSpawn == powerUpSpawnTimer.isScheduled()) {
+      return;
+    }
+    if (canSpawn) {
+      timers.schedule(powerUpSpawnTimer, powerUpTimer);
+      return;
     }
+    powerUpTimer = powerUpSpawnTimer.getRemaining();
+    powerUpSpawnTimer.cancel();
   }
 
   @Override
@@ -310,6 +374,11 @@ public class ScenarioLogic extends ScenarioLoadLogic {
    * resets the {@link #powerUpTimer}.
    */
   public void resetPowerUps() {
+    // Remove all the power ups from the game
+    for (int i = powerUps.size - 1; i >= 0; i--) {
+      removePowerUp(powerUps.get(i), false);
+    }
+
     // Remove all power up effects
     for (PowerUpType powerUpType : powerUpPool) {
       removeEffect(powerUpType);
@@ -327,38 +396,7 @@ public class ScenarioLogic extends ScenarioLoadLogic {
   public void createNewPowerUp() {
     // Get a random map cell that's open (with nothing blocking, and not
     // on the same cell as the current cook or another power up)
-    Array<MapCell> openCells = map.openCells(Map.MapCellType.ANY);
-    Cook currentCook = cookController.getCurrentCook();
-    for (int i = openCells.size - 1; i >= 0; i--) {
-      MapCell thisCell = openCells.get(i);
-      Rectangle cellCollision = thisCell.getCellCollision();
-      boolean valid = true;
-      // Check if cook is touching the cell
-      if (currentCook != null) {
-        if (currentCook.isColliding(cellCollision)) {
-          valid = false;
-        }
-      }
-
-      // Check against all power ups
-      for (PowerUp powerUp : powerUps) {
-        if (powerUp.isColliding(cellCollision)) {
-          valid = false;
-        }
-      }
-
-      // If it's invalid, then remove from the array
-      if (!valid) {
-        openCells.removeIndex(i);
-      }
-      // If it's valid, then leave
-    }
-    // If there are no valid cells, then don't add a power up
-    if (openCells.isEmpty()) {
-      return;
-    }
-
-    MapCell openCell = openCells.random();
+    MapCell openCell = map.randomOpenCell(Map.MapCellType.ANY, powerUpCellFilter);
 
     // If there's no open cell, don't add a power up
     if (openCell == null) {
@@ -375,6 +413,7 @@ public class ScenarioLogic extends ScenarioLoadLogic {
     newPowerUp.setDespawnTime(powerUpDespawnTime);
     newPowerUp.setUseTimer(powerUpUseTime);
     newPowerUp.setRemoveListener(powerUpRemoveListener);
+    newPowerUp.setTimers(timers);
 
     // Then add it to the map
     newPowerUp.setX(openCell.getCollisionX() + MapManager.gridToPos(0.5f));
@@ -383,6 +422,7 @@ public class ScenarioLogic extends ScenarioLoadLogic {
     // And add it to the arrays
     gameRenderer.addEntity(newPowerUp);
     powerUps.add(newPowerUp);
+    updatePowerUpSpawning();
   }
 
   /**
@@ -536,6 +576,8 @@ public class ScenarioLogic extends ScenarioLoadLogic {
     // Remove it from the game
     gameRenderer.removeEntity(powerUp);
     powerUps.removeValue(powerUp, true);
+    powerUp.cancelTimer();
+    updatePowerUpSpawning();
 
     // Remove the effect, if it's in use, if set to true
     if (removeEffect && powerUp.isInUse()) {
@@ -545,22 +587,23 @@ public class ScenarioLogic extends ScenarioLoadLogic {
 
   /**
    * Updates the {@link #powerUpTimer} if the timer for it
-   * is valid.
+   * is valid, and then reschedules the {@link #powerUpSpawnTimer}.
    */
   public void updatePowerUpTimer() {
     // If timer max and / or min < 0 then just set to -1 and stop
     if (powerUpTimerMin < 0) {
       powerUpTimer = -1f;
-      return;
-    }
-    // If timer max <= min, then just use min
-    if (powerUpTimerMax <= powerUpTimerMin) {
+    } else if (powerUpTimerMax <= powerUpTimerMin) {
+      // If timer max <= min, then just use min
       powerUpTimer = powerUpTimerMin;
     } else {
-      Random random = new Random();
+      Random random = MathUtils.random;
       // Otherwise, randomly pick a value between the two
       powerUpTimer = random.nextFloat() * (powerUpTimerMax - powerUpTimerMin) + powerUpTimerMin;
     }
+    // Start counting down from the new time
+    powerUpSpawnTimer.cancel();
+    updatePowerUpSpawning();
   }
 
   @Override
@@ -592,7 +635,7 @@ public class ScenarioLogic extends ScenarioLoadLogic {
 
     // Loop requestTarget number of times, randomly picking out a request and adding
     // it to the requests array
-    Random random = new Random();
+    Random random = MathUtils.random;
     for (int i = 0; i < requestTarget; i++) {
       // if duplicateRequests is empty, then set requestTarget to i
       if (duplicateRequests.size == 0) {
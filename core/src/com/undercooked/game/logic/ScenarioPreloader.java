@@ -0,0 +1,379 @@
+package com.undercooked.game.logic;
+
+import com.badlogic.gdx.utils.JsonValue;
+import com.undercooked.game.files.FileControl;
+import com.undercooked.game.food.Item;
+import com.undercooked.game.food.Items;
+import com.undercooked.game.station.StationController;
+import com.undercooked.game.station.StationData;
+import com.undercooked.game.util.DefaultJson;
+import com.undercooked.game.util.json.JsonFormat;
+import com.undercooked.game.util.json.JsonObject;
+import com.undercooked.game.util.log.Log;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class that reads, parses and formats all of the Json files that a
+ * scenario uses on a pool of worker threads, so that the main thread
+ * isn't blocked while they are read.
+ * <br><br>
+ * Starting from the scenario file, each file that is read adds the files
+ * it needs (the map, stations, interactions, requests and items) to be
+ * read too, all at the same time. The {@link StationData} and {@link Item}s
+ * are created on the worker threads as well, as they only need the Json.
+ * <br><br>
+ * Once {@link #isFinished()}, the results can be used on the main thread,
+ * through {@link #getJson(String, String)} and
+ * {@link #addTo(StationController, Items)}.
+ */
+public class ScenarioPreloader {
+
+  //region Folders
+  public static final String SCENARIOS = "scenarios";
+  public static final String MAPS = "maps";
+  public static final String STATIONS = "stations";
+  public static final String INTERACTIONS = "interactions";
+  public static final String REQUESTS = "requests";
+  public static final String ITEMS = "items";
+  //endregion
+
+  /**
+   * The number of worker threads that the files are read on.
+   */
+  public static final int WORKER_COUNT =
+          Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+  /**
+   * The worker threads, which are shared by all of the {@link ScenarioPreloader}s.
+   */
+  private static ExecutorService workers;
+
+  /**
+   * The formatted Json of the scenario, map, interaction and
+   * request files, mapped by {@link #key(String, String)}.
+   */
+  private final ConcurrentHashMap<String, JsonValue> json;
+
+  /**
+   * The {@link StationData} that was created, mapped by the station id.
+   */
+  private final ConcurrentHashMap<String, StationData> stationData;
+
+  /**
+   * The {@link Item}s that were created, mapped by the item id.
+   */
+  private final ConcurrentHashMap<String, Item> items;
+
+  /**
+   * The exceptions thrown while reading files on the worker threads,
+   * mapped by {@link #key(String, String)}, so that they can be
+   * reported on the main thread.
+   */
+  private final ConcurrentHashMap<String, RuntimeException> failures;
+
+  /**
+   * The keys of all the files that have been added to be read, so that
+   * each file is only read once.
+   */
+  private final Set<String> requested;
+
+  /**
+   * The number of files that have been added to be read.
+   */
+  private final AtomicInteger submitted;
+
+  /**
+   * The number of files that have finished being read.
+   */
+  private final AtomicInteger completed;
+
+  /**
+   * Whether the loading was cancelled, in which case the files that
+   * haven't been read yet are skipped.
+   */
+  private volatile boolean cancelled;
+
+  /**
+   * Constructor for the {@link ScenarioPreloader}.
+   */
+  public ScenarioPreloader() {
+    this.json = new ConcurrentHashMap<>();
+    this.stationData = new ConcurrentHashMap<>();
+    this.items = new ConcurrentHashMap<>();
+    this.failures = new ConcurrentHashMap<>();
+    this.requested = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    this.submitted = new AtomicInteger();
+    this.completed = new AtomicInteger();
+  }
+
+  /**
+   * Start reading the scenario at the asset path provided, and all of the
+   * files that it uses.
+   *
+   * @param scenarioAsset {@link String} : The asset path to the scenario file.
+   */
+  public void start(String scenarioAsset) {
+    submit(SCENARIOS, scenarioAsset);
+  }
+
+  /**
+   * Adds a file to be read on the worker threads, if it hasn't been already.
+   *
+   * @param folder    {@link String} : The folder of the asset.
+   * @param assetPath {@link String} : The asset path of the file.
+   */
+  private void submit(final String folder, final String assetPath) {
+    if (assetPath == null || !requested.add(key(folder, assetPath))) {
+      return;
+    }
+    submitted.incrementAndGet();
+    getWorkers().execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          if (!cancelled) {
+            read(folder, assetPath);
+          }
+        } catch (RuntimeException e) {
+          // If it fails, keep it to be reported on the main thread, which
+          // will try to load it again and deal with it failing there.
+          failures.put(key(folder, assetPath), e);
+        } finally {
+          // Any files this one needs have already been submitted,
+          // so it can only be finished once those are too.
+          if (completed.incrementAndGet() == submitted.get()) {
+            synchronized (ScenarioPreloader.this) {
+              ScenarioPreloader.this.notifyAll();
+            }
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Reads and formats a file, and then adds the files that it needs
+   * to be read. This is called on a worker thread.
+   *
+   * @param folder    {@link String} : The folder of the asset.
+   * @param assetPath {@link String} : The asset path of the file.
+   */
+  private void read(String folder, String assetPath) {
+    JsonValue root = FileControl.loadJsonAsset(assetPath, folder);
+    // If it didn't load, there's nothing else to do
+    if (root == null) {
+      return;
+    }
+
+    switch (folder) {
+      case SCENARIOS:
+        JsonFormat.formatJson(root, DefaultJson.scenarioFormat());
+        submit(MAPS, root.getString("map_id"));
+        for (JsonValue interaction : root.get("interactions")) {
+          submit(INTERACTIONS, interaction.asString());
+        }
+        for (JsonValue request : root.get("requests")) {
+          // Requests can either be a path to a request, or the request
+          if (request.isString()) {
+            submit(REQUESTS, request.asString());
+          } else {
+            submit(ITEMS, request.getString("item_id", null));
+          }
+        }
+        break;
+      case MAPS:
+        JsonFormat.formatJson(root, DefaultJson.mapFormat());
+        // The map's border is made of counters
+        submit(STATIONS, "<main>:counter");
+        for (JsonValue station : root.get("stations")) {
+          submit(STATIONS, station.getString("station_id", null));
+        }
+        if (root.has("cooks")) {
+          for (JsonValue cook : root.get("cooks")) {
+            if (cook.has("items")) {
+              for (JsonValue item : cook.get("items")) {
+                submit(ITEMS, item.asString());
+              }
+            }
+          }
+        }
+        break;
+      case INTERACTIONS:
+        JsonFormat.formatJson(root, DefaultJson.interactionFormat());
+        for (JsonValue item : root.get("items")) {
+          submit(ITEMS, item.asString());
+        }
+        submit(STATIONS, root.getString("station_id"));
+        submitStepItems(root.get("steps"));
+        break;
+      case REQUESTS:
+        JsonFormat.formatJson(root, (JsonObject) DefaultJson.requestFormat(false));
+        submit(ITEMS, root.getString("item_id"));
+        break;
+      case STATIONS:
+        JsonFormat.formatJson(root, DefaultJson.stationFormat());
+        stationData.put(assetPath, StationController.createStationData(assetPath, root));
+        return;
+      case ITEMS:
+        JsonFormat.formatJson(root, DefaultJson.itemFormat());
+        items.put(assetPath, Items.createItem(assetPath, root));
+        return;
+      default:
+        return;
+    }
+    json.put(key(folder, assetPath), root);
+  }
+
+  /**
+   * Adds the {@link Item}s that the interaction steps set or give to be
+   * read, including those of their success and failure steps.
+   *
+   * @param steps {@link JsonValue} : The Json array of the steps.
+   */
+  private void submitStepItems(JsonValue steps) {
+    if (steps == null) {
+      return;
+    }
+    for (JsonValue step : steps) {
+      String type = step.getString("type", null);
+      if ("set".equals(type) || "give".equals(type)) {
+        submit(ITEMS, step.getString("value", null));
+      }
+      submitStepItems(step.get("success"));
+      submitStepItems(step.get("failure"));
+    }
+  }
+
+  /**
+   * Returns whether all of the files have been read.
+   *
+   * @return {@code boolean} : {@code true} if they have all been read,
+   *                           {@code false} if not.
+   */
+  public boolean isFinished() {
+    return completed.get() == submitted.get();
+  }
+
+  /**
+   * Returns how many of the files found so far have been read.
+   *
+   * @return {@code float} : The progress, from {@code 0} to {@code 1}.
+   */
+  public float getProgress() {
+    int total = submitted.get();
+    if (total == 0) {
+      return 1f;
+    }
+    return (float) completed.get() / total;
+  }
+
+  /**
+   * Waits until all of the files have been read.
+   */
+  public synchronized void await() {
+    while (!isFinished()) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Stop reading any files that haven't started being read yet.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Returns the formatted Json of a scenario, map, interaction or request
+   * file that was read.
+   *
+   * @param assetPath {@link String} : The asset path of the file.
+   * @param folder    {@link String} : The folder of the asset.
+   * @return {@link JsonValue} : The formatted Json, or {@code null} if it
+   *                             wasn't read.
+   */
+  public JsonValue getJson(String assetPath, String folder) {
+    if (assetPath == null) {
+      return null;
+    }
+    return json.get(key(folder, assetPath));
+  }
+
+  /**
+   * Adds the {@link StationData} and {@link Item}s that were created
+   * to the game's {@link StationController} and {@link Items}, and logs
+   * any files that failed to be read.
+   * <br>
+   * This should be called on the main thread, once {@link #isFinished()}.
+   *
+   * @param stationController {@link StationController} : The {@link StationController}
+   *                                                      to add the {@link StationData} to.
+   * @param gameItems         {@link Items} : The {@link Items} to add the {@link Item}s to.
+   */
+  public void addTo(StationController stationController, Items gameItems) {
+    for (Map.Entry<String, RuntimeException> failure : failures.entrySet()) {
+      Log.FILES.error("Couldn't preload {}.", failure.getKey(), failure.getValue());
+    }
+    for (StationData data : stationData.values()) {
+      stationController.addStationData(data);
+    }
+    for (Item item : items.values()) {
+      gameItems.addItem(item);
+    }
+  }
+
+  /**
+   * Returns the exceptions thrown while reading files on the worker threads.
+   *
+   * @return {@link Map} : The exceptions, mapped by the folder and
+   *                                 asset path of the file that failed.
+   */
+  public Map<String, RuntimeException> getFailures() {
+    return Collections.unmodifiableMap(failures);
+  }
+
+  /**
+   * Returns the key used for a file in the {@link #json} map.
+   *
+   * @param folder    {@link String} : The folder of the asset.
+   * @param assetPath {@link String} : The asset path of the file.
+   * @return {@link String} : The key of the file.
+   */
+  private static String key(String folder, String assetPath) {
+    return folder + "/" + assetPath;
+  }
+
+  /**
+   * Returns the worker threads, creating them if they haven't been yet.
+   *
+   * @return {@link ExecutorService} : The worker threads.
+   */
+  private static synchronized ExecutorService getWorkers() {
+    if (workers == null) {
+      workers = Executors.newFixedThreadPool(WORKER_COUNT, new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "Scenario Loader " + count.incrementAndGet());
+          // Don't stop the game from closing
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return workers;
+  }
+}
@@ -9,7 +9,6 @@ import com.undercooked.game.entity.cook.Cook;
 import com.undercooked.game.entity.customer.Customer;
 import com.undercooked.game.food.Item;
 import com.undercooked.game.food.Request;
-import com.undercooked.game.input.InputController;
 import com.undercooked.game.logic.tutorial.TutorialCookHoldingStep;
 import com.undercooked.game.logic.tutorial.TutorialCustomerServeStep;
 import com.undercooked.game.logic.tutorial.TutorialCustomerSpawnStep;
@@ -30,6 +29,10 @@ public class TutorialLogic extends ScenarioLoadLogic {
   private TutorialStep currentStep;
   private Array<TutorialStep> tutorialSteps;
   private Listener<TutorialStep> stepFinishListener;
+  /**
+   * Whether Enter has been pressed to skip the current step since the last update.
+   */
+  private boolean skipPressed;
 
   /**
    * Constructor for the {@link TutorialLogic}.
@@ -83,7 +86,7 @@ public class TutorialLogic extends ScenarioLoadLogic {
         }
         // And that it's also a register
         MapEntity targetEntity = target.getMapEntity();
-        if (targetEntity == null || !targetEntity.getId().equals(Constants.REGISTER_ID)) {
+        if (targetEntity == null || targetEntity.getIntId() != Constants.REGISTER_INT_ID) {
           return;
         }
 
@@ -117,10 +120,16 @@ public class TutorialLogic extends ScenarioLoadLogic {
   }
 
   @Override
-  public void update(float delta) {
+  protected void updateFrame(float delta) {
+    // Check for Enter every frame, so that it's only used once
+    // and isn't missed on frames without an update.
+    if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+      skipPressed = true;
+    }
+  }
 
-    // Update inputs
-    InputController.updateKeys();
+  @Override
+  public void update(float delta) {
 
     elapsedTime += delta;
 
@@ -134,11 +143,13 @@ public class TutorialLogic extends ScenarioLoadLogic {
       if (currentStep.canSkip()) {
         // If it is, check if Enter is pressed.
         // If it is, go to the next tutorial step
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+        if (skipPressed) {
           nextStep();
         }
       }
     }
+    // The skip has been seen by this update
+    skipPressed = false;
 
     // Update cooks.
     cookController.update(delta);
@@ -182,9 +193,9 @@ public class TutorialLogic extends ScenarioLoadLogic {
   }
 
   @Override
-  public void load() {
+  protected void loadScenarioAssets() {
     // Load the scenario
-    super.load();
+    super.loadScenarioAssets();
     // Set up the tutorial
     setupTutorial();
     // Load all the instructions
@@ -1,9 +1,9 @@
 package com.undercooked.game.logic.tutorial;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.entity.Entity;
 
@@ -18,9 +18,9 @@ public class TutorialHighlightEntityStep extends TutorialFollowEntityStep {
   protected Entity highlightEntity;
 
   /**
-   * The {@link Texture} to use to highlight the {@link Entity}.
+   * The {@link TextureRegion} to use to highlight the {@link Entity}.
    */
-  protected Texture highlightTexture;
+  protected TextureRegion highlightTexture;
 
   /**
    * Constructor for the {@link TutorialHighlightEntityStep}.
@@ -44,7 +44,7 @@ public class TutorialHighlightEntityStep extends TutorialFollowEntityStep {
   @Override
   public void postLoad(TextureManager textureManager) {
     super.postLoad(textureManager);
-    highlightTexture = textureManager.get("interactions/select_box.png");
+    highlightTexture = textureManager.getRegion("interactions/select_box.png");
   }
 
   @Override
@@ -0,0 +1,345 @@
+package com.undercooked.game.map;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import java.util.Arrays;
+
+/**
+ * A class that keeps the floor tiles of a {@link MapGrid} in a
+ * {@link SpriteCache}, so that they are only sent to the GPU when they
+ * change, rather than every frame.
+ * <br><br>
+ * The floor is split into square chunks of {@link #CHUNK_SIZE} cells,
+ * each with its own cache. When a cell's floor tile changes, only the
+ * chunk it is in is rebuilt.
+ */
+public class FloorCache {
+
+  /**
+   * The number of cells across and up of each chunk.
+   */
+  public static final int CHUNK_SIZE = 16;
+
+  /**
+   * A chunk that doesn't have a cache yet.
+   */
+  private static final int NO_CACHE = -1;
+
+  /**
+   * The {@link MapGrid} that the floor tiles are taken from.
+   */
+  private final MapGrid grid;
+
+  /**
+   * The number of chunks across.
+   */
+  private final int chunksX;
+
+  /**
+   * The number of chunks up.
+   */
+  private final int chunksY;
+
+  /**
+   * The {@link SpriteCache} of the floor, which is only created when the
+   * floor is first drawn, so that it isn't made when there is nothing to
+   * draw to.
+   */
+  private SpriteCache cache;
+
+  /**
+   * The cache id of each chunk, or {@link #NO_CACHE}.
+   */
+  private final int[] chunkCaches;
+
+  /**
+   * The number of tiles that each chunk's cache was first made with,
+   * which is the most it can be rebuilt with.
+   */
+  private final int[] chunkCapacity;
+
+  /**
+   * The number of tiles that are currently in each chunk's cache.
+   */
+  private final int[] chunkCounts;
+
+  /**
+   * Which chunks need to be rebuilt before they are next drawn.
+   */
+  private final boolean[] dirtyChunks;
+
+  /**
+   * Whether any of the {@link #dirtyChunks} are dirty.
+   */
+  private boolean dirty;
+
+  /**
+   * Whether the whole cache needs to be rebuilt.
+   */
+  private boolean rebuildAll;
+
+  /**
+   * The number of chunks rebuilt since the floor was last drawn.
+   */
+  private int chunksRebuilt;
+
+  /**
+   * The number of chunks that were rebuilt for the last draw.
+   */
+  private int lastChunksRebuilt;
+
+  /**
+   * The number of cells in the chunks that were drawn last.
+   */
+  private int visibleCells;
+
+  /**
+   * Constructor for the {@link FloorCache}.
+   *
+   * @param grid {@link MapGrid} : The {@link MapGrid} to cache the floor of.
+   */
+  public FloorCache(MapGrid grid) {
+    this.grid = grid;
+    this.chunksX = (grid.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    this.chunksY = (grid.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    int chunkCount = chunksX * chunksY;
+    this.chunkCaches = new int[chunkCount];
+    this.chunkCapacity = new int[chunkCount];
+    this.chunkCounts = new int[chunkCount];
+    this.dirtyChunks = new boolean[chunkCount];
+    Arrays.fill(chunkCaches, NO_CACHE);
+    this.rebuildAll = true;
+  }
+
+  /**
+   * Mark the chunk of a cell as needing to be rebuilt.
+   *
+   * @param index {@code int} : The index of the cell in the {@link MapGrid}.
+   */
+  public void markDirty(int index) {
+    int chunk = chunkOf(grid.getX(index), grid.getY(index));
+    dirtyChunks[chunk] = true;
+    dirty = true;
+  }
+
+  /**
+   * Mark the whole floor as needing to be rebuilt.
+   */
+  public void markAllDirty() {
+    rebuildAll = true;
+  }
+
+  /**
+   * Returns the chunk that a cell is in.
+   *
+   * @param x {@code int} : The {@code x} position of the cell.
+   * @param y {@code int} : The {@code y} position of the cell.
+   * @return {@code int} : The index of the chunk.
+   */
+  private int chunkOf(int x, int y) {
+    return (y / CHUNK_SIZE) * chunksX + (x / CHUNK_SIZE);
+  }
+
+  /**
+   * Rebuild any parts of the cache that have changed since it was
+   * last drawn.
+   */
+  private void update() {
+    if (cache == null) {
+      // There can't be more tiles than there are cells. Indices aren't
+      // used, as they limit the cache to 8191 tiles.
+      cache = new SpriteCache(Math.max(1, grid.size()), false);
+      rebuildAll = true;
+    }
+    if (rebuildAll) {
+      cache.clear();
+      for (int chunk = 0; chunk < chunkCaches.length; chunk++) {
+        cache.beginCache();
+        int count = addChunk(chunk);
+        chunkCaches[chunk] = cache.endCache();
+        chunkCapacity[chunk] = count;
+        chunkCounts[chunk] = count;
+        dirtyChunks[chunk] = false;
+      }
+      chunksRebuilt += chunkCaches.length;
+      rebuildAll = false;
+      dirty = false;
+      return;
+    }
+    if (!dirty) {
+      return;
+    }
+    for (int chunk = 0; chunk < chunkCaches.length; chunk++) {
+      if (!dirtyChunks[chunk]) {
+        continue;
+      }
+      // A cache can't be rebuilt with more tiles than it was made with,
+      // so if it now has more, everything has to be rebuilt.
+      if (countChunk(chunk) > chunkCapacity[chunk]) {
+        rebuildAll = true;
+        update();
+        return;
+      }
+      cache.beginCache(chunkCaches[chunk]);
+      chunkCounts[chunk] = addChunk(chunk);
+      cache.endCache();
+      dirtyChunks[chunk] = false;
+      chunksRebuilt++;
+    }
+    dirty = false;
+  }
+
+  /**
+   * Add the floor tiles of a chunk to the cache currently being built.
+   *
+   * @param chunk {@code int} : The index of the chunk.
+   * @return {@code int} : The number of tiles added.
+   */
+  private int addChunk(int chunk) {
+    int startX = (chunk % chunksX) * CHUNK_SIZE;
+    int startY = (chunk / chunksX) * CHUNK_SIZE;
+    int endX = Math.min(startX + CHUNK_SIZE, grid.getWidth());
+    int endY = Math.min(startY + CHUNK_SIZE, grid.getHeight());
+    float size = MapManager.gridToPos(1);
+    int count = 0;
+    for (int y = startY; y < endY; y++) {
+      for (int x = startX; x < endX; x++) {
+        TextureRegion floor = grid.getFloorRegion(grid.index(x, y));
+        if (floor != null) {
+          cache.add(floor, MapManager.gridToPos(x), MapManager.gridToPos(y), size, size);
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of floor tiles that a chunk has.
+   *
+   * @param chunk {@code int} : The index of the chunk.
+   * @return {@code int} : The number of tiles.
+   */
+  private int countChunk(int chunk) {
+    int startX = (chunk % chunksX) * CHUNK_SIZE;
+    int startY = (chunk / chunksX) * CHUNK_SIZE;
+    int endX = Math.min(startX + CHUNK_SIZE, grid.getWidth());
+    int endY = Math.min(startY + CHUNK_SIZE, grid.getHeight());
+    int count = 0;
+    for (int y = startY; y < endY; y++) {
+      for (int x = startX; x < endX; x++) {
+        if (grid.getFloorRegion(grid.index(x, y)) != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Draw the floor, rebuilding any chunks that have changed first.
+   *
+   * @param projection {@link Matrix4} : The projection matrix to draw with.
+   * @return {@code int} : The number of render calls that were made.
+   */
+  public int draw(Matrix4 projection) {
+    return draw(projection, null);
+  }
+
+  /**
+   * Draw the chunks of the floor that are inside of the view, rebuilding
+   * any chunks that have changed first.
+   *
+   * @param projection {@link Matrix4} : The projection matrix to draw with.
+   * @param view       {@link Rectangle} : The area to draw, or {@code null}
+   *                   to draw all of it.
+   * @return {@code int} : The number of render calls that were made.
+   */
+  public int draw(Matrix4 projection, Rectangle view) {
+    update();
+    // Find the range of chunks that the view covers
+    int minX = 0;
+    int minY = 0;
+    int maxX = chunksX - 1;
+    int maxY = chunksY - 1;
+    if (view != null) {
+      int chunkPixels = (int) MapManager.gridToPos(CHUNK_SIZE);
+      minX = Math.max(minX, (int) Math.floor(view.x / chunkPixels));
+      minY = Math.max(minY, (int) Math.floor(view.y / chunkPixels));
+      maxX = Math.min(maxX, (int) Math.floor((view.x + view.width) / chunkPixels));
+      maxY = Math.min(maxY, (int) Math.floor((view.y + view.height) / chunkPixels));
+    }
+
+    visibleCells = 0;
+    cache.setProjectionMatrix(projection);
+    cache.begin();
+    for (int chunkY = minY; chunkY <= maxY; chunkY++) {
+      for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+        int chunk = chunkY * chunksX + chunkX;
+        visibleCells += chunkCellCount(chunk);
+        if (chunkCounts[chunk] > 0) {
+          cache.draw(chunkCaches[chunk]);
+        }
+      }
+    }
+    cache.end();
+    lastChunksRebuilt = chunksRebuilt;
+    chunksRebuilt = 0;
+    return cache.renderCalls;
+  }
+
+  /**
+   * Returns the number of cells in a chunk, which is less than
+   * {@link #CHUNK_SIZE} squared at the edges of the {@link MapGrid}.
+   *
+   * @param chunk {@code int} : The index of the chunk.
+   * @return {@code int} : The number of cells.
+   */
+  private int chunkCellCount(int chunk) {
+    int startX = (chunk % chunksX) * CHUNK_SIZE;
+    int startY = (chunk / chunksX) * CHUNK_SIZE;
+    return (Math.min(startX + CHUNK_SIZE, grid.getWidth()) - startX)
+            * (Math.min(startY + CHUNK_SIZE, grid.getHeight()) - startY);
+  }
+
+  /**
+   * Returns the number of cells in the chunks that were drawn last.
+   *
+   * @return {@code int} : The number of cells drawn.
+   */
+  public int getVisibleCells() {
+    return visibleCells;
+  }
+
+  /**
+   * Returns the number of chunks that were rebuilt for the last draw.
+   *
+   * @return {@code int} : The number of chunks rebuilt.
+   */
+  public int getChunksRebuilt() {
+    return lastChunksRebuilt;
+  }
+
+  /**
+   * Returns the number of chunks that the floor is split into.
+   *
+   * @return {@code int} : The number of chunks.
+   */
+  public int getChunkCount() {
+    return chunkCaches.length;
+  }
+
+  /**
+   * Dispose of the {@link SpriteCache}, if it was made.
+   */
+  public void dispose() {
+    if (cache != null) {
+      cache.dispose();
+      cache = null;
+    }
+    Arrays.fill(chunkCaches, NO_CACHE);
+    rebuildAll = true;
+  }
+}
@@ -0,0 +1,105 @@
+package com.undercooked.game.map;
+
+import java.util.Arrays;
+
+/**
+ * A flow field towards a target on a {@link NavigationGrid}, which stores,
+ * for every cell, which cell to step to next to get closer to the target.
+ * <br><br>
+ * Once it is built, any number of agents can ask for their next step
+ * in constant time, without searching for a path themselves.
+ */
+public class FlowField {
+
+  /**
+   * The value used for cells that can't reach the target.
+   */
+  public static final int UNREACHABLE = -1;
+
+  /**
+   * The next cell to step to from each cell, or {@link #UNREACHABLE}.
+   * <br>
+   * The cells that the target can be reached from point to themselves.
+   */
+  final int[] next;
+
+  /**
+   * The number of steps from each cell to the target, or {@link #UNREACHABLE}.
+   */
+  final int[] distance;
+
+  /**
+   * The {@link MapEntity} that this {@link FlowField} leads to.
+   */
+  MapEntity target;
+
+  /**
+   * Constructor for the {@link FlowField}.
+   *
+   * @param size {@code int} : The number of cells in the {@link MapGrid}.
+   */
+  FlowField(int size) {
+    this.next = new int[size];
+    this.distance = new int[size];
+    clear();
+  }
+
+  /**
+   * Set every cell as unreachable.
+   */
+  void clear() {
+    Arrays.fill(next, UNREACHABLE);
+    Arrays.fill(distance, UNREACHABLE);
+    target = null;
+  }
+
+  /**
+   * Returns the next cell to step to from a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code int} : The index of the next cell, the same index if it's
+   *                       already next to the target, or {@link #UNREACHABLE}.
+   */
+  public int getNext(int index) {
+    return next[index];
+  }
+
+  /**
+   * Returns the number of steps from a cell to the target.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code int} : The number of steps, or {@link #UNREACHABLE}.
+   */
+  public int getDistance(int index) {
+    return distance[index];
+  }
+
+  /**
+   * Returns whether the target can be reached from a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it can, {@code false} if not.
+   */
+  public boolean isReachable(int index) {
+    return distance[index] != UNREACHABLE;
+  }
+
+  /**
+   * Returns whether a cell is one that the target can be interacted with from.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it is, {@code false} if not.
+   */
+  public boolean isGoal(int index) {
+    return distance[index] == 0;
+  }
+
+  /**
+   * Returns the {@link MapEntity} that this {@link FlowField} leads to.
+   *
+   * @return {@link MapEntity} : The target.
+   */
+  public MapEntity getTarget() {
+    return target;
+  }
+}
@@ -2,23 +2,54 @@ package com.undercooked.game.map;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Predicate;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.entity.Entity;
 import com.undercooked.game.util.Constants;
-import com.undercooked.game.util.MathUtil;
-import java.awt.Point;
 
 /**
  * The class for the map of the game.
  */
 public class Map {
   /**
-   * A 2 dimensional {@link Array} of {@link MapCell}s.
+   * The data of all the cells of the full map, stored in flat arrays.
    */
-  private final Array<Array<MapCell>> map;
+  private final MapGrid grid;
+
+  /**
+   * The {@link FloorCache} of the floor tiles of the {@link #grid}.
+   */
+  private final FloorCache floorCache;
+
+  /**
+   * Whether the floor is drawn using the {@link #floorCache} or not.
+   */
+  private boolean floorCached = true;
+
+  /**
+   * The number of cells that were inside of the view the last time
+   * the floor was drawn.
+   */
+  private int visibleCells;
+
+  /**
+   * The {@link NavigationGrid} of the {@link Map}, which is only made
+   * when it's first needed.
+   */
+  private NavigationGrid navigation;
+
+  /**
+   * The {@link Predicate} used to exclude cells outside of the range when
+   * picking a random open cell, which is reused to avoid making a new one
+   * each time.
+   */
+  private final RangeFilter rangeFilter = new RangeFilter();
 
   /**
    * The width of the play area.
@@ -79,13 +110,15 @@ public class Map {
    * @param fullHeight {@code float} : The full height of the {@link Map}.
    */
   public Map(int width, int height, int fullWidth, int fullHeight) {
-    map = new Array<>();
     this.width = width;
     this.height = height;
     this.fullWidth = fullWidth;
     this.fullHeight = fullHeight;
     this.outOfBounds.setX(-fullWidth - 1);
     this.outOfBounds.setY(-fullHeight - 1);
+    this.grid = new MapGrid(fullWidth, fullHeight);
+    this.floorCache = new FloorCache(grid);
+    this.grid.setFloorCache(floorCache);
     // Initialise the map,
     init();
   }
@@ -94,19 +127,10 @@ public class Map {
    * Initialization of the {@link Map}.
    */
   private void init() {
-    // Clear the array
-    map.clear();
-    // Load all the values
-    for (int x = 0; x < fullWidth; x++) {
-      Array<MapCell> thisCol = new Array<>();
-      map.add(thisCol);
-      for (int y = 0; y < fullHeight; y++) {
-        MapCell newCell = new MapCell();
-        thisCol.add(newCell);
-        resetCell(newCell);
-        newCell.setX(x);
-        newCell.setY(y);
-      }
+    // Reset all the cells. The MapCells themselves are only
+    // made when they are asked for.
+    for (int index = 0; index < grid.size(); index++) {
+      grid.reset(index, Constants.DEFAULT_FLOOR_TILE);
     }
   }
 
@@ -117,9 +141,8 @@ public class Map {
    * @param y {@code int} : The {@code y} position of the {@link MapCell}.
    */
   public void resetCell(int x, int y) {
-    MapCell cell = getCellFull(x, y);
-    if (cell != null) {
-      resetCell(cell);
+    if (validCellFull(x, y)) {
+      grid.reset(grid.index(x, y), Constants.DEFAULT_FLOOR_TILE);
     }
   }
 
@@ -136,6 +159,17 @@ public class Map {
     cell.setBelowTile(Constants.DEFAULT_FLOOR_TILE);
   }
 
+  /**
+   * Returns the index of a position on the full map in the {@link #grid}.
+   *
+   * @param x {@code int} : The {@code x} position.
+   * @param y {@code int} : The {@code y} position.
+   * @return {@code int} : The index of the position.
+   */
+  private int cellIndex(int x, int y) {
+    return grid.index(x, y);
+  }
+
   /**
    * Returns whether a position is a valid cell on the full map or not.
    *
@@ -209,7 +243,7 @@ public class Map {
     }
 
     // If it's a valid cell, then return the cell
-    return map.get(x).get(y);
+    return grid.getCell(cellIndex(x, y));
   }
 
   /**
@@ -281,23 +315,20 @@ public class Map {
    *                          {@code False} if it was not.
    */
   public boolean removeEntity(MapEntity entity) {
-    boolean found = false;
-    MapCell cornerCell = null;
-    // Loop through all cells, left to right, bottom to top
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        MapCell thisCell = getCellFull(x, y);
-        // If the current cell isn't empty.
-        if (thisCell != null) {
-          // Check if the entity in this cell == entity.
-          // If it does, then set that cell to null
-          if (thisCell.mapEntity == entity) {
-            resetCell(x, y);
-          }
-        }
-      }
+    if (entity == null) {
+      return false;
     }
-    return found;
+    IntArray cells = grid.getEntityCells(entity);
+    // If it has no cells, then it's not on the map
+    if (cells == null) {
+      return false;
+    }
+    // Reset all of its cells. Resetting removes the cell from the
+    // array, so go from the end.
+    while (cells.size > 0) {
+      grid.reset(cells.peek(), Constants.DEFAULT_FLOOR_TILE);
+    }
+    return true;
   }
 
   /**
@@ -402,8 +433,8 @@ public class Map {
               cellBelow.getMapEntity().setTexture(entity.basePath);
             } else {
               // Add entity to removed entities, if it's not there already
-              if (!removedEntities.contains(cellBelow.mapEntity, true)) {
-                removedEntities.add(cellBelow.mapEntity);
+              if (!removedEntities.contains(cellBelow.getMapEntity(), true)) {
+                removedEntities.add(cellBelow.getMapEntity());
               }
               // If it doesn't have a base path, remove the base
               resetCell(cellBelow);
@@ -489,15 +520,37 @@ public class Map {
    *                           matches the {@code mapCellType} condition.
    */
   public MapCell randomOpenCellRange(int x, int y, int width, int height, MapCellType mapCellType) {
-    // Make an array of open cells
-    Array<MapCell> openCells = openCellsRangeFull(x, y, width, height, mapCellType);
-    // If the array is empty, return nothing
-    if (openCells.size == 0) {
+    return randomOpenCellRange(x, y, width, height, mapCellType, null);
+  }
+
+  /**
+   * Randomly gets a cell in the range provided, given that it's NOT of the type
+   * {@code mapCellType}, and isn't excluded.
+   * <br><br>
+   * This picks from the {@link OpenCellSet} of the {@code mapCellType}, which
+   * is kept up to date as the {@link Map} changes, so it doesn't need to
+   * go through the whole range.
+   *
+   * @param x           {@code int} : Left-most x
+   * @param y           {@code int} : Bottom-most x
+   * @param width       {@code int} : The width
+   * @param height      {@code int} : The height
+   * @param mapCellType {@code int} : The {@link MapCellType} to ignore.
+   * @param exclude     {@link Predicate}&lt;{@link MapCell}&gt; : Returns {@code true}
+   *                    for cells that can't be picked, or {@code null}.
+   * @return {@link MapCell} : A random {@link MapCell} in the range provided that
+   *                           matches the conditions, or {@code null} if there isn't one.
+   */
+  public MapCell randomOpenCellRange(int x, int y, int width, int height,
+                                     MapCellType mapCellType, Predicate<MapCell> exclude) {
+    rangeFilter.set(x, y, width, height, exclude);
+    int index = grid.getOpenCells(mapCellType).random(grid, rangeFilter);
+    // Don't keep hold of the exclude predicate
+    rangeFilter.exclude = null;
+    if (index < 0) {
       return null;
     }
-
-    // Otherwise return a random cell
-    return openCells.random();
+    return grid.getCell(index);
   }
 
   /**
@@ -517,7 +570,21 @@ public class Map {
    * @return {@link MapCell} : The random {@link MapCell}.
    */
   public MapCell randomOpenCell(MapCellType mapCellType) {
-    return randomOpenCellRange(offsetX, offsetY, width - 1, height - 1, mapCellType);
+    return randomOpenCell(mapCellType, null);
+  }
+
+  /**
+   * Get any random open cell from the play area that doesn't
+   * match the {@link MapCellType}, and isn't excluded.
+   *
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to ignore.
+   * @param exclude     {@link Predicate}&lt;{@link MapCell}&gt; : Returns {@code true}
+   *                    for cells that can't be picked, or {@code null}.
+   * @return {@link MapCell} : The random {@link MapCell}, or {@code null} if there isn't one.
+   */
+  public MapCell randomOpenCell(MapCellType mapCellType, Predicate<MapCell> exclude) {
+    // The same range as openCells
+    return randomOpenCellRange(offsetX, offsetY, width - 1, height - 1, mapCellType, exclude);
   }
 
   /**
@@ -537,7 +604,31 @@ public class Map {
    * @return {@link MapCell} : The random {@link MapCell}.
    */
   public MapCell randomOpenCellFull(MapCellType mapCellType) {
-    return randomOpenCellRange(0, 0, fullWidth, fullHeight, mapCellType);
+    return randomOpenCellFull(mapCellType, null);
+  }
+
+  /**
+   * Get any random open cell from the full map that doesn't
+   * match the {@link MapCellType}, and isn't excluded.
+   *
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to ignore.
+   * @param exclude     {@link Predicate}&lt;{@link MapCell}&gt; : Returns {@code true}
+   *                    for cells that can't be picked, or {@code null}.
+   * @return {@link MapCell} : The random {@link MapCell}, or {@code null} if there isn't one.
+   */
+  public MapCell randomOpenCellFull(MapCellType mapCellType, Predicate<MapCell> exclude) {
+    return randomOpenCellRange(0, 0, fullWidth, fullHeight, mapCellType, exclude);
+  }
+
+  /**
+   * Returns the number of cells on the full map that don't match
+   * the {@link MapCellType}.
+   *
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to ignore.
+   * @return {@code int} : The number of open cells.
+   */
+  public int openCellCount(MapCellType mapCellType) {
+    return grid.getOpenCells(mapCellType).size();
   }
 
   /**
@@ -600,35 +691,95 @@ public class Map {
     Array<MapCell> openCells = new Array<>();
     // Loop through the locations, and add them to the array if they're open cells
     // (Those being cells with no collision)
+    // Only the flags are checked, so that the MapCells are only
+    // needed for the open cells.
     for (int i = x; i < x + width; i++) {
       for (int j = y; j < y + height; j++) {
-        MapCell thisCell = getCellFull(i, j);
+        boolean open;
+        if (validCellFull(i, j)) {
+          int index = cellIndex(i, j);
+          switch (mapCellType) {
+            case COLLIDABLE:
+              open = !grid.isCollidable(index);
+              break;
+            case INTERACTABLE:
+              open = !grid.isInteractable(index);
+              break;
+            case ANY:
+              open = grid.isEmpty(index);
+              break;
+            default:
+              open = true;
+              break;
+          }
+          if (open) {
+            openCells.add(grid.getCell(index));
+          }
+          continue;
+        }
         switch (mapCellType) {
           case COLLIDABLE:
-            if (!thisCell.isCollidable()) {
-              openCells.add(thisCell);
-            }
+            open = !outOfBounds.isCollidable();
             break;
           case INTERACTABLE:
-            if (!thisCell.isInteractable()) {
-              openCells.add(thisCell);
-            }
+            open = !outOfBounds.isInteractable();
             break;
           case ANY:
-            if (!thisCell.isCollidable() && !thisCell.isInteractable() && !thisCell.isBase()) {
-              openCells.add(thisCell);
-            }
+            open = !outOfBounds.isCollidable() && !outOfBounds.isInteractable()
+                    && !outOfBounds.isBase();
             break;
           default:
-            openCells.add(thisCell);
+            open = true;
             break;
         }
+        if (open) {
+          openCells.add(outOfBounds);
+        }
       }
     }
     // Return the array
     return openCells;
   }
 
+  /**
+   * A {@link Predicate} that excludes the {@link MapCell}s outside of a range,
+   * along with any that another {@link Predicate} excludes.
+   */
+  private static class RangeFilter implements Predicate<MapCell> {
+    int x;
+    int y;
+    int width;
+    int height;
+    Predicate<MapCell> exclude;
+
+    /**
+     * Set the range and the other {@link Predicate}.
+     *
+     * @param x       {@code int} : Left-most x
+     * @param y       {@code int} : Bottom-most y
+     * @param width   {@code int} : The width
+     * @param height  {@code int} : The height
+     * @param exclude {@link Predicate}&lt;{@link MapCell}&gt; : The other
+     *                {@link Predicate}, or {@code null}.
+     */
+    void set(int x, int y, int width, int height, Predicate<MapCell> exclude) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+      this.exclude = exclude;
+    }
+
+    @Override
+    public boolean evaluate(MapCell cell) {
+      if (cell.getX() < x || cell.getX() >= x + width
+              || cell.getY() < y || cell.getY() >= y + height) {
+        return true;
+      }
+      return exclude != null && exclude.evaluate(cell);
+    }
+  }
+
   /**
    * The different types of cells on the map.
    */
@@ -662,17 +813,42 @@ public class Map {
    * @return {@link MapCell} : The {@link MapCell} found, or {@code null} if none found.
    */
   public MapCell getCollision(Rectangle collision, boolean returnClosest, MapCellType mapCellType) {
+    return getCollision(collision.x, collision.y, collision.width, collision.height,
+            returnClosest, mapCellType);
+  }
+
+  /**
+   * Returns the {@link MapCell} that a rectangle at the position and size
+   * provided is overlapping.
+   * <br><br>
+   * This does not allocate anything, so it is safe to call as many times
+   * as needed every frame. It reads the {@link MapGrid} rather than
+   * going through the {@link MapCell}s themselves.
+   *
+   * @param rectX         {@code float} : The {@code x} of the rectangle.
+   * @param rectY         {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth     {@code float} : The width of the rectangle.
+   * @param rectHeight    {@code float} : The height of the rectangle.
+   * @param returnClosest {@code boolean} : If {@code true}, return the closest {@link MapCell}
+   *                      to the rectangle,
+   *                      otherwise just return the first {@link MapCell} found,
+   *                      if any.
+   * @param mapCellType   {@link MapCellType} : The {@link MapCellType} to check collision for.
+   * @return {@link MapCell} : The {@link MapCell} found, or {@code null} if none found.
+   */
+  public MapCell getCollision(float rectX, float rectY, float rectWidth, float rectHeight,
+                              boolean returnClosest, MapCellType mapCellType) {
     // Get the range of cell X to cellY
-    int cellX = MapManager.posToGridFloor(collision.x);
-    int cellMaxX = MapManager.posToGridFloor(collision.x + collision.width);
+    int cellX = MapManager.posToGridFloor(rectX);
+    int cellMaxX = MapManager.posToGridFloor(rectX + rectWidth);
 
-    int cellY = MapManager.posToGridFloor(collision.y);
-    int cellMaxY = MapManager.posToGridFloor(collision.y + collision.height);
+    int cellY = MapManager.posToGridFloor(rectY);
+    int cellMaxY = MapManager.posToGridFloor(rectY + rectHeight);
 
-    Array<Point> validCells = null;
-    if (returnClosest) {
-      validCells = new Array();
-    }
+    // The closest cell found so far, and the distance to it.
+    // The distance is kept squared, as it's only used for comparing.
+    MapCell closestCell = null;
+    double closestDist = 0;
 
     // Loop through all the cells in the range
     for (int x = cellX; x <= cellMaxX; x++) {
@@ -683,87 +859,320 @@ public class Map {
           if (!returnClosest) {
             return outOfBounds;
           }
-          validCells.add(new Point(-width, -height));
-        }
-
-        // Get the cell.
-        MapCell cell = getCellFull(x, y);
-        if (cell == null) {
+          // Otherwise it's a possible closest cell
+          double dist = distanceSquared(rectX, rectY, rectWidth, rectHeight,
+                  outOfBounds.getCollision());
+          if (closestCell == null || dist < closestDist) {
+            closestCell = outOfBounds;
+            closestDist = dist;
+          }
           continue;
         }
+
+        int index = cellIndex(x, y);
+        MapEntity entity = grid.getEntity(index);
         // Make sure it has a map entity
-        if (cell.mapEntity == null) {
+        if (entity == null) {
           continue;
         }
-        switch (mapCellType) {
-          case COLLIDABLE:
-            // If it's not a collidable, then skip
-            if (!cell.isCollidable()) {
-              continue;
-            }
-            // If they're not colliding, then skip
-            if (!cell.mapEntity.isColliding(collision)) {
-              continue;
-            }
-            break;
-          case INTERACTABLE:
-            // If it's not an interactable, then skip.
-            if (!cell.isInteractable()) {
-              continue;
-            }
-            // If they're not interacting, then skip
-            if (!cell.mapEntity.isInteracting(collision)) {
-              continue;
-            }
-            break;
-          default:
-            break;
+        Rectangle entityRect = entity.collision;
+        // Skip it if it's not the right type, or they're not overlapping
+        if (!cellOverlaps(index, entity, mapCellType, rectX, rectY, rectWidth, rectHeight)) {
+          continue;
         }
         // Otherwise, if the above succeeds, return the MapCell
         if (!returnClosest) {
-          return cell;
+          return grid.getCell(index);
+        }
+        // Or check if it's closer than the current closest
+        double dist = distanceSquared(rectX, rectY, rectWidth, rectHeight, entityRect);
+        if (closestCell == null || dist < closestDist) {
+          closestCell = grid.getCell(index);
+          closestDist = dist;
         }
-        validCells.add(new Point(x, y));
       }
     }
 
-    // If requested to return the closest...
-    if (returnClosest) {
-      // If there are none found, then return null.
-      if (validCells.size == 0) {
-        return null;
-      }
-      // If there's only one, return that
-      if (validCells.size == 1) {
-        return getCellFull(validCells.get(0).x, validCells.get(0).y);
-      }
+    // Return the closest cell, or null if there was none.
+    return closestCell;
+  }
 
-      // Go through the points in the array, and find the closest one.
-      Point firstPoint = validCells.get(0);
-      MapCell closestCell = getCellFull(firstPoint.x, firstPoint.y, true);
+  /**
+   * Returns the {@link MapCell} that a rectangle at the position and size
+   * provided is overlapping, and sets a caller-supplied {@link Rectangle} to
+   * the box that it overlaps: the collision for {@link MapCellType#COLLIDABLE}
+   * and {@link MapCellType#ANY}, or the interact box for
+   * {@link MapCellType#INTERACTABLE}.
+   * <br><br>
+   * The {@link Rectangle} should be kept and reused by the caller, so that
+   * this doesn't allocate anything.
+   *
+   * @param rectX         {@code float} : The {@code x} of the rectangle.
+   * @param rectY         {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth     {@code float} : The width of the rectangle.
+   * @param rectHeight    {@code float} : The height of the rectangle.
+   * @param returnClosest {@code boolean} : If {@code true}, return the closest {@link MapCell},
+   *                      otherwise just return the first {@link MapCell} found.
+   * @param mapCellType   {@link MapCellType} : The {@link MapCellType} to check collision for.
+   * @param out           {@link Rectangle} : The {@link Rectangle} to set to the box found.
+   *                      It is left as it is if no {@link MapCell} is found.
+   * @return {@link MapCell} : The {@link MapCell} found, or {@code null} if none found.
+   */
+  public MapCell getCollision(float rectX, float rectY, float rectWidth, float rectHeight,
+                              boolean returnClosest, MapCellType mapCellType, Rectangle out) {
+    MapCell cell = getCollision(rectX, rectY, rectWidth, rectHeight, returnClosest, mapCellType);
+    if (cell == null) {
+      return null;
+    }
+    if (cell == outOfBounds || cell.getMapEntity() == null) {
+      out.set(cell.getCollision());
+    } else if (mapCellType == MapCellType.INTERACTABLE) {
+      out.set(cell.getMapEntity().getInteractBox());
+    } else {
+      out.set(cell.getMapEntity().collision);
+    }
+    return cell;
+  }
 
-      double closestDist = MathUtil.distanceBetweenRectangles(collision,
-              closestCell.getCollision());
+  /**
+   * Finds every {@link MapCell} that a rectangle at the position and size
+   * provided is overlapping, and adds them to a caller-supplied {@link Array},
+   * which is cleared first. A {@link MapCell} that takes up more than one cell
+   * of the {@link Map} is only added once.
+   * <br><br>
+   * The {@link Array} should be kept and reused by the caller, so that
+   * this doesn't allocate anything once it has grown large enough.
+   *
+   * @param rectX       {@code float} : The {@code x} of the rectangle.
+   * @param rectY       {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth   {@code float} : The width of the rectangle.
+   * @param rectHeight  {@code float} : The height of the rectangle.
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to check collision for.
+   * @param out         {@link Array}&lt;{@link MapCell}&gt; : The {@link Array} to add
+   *                    the {@link MapCell}s to.
+   * @return {@code int} : The number of {@link MapCell}s found.
+   */
+  public int getCollisions(float rectX, float rectY, float rectWidth, float rectHeight,
+                           MapCellType mapCellType, Array<MapCell> out) {
+    out.clear();
+    int cellX = MapManager.posToGridFloor(rectX);
+    int cellMaxX = MapManager.posToGridFloor(rectX + rectWidth);
+    int cellY = MapManager.posToGridFloor(rectY);
+    int cellMaxY = MapManager.posToGridFloor(rectY + rectHeight);
 
-      for (int i = 1; i < validCells.size; i++) {
-        Point currentPoint = validCells.get(i);
-        MapCell currentCell = getCellFull(currentPoint.x, currentPoint.y, true);
+    for (int x = cellX; x <= cellMaxX; x++) {
+      for (int y = cellY; y <= cellMaxY; y++) {
+        MapCell cell;
+        if (!validCellFull(x, y)) {
+          // Outside of the map only counts as a collision
+          if (mapCellType != MapCellType.COLLIDABLE) {
+            continue;
+          }
+          cell = outOfBounds;
+        } else {
+          int index = cellIndex(x, y);
+          MapEntity entity = grid.getEntity(index);
+          if (entity == null
+                  || !cellOverlaps(index, entity, mapCellType,
+                          rectX, rectY, rectWidth, rectHeight)) {
+            continue;
+          }
+          cell = grid.getCell(index);
+        }
+        if (!out.contains(cell, true)) {
+          out.add(cell);
+        }
+      }
+    }
+    return out.size;
+  }
 
-        double currentDist = MathUtil.distanceBetweenRectangles(collision,
-                currentCell.getCollision());
+  /**
+   * Returns whether the cell at an index is of the {@link MapCellType},
+   * and its {@link MapEntity} overlaps a rectangle at the position and size provided.
+   *
+   * @param index       {@code int} : The index of the cell.
+   * @param entity      {@link MapEntity} : The {@link MapEntity} of the cell.
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to check for.
+   * @param rectX       {@code float} : The {@code x} of the rectangle.
+   * @param rectY       {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth   {@code float} : The width of the rectangle.
+   * @param rectHeight  {@code float} : The height of the rectangle.
+   * @return {@code boolean} : {@code true} if it does,
+   *                           {@code false} if not.
+   */
+  private boolean cellOverlaps(int index, MapEntity entity, MapCellType mapCellType,
+                               float rectX, float rectY, float rectWidth, float rectHeight) {
+    switch (mapCellType) {
+      case COLLIDABLE:
+        return grid.isCollidable(index)
+                && overlaps(entity.collision, rectX, rectY, rectWidth, rectHeight);
+      case INTERACTABLE:
+        return grid.isInteractable(index)
+                && overlaps(entity.getInteractBox(), rectX, rectY, rectWidth, rectHeight);
+      default:
+        return true;
+    }
+  }
 
-        if (currentDist < closestDist) {
-          closestDist = currentDist;
-          closestCell = currentCell;
+  /**
+   * Sweep a rectangle along the x-axis, and return how far it is able to
+   * move before it hits a {@link MapCellType#COLLIDABLE} {@link MapCell},
+   * or the edge of the {@link Map}.
+   * <br><br>
+   * Anything that the rectangle is already inside of is ignored, so that
+   * it is always able to move out of it.
+   *
+   * @param rectX      {@code float} : The {@code x} of the rectangle.
+   * @param rectY      {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth  {@code float} : The width of the rectangle.
+   * @param rectHeight {@code float} : The height of the rectangle.
+   * @param moveX      {@code float} : The distance to move on the x-axis.
+   * @return {@code float} : The distance the rectangle can move, which will
+   *                         be between {@code 0} and {@code moveX}.
+   */
+  public float sweepX(float rectX, float rectY, float rectWidth, float rectHeight, float moveX) {
+    if (moveX == 0) {
+      return 0;
+    }
+    // Get the range of cells that the rectangle passes through
+    int cellX = MapManager.posToGridFloor(Math.min(rectX, rectX + moveX));
+    int cellMaxX = MapManager.posToGridFloor(Math.max(rectX, rectX + moveX) + rectWidth);
+    int cellY = MapManager.posToGridFloor(rectY);
+    int cellMaxY = MapManager.posToGridFloor(rectY + rectHeight);
+
+    float allowed = moveX;
+    for (int x = cellX; x <= cellMaxX; x++) {
+      for (int y = cellY; y <= cellMaxY; y++) {
+        float edge;
+        if (!validCellFull(x, y)) {
+          // Outside the map, so the cell's edge blocks
+          edge = moveX > 0 ? MapManager.gridToPos(x) : MapManager.gridToPos(x + 1);
+        } else {
+          int index = cellIndex(x, y);
+          MapEntity entity = grid.getEntity(index);
+          // Only collidable cells with an entity block
+          if (entity == null || !grid.isCollidable(index)) {
+            continue;
+          }
+          Rectangle rect = entity.collision;
+          // If it's not in line with the rectangle, it can't block
+          if (!(rect.y < rectY + rectHeight && rect.y + rect.height > rectY)) {
+            continue;
+          }
+          edge = moveX > 0 ? rect.x : rect.x + rect.width;
+        }
+        // Move up to the edge, if it's in front of the rectangle
+        if (moveX > 0) {
+          if (edge + 0.01f > rectX + rectWidth) {
+            allowed = Math.min(allowed, Math.max(0, edge - (rectX + rectWidth)));
+          }
+        } else {
+          if (edge - 0.01f < rectX) {
+            allowed = Math.max(allowed, Math.min(0, edge - rectX));
+          }
         }
       }
+    }
+    return allowed;
+  }
 
-      // Return the cell at that location
-      return closestCell;
+  /**
+   * Sweep a rectangle along the y-axis, and return how far it is able to
+   * move before it hits a {@link MapCellType#COLLIDABLE} {@link MapCell},
+   * or the edge of the {@link Map}.
+   * <br><br>
+   * Anything that the rectangle is already inside of is ignored, so that
+   * it is always able to move out of it.
+   *
+   * @param rectX      {@code float} : The {@code x} of the rectangle.
+   * @param rectY      {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth  {@code float} : The width of the rectangle.
+   * @param rectHeight {@code float} : The height of the rectangle.
+   * @param moveY      {@code float} : The distance to move on the y-axis.
+   * @return {@code float} : The distance the rectangle can move, which will
+   *                         be between {@code 0} and {@code moveY}.
+   */
+  public float sweepY(float rectX, float rectY, float rectWidth, float rectHeight, float moveY) {
+    if (moveY == 0) {
+      return 0;
     }
+    // Get the range of cells that the rectangle passes through
+    int cellX = MapManager.posToGridFloor(rectX);
+    int cellMaxX = MapManager.posToGridFloor(rectX + rectWidth);
+    int cellY = MapManager.posToGridFloor(Math.min(rectY, rectY + moveY));
+    int cellMaxY = MapManager.posToGridFloor(Math.max(rectY, rectY + moveY) + rectHeight);
 
-    // If none of the above returns, then return false as they're not colliding
-    return null;
+    float allowed = moveY;
+    for (int x = cellX; x <= cellMaxX; x++) {
+      for (int y = cellY; y <= cellMaxY; y++) {
+        float edge;
+        if (!validCellFull(x, y)) {
+          // Outside the map, so the cell's edge blocks
+          edge = moveY > 0 ? MapManager.gridToPos(y) : MapManager.gridToPos(y + 1);
+        } else {
+          int index = cellIndex(x, y);
+          MapEntity entity = grid.getEntity(index);
+          // Only collidable cells with an entity block
+          if (entity == null || !grid.isCollidable(index)) {
+            continue;
+          }
+          Rectangle rect = entity.collision;
+          // If it's not in line with the rectangle, it can't block
+          if (!(rect.x < rectX + rectWidth && rect.x + rect.width > rectX)) {
+            continue;
+          }
+          edge = moveY > 0 ? rect.y : rect.y + rect.height;
+        }
+        // Move up to the edge, if it's in front of the rectangle
+        if (moveY > 0) {
+          if (edge + 0.01f > rectY + rectHeight) {
+            allowed = Math.min(allowed, Math.max(0, edge - (rectY + rectHeight)));
+          }
+        } else {
+          if (edge - 0.01f < rectY) {
+            allowed = Math.max(allowed, Math.min(0, edge - rectY));
+          }
+        }
+      }
+    }
+    return allowed;
+  }
+
+  /**
+   * Returns whether a {@link Rectangle} overlaps a rectangle at the position
+   * and size provided, in the same way as {@link Rectangle#overlaps(Rectangle)}.
+   *
+   * @param rect       {@link Rectangle} : The {@link Rectangle} to check.
+   * @param rectX      {@code float} : The {@code x} of the rectangle.
+   * @param rectY      {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth  {@code float} : The width of the rectangle.
+   * @param rectHeight {@code float} : The height of the rectangle.
+   * @return {@code boolean} : {@code true} if they overlap,
+   *                           {@code false} if they do not.
+   */
+  private static boolean overlaps(Rectangle rect, float rectX, float rectY,
+                                  float rectWidth, float rectHeight) {
+    return rect.x < rectX + rectWidth && rect.x + rect.width > rectX
+            && rect.y < rectY + rectHeight && rect.y + rect.height > rectY;
+  }
+
+  /**
+   * Returns the squared distance between the centre of a {@link Rectangle}
+   * and the centre of a rectangle at the position and size provided.
+   *
+   * @param rectX      {@code float} : The {@code x} of the rectangle.
+   * @param rectY      {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth  {@code float} : The width of the rectangle.
+   * @param rectHeight {@code float} : The height of the rectangle.
+   * @param rect       {@link Rectangle} : The {@link Rectangle} to check.
+   * @return {@code double} : The squared distance between the two centres.
+   */
+  private static double distanceSquared(float rectX, float rectY, float rectWidth,
+                                        float rectHeight, Rectangle rect) {
+    double distX = (rectX + rectWidth / 2) - (rect.x + rect.width / 2);
+    double distY = (rectY + rectHeight / 2) - (rect.y + rect.height / 2);
+    return distX * distX + distY * distY;
   }
 
   /**
@@ -794,7 +1203,8 @@ public class Map {
    *                           or {@code null} if they are not colliding with any
    */
   public MapCell getCollision(Entity entity, float x, float y) {
-    return getCollision(new Rectangle(x, y, entity.collision.width, entity.collision.height));
+    return getCollision(x, y, entity.collision.width, entity.collision.height,
+            false, MapCellType.COLLIDABLE);
   }
 
   /**
@@ -866,7 +1276,8 @@ public class Map {
    *                           {@code false} if not.
    */
   public boolean checkCollision(Entity entity, float x, float y) {
-    return checkCollision(new Rectangle(x, y, entity.collision.width, entity.collision.height));
+    return checkCollision(x, y, entity.collision.width, entity.collision.height,
+            MapCellType.COLLIDABLE);
   }
 
   /**
@@ -893,7 +1304,30 @@ public class Map {
    *                           {@code false} if not.
    */
   public boolean checkCollision(Rectangle rectangle, MapCellType mapCellType) {
-    MapCell collidingCell = getCollision(rectangle, false, mapCellType);
+    return checkCollision(rectangle.x, rectangle.y, rectangle.width, rectangle.height,
+            mapCellType);
+  }
+
+  /**
+   * Returns whether a rectangle at the position and size provided is
+   * colliding with a {@link MapCell} or not.
+   * <br><br>
+   * Like {@link #getCollision(float, float, float, float, boolean, MapCellType)},
+   * this does not allocate anything.
+   *
+   * @param rectX       {@code float} : The {@code x} of the rectangle.
+   * @param rectY       {@code float} : The {@code y} of the rectangle.
+   * @param rectWidth   {@code float} : The width of the rectangle.
+   * @param rectHeight  {@code float} : The height of the rectangle.
+   * @param mapCellType {@link MapCellType} : The {@link MapCellType} to check for.
+   * @return {@code boolean} : {@code true} if the rectangle is colliding
+   *                           with a {@link MapCell},
+   *                           {@code false} if not.
+   */
+  public boolean checkCollision(float rectX, float rectY, float rectWidth, float rectHeight,
+                                MapCellType mapCellType) {
+    MapCell collidingCell = getCollision(rectX, rectY, rectWidth, rectHeight,
+            false, mapCellType);
 
     // If it's null, then return false
     if (collidingCell == null) {
@@ -972,29 +1406,29 @@ public class Map {
    *                                                  {@link MapCell}s.
    */
   public Array<MapEntity> getAllEntities() {
-    Array<MapEntity> entities = new Array<>();
-    // Loop through all the cells
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        // Get the current cell
-        MapCell thisCell = getCellFull(x, y);
-        // Make sure it's not null
-        if (thisCell != null) {
-          // Get the entity of the cell
-          MapEntity thisEntity = thisCell.mapEntity;
-          // If it's not null...
-          if (thisEntity != null) {
-            // and it's not already in the array...
-            if (!entities.contains(thisEntity, true)) {
-              // then add it to the array.
-              entities.add(thisEntity);
-            }
-          }
-        }
-      }
-    }
-    // Return all the entities.
-    return entities;
+    // Return a new Array, so that the Map can still be changed
+    // while going through them.
+    return grid.getEntities(new Array<MapEntity>(grid.getEntityCount()));
+  }
+
+  /**
+   * Returns the number of {@link MapEntity}s that are present on the map.
+   *
+   * @return {@code int} : The number of {@link MapEntity}s.
+   */
+  public int getEntityCount() {
+    return grid.getEntityCount();
+  }
+
+  /**
+   * Returns whether a {@link MapEntity} is on the map or not.
+   *
+   * @param entity {@link MapEntity} : The {@link MapEntity} to check.
+   * @return {@code boolean} : {@code true} if it is on the map,
+   *                           {@code false} if not.
+   */
+  public boolean hasEntity(MapEntity entity) {
+    return grid.hasEntity(entity);
   }
 
   /**
@@ -1005,13 +1439,9 @@ public class Map {
    * @param textureGroup   {@link String} : The texture group to use.
    */
   public void loadAll(TextureManager textureManager, String textureGroup) {
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        MapCell thisCell = getCellFull(x, y);
-        if (thisCell != null) {
-          thisCell.load(textureManager, textureGroup);
-        }
-      }
+    loadFloor(textureManager, textureGroup);
+    for (MapEntity entity : getAllEntities()) {
+      entity.load(textureManager, textureGroup);
     }
   }
 
@@ -1023,13 +1453,9 @@ public class Map {
    * @param textureGroup   {@link String} : The texture group to use.
    */
   public void loadFloor(TextureManager textureManager, String textureGroup) {
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        MapCell thisCell = getCellFull(x, y);
-        if (thisCell != null) {
-          thisCell.loadFloor(textureManager, textureGroup);
-        }
-      }
+    // Each different floor tile only needs to be loaded once
+    for (String floorPath : grid.getFloorPaths()) {
+      textureManager.loadAsset(textureGroup, floorPath, "textures");
     }
   }
 
@@ -1040,14 +1466,7 @@ public class Map {
    *                       to use.
    */
   public void postLoad(TextureManager textureManager) {
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        MapCell thisCell = getCellFull(x, y);
-        if (thisCell != null) {
-          thisCell.updateBelowTile(textureManager);
-        }
-      }
-    }
+    grid.updateFloorRegions(textureManager);
   }
 
   /**
@@ -1056,14 +1475,124 @@ public class Map {
    * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
    */
   public void drawGround(SpriteBatch batch) {
-    // Draw a tile for every cell of the map.
-    for (int x = 0; x < fullWidth; x++) {
-      for (int y = 0; y < fullHeight; y++) {
-        getCellFull(x, y).drawBelow(batch);
+    drawGround(batch, null);
+  }
+
+  /**
+   * Draw the floor tiles that are inside of the view.
+   *
+   * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
+   * @param view  {@link Rectangle} : The area to draw the floor in,
+   *              or {@code null} to draw all of it.
+   */
+  public void drawGround(SpriteBatch batch, Rectangle view) {
+    // Only go through the cells that the view covers
+    int minX = 0;
+    int minY = 0;
+    int maxX = fullWidth - 1;
+    int maxY = fullHeight - 1;
+    if (view != null) {
+      minX = Math.max(minX, MapManager.posToGridFloor(view.x));
+      minY = Math.max(minY, MapManager.posToGridFloor(view.y));
+      maxX = Math.min(maxX, MapManager.posToGridFloor(view.x + view.width));
+      maxY = Math.min(maxY, MapManager.posToGridFloor(view.y + view.height));
+    }
+    visibleCells = Math.max(0, maxX - minX + 1) * Math.max(0, maxY - minY + 1);
+
+    // Draw a tile for every cell, going through the
+    // grid in the order that it's stored.
+    float size = MapManager.gridToPos(1);
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        TextureRegion floor = grid.getFloorRegion(cellIndex(x, y));
+        if (floor != null) {
+          batch.draw(floor, MapManager.gridToPos(x), MapManager.gridToPos(y), size, size);
+        }
       }
     }
   }
 
+  /**
+   * Draw the floor tiles using the {@link FloorCache}, which only rebuilds
+   * the parts of the floor that have changed since it was last drawn.
+   * <br>
+   * Unlike {@link #drawGround(SpriteBatch)}, this should not be called
+   * while a {@link SpriteBatch} is drawing.
+   *
+   * @param projection {@link Matrix4} : The projection matrix to draw with.
+   * @return {@code int} : The number of render calls made.
+   */
+  public int drawGroundCached(Matrix4 projection) {
+    return drawGroundCached(projection, null);
+  }
+
+  /**
+   * Draw the floor tiles using the {@link FloorCache}, only drawing the
+   * chunks that are inside of the view.
+   *
+   * @param projection {@link Matrix4} : The projection matrix to draw with.
+   * @param view       {@link Rectangle} : The area to draw the floor in,
+   *                   or {@code null} to draw all of it.
+   * @return {@code int} : The number of render calls made.
+   */
+  public int drawGroundCached(Matrix4 projection, Rectangle view) {
+    int renderCalls = floorCache.draw(projection, view);
+    visibleCells = floorCache.getVisibleCells();
+    return renderCalls;
+  }
+
+  /**
+   * Returns the number of cells that were inside of the view the last
+   * time the floor was drawn.
+   *
+   * @return {@code int} : The number of visible cells.
+   */
+  public int getVisibleCells() {
+    return visibleCells;
+  }
+
+  /**
+   * Set whether the floor should be drawn using the {@link FloorCache}
+   * or not.
+   *
+   * @param floorCached {@code boolean} : {@code true} to use the {@link FloorCache},
+   *                    {@code false} to draw each tile every frame.
+   */
+  public void setFloorCached(boolean floorCached) {
+    this.floorCached = floorCached;
+  }
+
+  /**
+   * Returns whether the floor is drawn using the {@link FloorCache} or not.
+   *
+   * @return {@code boolean} : {@code true} if it is, {@code false} if not.
+   */
+  public boolean isFloorCached() {
+    return floorCached;
+  }
+
+  /**
+   * Returns the {@link FloorCache} of the {@link Map}.
+   *
+   * @return {@link FloorCache} : The {@link FloorCache}.
+   */
+  public FloorCache getFloorCache() {
+    return floorCache;
+  }
+
+  /**
+   * Returns the {@link NavigationGrid} of the {@link Map}, which keeps itself
+   * up to date as {@link MapEntity}s are added and removed.
+   *
+   * @return {@link NavigationGrid} : The {@link NavigationGrid}.
+   */
+  public NavigationGrid getNavigation() {
+    if (navigation == null) {
+      navigation = new NavigationGrid(grid);
+    }
+    return navigation;
+  }
+
   /**
    * Draw the shape debug.
    *
@@ -1087,6 +1616,8 @@ public class Map {
    * {@link MapEntity}s, and then clears the map.
    */
   public void dispose() {
+    // Dispose the floor cache, if it was made
+    floorCache.dispose();
     // Loop through the cells
     for (int x = 0; x < width; x++) {
       for (int y = 0; y < height; y++) {
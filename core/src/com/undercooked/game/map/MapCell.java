@@ -2,38 +2,59 @@ package com.undercooked.game.map;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.undercooked.game.assets.TextureManager;
 
 /**
- * A class for storing the data of a single cell on the {@link Map}.
+ * A class for accessing the data of a single cell on the {@link Map}.
+ * <br><br>
+ * The data itself is kept in the {@link MapGrid} of the {@link Map}, so a
+ * {@link MapCell} is only a view of it, and any changes are made to the
+ * {@link MapGrid} directly.
  */
 public class MapCell {
-  private boolean collidable;
-  private boolean interactable;
-  private int cellX;
-  private int cellY;
-  private float width;
-  private float height;
-  private boolean base;
-  private String belowTilePath;
   /**
-   * The floor tile to draw underneath.
+   * The {@link MapGrid} that the {@link MapCell}'s data is stored in.
    */
-  private Texture belowTile;
+  private final MapGrid grid;
 
   /**
-   * The {@link MapEntity} of the {@link MapCell}.
+   * The index of the {@link MapCell} in the {@link #grid}.
    */
-  protected MapEntity mapEntity;
+  private final int index;
+
+  private int cellX;
+  private int cellY;
+  private float width;
+  private float height;
 
   /**
-   * The {@link Rectangle} collision of the {@link MapCell}.
+   * The {@link Rectangle} collision of the {@link MapCell}, which is
+   * only created once it is needed.
    */
   protected Rectangle collision;
 
+  /**
+   * Constructor for a {@link MapCell} that views a cell of a {@link MapGrid}.
+   *
+   * @param grid  {@link MapGrid} : The {@link MapGrid} of the cell.
+   * @param index {@code int} : The index of the cell in the {@link MapGrid}.
+   */
+  MapCell(MapGrid grid, int index) {
+    this.grid = grid;
+    this.index = index;
+    this.cellX = grid.getX(index);
+    this.cellY = grid.getY(index);
+    this.width = 64;
+    this.height = 64;
+  }
+
   /**
    * Constructor for the {@link MapCell}.
+   * <br><br>
+   * As it isn't part of a {@link Map}, it has its own {@link MapGrid}
+   * with just the one cell.
    *
    * @param collidable   {@code boolean} : Whether the {@link MapCell} is
    *                     collidable or not.
@@ -43,15 +64,10 @@ public class MapCell {
    *                     a base or not.
    */
   public MapCell(boolean collidable, boolean interactable, boolean base) {
-    this.collidable = collidable;
-    this.interactable = interactable;
-    this.base = base;
-    this.cellX = 0;
-    this.cellY = 0;
-    this.width = 64;
-    this.height = 64;
-    this.collision = new Rectangle();
-    this.collision.setSize(MapManager.gridToPos(1));
+    this(new MapGrid(1, 1), 0);
+    setCollidable(collidable);
+    setInteractable(interactable);
+    setBase(base);
   }
 
   /**
@@ -69,7 +85,7 @@ public class MapCell {
    *                   be collidable or not.
    */
   public void setCollidable(boolean collidable) {
-    this.collidable = collidable;
+    grid.setFlag(index, MapGrid.COLLIDABLE, collidable);
   }
 
   /**
@@ -79,7 +95,7 @@ public class MapCell {
    *                     be interactable or not.
    */
   public void setInteractable(boolean interactable) {
-    this.interactable = interactable;
+    grid.setFlag(index, MapGrid.INTERACTABLE, interactable);
   }
 
   /**
@@ -89,7 +105,7 @@ public class MapCell {
    *             be a base or not.
    */
   public void setBase(boolean base) {
-    this.base = base;
+    grid.setFlag(index, MapGrid.BASE, base);
   }
 
   /**
@@ -99,10 +115,10 @@ public class MapCell {
    *                  {@link MapCell} to use.
    */
   public void setMapEntity(MapEntity mapEntity) {
-    this.mapEntity = mapEntity;
+    grid.setEntity(index, mapEntity);
     if (mapEntity != null) {
-      mapEntity.setX(this.collision.x);
-      mapEntity.setY(this.collision.y);
+      mapEntity.setX(getCollisionX());
+      mapEntity.setY(getCollisionY());
       mapEntity.setWidth(this.width);
       mapEntity.setHeight(this.height);
     }
@@ -124,10 +140,13 @@ public class MapCell {
    * @param x {@code int} : The new x position.
    */
   protected void setCollisionX(float x) {
-    if (this.mapEntity != null) {
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
       mapEntity.setX(x);
     }
-    this.collision.setX(x);
+    if (this.collision != null) {
+      this.collision.setX(x);
+    }
   }
 
   /**
@@ -146,10 +165,13 @@ public class MapCell {
    * @param y {@code int} : The new y position.
    */
   protected void setCollisionY(float y) {
-    if (this.mapEntity != null) {
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
       mapEntity.setY(y);
     }
-    this.collision.setY(y);
+    if (this.collision != null) {
+      this.collision.setY(y);
+    }
   }
 
   /**
@@ -159,7 +181,8 @@ public class MapCell {
    */
   public void setWidth(int width) {
     float newWidth = MapManager.gridToPos(width);
-    if (this.mapEntity != null) {
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
       mapEntity.setWidth(width);
     }
     this.width = newWidth;
@@ -172,7 +195,8 @@ public class MapCell {
    */
   public void setHeight(int height) {
     float newHeight = MapManager.gridToPos(height);
-    if (this.mapEntity != null) {
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
       mapEntity.setHeight(height);
     }
     this.height = newHeight;
@@ -193,7 +217,7 @@ public class MapCell {
    * @return {@link int} : The collision x position of the {@link MapCell}.
    */
   public float getCollisionX() {
-    return collision.x;
+    return MapManager.gridToPos(cellX);
   }
 
   /**
@@ -211,7 +235,7 @@ public class MapCell {
    * @return {@link int} : The collision y position of the {@link MapCell}.
    */
   public float getCollisionY() {
-    return collision.y;
+    return MapManager.gridToPos(cellY);
   }
 
   /**
@@ -221,11 +245,7 @@ public class MapCell {
    *                       the {@link Texture} from.
    */
   public void updateBelowTile(TextureManager textureManager) {
-    if (belowTilePath == null) {
-      this.belowTile = null;
-      return;
-    }
-    this.belowTile = textureManager.getAsset(belowTilePath);
+    grid.updateFloorRegion(grid.getFloorId(index), textureManager);
   }
 
   /**
@@ -236,7 +256,17 @@ public class MapCell {
    * @param texturePath {@link String} : The path to the asset.
    */
   public void setBelowTile(String texturePath) {
-    this.belowTilePath = texturePath;
+    grid.setFloorPath(index, texturePath);
+  }
+
+  /**
+   * Returns the asset path of the tile drawn below the {@link MapEntity}.
+   *
+   * @return {@link String} : The path to the asset, or {@code null} if there
+   *                          is no tile.
+   */
+  public String getBelowTile() {
+    return grid.getFloorPath(index);
   }
 
   /**
@@ -250,7 +280,10 @@ public class MapCell {
     // Load the floor tile
     loadFloor(textureManager, textureGroup);
     // And then load the map entity
-    mapEntity.load(textureManager, textureGroup);
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
+      mapEntity.load(textureManager, textureGroup);
+    }
   }
 
   /**
@@ -261,7 +294,7 @@ public class MapCell {
    * @param textureGroup   {@link String} : The texture group to load to.
    */
   public void loadFloor(TextureManager textureManager, String textureGroup) {
-    textureManager.loadAsset(textureGroup, belowTilePath, "textures");
+    textureManager.loadAsset(textureGroup, getBelowTile(), "textures");
   }
 
   /**
@@ -271,9 +304,15 @@ public class MapCell {
    */
   public void unload(TextureManager textureManager) {
     // Unload the floor tile
-    textureManager.unloadTexture(belowTilePath);
+    String belowTilePath = getBelowTile();
+    if (belowTilePath != null) {
+      textureManager.unloadTexture(belowTilePath);
+    }
     // And unload the map entity
-    mapEntity.unload(textureManager);
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
+      mapEntity.unload(textureManager);
+    }
   }
 
   /**
@@ -283,7 +322,7 @@ public class MapCell {
    *                           {@code false} if not.
    */
   public boolean isCollidable() {
-    return collidable;
+    return grid.isCollidable(index);
   }
 
   /**
@@ -293,7 +332,7 @@ public class MapCell {
    *                           {@code false} if not.
    */
   public boolean isInteractable() {
-    return interactable;
+    return grid.isInteractable(index);
   }
 
   /**
@@ -303,7 +342,7 @@ public class MapCell {
    *                           {@code false} if not.
    */
   public boolean isBase() {
-    return base;
+    return grid.isBase(index);
   }
 
   /**
@@ -314,7 +353,7 @@ public class MapCell {
    *                             or {@code null} if there isn't one.
    */
   public MapEntity getMapEntity() {
-    return mapEntity;
+    return grid.getEntity(index);
   }
 
   /**
@@ -323,8 +362,9 @@ public class MapCell {
    * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
    */
   public void drawBelow(SpriteBatch batch) {
+    TextureRegion belowTile = grid.getFloorRegion(index);
     if (belowTile != null) {
-      batch.draw(belowTile, collision.x, collision.y, width, height);
+      batch.draw(belowTile, getCollisionX(), getCollisionY(), width, height);
     }
   }
 
@@ -335,7 +375,10 @@ public class MapCell {
    */
   public void draw(SpriteBatch batch) {
     drawBelow(batch);
-    mapEntity.draw(batch);
+    MapEntity mapEntity = getMapEntity();
+    if (mapEntity != null) {
+      mapEntity.draw(batch);
+    }
   }
 
   /**
@@ -346,6 +389,7 @@ public class MapCell {
    *                             or the collision of the {@link MapCell} if there isn't.
    */
   public Rectangle getCollision() {
+    MapEntity mapEntity = getMapEntity();
     if (mapEntity == null) {
       return getCellCollision();
     }
@@ -358,6 +402,19 @@ public class MapCell {
    * @return {@link Rectangle} : The collision of the {@link MapCell}.
    */
   public Rectangle getCellCollision() {
+    if (this.collision == null) {
+      this.collision = new Rectangle(getCollisionX(), getCollisionY(),
+              MapManager.gridToPos(1), MapManager.gridToPos(1));
+    }
     return this.collision;
   }
+
+  /**
+   * Returns the index of the {@link MapCell} in its {@link MapGrid}.
+   *
+   * @return {@code int} : The index of the {@link MapCell}.
+   */
+  public int getIndex() {
+    return index;
+  }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.undercooked.game.entity.cook.Cook;
 import com.undercooked.game.input.InputType;
 import com.undercooked.game.interactions.InteractResult;
 import com.undercooked.game.interactions.InteractionStep;
+import com.undercooked.game.util.IdRegistry;
 
 /**
  * A class for an {@link Entity} that is placed on the {@link Map}'s grid in
@@ -41,6 +42,16 @@ public class MapEntity extends Entity {
    */
   protected String id;
 
+  /**
+   * The {@code int} id of the {@link MapEntity} in {@link IdRegistry#STATIONS}.
+   */
+  private int intId = IdRegistry.NONE;
+
+  /**
+   * The {@link #id} that the {@link #intId} is for.
+   */
+  private String intIdOf;
+
   /**
    * Constructor for the {@link MapEntity}.
    */
@@ -138,6 +149,22 @@ public class MapEntity extends Entity {
     return id;
   }
 
+  /**
+   * Returns the {@code int} id, which should be used instead of
+   * {@link #getId()} when comparing ids.
+   *
+   * @return {@code int} : The id of the {@link MapEntity} in {@link IdRegistry#STATIONS},
+   *                       or {@link IdRegistry#NONE} if it doesn't have one.
+   */
+  public int getIntId() {
+    // Only look it up again if the id has been changed
+    if (intIdOf != id) {
+      intId = IdRegistry.STATIONS.register(id);
+      intIdOf = id;
+    }
+    return intId;
+  }
+
   /**
    * Return whether the {@link Rectangle} is overlapping the
    * interaction collision or not.
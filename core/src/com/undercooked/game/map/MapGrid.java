@@ -0,0 +1,628 @@
+package com.undercooked.game.map;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.undercooked.game.assets.TextureManager;
+
+/**
+ * The storage for the cells of a {@link Map}, kept in flat arrays rather
+ * than as a {@link MapCell} object per cell.
+ * <br><br>
+ * Each cell is an index, {@code y * width + x}, into:
+ * <ul>
+ *   <li>a {@code byte} of flags ({@link #COLLIDABLE}, {@link #INTERACTABLE}
+ *       and {@link #BASE}),</li>
+ *   <li>an {@code int} handle of the {@link MapEntity} on it, and</li>
+ *   <li>an {@code int} id of its floor tile's asset path.</li>
+ * </ul>
+ * The {@link MapEntity}s and floor tile paths are each stored once, and
+ * the cells refer to them by their handle or id.
+ * <br><br>
+ * {@link MapCell}s are only views of a cell, which are created the first
+ * time that the cell is asked for, and then reused.
+ */
+public class MapGrid {
+
+  //region Flags
+  /**
+   * The flag for a cell that has collision.
+   */
+  public static final byte COLLIDABLE = 1;
+
+  /**
+   * The flag for a cell that is interactable.
+   */
+  public static final byte INTERACTABLE = 1 << 1;
+
+  /**
+   * The flag for a cell that is the base of the {@link MapEntity} above it.
+   */
+  public static final byte BASE = 1 << 2;
+  //endregion
+
+  /**
+   * The handle or floor id for a cell that has no {@link MapEntity} or floor tile.
+   */
+  public static final int NONE = 0;
+
+  /**
+   * The number of cells across.
+   */
+  private final int width;
+
+  /**
+   * The number of cells up.
+   */
+  private final int height;
+
+  /**
+   * The flags of each cell.
+   */
+  private final byte[] flags;
+
+  /**
+   * The handle of the {@link MapEntity} on each cell, or {@link #NONE}.
+   */
+  private final int[] entities;
+
+  /**
+   * The id of the floor tile of each cell, or {@link #NONE}.
+   */
+  private final int[] floors;
+
+  /**
+   * The {@link MapEntity} of each handle, at {@code handle - 1}, or
+   * {@code null} if the handle isn't in use.
+   */
+  private final Array<MapEntity> handleEntities;
+
+  /**
+   * The cells that each handle is on, at {@code handle - 1}.
+   */
+  private final Array<IntArray> handleCells;
+
+  /**
+   * The handles that aren't in use anymore, and can be reused.
+   */
+  private final IntArray freeHandles;
+
+  /**
+   * The handle of each {@link MapEntity} that is on the grid.
+   */
+  private final ObjectIntMap<MapEntity> handles;
+
+  /**
+   * The asset path of each floor id, at {@code id - 1}.
+   */
+  private final Array<String> floorPaths;
+
+  /**
+   * The floor id of each floor tile asset path.
+   */
+  private final ObjectIntMap<String> floorIds;
+
+  /**
+   * The {@link TextureRegion} of each floor id, at {@code id - 1}, once
+   * they have been updated using {@link #updateFloorRegions(TextureManager)}.
+   */
+  private final Array<TextureRegion> floorRegions;
+
+  /**
+   * The {@link MapCell} views of the cells, which are {@code null}
+   * until they are first needed.
+   */
+  private final MapCell[] views;
+
+  /**
+   * The {@link FloorCache} to tell when a floor tile changes, if there is one.
+   */
+  private FloorCache floorCache;
+
+  /**
+   * The open cells for each {@link Map.MapCellType}, by its ordinal.
+   */
+  private final OpenCellSet[] openSets;
+
+  /**
+   * A counter that goes up whenever a cell's collision or {@link MapEntity}
+   * changes, so that anything worked out from the layout of the grid
+   * (such as a {@link NavigationGrid}) knows when it's out of date.
+   */
+  private int layoutVersion;
+
+  /**
+   * Constructor for the {@link MapGrid}.
+   *
+   * @param width  {@code int} : The number of cells across.
+   * @param height {@code int} : The number of cells up.
+   */
+  public MapGrid(int width, int height) {
+    this.width = width;
+    this.height = height;
+    int size = width * height;
+    this.flags = new byte[size];
+    this.entities = new int[size];
+    this.floors = new int[size];
+    this.views = new MapCell[size];
+    this.handleEntities = new Array<>();
+    this.handleCells = new Array<>();
+    this.freeHandles = new IntArray();
+    this.handles = new ObjectIntMap<>();
+    this.floorPaths = new Array<>();
+    this.floorIds = new ObjectIntMap<>();
+    this.floorRegions = new Array<>();
+    // Every cell starts with no flags, so they're all open
+    this.openSets = new OpenCellSet[Map.MapCellType.values().length];
+    for (int i = 0; i < openSets.length; i++) {
+      openSets[i] = new OpenCellSet(size);
+    }
+    for (int index = 0; index < size; index++) {
+      updateOpen(index);
+    }
+  }
+
+  /**
+   * Returns the index of a cell.
+   *
+   * @param x {@code int} : The {@code x} position of the cell.
+   * @param y {@code int} : The {@code y} position of the cell.
+   * @return {@code int} : The index of the cell.
+   */
+  public int index(int x, int y) {
+    return y * width + x;
+  }
+
+  /**
+   * Returns the {@code x} position of a cell index.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code int} : The {@code x} position of the cell.
+   */
+  public int getX(int index) {
+    return index % width;
+  }
+
+  /**
+   * Returns the {@code y} position of a cell index.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code int} : The {@code y} position of the cell.
+   */
+  public int getY(int index) {
+    return index / width;
+  }
+
+  /**
+   * Returns whether a position is a cell on the grid or not.
+   *
+   * @param x {@code int} : The {@code x} position.
+   * @param y {@code int} : The {@code y} position.
+   * @return {@code boolean} : {@code true} if the position is valid,
+   *                           {@code false} if not.
+   */
+  public boolean isValid(int x, int y) {
+    return x >= 0 && x < width && y >= 0 && y < height;
+  }
+
+  /**
+   * Returns the number of cells on the grid.
+   *
+   * @return {@code int} : The number of cells.
+   */
+  public int size() {
+    return flags.length;
+  }
+
+  /**
+   * Returns the number of cells across.
+   *
+   * @return {@code int} : The width of the grid.
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Returns the number of cells up.
+   *
+   * @return {@code int} : The height of the grid.
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Reset a cell, so that it has no flags or {@link MapEntity}, and
+   * uses the floor tile provided.
+   *
+   * @param index     {@code int} : The index of the cell.
+   * @param floorPath {@link String} : The asset path of the floor tile.
+   */
+  public void reset(int index, String floorPath) {
+    if (isCollidable(index)) {
+      layoutVersion++;
+    }
+    flags[index] = 0;
+    updateOpen(index);
+    setEntity(index, null);
+    setFloorPath(index, floorPath);
+  }
+
+  //region Flags
+  /**
+   * Returns whether a cell has a flag.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @param flag  {@code byte} : The flag to check.
+   * @return {@code boolean} : {@code true} if the cell has the flag,
+   *                           {@code false} if not.
+   */
+  public boolean hasFlag(int index, byte flag) {
+    return (flags[index] & flag) != 0;
+  }
+
+  /**
+   * Set whether a cell has a flag or not.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @param flag  {@code byte} : The flag to set.
+   * @param value {@code boolean} : Whether the cell should have the flag.
+   */
+  public void setFlag(int index, byte flag, boolean value) {
+    byte oldFlags = flags[index];
+    if (value) {
+      flags[index] |= flag;
+    } else {
+      flags[index] &= ~flag;
+    }
+    // Only a change in collision changes where things can walk
+    if (((oldFlags ^ flags[index]) & COLLIDABLE) != 0) {
+      layoutVersion++;
+    }
+    updateOpen(index);
+  }
+
+  /**
+   * Returns the layout version of the grid, which changes whenever a cell's
+   * collision or {@link MapEntity} changes.
+   *
+   * @return {@code int} : The layout version.
+   */
+  public int getLayoutVersion() {
+    return layoutVersion;
+  }
+
+  /**
+   * Update which of the {@link OpenCellSet}s a cell is in, from its flags.
+   *
+   * @param index {@code int} : The index of the cell.
+   */
+  private void updateOpen(int index) {
+    openSets[Map.MapCellType.ANY.ordinal()].set(index, flags[index] == 0);
+    openSets[Map.MapCellType.COLLIDABLE.ordinal()].set(index, !isCollidable(index));
+    openSets[Map.MapCellType.INTERACTABLE.ordinal()].set(index, !isInteractable(index));
+  }
+
+  /**
+   * Returns the {@link OpenCellSet} of the cells that are not of a
+   * {@link Map.MapCellType}.
+   *
+   * @param mapCellType {@link Map.MapCellType} : The {@link Map.MapCellType}.
+   * @return {@link OpenCellSet} : The open cells.
+   */
+  public OpenCellSet getOpenCells(Map.MapCellType mapCellType) {
+    return openSets[mapCellType.ordinal()];
+  }
+
+  /**
+   * Returns whether a cell is collidable.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it's collidable, {@code false} if not.
+   */
+  public boolean isCollidable(int index) {
+    return (flags[index] & COLLIDABLE) != 0;
+  }
+
+  /**
+   * Returns whether a cell is interactable.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it's interactable, {@code false} if not.
+   */
+  public boolean isInteractable(int index) {
+    return (flags[index] & INTERACTABLE) != 0;
+  }
+
+  /**
+   * Returns whether a cell is a base.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it's a base, {@code false} if not.
+   */
+  public boolean isBase(int index) {
+    return (flags[index] & BASE) != 0;
+  }
+
+  /**
+   * Returns whether a cell is empty, having none of the flags.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it's empty, {@code false} if not.
+   */
+  public boolean isEmpty(int index) {
+    return flags[index] == 0;
+  }
+  //endregion
+
+  //region Entities
+  /**
+   * Returns the {@link MapEntity} on a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@link MapEntity} : The {@link MapEntity}, or {@code null} if there isn't one.
+   */
+  public MapEntity getEntity(int index) {
+    int handle = entities[index];
+    if (handle == NONE) {
+      return null;
+    }
+    return handleEntities.get(handle - 1);
+  }
+
+  /**
+   * Set the {@link MapEntity} on a cell.
+   *
+   * @param index  {@code int} : The index of the cell.
+   * @param entity {@link MapEntity} : The {@link MapEntity}, or {@code null} for none.
+   */
+  public void setEntity(int index, MapEntity entity) {
+    int oldHandle = entities[index];
+    // If it's not changing, then there's nothing to do
+    if (getEntity(index) == entity) {
+      return;
+    }
+    if (oldHandle != NONE) {
+      removeCell(oldHandle, index);
+    }
+    int newHandle = NONE;
+    if (entity != null) {
+      newHandle = getHandle(entity);
+      handleCells.get(newHandle - 1).add(index);
+    }
+    entities[index] = newHandle;
+    layoutVersion++;
+  }
+
+  /**
+   * Returns the handle of a {@link MapEntity}, giving it one if it
+   * doesn't have one yet.
+   *
+   * @param entity {@link MapEntity} : The {@link MapEntity}.
+   * @return {@code int} : The handle of the {@link MapEntity}.
+   */
+  private int getHandle(MapEntity entity) {
+    int handle = handles.get(entity, NONE);
+    if (handle != NONE) {
+      return handle;
+    }
+    // Reuse a handle if there's one free
+    if (freeHandles.size > 0) {
+      handle = freeHandles.pop();
+      handleEntities.set(handle - 1, entity);
+    } else {
+      handleEntities.add(entity);
+      // Most entities only take up one or two cells
+      handleCells.add(new IntArray(2));
+      handle = handleEntities.size;
+    }
+    handles.put(entity, handle);
+    return handle;
+  }
+
+  /**
+   * Remove a cell from a handle, freeing the handle if it isn't
+   * on any cells anymore.
+   *
+   * @param handle {@code int} : The handle.
+   * @param index  {@code int} : The index of the cell.
+   */
+  private void removeCell(int handle, int index) {
+    IntArray cells = handleCells.get(handle - 1);
+    cells.removeValue(index);
+    if (cells.size > 0) {
+      return;
+    }
+    handles.remove(handleEntities.get(handle - 1), NONE);
+    handleEntities.set(handle - 1, null);
+    freeHandles.add(handle);
+  }
+
+  /**
+   * Returns the indexes of the cells that a {@link MapEntity} is on.
+   * <br>
+   * This must not be changed, and changes as the grid does.
+   *
+   * @param entity {@link MapEntity} : The {@link MapEntity}.
+   * @return {@link IntArray} : The indexes of its cells, or {@code null}
+   *                            if it isn't on the grid.
+   */
+  public IntArray getEntityCells(MapEntity entity) {
+    int handle = handles.get(entity, NONE);
+    if (handle == NONE) {
+      return null;
+    }
+    return handleCells.get(handle - 1);
+  }
+
+  /**
+   * Returns whether a {@link MapEntity} is on the grid.
+   *
+   * @param entity {@link MapEntity} : The {@link MapEntity}.
+   * @return {@code boolean} : {@code true} if it is, {@code false} if not.
+   */
+  public boolean hasEntity(MapEntity entity) {
+    return handles.containsKey(entity);
+  }
+
+  /**
+   * Returns the number of different {@link MapEntity}s on the grid.
+   *
+   * @return {@code int} : The number of {@link MapEntity}s.
+   */
+  public int getEntityCount() {
+    return handles.size;
+  }
+
+  /**
+   * Add all of the different {@link MapEntity}s on the grid to an {@link Array}.
+   *
+   * @param output {@link Array}&lt;{@link MapEntity}&gt; : The {@link Array} to add to.
+   * @return {@link Array}&lt;{@link MapEntity}&gt; : The {@code output} {@link Array}.
+   */
+  public Array<MapEntity> getEntities(Array<MapEntity> output) {
+    for (int i = 0; i < handleEntities.size; i++) {
+      MapEntity entity = handleEntities.get(i);
+      if (entity != null) {
+        output.add(entity);
+      }
+    }
+    return output;
+  }
+  //endregion
+
+  //region Floors
+  /**
+   * Returns the floor id of a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code int} : The floor id, or {@link #NONE}.
+   */
+  public int getFloorId(int index) {
+    return floors[index];
+  }
+
+  /**
+   * Returns the asset path of the floor tile of a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@link String} : The asset path, or {@code null} if there is no floor tile.
+   */
+  public String getFloorPath(int index) {
+    int floorId = floors[index];
+    if (floorId == NONE) {
+      return null;
+    }
+    return floorPaths.get(floorId - 1);
+  }
+
+  /**
+   * Set the floor tile of a cell.
+   *
+   * @param index     {@code int} : The index of the cell.
+   * @param floorPath {@link String} : The asset path of the floor tile,
+   *                  or {@code null} for no floor tile.
+   */
+  public void setFloorPath(int index, String floorPath) {
+    int floorId = NONE;
+    if (floorPath != null) {
+      floorId = floorIds.get(floorPath, NONE);
+      if (floorId == NONE) {
+        floorPaths.add(floorPath);
+        floorRegions.add(null);
+        floorId = floorPaths.size;
+        floorIds.put(floorPath, floorId);
+      }
+    }
+    if (floors[index] == floorId) {
+      return;
+    }
+    floors[index] = floorId;
+    if (floorCache != null) {
+      floorCache.markDirty(index);
+    }
+  }
+
+  /**
+   * Returns all of the different floor tile asset paths that have
+   * been used on the grid.
+   *
+   * @return {@link Array}&lt;{@link String}&gt; : The asset paths, in floor id order.
+   */
+  public Array<String> getFloorPaths() {
+    return floorPaths;
+  }
+
+  /**
+   * Returns the {@link TextureRegion} of the floor tile of a cell.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@link TextureRegion} : The floor tile, or {@code null} if there isn't one.
+   */
+  public TextureRegion getFloorRegion(int index) {
+    int floorId = floors[index];
+    if (floorId == NONE) {
+      return null;
+    }
+    return floorRegions.get(floorId - 1);
+  }
+
+  /**
+   * Update the {@link TextureRegion}s of the floor tiles, which only
+   * needs to be done once for each different floor tile.
+   *
+   * @param textureManager {@link TextureManager} : The {@link TextureManager} to use.
+   */
+  public void updateFloorRegions(TextureManager textureManager) {
+    for (int i = 0; i < floorPaths.size; i++) {
+      floorRegions.set(i, textureManager.getAssetRegion(floorPaths.get(i)));
+    }
+    if (floorCache != null) {
+      floorCache.markAllDirty();
+    }
+  }
+
+  /**
+   * Update the {@link TextureRegion} of a single floor tile.
+   *
+   * @param floorId        {@code int} : The floor id.
+   * @param textureManager {@link TextureManager} : The {@link TextureManager} to use.
+   */
+  public void updateFloorRegion(int floorId, TextureManager textureManager) {
+    if (floorId == NONE) {
+      return;
+    }
+    floorRegions.set(floorId - 1, textureManager.getAssetRegion(floorPaths.get(floorId - 1)));
+    if (floorCache != null) {
+      floorCache.markAllDirty();
+    }
+  }
+
+  /**
+   * Set the {@link FloorCache} to tell when a floor tile changes.
+   *
+   * @param floorCache {@link FloorCache} : The {@link FloorCache}, or {@code null}.
+   */
+  public void setFloorCache(FloorCache floorCache) {
+    this.floorCache = floorCache;
+  }
+  //endregion
+
+  /**
+   * Returns the {@link MapCell} view of a cell, creating it if it
+   * hasn't been yet.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@link MapCell} : The view of the cell.
+   */
+  public MapCell getCell(int index) {
+    MapCell cell = views[index];
+    if (cell == null) {
+      cell = new MapCell(this, index);
+      views[index] = cell;
+    }
+    return cell;
+  }
+}
@@ -16,6 +16,7 @@ import com.undercooked.game.station.StationData;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.DefaultJson;
 import com.undercooked.game.util.json.JsonFormat;
+import com.undercooked.game.util.log.Log;
 
 /**
  * A class for controlling the loading of a map asset, and the creation
@@ -64,6 +65,29 @@ public class MapManager {
     // Try loading the Json
     JsonValue root = JsonFormat.formatJson(FileControl.loadJsonAsset(path, "maps"),
             DefaultJson.mapFormat());
+    return load(path, root, stationController, cookController, interactions, gameItems);
+  }
+
+  /**
+   * Load the map from its Json, which has already been read from the
+   * asset path, such as by the {@link com.undercooked.game.logic.ScenarioPreloader}.
+   *
+   * @param path              {@link String} : The path to tha map asset.
+   * @param root              {@link JsonValue} : The map's Json, formatted using
+   *                                              {@link DefaultJson#mapFormat()}.
+   * @param stationController {@link StationController} : The {@link StationController} to
+   *                                                      load {@link Station}s
+   *                                                      and {@link StationData} to.
+   * @param cookController    {@link CookController} : The {@link CookController} to load
+   *                                             {@link com.undercooked.game.entity.cook.Cook}s
+   *                                                   to.
+   * @param interactions      {@link Interactions} : The {@link Interactions} for the
+   *                                                 {@link Station}s to use.
+   * @param gameItems         {@link Items} : The {@link Items} of the game.
+   * @return {@link Map} : The loaded {@link Map}.
+   */
+  public Map load(String path, JsonValue root, StationController stationController,
+                  CookController cookController, Interactions interactions, Items gameItems) {
     // If it's null, then just load the default map and return that.
     if (root == null) {
       // Make sure this isn't the Default Map, to avoid an infinite loop.
@@ -106,7 +130,7 @@ public class MapManager {
           }
         }
       } catch (GdxRuntimeException e) {
-        e.printStackTrace();
+        Log.FILES.error("Couldn't load a station of the map.", e);
       }
     }
 
@@ -0,0 +1,381 @@
+package com.undercooked.game.map;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * The navigation of a {@link MapGrid}, which works out how to walk between
+ * the cells that don't have collision.
+ * <br><br>
+ * For each {@link MapEntity} that is walked to, a {@link FlowField} is built
+ * the first time that it's asked for, and then kept until the layout of the
+ * {@link MapGrid} changes (such as when a station is placed). This means that
+ * any number of agents can find their next step towards a station in
+ * constant time.
+ * <br><br>
+ * Single paths between two cells are found with gdx-ai's
+ * {@link IndexedAStarPathFinder}.
+ */
+public class NavigationGrid {
+
+  /**
+   * The offsets to each of the neighbouring cells, as {@code x, y} pairs.
+   * Only straight moves are used, so that nothing cuts the corner
+   * of a station.
+   */
+  private static final int[] NEIGHBOURS = {1, 0, -1, 0, 0, 1, 0, -1};
+
+  /**
+   * The {@link MapGrid} that is being navigated.
+   */
+  private final MapGrid grid;
+
+  /**
+   * The layout version of the {@link MapGrid} that the {@link FlowField}s
+   * and connections were built for.
+   */
+  private int version;
+
+  /**
+   * The {@link FlowField}s that have been built, by their target.
+   */
+  private final ObjectMap<MapEntity, FlowField> flowFields;
+
+  /**
+   * {@link FlowField}s that are no longer used, to be built again
+   * rather than making new ones.
+   */
+  private final Array<FlowField> freeFlowFields;
+
+  /**
+   * The queue of cells used when building a {@link FlowField}.
+   */
+  private final int[] queue;
+
+  /**
+   * The number of {@link FlowField}s built since the {@link NavigationGrid}
+   * was made.
+   */
+  private int flowFieldsBuilt;
+
+  /**
+   * The graph of the cells given to the {@link IndexedAStarPathFinder}.
+   */
+  private final Graph graph;
+
+  /**
+   * The {@link IndexedAStarPathFinder}, which is only made when a path
+   * is first asked for.
+   */
+  private IndexedAStarPathFinder<MapCell> pathFinder;
+
+  /**
+   * The path output of the {@link #pathFinder}.
+   */
+  private final DefaultGraphPath<MapCell> path;
+
+  /**
+   * Constructor for the {@link NavigationGrid}.
+   *
+   * @param grid {@link MapGrid} : The {@link MapGrid} to navigate.
+   */
+  public NavigationGrid(MapGrid grid) {
+    this.grid = grid;
+    this.version = grid.getLayoutVersion();
+    this.flowFields = new ObjectMap<>();
+    this.freeFlowFields = new Array<>();
+    this.queue = new int[grid.size()];
+    this.graph = new Graph();
+    this.path = new DefaultGraphPath<>();
+  }
+
+  /**
+   * Throw away anything that was built for an older layout
+   * of the {@link MapGrid}.
+   */
+  private void validate() {
+    if (version == grid.getLayoutVersion()) {
+      return;
+    }
+    invalidate();
+  }
+
+  /**
+   * Throw away all of the {@link FlowField}s and connections, so that
+   * they are built again the next time they are needed.
+   */
+  public void invalidate() {
+    for (FlowField flowField : flowFields.values()) {
+      freeFlowFields.add(flowField);
+    }
+    flowFields.clear();
+    graph.clear();
+    version = grid.getLayoutVersion();
+  }
+
+  /**
+   * Returns whether a cell can be walked on.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it can, {@code false} if not.
+   */
+  public boolean isWalkable(int index) {
+    return !grid.isCollidable(index);
+  }
+
+  /**
+   * Returns the {@link FlowField} towards a {@link MapEntity}, building
+   * it if it hasn't been built for the current layout.
+   *
+   * @param target {@link MapEntity} : The {@link MapEntity} to walk to.
+   * @return {@link FlowField} : The {@link FlowField} towards the target.
+   */
+  public FlowField getFlowField(MapEntity target) {
+    validate();
+    FlowField flowField = flowFields.get(target);
+    if (flowField == null) {
+      flowField = freeFlowFields.size > 0
+              ? freeFlowFields.pop() : new FlowField(grid.size());
+      build(flowField, target);
+      flowFields.put(target, flowField);
+    }
+    return flowField;
+  }
+
+  /**
+   * Build a {@link FlowField} outwards from the cells next to the
+   * {@link MapEntity}, so that every reachable cell points at the
+   * neighbour that is one step closer.
+   *
+   * @param flowField {@link FlowField} : The {@link FlowField} to build.
+   * @param target    {@link MapEntity} : The {@link MapEntity} to walk to.
+   */
+  private void build(FlowField flowField, MapEntity target) {
+    flowField.clear();
+    flowField.target = target;
+    flowFieldsBuilt++;
+    IntArray cells = grid.getEntityCells(target);
+    if (cells == null) {
+      // It's not on the grid, so nothing can reach it
+      return;
+    }
+    int head = 0;
+    int tail = 0;
+    // The goals are the walkable cells next to the target, which
+    // are the ones that it can be interacted with from
+    for (int i = 0; i < cells.size; i++) {
+      int cell = cells.get(i);
+      int cellX = grid.getX(cell);
+      int cellY = grid.getY(cell);
+      for (int n = 0; n < NEIGHBOURS.length; n += 2) {
+        int x = cellX + NEIGHBOURS[n];
+        int y = cellY + NEIGHBOURS[n + 1];
+        if (!grid.isValid(x, y)) {
+          continue;
+        }
+        int goal = grid.index(x, y);
+        if (flowField.distance[goal] == FlowField.UNREACHABLE && isWalkable(goal)) {
+          flowField.distance[goal] = 0;
+          flowField.next[goal] = goal;
+          queue[tail++] = goal;
+        }
+      }
+    }
+    // Then go outwards, with each cell pointing back at the one it
+    // was reached from
+    while (head < tail) {
+      int cell = queue[head++];
+      int cellX = grid.getX(cell);
+      int cellY = grid.getY(cell);
+      int nextDistance = flowField.distance[cell] + 1;
+      for (int n = 0; n < NEIGHBOURS.length; n += 2) {
+        int x = cellX + NEIGHBOURS[n];
+        int y = cellY + NEIGHBOURS[n + 1];
+        if (!grid.isValid(x, y)) {
+          continue;
+        }
+        int neighbour = grid.index(x, y);
+        if (flowField.distance[neighbour] == FlowField.UNREACHABLE && isWalkable(neighbour)) {
+          flowField.distance[neighbour] = nextDistance;
+          flowField.next[neighbour] = cell;
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the next cell to step to from a cell to get to a {@link MapEntity}.
+   *
+   * @param target {@link MapEntity} : The {@link MapEntity} to walk to.
+   * @param index  {@code int} : The index of the cell to step from.
+   * @return {@code int} : The index of the next cell, the same index if the
+   *                       target can be interacted with from there, or
+   *                       {@link FlowField#UNREACHABLE}.
+   */
+  public int getNextCell(MapEntity target, int index) {
+    return getFlowField(target).getNext(index);
+  }
+
+  /**
+   * Finds the centre of the next cell to walk to, to get to a {@link MapEntity}
+   * from a position on the {@link Map}.
+   *
+   * @param target {@link MapEntity} : The {@link MapEntity} to walk to.
+   * @param x      {@code float} : The {@code x} position to walk from.
+   * @param y      {@code float} : The {@code y} position to walk from.
+   * @param output {@link Vector2} : The {@link Vector2} to put the position in.
+   * @return {@code boolean} : {@code true} if there is a next step,
+   *                           {@code false} if the target can't be reached.
+   */
+  public boolean getNextStep(MapEntity target, float x, float y, Vector2 output) {
+    int cellX = MapManager.posToGridFloor(x);
+    int cellY = MapManager.posToGridFloor(y);
+    if (!grid.isValid(cellX, cellY)) {
+      return false;
+    }
+    int next = getNextCell(target, grid.index(cellX, cellY));
+    if (next == FlowField.UNREACHABLE) {
+      return false;
+    }
+    float half = MapManager.gridToPos(1) / 2f;
+    output.set(MapManager.gridToPos(grid.getX(next)) + half,
+            MapManager.gridToPos(grid.getY(next)) + half);
+    return true;
+  }
+
+  /**
+   * Find the shortest path between two cells.
+   *
+   * @param start  {@code int} : The index of the cell to start from.
+   * @param end    {@code int} : The index of the cell to get to.
+   * @param output {@link IntArray} : The {@link IntArray} to put the indexes of
+   *               the cells of the path in, including the start and end.
+   * @return {@code boolean} : {@code true} if a path was found, {@code false} if not.
+   */
+  public boolean findPath(int start, int end, IntArray output) {
+    validate();
+    output.clear();
+    if (!isWalkable(start) || !isWalkable(end)) {
+      return false;
+    }
+    if (pathFinder == null) {
+      pathFinder = new IndexedAStarPathFinder<>(graph);
+    }
+    path.clear();
+    if (!pathFinder.searchNodePath(grid.getCell(start), grid.getCell(end), graph, path)) {
+      return false;
+    }
+    for (int i = 0; i < path.getCount(); i++) {
+      output.add(path.get(i).getIndex());
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of {@link FlowField}s that are currently built.
+   *
+   * @return {@code int} : The number of {@link FlowField}s.
+   */
+  public int getFlowFieldCount() {
+    return flowFields.size;
+  }
+
+  /**
+   * Returns the number of {@link FlowField}s that have been built since the
+   * {@link NavigationGrid} was made, including ones that were built again.
+   *
+   * @return {@code int} : The number of {@link FlowField}s built.
+   */
+  public int getFlowFieldsBuilt() {
+    return flowFieldsBuilt;
+  }
+
+  /**
+   * The cells of the {@link MapGrid} as an {@link IndexedGraph} for the
+   * {@link IndexedAStarPathFinder}, which also acts as its {@link Heuristic}.
+   */
+  private class Graph implements IndexedGraph<MapCell>, Heuristic<MapCell> {
+
+    /**
+     * The connections out of each cell, which are only made when
+     * they are first asked for.
+     */
+    private final Array<Array<Connection<MapCell>>> connections;
+
+    /**
+     * Whether the connections of each cell have been made for
+     * the current layout.
+     */
+    private final boolean[] built;
+
+    Graph() {
+      connections = new Array<>(grid.size());
+      for (int i = 0; i < grid.size(); i++) {
+        connections.add(null);
+      }
+      built = new boolean[grid.size()];
+    }
+
+    /**
+     * Mark all the connections as needing to be made again.
+     */
+    void clear() {
+      for (int i = 0; i < built.length; i++) {
+        built[i] = false;
+      }
+    }
+
+    @Override
+    public int getIndex(MapCell node) {
+      return node.getIndex();
+    }
+
+    @Override
+    public int getNodeCount() {
+      return grid.size();
+    }
+
+    @Override
+    public Array<Connection<MapCell>> getConnections(MapCell fromNode) {
+      int index = fromNode.getIndex();
+      Array<Connection<MapCell>> cellConnections = connections.get(index);
+      if (cellConnections == null) {
+        cellConnections = new Array<>(NEIGHBOURS.length / 2);
+        connections.set(index, cellConnections);
+      }
+      if (!built[index]) {
+        cellConnections.clear();
+        int cellX = grid.getX(index);
+        int cellY = grid.getY(index);
+        for (int n = 0; n < NEIGHBOURS.length; n += 2) {
+          int x = cellX + NEIGHBOURS[n];
+          int y = cellY + NEIGHBOURS[n + 1];
+          if (!grid.isValid(x, y)) {
+            continue;
+          }
+          int neighbour = grid.index(x, y);
+          if (isWalkable(neighbour)) {
+            cellConnections.add(new DefaultConnection<>(fromNode, grid.getCell(neighbour)));
+          }
+        }
+        built[index] = true;
+      }
+      return cellConnections;
+    }
+
+    @Override
+    public float estimate(MapCell node, MapCell endNode) {
+      // Manhattan distance, as there are only straight moves
+      return Math.abs(node.getX() - endNode.getX()) + Math.abs(node.getY() - endNode.getY());
+    }
+  }
+}
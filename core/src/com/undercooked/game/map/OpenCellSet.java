@@ -0,0 +1,155 @@
+package com.undercooked.game.map;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Predicate;
+
+/**
+ * A set of the indexes of the open cells of a {@link MapGrid}, for one
+ * {@link Map.MapCellType}, which is kept up to date by the {@link MapGrid}
+ * as its cells change.
+ * <br><br>
+ * Adding, removing and picking a random cell are all constant time, as the
+ * indexes are kept in an {@link IntArray}, along with where each cell is
+ * in it.
+ */
+public class OpenCellSet {
+
+  /**
+   * The number of random cells that are tried before going through
+   * all of them to find one that isn't excluded.
+   */
+  public static final int RANDOM_TRIES = 16;
+
+  /**
+   * The indexes of the open cells, in no particular order.
+   */
+  private final IntArray cells;
+
+  /**
+   * Where each cell is in {@link #cells}, plus one, or {@code 0}
+   * if it isn't open.
+   */
+  private final int[] slots;
+
+  /**
+   * The cells that aren't excluded, used when picking a random cell
+   * has to go through all of them.
+   */
+  private final IntArray allowed;
+
+  /**
+   * Constructor for the {@link OpenCellSet}.
+   *
+   * @param size {@code int} : The number of cells in the {@link MapGrid}.
+   */
+  public OpenCellSet(int size) {
+    this.cells = new IntArray(size);
+    this.slots = new int[size];
+    this.allowed = new IntArray();
+  }
+
+  /**
+   * Set whether a cell is open or not.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @param open  {@code boolean} : Whether the cell is open.
+   */
+  public void set(int index, boolean open) {
+    if (open) {
+      add(index);
+    } else {
+      remove(index);
+    }
+  }
+
+  /**
+   * Add a cell to the set, if it isn't already in it.
+   *
+   * @param index {@code int} : The index of the cell.
+   */
+  public void add(int index) {
+    if (slots[index] != 0) {
+      return;
+    }
+    cells.add(index);
+    slots[index] = cells.size;
+  }
+
+  /**
+   * Remove a cell from the set, if it's in it, by moving the last
+   * cell into its place.
+   *
+   * @param index {@code int} : The index of the cell.
+   */
+  public void remove(int index) {
+    int slot = slots[index] - 1;
+    if (slot < 0) {
+      return;
+    }
+    int last = cells.pop();
+    if (slot < cells.size) {
+      cells.set(slot, last);
+      slots[last] = slot + 1;
+    }
+    slots[index] = 0;
+  }
+
+  /**
+   * Returns whether a cell is in the set.
+   *
+   * @param index {@code int} : The index of the cell.
+   * @return {@code boolean} : {@code true} if it's open, {@code false} if not.
+   */
+  public boolean contains(int index) {
+    return slots[index] != 0;
+  }
+
+  /**
+   * Returns the number of open cells.
+   *
+   * @return {@code int} : The number of cells in the set.
+   */
+  public int size() {
+    return cells.size;
+  }
+
+  /**
+   * Returns a random cell from the set that isn't excluded.
+   * <br><br>
+   * A few random cells are tried first, which is all that is needed unless
+   * most of the cells are excluded. If none of them are allowed, it goes
+   * through all the cells instead, so every allowed cell is still as likely
+   * to be picked as any other.
+   *
+   * @param grid    {@link MapGrid} : The {@link MapGrid} of the cells.
+   * @param exclude {@link Predicate}&lt;{@link MapCell}&gt; : Returns {@code true}
+   *                for cells that can't be picked. If {@code null},
+   *                no cells are excluded.
+   * @return {@code int} : The index of the cell, or {@code -1} if there
+   *                       are no allowed cells.
+   */
+  public int random(MapGrid grid, Predicate<MapCell> exclude) {
+    if (cells.size == 0) {
+      return -1;
+    }
+    for (int i = 0; i < RANDOM_TRIES; i++) {
+      int index = cells.get(MathUtils.random(cells.size - 1));
+      if (exclude == null || !exclude.evaluate(grid.getCell(index))) {
+        return index;
+      }
+    }
+    // Otherwise, find all the ones that are allowed
+    allowed.clear();
+    for (int i = 0; i < cells.size; i++) {
+      int index = cells.get(i);
+      if (!exclude.evaluate(grid.getCell(index))) {
+        allowed.add(index);
+      }
+    }
+    if (allowed.size == 0) {
+      return -1;
+    }
+    return allowed.get(MathUtils.random(allowed.size - 1));
+  }
+}
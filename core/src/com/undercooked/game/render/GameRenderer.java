@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
@@ -19,21 +20,48 @@ import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.entity.Entity;
 import com.undercooked.game.entity.cook.Cook;
 import com.undercooked.game.entity.cook.CookController;
+import com.undercooked.game.entity.customer.CustomerController;
 import com.undercooked.game.food.Instruction;
 import com.undercooked.game.food.Item;
 import com.undercooked.game.food.Request;
 import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.Map;
 import com.undercooked.game.map.MapCell;
 import com.undercooked.game.map.MapEntity;
 import com.undercooked.game.util.CameraController;
 import com.undercooked.game.util.Constants;
 import com.undercooked.game.util.StringUtil;
+import com.undercooked.game.util.profiler.Profiler;
 import java.util.Comparator;
 
 /**
  * The class used to render the game visually.
  */
 public class GameRenderer {
+  /**
+   * The ways that the world can be rendered.
+   */
+  public enum RenderMode {
+    /**
+     * Begin and end the {@link SpriteBatch} and {@link ShapeRenderer}
+     * for every part of every {@link Entity}.
+     */
+    IMMEDIATE,
+    /**
+     * Keep the {@link SpriteBatch} open for all of the {@link Entity}s,
+     * only stopping it for those with shapes to draw.
+     */
+    BATCHED
+  }
+
+  /**
+   * How far outside of the camera's view, in pixels, that things are
+   * still drawn. This is the height of the tallest sprites, the cooks
+   * and customers, so that they don't disappear while part of them
+   * can still be seen.
+   */
+  public static final float CULL_MARGIN = 128;
+
   /**
    * The {@link GameLogic} to render.
    */
@@ -80,20 +108,73 @@ public class GameRenderer {
   protected Sprite interactSprite;
 
   /**
-   * The {@link Texture} for the money icon in the bottom right.
+   * The {@link TextureRegion} for the money icon in the bottom right.
    */
-  protected Texture moneyTex;
+  protected TextureRegion moneyTex;
 
   /**
-   * The {@link Texture} for the reputation icon in the bottom right.
+   * The {@link TextureRegion} for the reputation icon in the bottom right.
    */
-  protected Texture reputationTex;
+  protected TextureRegion reputationTex;
 
   /**
    * Camera {@link Vector3} for calculations, to avoid creating an instance every frame.
    */
   protected Vector3 cameraVector;
 
+  /**
+   * The {@link RenderMode} that the world is rendered with.
+   */
+  protected RenderMode renderMode = RenderMode.BATCHED;
+
+  /**
+   * The number of {@link SpriteBatch} render calls made while rendering
+   * the world in the last frame.
+   */
+  protected int renderCalls;
+
+  /**
+   * The number of render calls made while rendering the floor
+   * in the last frame.
+   */
+  protected int floorRenderCalls;
+
+  /**
+   * Whether things outside of the {@link #worldCamera}'s view are
+   * skipped or not.
+   */
+  protected boolean culling = true;
+
+  /**
+   * The area of the world that is drawn, which is the {@link #worldCamera}'s
+   * view with the {@link #CULL_MARGIN} around it.
+   */
+  protected final Rectangle cullBounds = new Rectangle();
+
+  /**
+   * The {@link #renderEntities} that are inside of the {@link #cullBounds}
+   * this frame, in the order they are drawn.
+   */
+  protected final Array<Entity> visibleEntities = new Array<>();
+
+  /**
+   * The number of {@link Entity}s and {@link com.undercooked.game.entity.customer.Customer}s
+   * that were drawn in the last frame.
+   */
+  protected int visibleCount;
+
+  /**
+   * The number of {@link Entity}s and {@link com.undercooked.game.entity.customer.Customer}s
+   * that were skipped for being outside of the view in the last frame.
+   */
+  protected int culledCount;
+
+  /**
+   * The {@code x} and {@code y} to draw the price of the station target at.
+   */
+  private float priceX;
+  private float priceY;
+
   /**
    * The comparator for drawing the {@link Entity}s in the {@link #renderEntities}
    * earlier if they're higher up so they visually appear lower.
@@ -230,7 +311,11 @@ public class GameRenderer {
   }
 
   /**
-   * A function to be overridden by children.
+   * A function to be overridden by children, called after each
+   * {@link Entity} has been drawn.
+   * <br>
+   * The {@link #batch} has already begun when this is called, so
+   * children should only draw to it and not call begin or end.
    *
    * @param entity {@link Entity} : The {@link Entity} to render.
    */
@@ -244,6 +329,16 @@ public class GameRenderer {
    * @param delta {@code float} : The time since the last frame
    */
   public void render(float delta) {
+    // Reset the per frame render call counter
+    renderCalls = 0;
+
+    // Draw everything that moves between its last two positions
+    float alpha = logic.getInterpolationAlpha();
+    CookController cookController = logic.getCookController();
+    CustomerController customerController = logic.getCustomerController();
+    cookController.interpolate(alpha);
+    customerController.interpolate(alpha);
+
     // Clear the Screen
     ScreenUtils.clear(0, 0, 0, 0);
     Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -256,10 +351,28 @@ public class GameRenderer {
     // Move the world camera
     worldCamera.update();
 
-    // Render the floor of the map
-    batch.begin();
-    logic.getMap().drawGround(batch);
-    batch.end();
+    // Work out what can be seen by the camera
+    Rectangle view = null;
+    if (culling) {
+      updateCullBounds();
+      view = cullBounds;
+    }
+
+    // Render the floor of the map, using its cache if it's on
+    Map map = logic.getMap();
+    if (map.isFloorCached()) {
+      floorRenderCalls = map.drawGroundCached(worldCamera.combined, view);
+      renderCalls += floorRenderCalls;
+    } else {
+      batch.begin();
+      map.drawGround(batch, view);
+      endBatch();
+      floorRenderCalls = renderCalls;
+    }
+    Profiler.count(Profiler.FLOOR_CALLS, floorRenderCalls);
+    Profiler.count(Profiler.TILES_VISIBLE, map.getVisibleCells());
+    Profiler.count(Profiler.TILES_CULLED,
+            map.getFullWidth() * map.getFullHeight() - map.getVisibleCells());
 
 
     // Get the interaction target
@@ -274,69 +387,119 @@ public class GameRenderer {
       registerCell = logic.getDisplayCustomer().getRegister().getRegisterCell();
     }
 
-    // Render the entities in order, highest Y to lowest Y
+    // Render the entities in order, highest Y to lowest Y,
+    // skipping any that can't be seen
     renderEntities.sort(entityCompare);
+    visibleEntities.clear();
     for (Entity renderEntity : renderEntities) {
+      if (view == null || isInView(renderEntity, view)) {
+        visibleEntities.add(renderEntity);
+      }
+    }
+    visibleCount = visibleEntities.size;
+    culledCount = renderEntities.size - visibleEntities.size;
+    if (renderMode == RenderMode.BATCHED) {
+      renderEntitiesBatched(currentCook, interactTarget, registerCell);
+    } else {
+      renderEntitiesImmediate(currentCook, interactTarget, registerCell);
+    }
+
+    batch.begin();
+    // Render the Customers
+    int customersDrawn = customerController.draw(batch, view);
+    endBatch();
+    visibleCount += customersDrawn;
+    culledCount += customerController.getDrawCount() - customersDrawn;
+
+    shape.begin(ShapeRenderer.ShapeType.Filled);
+    customerController.draw(shape, view);
+    shape.end();
+
+    // Put everything back to where the game has it
+    cookController.endInterpolate();
+    customerController.endInterpolate();
+
+    Profiler.count(Profiler.RENDER_CALLS, renderCalls);
+    Profiler.count(Profiler.VISIBLE, visibleCount);
+    Profiler.count(Profiler.CULLED, culledCount);
+
+    // Draw debug
+    // renderDebug(delta);
+
+  }
+
+  /**
+   * Update the {@link #cullBounds} to the {@link #worldCamera}'s view,
+   * with the {@link #CULL_MARGIN} around it.
+   */
+  protected void updateCullBounds() {
+    float viewWidth = worldCamera.viewportWidth * worldCamera.zoom;
+    float viewHeight = worldCamera.viewportHeight * worldCamera.zoom;
+    cullBounds.set(worldCamera.position.x - viewWidth / 2 - CULL_MARGIN,
+            worldCamera.position.y - viewHeight / 2 - CULL_MARGIN,
+            viewWidth + CULL_MARGIN * 2,
+            viewHeight + CULL_MARGIN * 2);
+  }
+
+  /**
+   * Returns whether an {@link Entity} is inside of the view, using
+   * its collision.
+   *
+   * @param entity {@link Entity} : The {@link Entity} to check.
+   * @param view   {@link Rectangle} : The view to check against.
+   * @return {@code boolean} : {@code true} if it is inside the view,
+   *                           {@code false} if not.
+   */
+  protected boolean isInView(Entity entity, Rectangle view) {
+    return view.overlaps(entity.collision);
+  }
+
+  /**
+   * Render the {@link #visibleEntities} one at a time, beginning and ending
+   * the {@link #batch} and {@link #shape} for every step of every {@link Entity}.
+   * <br>
+   * This keeps the exact layering of every draw, but flushes the
+   * {@link SpriteBatch} several times per {@link Entity}.
+   *
+   * @param currentCook    {@link Cook} : The currently selected {@link Cook}.
+   * @param interactTarget {@link MapCell} : The {@link MapCell} the {@link Cook}
+   *                       is targeting.
+   * @param registerCell   {@link MapCell} : The {@link MapCell} of the displayed
+   *                       customer's register.
+   */
+  protected void renderEntitiesImmediate(Cook currentCook, MapCell interactTarget,
+                                         MapCell registerCell) {
+    for (Entity renderEntity : visibleEntities) {
       batch.begin();
       renderEntity.draw(batch);
-      batch.end();
+      endBatch();
 
       // Draw the selected cook's interact target. It draws on
       // the same order as the station, so that the cooks can
       // be rendered over it.
       // Check if the current entity is the interactTarget
-      if (interactTarget != null && interactTarget.getMapEntity() == renderEntity) {
+      if (isMapEntityOf(interactTarget, renderEntity)) {
         // If it is, then draw it.
-        MapEntity interactEntity = interactTarget.getMapEntity();
-        Rectangle interactBox = interactEntity.getInteractBox();
-        // If the station target is null, then draw it red.
-        // if it's disabled or a phone, draw it green to show it can be bought.
-        // Otherwise, draw it yellow.
-        if (currentCook.getStationTarget() == null) {
-          interactSprite.setColor(Color.RED);
-        } else if (currentCook.getStationTarget().isDisabled()
-                || currentCook.getStationTarget().getId().equals(Constants.PHONE_ID)) {
-          interactSprite.setColor(Color.GREEN);
-          // If this is the case, also draw the price of the station.
-          font.getData().setScale(0.6f);
-          int price = -1;
-          // Depending on if it's disabled, or a phone, change which price to use
-          if (currentCook.getStationTarget().isDisabled()) {
-            price = currentCook.getStationTarget().getPrice();
-          } else if (currentCook.getStationTarget().getId().equals(Constants.PHONE_ID)) {
-            price = logic.getCookCost();
-          }
-          // Only draw the price if it's >= 0
-          if (price >= 0) {
-            text.setText(font, String.format("%.2f", price / 100f));
-            float drawX = interactBox.x + interactBox.width / 2f - text.width / 2f;
-            float drawY = interactBox.y + interactBox.height / 2f;
-            shape.begin(ShapeRenderer.ShapeType.Filled);
-            shape.rect(drawX - 5, drawY - text.height - 5, text.width + 10, text.height + 10);
-            shape.end();
-            batch.begin();
-            font.draw(batch, text, drawX, drawY);
-            batch.end();
-          }
-        } else {
-          interactSprite.setColor(Color.YELLOW);
+        Rectangle interactBox = interactTarget.getMapEntity().getInteractBox();
+        // If it has a price to show, draw it first.
+        if (updatePriceText(currentCook, interactBox)) {
+          shape.begin(ShapeRenderer.ShapeType.Filled);
+          drawPriceBox(shape);
+          shape.end();
+          batch.begin();
+          drawPriceText(batch);
+          endBatch();
         }
-        interactSprite.setSize(interactBox.width, interactBox.height);
-        interactSprite.setPosition(interactBox.x, interactBox.y);
         batch.begin();
-        interactSprite.draw(batch);
-        batch.end();
+        drawHighlight(batch, interactBox, getInteractColor(currentCook));
+        endBatch();
       }
       // If it's not that, then check if it's the displayCustomer register cell
       // Draw the select_box for displayCustomer
-      if (registerCell != null && registerCell.getMapEntity() == renderEntity) {
-        interactSprite.setColor(Color.PURPLE);
-        Rectangle registerBox = registerCell.getMapEntity().getInteractBox();
-        interactSprite.setSize(registerBox.width, registerBox.height);
-        interactSprite.setPosition(registerBox.x, registerBox.y);
+      if (isMapEntityOf(registerCell, renderEntity)) {
         batch.begin();
-        interactSprite.draw(batch);
-        batch.end();
+        drawHighlight(batch, registerCell.getMapEntity().getInteractBox(), Color.PURPLE);
+        endBatch();
       }
 
 
@@ -345,24 +508,255 @@ public class GameRenderer {
       shape.end();
       batch.begin();
       renderEntity.drawPost(batch);
-      batch.end();
 
       // Call the render entity function
       renderEntity(renderEntity);
+      endBatch();
     }
+  }
 
+  /**
+   * Render the {@link #visibleEntities} in the same order as
+   * {@link #renderEntitiesImmediate(Cook, MapCell, MapCell)}, but without
+   * beginning and ending the {@link #batch} for every {@link Entity}.
+   * <br>
+   * The {@link #batch} is kept open while going through the {@link Entity}s,
+   * and is only ended to draw shapes for the {@link Entity}s that have them,
+   * which {@link Entity#hasShapes()} says. Everything is still drawn in the
+   * order of {@link #entityCompare}, so an {@link Entity} in front of another
+   * is always drawn over its shapes.
+   *
+   * @param currentCook    {@link Cook} : The currently selected {@link Cook}.
+   * @param interactTarget {@link MapCell} : The {@link MapCell} the {@link Cook}
+   *                       is targeting.
+   * @param registerCell   {@link MapCell} : The {@link MapCell} of the displayed
+   *                       customer's register.
+   */
+  protected void renderEntitiesBatched(Cook currentCook, MapCell interactTarget,
+                                       MapCell registerCell) {
     batch.begin();
-    // Render the Customers
-    logic.getCustomerController().draw(batch);
+    for (Entity renderEntity : visibleEntities) {
+      renderEntity.draw(batch);
+
+      // Draw the selected cook's interact target straight after the
+      // entity, so that the entities in front of it are drawn over it.
+      if (isMapEntityOf(interactTarget, renderEntity)) {
+        Rectangle interactBox = interactTarget.getMapEntity().getInteractBox();
+        // If it has a price to show, draw it first.
+        if (updatePriceText(currentCook, interactBox)) {
+          endBatch();
+          shape.begin(ShapeRenderer.ShapeType.Filled);
+          drawPriceBox(shape);
+          shape.end();
+          batch.begin();
+          drawPriceText(batch);
+        }
+        drawHighlight(batch, interactBox, getInteractColor(currentCook));
+      }
+      if (isMapEntityOf(registerCell, renderEntity)) {
+        drawHighlight(batch, registerCell.getMapEntity().getInteractBox(), Color.PURPLE);
+      }
+
+      // Only stop the batch if there are shapes to draw
+      if (renderEntity.hasShapes()) {
+        endBatch();
+        shape.begin(ShapeRenderer.ShapeType.Filled);
+        renderEntity.draw(shape);
+        shape.end();
+        batch.begin();
+      }
+
+      renderEntity.drawPost(batch);
+      // Call the render entity function
+      renderEntity(renderEntity);
+    }
+    endBatch();
+  }
+
+  /**
+   * Returns whether the {@link Entity} is the {@link MapEntity} of
+   * the {@link MapCell} or not.
+   *
+   * @param cell   {@link MapCell} : The {@link MapCell} to check.
+   * @param entity {@link Entity} : The {@link Entity} to check.
+   * @return {@code boolean} : {@code true} if it is,
+   *                           {@code false} if it is not.
+   */
+  private boolean isMapEntityOf(MapCell cell, Entity entity) {
+    return cell != null && cell.getMapEntity() != null && cell.getMapEntity() == entity;
+  }
+
+  /**
+   * Returns the {@link Color} to draw the select box for the
+   * {@link Cook}'s interact target.
+   * <br>
+   * If the station target is null, then it is red.
+   * If it's disabled or a phone, it is green to show it can be bought.
+   * Otherwise, it is yellow.
+   *
+   * @param currentCook {@link Cook} : The currently selected {@link Cook}.
+   * @return {@link Color} : The {@link Color} of the select box.
+   */
+  private Color getInteractColor(Cook currentCook) {
+    if (currentCook.getStationTarget() == null) {
+      return Color.RED;
+    }
+    if (currentCook.getStationTarget().isDisabled()
+            || currentCook.getStationTarget().getIntId() == Constants.PHONE_INT_ID) {
+      return Color.GREEN;
+    }
+    return Color.YELLOW;
+  }
+
+  /**
+   * Update the {@link #text} to the price of the {@link Cook}'s station target,
+   * if it has one to show, as well as the {@link #priceX} and {@link #priceY}.
+   *
+   * @param currentCook {@link Cook} : The currently selected {@link Cook}.
+   * @param interactBox {@link Rectangle} : The interact box of the station target.
+   * @return {@code boolean} : {@code true} if there is a price to draw,
+   *                           {@code false} if there is not.
+   */
+  private boolean updatePriceText(Cook currentCook, Rectangle interactBox) {
+    if (currentCook == null || currentCook.getStationTarget() == null) {
+      return false;
+    }
+    int price = -1;
+    // Depending on if it's disabled, or a phone, change which price to use
+    if (currentCook.getStationTarget().isDisabled()) {
+      price = currentCook.getStationTarget().getPrice();
+    } else if (currentCook.getStationTarget().getIntId() == Constants.PHONE_INT_ID) {
+      price = logic.getCookCost();
+    }
+    // Only draw the price if it's >= 0
+    if (price < 0) {
+      return false;
+    }
+    font.getData().setScale(0.6f);
+    text.setText(font, String.format("%.2f", price / 100f));
+    priceX = interactBox.x + interactBox.width / 2f - text.width / 2f;
+    priceY = interactBox.y + interactBox.height / 2f;
+    return true;
+  }
+
+  /**
+   * Draw the box behind the price set by {@link #updatePriceText(Cook, Rectangle)}.
+   *
+   * @param shape {@link ShapeRenderer} : The {@link ShapeRenderer} to use.
+   */
+  private void drawPriceBox(ShapeRenderer shape) {
+    shape.rect(priceX - 5, priceY - text.height - 5, text.width + 10, text.height + 10);
+  }
+
+  /**
+   * Draw the price set by {@link #updatePriceText(Cook, Rectangle)}.
+   *
+   * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
+   */
+  private void drawPriceText(SpriteBatch batch) {
+    font.getData().setScale(0.6f);
+    font.draw(batch, text, priceX, priceY);
+  }
+
+  /**
+   * Draw the {@link #interactSprite} over an interact box.
+   *
+   * @param batch {@link SpriteBatch} : The {@link SpriteBatch} to use.
+   * @param box   {@link Rectangle} : The box to draw over.
+   * @param color {@link Color} : The {@link Color} to draw it in.
+   */
+  private void drawHighlight(SpriteBatch batch, Rectangle box, Color color) {
+    interactSprite.setColor(color);
+    interactSprite.setSize(box.width, box.height);
+    interactSprite.setPosition(box.x, box.y);
+    interactSprite.draw(batch);
+  }
+
+  /**
+   * End the {@link #batch}, and add the number of render calls
+   * it made to the {@link #renderCalls} for this frame.
+   */
+  protected void endBatch() {
     batch.end();
+    renderCalls += batch.renderCalls;
+  }
 
-    shape.begin(ShapeRenderer.ShapeType.Filled);
-    logic.getCustomerController().draw(shape);
-    shape.end();
+  /**
+   * Set the {@link RenderMode} that the world is rendered with.
+   *
+   * @param renderMode {@link RenderMode} : The {@link RenderMode} to use.
+   */
+  public void setRenderMode(RenderMode renderMode) {
+    this.renderMode = renderMode;
+  }
 
-    // Draw debug
-    // renderDebug(delta);
+  /**
+   * Returns the {@link RenderMode} that the world is rendered with.
+   *
+   * @return {@link RenderMode} : The current {@link RenderMode}.
+   */
+  public RenderMode getRenderMode() {
+    return renderMode;
+  }
 
+  /**
+   * Returns the number of {@link SpriteBatch} render calls that
+   * were made while rendering the world in the last frame.
+   *
+   * @return {@code int} : The number of render calls.
+   */
+  public int getRenderCalls() {
+    return renderCalls;
+  }
+
+  /**
+   * Returns the number of render calls that were made while
+   * rendering the floor in the last frame.
+   *
+   * @return {@code int} : The number of render calls.
+   */
+  public int getFloorRenderCalls() {
+    return floorRenderCalls;
+  }
+
+  /**
+   * Set whether things outside of the camera's view should be
+   * skipped or not.
+   *
+   * @param culling {@code boolean} : {@code true} to skip them,
+   *                {@code false} to draw everything.
+   */
+  public void setCulling(boolean culling) {
+    this.culling = culling;
+  }
+
+  /**
+   * Returns whether things outside of the camera's view are skipped or not.
+   *
+   * @return {@code boolean} : {@code true} if they are, {@code false} if not.
+   */
+  public boolean isCulling() {
+    return culling;
+  }
+
+  /**
+   * Returns the number of {@link Entity}s and customers that were
+   * drawn in the last frame.
+   *
+   * @return {@code int} : The number drawn.
+   */
+  public int getVisibleCount() {
+    return visibleCount;
+  }
+
+  /**
+   * Returns the number of {@link Entity}s and customers that were
+   * skipped for being outside of the view in the last frame.
+   *
+   * @return {@code int} : The number skipped.
+   */
+  public int getCulledCount() {
+    return culledCount;
   }
 
   /**
@@ -442,7 +836,7 @@ public class GameRenderer {
 
       // Draw the request
       batch.begin();
-      drawInstruction(requestItem.sprite.getTexture(), text, startY, size);
+      drawInstruction(requestItem.sprite, text, startY, size);
 
       // Then display the instructions underneath.
       for (int i = 0; i < instructions.size; i++) {
@@ -474,12 +868,12 @@ public class GameRenderer {
   /**
    * Function to draw an instruction on the bottom right of the screen.
    *
-   * @param texture {@link Texture} : The instruction's icon.
+   * @param texture {@link TextureRegion} : The instruction's icon.
    * @param text    {@link String} : The text to display.
    * @param y       {@code float} : The {@code y} to draw at.
    * @param size    {@link float} : The size of the sprite.
    */
-  protected void drawInstruction(Texture texture, GlyphLayout text, float y, float size) {
+  protected void drawInstruction(TextureRegion texture, GlyphLayout text, float y, float size) {
     font.getData().setScale(0.8F);
     font.draw(batch, text, size + 16, y + 42);
     if (texture != null) {
@@ -521,9 +915,9 @@ public class GameRenderer {
    * @param textureManager {@link TextureManager} : The {@link TextureManager} to use.
    */
   public void postLoad(TextureManager textureManager) {
-    interactSprite = new Sprite(textureManager.get("interactions/select_box.png"));
-    moneyTex = textureManager.get("uielements/money.png");
-    reputationTex = textureManager.get("uielements/reputation.png");
+    interactSprite = new Sprite(textureManager.getRegion("interactions/select_box.png"));
+    moneyTex = textureManager.getRegion("uielements/money.png");
+    reputationTex = textureManager.getRegion("uielements/reputation.png");
     text = new GlyphLayout();
   }
 
@@ -0,0 +1,54 @@
+package com.undercooked.game.render;
+
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.entity.Entity;
+import com.undercooked.game.logic.GameLogic;
+
+/**
+ * A {@link GameRenderer} that doesn't draw anything.
+ * <br>
+ * It still keeps track of the {@link Entity}s in the game, as the
+ * {@link GameLogic} uses them, but all rendering, loading and camera
+ * movement is skipped. Used for running the game without a window.
+ */
+public class HeadlessRenderer extends GameRenderer {
+
+  /**
+   * Constructor for the {@link HeadlessRenderer}.
+   *
+   * @param logic {@link GameLogic} : The {@link GameLogic} to use.
+   */
+  public HeadlessRenderer(GameLogic logic) {
+    super(logic, null, null, null);
+  }
+
+  @Override
+  public void render(float delta) {
+
+  }
+
+  @Override
+  public void renderUi(float delta) {
+
+  }
+
+  @Override
+  public void moveCamera(float delta, float x, float y) {
+
+  }
+
+  @Override
+  public void load(String textureGroup, TextureManager textureManager) {
+
+  }
+
+  @Override
+  public void postLoad(TextureManager textureManager) {
+
+  }
+
+  @Override
+  public void unload(TextureManager textureManager) {
+
+  }
+}
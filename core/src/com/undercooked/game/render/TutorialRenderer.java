@@ -51,9 +51,7 @@ public class TutorialRenderer extends GameRenderer {
       return;
     }
 
-    batch.begin();
     currentStep.render(batch, entity);
-    batch.end();
   }
 
   @Override
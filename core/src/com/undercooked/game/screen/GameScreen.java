@@ -12,10 +12,15 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.undercooked.game.MainGameClass;
 import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.input.InputController;
+import com.undercooked.game.input.Keys;
 import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.Map;
 import com.undercooked.game.render.GameRenderer;
 import com.undercooked.game.util.CameraController;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.SaveLoadGame;
+import com.undercooked.game.util.profiler.Profiler;
 
 /**
  * Responsible for the pause button, and for combining the {@link GameLogic}
@@ -98,6 +103,9 @@ public class GameScreen extends Screen {
   public void setGameLogic(GameLogic gameLogic) {
     this.gameLogic = gameLogic;
     gameLogic.setGameScreen(this);
+    gameLogic.setAutosaveInterval(Constants.AUTOSAVE_INTERVAL);
+    // A different game is being played, so the next save has to be full
+    SaveLoadGame.reset();
     // If it has a GameRenderer, update it there
     if (this.gameRenderer != null) {
       this.gameLogic.setGameRenderer(this.gameRenderer);
@@ -139,6 +147,16 @@ public class GameScreen extends Screen {
 
   }
 
+  @Override
+  public boolean updateLoad() {
+    return gameLogic.updateLoad();
+  }
+
+  @Override
+  public float getLoadProgress() {
+    return gameLogic.getLoadProgress();
+  }
+
   @Override
   public void unload() {
     TextureManager textureManager = game.getTextureManager();
@@ -205,6 +223,11 @@ public class GameScreen extends Screen {
     // ==================ADD=BUTTONS=TO=STAGES=======================
     stage.addActor(pauseBtn);
 
+    // Pack the game's textures into an atlas, so that the regions the
+    // entities get in their post load are all drawn from as few
+    // Textures as possible.
+    textureManager.pack(Constants.GAME_TEXTURE_ID);
+
     // GameLogic post load
     gameLogic.postLoad();
 
@@ -254,8 +277,16 @@ public class GameScreen extends Screen {
     // Play Game Music
     game.gameMusic.play();
 
+    // Toggle the floor cache, to compare the render calls with and without it
+    if (InputController.pollJustPressed(Keys.floor_cache)) {
+      Map map = gameLogic.getMap();
+      if (map != null) {
+        map.setFloorCached(!map.isFloorCached());
+      }
+    }
+
     // Update the game logic.
-    gameLogic.update(delta);
+    gameLogic.tick(delta);
 
     // Move the camera for the game renderer
     gameLogic.moveCamera(delta);
@@ -273,9 +304,13 @@ public class GameScreen extends Screen {
   @Override
   public void renderScreen(float delta) {
     // Render the game
+    long renderStart = Profiler.begin();
     gameRenderer.render(delta);
+    Profiler.end(Profiler.RENDER, renderStart);
     // And then render UI
+    renderStart = Profiler.begin();
     gameRenderer.renderUi(delta);
+    Profiler.end(Profiler.RENDER_UI, renderStart);
   }
 
   @Override
@@ -10,18 +10,28 @@ import com.badlogic.gdx.utils.TimeUtils;
 import com.undercooked.game.MainGameClass;
 import com.undercooked.game.util.CameraController;
 import com.undercooked.game.util.Constants;
+import com.undercooked.game.util.log.Log;
+import com.undercooked.game.util.profiler.Profiler;
 
 /**
  * The {@link Screen} used whilst changing between two different
  * {@link Screen}s to load the next {@link Screen}.
  */
 public class LoadScreen extends Screen {
+
+  /**
+   * How much of the loading bar is for the {@link Screen}'s own loading,
+   * with the rest being for the {@link AssetManager}.
+   */
+  private static final float DATA_PROGRESS = 0.5f;
+
   private Screen previous;
   private Screen next;
   private final AssetManager assetManager;
   private final MainGameClass game;
   private final OrthographicCamera camera;
   private long lastLoad;
+  private boolean dataLoaded;
 
   /**
    * Constructor for the {@link LoadScreen}.
@@ -61,6 +71,13 @@ public class LoadScreen extends Screen {
    */
   public void update(boolean moveToNext) {
 
+    long loadStart = Profiler.begin();
+    // Let the Screen load anything that isn't loaded by the AssetManager,
+    // which may add more to the AssetManager once it's done
+    if (!dataLoaded) {
+      dataLoaded = next == null || next.updateLoad();
+    }
+
     // Update the AssetManager for a short bit before moving on
     while (TimeUtils.timeSinceMillis(lastLoad) <= 100
             && !assetManager.isFinished()) {
@@ -68,18 +85,20 @@ public class LoadScreen extends Screen {
       try {
         assetManager.update();
       } catch (GdxRuntimeException e) {
-        System.out.println(e);
+        Log.SCREENS.error("Failed to load an asset.", e);
       }
     }
 
+    Profiler.end(Profiler.LOADING, loadStart);
+
     lastLoad = TimeUtils.millis();
 
-    // Check if the AssetManager is finished
-    if (assetManager.isFinished() && moveToNext) {
+    // Check if the Screen and AssetManager are finished
+    if (isFinished() && moveToNext) {
       // Post load function for the Screen
       next.postLoad();
       // Then swap to the screen that was loading
-      System.out.println("Swapped to Screen " + next);
+      Log.SCREENS.info("Swapped to Screen {}", next);
       game.setScreen(next);
       // Once loaded, tell the Screen what screen loaded it
       next.fromScreen(previous);
@@ -120,11 +139,36 @@ public class LoadScreen extends Screen {
     shape.setColor(Color.WHITE);
     shape.rect(20, 20, 200, 50);
     shape.setColor(Color.GREEN);
-    shape.rect(30, 30, 180 * assetManager.getProgress(), 30);
+    shape.rect(30, 30, 180 * getProgress(), 30);
     shape.setColor(Color.WHITE);
     shape.end();
   }
 
+  /**
+   * Returns how much of the loading has been done, with the first part
+   * being the {@link Screen}'s own loading, and the rest being the
+   * {@link AssetManager}'s.
+   *
+   * @return {@code float} : The progress, from {@code 0} to {@code 1}.
+   */
+  public float getProgress() {
+    if (!dataLoaded) {
+      return next == null ? 0 : DATA_PROGRESS * next.getLoadProgress();
+    }
+    return DATA_PROGRESS + (1 - DATA_PROGRESS) * assetManager.getProgress();
+  }
+
+  /**
+   * Returns whether both the {@link Screen}'s own loading and the
+   * {@link AssetManager} have finished.
+   *
+   * @return {@code boolean} : {@code true} if it has finished loading,
+   *                           {@code false} if not.
+   */
+  public boolean isFinished() {
+    return dataLoaded && assetManager.isFinished();
+  }
+
   @Override
   public void resize(int width, int height) {
 
@@ -159,6 +203,7 @@ public class LoadScreen extends Screen {
   public void setScreens(Screen previous, Screen next) {
     this.previous = previous;
     this.next = next;
+    this.dataLoaded = false;
   }
 
   /**
@@ -177,7 +222,7 @@ public class LoadScreen extends Screen {
     update(false);
 
     // Render the bar, if it's not finished updating yet
-    if (!assetManager.isFinished()) {
+    if (!isFinished()) {
       renderBar();
     }
   }
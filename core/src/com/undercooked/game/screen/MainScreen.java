@@ -187,7 +187,13 @@ public class MainScreen extends Screen {
         if (!game.screenController.onScreen(Constants.MAIN_SCREEN_ID)) {
           return;
         }
-        loadGame();
+        // Holding shift loads the autosave instead
+        if (Gdx.input.isKeyPressed(Keys.SHIFT_LEFT)
+                || Gdx.input.isKeyPressed(Keys.SHIFT_RIGHT)) {
+          loadGame(SaveLoadGame.loadAutosaveJson());
+          return;
+        }
+        loadGame(SaveLoadGame.loadGameJson());
       }
     });
     tutorialBtn.addListener(new ClickListener() {
@@ -279,9 +285,11 @@ public class MainScreen extends Screen {
 
   /**
    * Load the game if there is data from a saved game to load.
+   *
+   * @param saveData {@link JsonValue} : The save data, or {@code null}
+   *                 if there isn't any.
    */
-  public void loadGame() {
-    JsonValue saveData = SaveLoadGame.loadGameJson();
+  public void loadGame(JsonValue saveData) {
     if (saveData == null) {
       return;
     }
@@ -136,6 +136,28 @@ public abstract class Screen implements com.badlogic.gdx.Screen {
    */
   public abstract void load();
 
+  /**
+   * Called every frame by the {@link LoadScreen} after {@link #load()},
+   * for loading that isn't done through the
+   * {@link com.badlogic.gdx.assets.AssetManager}.
+   *
+   * @return {@code boolean} : {@code true} if it has finished loading,
+   *                           {@code false} if not.
+   */
+  public boolean updateLoad() {
+    return true;
+  }
+
+  /**
+   * Returns how much of the loading that isn't done through the
+   * {@link com.badlogic.gdx.assets.AssetManager} has been done.
+   *
+   * @return {@code float} : The progress, from {@code 0} to {@code 1}.
+   */
+  public float getLoadProgress() {
+    return 1f;
+  }
+
   /**
    * Function called after the {@link Screen} has loaded.
    */
@@ -17,6 +17,8 @@ import com.undercooked.game.interactions.StationInteractControl;
 import com.undercooked.game.map.Map;
 import com.undercooked.game.map.MapEntity;
 import com.undercooked.game.map.MapManager;
+import com.undercooked.game.util.IdRegistry;
+import com.undercooked.game.util.TimingWheel;
 
 /**
  * The class for the Stations that appear on the {@link Map}.
@@ -29,6 +31,24 @@ public class Station extends MapEntity {
    */
   StationInteractControl interactControl;
 
+  /**
+   * The {@link TimingWheel} that the {@link Station}'s interaction timers
+   * are scheduled on, or {@code null} if it doesn't have one.
+   */
+  private TimingWheel timers;
+
+  /**
+   * The {@link StationController} that the {@link Station} has been added to,
+   * or {@code null} if it hasn't been.
+   */
+  private StationController controller;
+
+  /**
+   * Whether the {@link Station} is in its {@link #controller}'s active
+   * {@link Station}s or not.
+   */
+  private boolean active;
+
   /**
    * The {@link StationData} of the {@link Station}.
    */
@@ -96,11 +116,7 @@ public class Station extends MapEntity {
       return;
     }
 
-    if (lockedCooks.size == 0) {
-      interactControl.update(null, powerUpMultiplier);
-      return;
-    }
-    interactControl.update(lockedCooks.get(0), powerUpMultiplier);
+    interactControl.update(getLockedCook(), delta, powerUpMultiplier);
   }
 
   @Override
@@ -200,6 +216,11 @@ public class Station extends MapEntity {
     interactControl.draw(shape);
   }
 
+  @Override
+  public boolean hasShapes() {
+    return interactControl != null && interactControl.hasShapes();
+  }
+
   @Override
   public void drawPost(SpriteBatch batch) {
     // Do post drawing for the interaction
@@ -214,9 +235,69 @@ public class Station extends MapEntity {
    */
   public void makeInteractionController(AudioManager audioManager, Items gameItems) {
     this.interactControl = new StationInteractControl(this, audioManager, gameItems);
+    this.interactControl.setTimers(timers);
     updateStationInteractions();
   }
 
+  /**
+   * Set the {@link TimingWheel} that the {@link Station}'s interaction
+   * timers are scheduled on.
+   *
+   * @param timers {@link TimingWheel} : The {@link TimingWheel} to use,
+   *               or {@code null} for the interactions to count down
+   *               in {@link #update(float, float)}.
+   */
+  public void setTimers(TimingWheel timers) {
+    this.timers = timers;
+    if (interactControl != null) {
+      interactControl.setTimers(timers);
+    }
+  }
+
+  /**
+   * Set the {@link StationController} that the {@link Station} has been
+   * added to, moving it into that {@link StationController}'s active
+   * {@link Station}s if it has an interaction.
+   *
+   * @param controller {@link StationController} : The {@link StationController},
+   *                   or {@code null} if it has been removed.
+   */
+  void setController(StationController controller) {
+    // Take it out of the old controller's active stations
+    if (active && this.controller != null) {
+      this.controller.setActive(this, false);
+    }
+    active = false;
+    this.controller = controller;
+    updateActive();
+  }
+
+  /**
+   * Update whether the {@link Station} is one of its {@link StationController}'s
+   * active {@link Station}s, which only those with an interaction are.
+   * <br>
+   * This is called whenever the interaction is started or stopped.
+   */
+  public void updateActive() {
+    boolean nowActive = controller != null
+            && interactControl != null && interactControl.isActive();
+    if (nowActive == active) {
+      return;
+    }
+    active = nowActive;
+    controller.setActive(this, nowActive);
+  }
+
+  /**
+   * Returns the {@link StationInteractControl} of the {@link Station}.
+   *
+   * @return {@link StationInteractControl} : The {@link StationInteractControl},
+   *         or {@code null} if it hasn't been made yet.
+   */
+  public StationInteractControl getInteractControl() {
+    return interactControl;
+  }
+
   /**
    * Returns if the {@link Station} can hold items or not.
    *
@@ -336,23 +417,26 @@ public class Station extends MapEntity {
     if (itemId == null) {
       return items.size() >= number;
     }
+    // Otherwise check using its int id
+    return hasItem(IdRegistry.ITEMS.get(itemId), number);
+  }
+
+  /**
+   * Returns whether the {@link Station} has a specific {@link Item}
+   * a number of times, using the {@link Item}'s {@code int} id.
+   *
+   * @param intId  {@code int} : The {@code int} id of the {@link Item}.
+   * @param number {@code int} : The number of {@link Item}s needed.
+   * @return {@code boolean} : {@code true} if it does,
+   *                           {@code false} if it does not.
+   */
+  public boolean hasItem(int intId, int number) {
     // If it's <= 0, then return true
     if (number <= 0) {
       return true;
     }
-    // Otherwise, if itemID is not null then check the number
-    // of times that itemID occurs.
-    // Check all items
-    int numFound = 0;
-    for (Item item : items) {
-      // If item's ID and itemID match...
-      if (item.getId().equals(itemId)) {
-        // Increase numFound
-        numFound += 1;
-      }
-    }
-    // Return comparison of numFound and number
-    return numFound >= number;
+    // Otherwise, check the number of times that the id occurs.
+    return items.count(intId) >= number;
   }
 
   /**
@@ -439,6 +523,19 @@ public class Station extends MapEntity {
     return this.lockedCooks.size > 0;
   }
 
+  /**
+   * Returns the {@link Cook} that is locked to the {@link Station} first.
+   *
+   * @return {@link Cook} : The first locked {@link Cook}, or {@code null}
+   *                        if there isn't one.
+   */
+  public Cook getLockedCook() {
+    if (lockedCooks.size == 0) {
+      return null;
+    }
+    return lockedCooks.get(0);
+  }
+
   /**
    * Returns whether the {@link Station} has a specific {@link Cook} locked
    * or not.
@@ -513,6 +610,15 @@ public class Station extends MapEntity {
     interactControl.stop();
   }
 
+  /**
+   * Stop any sound that the {@link Station} is playing.
+   */
+  public void stopSounds() {
+    if (interactControl != null) {
+      interactControl.stopSounds();
+    }
+  }
+
   /**
    * Serializes the {@link Station} as a {@link JsonValue} to
    * be stored externally.
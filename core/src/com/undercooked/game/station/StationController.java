@@ -3,6 +3,7 @@ package com.undercooked.game.station;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.SnapshotArray;
 import com.undercooked.game.assets.AudioManager;
 import com.undercooked.game.entity.Entity;
 import com.undercooked.game.files.FileControl;
@@ -13,7 +14,9 @@ import com.undercooked.game.logic.GameLogic;
 import com.undercooked.game.map.Map;
 import com.undercooked.game.map.MapManager;
 import com.undercooked.game.util.DefaultJson;
+import com.undercooked.game.util.TimingWheel;
 import com.undercooked.game.util.json.JsonFormat;
+import com.undercooked.game.util.profiler.Profiler;
 
 /**
  * Deals with the loading and storage of all {@link Station}s
@@ -26,6 +29,15 @@ public class StationController {
    * game.
    */
   public Array<Station> stations;
+
+  /**
+   * The {@link Station}s that currently have an interaction, which are
+   * the only ones that need to be updated.
+   * <br>
+   * It's a {@link SnapshotArray} as {@link Station}s can finish their
+   * interaction, or start another, while they are being updated.
+   */
+  private final SnapshotArray<Station> activeStations;
   /**
    * An {@link ObjectMap} that links a
    * {@link Station}'s id to the {@link StationData} that it
@@ -33,27 +45,69 @@ public class StationController {
    */
   public ObjectMap<String, StationData> stationData;
 
+  /**
+   * The {@link TimingWheel} that the {@link Station}s' interaction timers
+   * are scheduled on, which runs at the power up multiplier.
+   */
+  private final TimingWheel timers;
+
   /**
    * Constructor for the {@link StationController}.
    */
   public StationController() {
     this.stations = new Array<>();
+    this.activeStations = new SnapshotArray<>(true, 16, Station.class);
     this.stationData = new ObjectMap<>();
+    this.timers = new TimingWheel(GameLogic.TICK_RATE);
   }
 
   /**
-   * A function that calls the {@link Station#update(float)} function
-   * for all {@link Station}s that are stored by the {@link #stations}
-   * {@link Array}.
+   * A function that calls the {@link Station#update(float, float)} function
+   * for all {@link Station}s that currently have an interaction, as
+   * the others have nothing to update.
    *
    * @param delta             {@code float} : The time since the last frame.
    * @param powerUpMultiplier {@code float} : The multiplier from power ups.
    */
   public void update(float delta, float powerUpMultiplier) {
-    // Update all the stations.
-    for (Station station : stations) {
-      station.update(delta, powerUpMultiplier);
+    // Count down the interaction timers at the power up's speed
+    timers.setRate(powerUpMultiplier);
+    timers.advance(delta);
+    // Update all the active stations.
+    Station[] active = activeStations.begin();
+    for (int i = 0, n = activeStations.size; i < n; i++) {
+      active[i].update(delta, powerUpMultiplier);
     }
+    activeStations.end();
+    Profiler.count(Profiler.STATIONS_ACTIVE, activeStations.size);
+    Profiler.count(Profiler.STATIONS_TOTAL, stations.size);
+  }
+
+  /**
+   * Add or remove a {@link Station} from the {@link #activeStations},
+   * called by the {@link Station} when it starts or stops having an
+   * interaction.
+   *
+   * @param station {@link Station} : The {@link Station}.
+   * @param active  {@code boolean} : {@code true} if it has an interaction,
+   *                {@code false} if not.
+   */
+  void setActive(Station station, boolean active) {
+    if (active) {
+      activeStations.add(station);
+    } else {
+      activeStations.removeValue(station, true);
+    }
+  }
+
+  /**
+   * Returns the number of {@link Station}s that currently have an
+   * interaction, and so are being updated.
+   *
+   * @return {@code int} : The number of active {@link Station}s.
+   */
+  public int getActiveCount() {
+    return activeStations.size;
   }
 
   /**
@@ -107,40 +161,69 @@ public class StationController {
             FileControl.loadJsonAsset(stationPath, "stations"),
             DefaultJson.stationFormat());
 
-    // If it's not null...
-    if (stationRoot != null) {
-      // Load the data
-      StationData data = new StationData(stationPath);
-      // data.setPath(file.path());
-      data.setTexturePath(stationRoot.getString("texture_path"));
-      data.setWidth(stationRoot.getInt("width"));
-      data.setHeight(stationRoot.getInt("height"));
-      data.setDefaultBase(stationRoot.getString("default_base"));
-      data.setFloorTile(stationRoot.getString("floor_tile"));
-      data.setCollidable(stationRoot.getBoolean("has_collision"));
-
-      // For collision width and height, if they are <= 0, then default to
-      // grid size of the width and height
-      float stationWidth = stationRoot.getFloat("collision_width");
-      float stationHeight = stationRoot.getFloat("collision_height");
-
-      data.setCollisionWidth(
-              stationWidth > 0 ? stationWidth : MapManager.gridToPos(data.getWidth())
-      );
-      data.setCollisionHeight(
-              stationHeight > 0 ? stationHeight : MapManager.gridToPos(data.getHeight())
-      );
-
-      data.setCollisionOffsetX(stationRoot.getFloat("collision_offset_x"));
-      data.setCollisionOffsetY(stationRoot.getFloat("collision_offset_y"));
-
-      data.setHoldCount(stationRoot.getInt("holds"));
-
-      data.setPrice(stationRoot.getInt("price"));
-      // Then add it to the stations list
-      return data;
+    return createStationData(stationPath, stationRoot);
+  }
+
+  /**
+   * Creates the {@link StationData} from the formatted {@link JsonValue} of
+   * a station asset, without adding it to a {@link StationController}.
+   * <br>
+   * This doesn't use anything but the {@link JsonValue}, so it can be used
+   * off of the main thread.
+   *
+   * @param stationPath {@link String} : The path to the station asset.
+   * @param stationRoot {@link JsonValue} : The station's Json, formatted using
+   *                    {@link DefaultJson#stationFormat()}.
+   * @return {@link StationData} : The {@link StationData} of the Json,
+   *                               or {@code null} if the Json is {@code null}.
+   */
+  public static StationData createStationData(String stationPath, JsonValue stationRoot) {
+    // If it's null, there's nothing to load
+    if (stationRoot == null) {
+      return null;
+    }
+    // Load the data
+    StationData data = new StationData(stationPath);
+    // data.setPath(file.path());
+    data.setTexturePath(stationRoot.getString("texture_path"));
+    data.setWidth(stationRoot.getInt("width"));
+    data.setHeight(stationRoot.getInt("height"));
+    data.setDefaultBase(stationRoot.getString("default_base"));
+    data.setFloorTile(stationRoot.getString("floor_tile"));
+    data.setCollidable(stationRoot.getBoolean("has_collision"));
+
+    // For collision width and height, if they are <= 0, then default to
+    // grid size of the width and height
+    float stationWidth = stationRoot.getFloat("collision_width");
+    float stationHeight = stationRoot.getFloat("collision_height");
+
+    data.setCollisionWidth(
+            stationWidth > 0 ? stationWidth : MapManager.gridToPos(data.getWidth())
+    );
+    data.setCollisionHeight(
+            stationHeight > 0 ? stationHeight : MapManager.gridToPos(data.getHeight())
+    );
+
+    data.setCollisionOffsetX(stationRoot.getFloat("collision_offset_x"));
+    data.setCollisionOffsetY(stationRoot.getFloat("collision_offset_y"));
+
+    data.setHoldCount(stationRoot.getInt("holds"));
+
+    data.setPrice(stationRoot.getInt("price"));
+    return data;
+  }
+
+  /**
+   * Adds {@link StationData} that has already been loaded, such as by the
+   * {@link com.undercooked.game.logic.ScenarioPreloader}, if there isn't
+   * already {@link StationData} for its id.
+   *
+   * @param data {@link StationData} : The {@link StationData} to add.
+   */
+  public void addStationData(StationData data) {
+    if (data != null && !stationData.containsKey(data.getId())) {
+      stationData.put(data.getId(), data);
     }
-    return null;
   }
 
   /**
@@ -163,6 +246,8 @@ public class StationController {
     // Only add if it's not contained already
     if (!stations.contains(station, true)) {
       stations.add(station);
+      station.setTimers(timers);
+      station.setController(this);
     }
   }
 
@@ -172,7 +257,20 @@ public class StationController {
    * @param station {@link Station} : The {@link Station} to remove.
    */
   public void removeStation(Station station) {
-    stations.removeValue(station, true);
+    if (stations.removeValue(station, true)) {
+      station.setTimers(null);
+      station.setController(null);
+    }
+  }
+
+  /**
+   * Returns the {@link TimingWheel} that the {@link Station}s' interaction
+   * timers are scheduled on.
+   *
+   * @return {@link TimingWheel} : The {@link Station}s' {@link TimingWheel}.
+   */
+  public TimingWheel getTimers() {
+    return timers;
   }
 
   /**
@@ -199,8 +297,14 @@ public class StationController {
    * Clear all of the {@link Station}s.
    */
   public void clear() {
-    // Clear the stations
+    // Clear the stations, and any timers and sounds they had
+    for (Station station : stations) {
+      station.setController(null);
+      station.stopSounds();
+    }
     stations.clear();
+    activeStations.clear();
+    timers.clear();
   }
 
   /**
@@ -1,5 +1,7 @@
 package com.undercooked.game.station;
 
+import com.undercooked.game.util.IdRegistry;
+
 /**
  * A class that stores the information on the {@link Station}s.
  */
@@ -8,6 +10,7 @@ public class StationData {
   private String defaultBase;
   private String floorTile;
   private final String id;
+  private final int intId;
   private int width;
   private int height;
   private int holds;
@@ -25,6 +28,7 @@ public class StationData {
    */
   public StationData(String id) {
     this.id = id;
+    this.intId = IdRegistry.STATIONS.register(id);
     this.holds = 0;
     this.price = 0;
   }
@@ -267,4 +271,13 @@ public class StationData {
   public String getId() {
     return id;
   }
+
+  /**
+   * Returns the {@code int} id.
+   *
+   * @return {@code int} : The id of the {@link Station} in {@link IdRegistry#STATIONS}.
+   */
+  public int getIntId() {
+    return intId;
+  }
 }
\ No newline at end of file
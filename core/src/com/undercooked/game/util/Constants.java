@@ -119,6 +119,14 @@ public final class Constants {
    * {@link com.undercooked.game.entity.cook.Cook}s.
    */
   public static final String PHONE_ID = "<main>:phone";
+  /**
+   * The {@code int} id of the {@link #REGISTER_ID} in {@link IdRegistry#STATIONS}.
+   */
+  public static final int REGISTER_INT_ID = IdRegistry.STATIONS.register(REGISTER_ID);
+  /**
+   * The {@code int} id of the {@link #PHONE_ID} in {@link IdRegistry#STATIONS}.
+   */
+  public static final int PHONE_INT_ID = IdRegistry.STATIONS.register(PHONE_ID);
   /**
    * The asset path for the custom scenario, which the player can select
    * the number of customers to serve.
@@ -156,6 +164,10 @@ public final class Constants {
    * The default volume for the Sound.
    */
   public static final float DEFAULT_SOUND_VOLUME = 0.5F;
+  /**
+   * The time between autosaves of a game, in seconds.
+   */
+  public static final float AUTOSAVE_INTERVAL = 30F;
   /**
    * The default {@link com.undercooked.game.map.Map} to load if one fails to load.
    */
@@ -0,0 +1,116 @@
+package com.undercooked.game.util;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * A registry that gives each {@link String} id its own {@code int} id,
+ * counting up from {@code 0} in the order they were registered.
+ * <br><br>
+ * The {@link String} ids are what's used in the Json files and the save
+ * files, but anything that needs to check ids often should use the
+ * {@code int} ids, which can be compared with {@code ==} and used as
+ * an index into an array.
+ * <br><br>
+ * Ids are never removed, so an {@code int} id always stays the same
+ * for as long as the game is running.
+ */
+public class IdRegistry {
+
+  /**
+   * The {@code int} id for an id that isn't registered.
+   */
+  public static final int NONE = -1;
+
+  /**
+   * The ids of the {@link com.undercooked.game.food.Item}s.
+   */
+  public static final IdRegistry ITEMS = new IdRegistry();
+
+  /**
+   * The ids of the types of {@link com.undercooked.game.station.Station}s.
+   */
+  public static final IdRegistry STATIONS = new IdRegistry();
+
+  /**
+   * The ids of the inputs in the controls.
+   */
+  public static final IdRegistry INPUTS = new IdRegistry();
+
+  /**
+   * The {@code int} id of each registered {@link String} id.
+   */
+  private final ObjectIntMap<String> ids;
+
+  /**
+   * The {@link String} id at each {@code int} id.
+   */
+  private final Array<String> names;
+
+  /**
+   * Constructor for the {@link IdRegistry}.
+   */
+  public IdRegistry() {
+    this.ids = new ObjectIntMap<>();
+    this.names = new Array<>(String.class);
+  }
+
+  /**
+   * Register a {@link String} id, if it isn't registered already.
+   * <br>
+   * This can be called while loading on another thread.
+   *
+   * @param name {@link String} : The id to register.
+   * @return {@code int} : The {@code int} id, or {@link #NONE} if the
+   *                       id is {@code null}.
+   */
+  public synchronized int register(String name) {
+    if (name == null) {
+      return NONE;
+    }
+    int id = ids.get(name, NONE);
+    if (id == NONE) {
+      id = names.size;
+      ids.put(name, id);
+      names.add(name);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the {@code int} id of a {@link String} id, without registering it.
+   *
+   * @param name {@link String} : The id.
+   * @return {@code int} : The {@code int} id, or {@link #NONE} if it
+   *                       isn't registered.
+   */
+  public synchronized int get(String name) {
+    if (name == null) {
+      return NONE;
+    }
+    return ids.get(name, NONE);
+  }
+
+  /**
+   * Returns the {@link String} id of an {@code int} id.
+   *
+   * @param id {@code int} : The {@code int} id.
+   * @return {@link String} : The id, or {@code null} if it isn't registered.
+   */
+  public synchronized String getName(int id) {
+    if (id < 0 || id >= names.size) {
+      return null;
+    }
+    return names.get(id);
+  }
+
+  /**
+   * Returns the number of registered ids, which is one more than
+   * the highest {@code int} id.
+   *
+   * @return {@code int} : The number of ids.
+   */
+  public synchronized int size() {
+    return names.size;
+  }
+}
@@ -1,5 +1,6 @@
 package com.undercooked.game.util;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import java.util.Random;
 
@@ -45,14 +46,15 @@ public class MathUtil {
 
   /**
    * Returns a random integer between the minimum (inclusive) and the
-   * maximum (exclusive).
+   * maximum (exclusive), using {@link MathUtils#random} so that it
+   * follows the game's seed.
    *
    * @param min {@code int} : The minimum number (inclusive).
    * @param max {@code int} : The maximum number (exclusive).
    * @return {@code int} : A random number between the min and max.
    */
   public static int nextInt(int min, int max) {
-    return nextInt(new Random(), min, max);
+    return nextInt(MathUtils.random, min, max);
   }
 
 }
@@ -2,41 +2,206 @@ package com.undercooked.game.util;
 
 import com.badlogic.gdx.utils.JsonValue;
 import com.undercooked.game.files.FileControl;
+import com.undercooked.game.files.SnapshotCodec;
+import com.undercooked.game.files.SnapshotWriter;
 import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.util.log.Log;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * A class that simply saves and loads a game.
+ * <br><br>
+ * Games are saved as binary snapshots using the {@link SnapshotWriter}, on a
+ * background thread. The Json save can still be exported using
+ * {@link #exportJson(GameLogic)} for debugging, and is loaded if there is
+ * no snapshot.
+ * <br>
+ * Autosaves are written to their own file, so that they never replace a game
+ * that was saved by the player. They are only loaded by
+ * {@link #loadAutosaveJson()}.
  */
 public class SaveLoadGame {
 
+  /**
+   * The name of the binary snapshot save file.
+   */
+  public static final String SAVE_FILE = "save.snap";
+
+  /**
+   * The name of the binary snapshot autosave file.
+   */
+  public static final String AUTOSAVE_FILE = "autosave.snap";
+
+  /**
+   * The name of the Json save file.
+   */
+  public static final String JSON_SAVE_FILE = "save.json";
+
+  /**
+   * The {@link SnapshotWriter} used to save, which is only made when
+   * it's first needed.
+   */
+  private static SnapshotWriter snapshotWriter;
+
+  /**
+   * The {@link SnapshotWriter} used to autosave, which is only made when
+   * it's first needed.
+   */
+  private static SnapshotWriter autosaveWriter;
+
+  /**
+   * Returns the {@link SnapshotWriter} for the save file.
+   *
+   * @return {@link SnapshotWriter} : The {@link #snapshotWriter}.
+   */
+  private static synchronized SnapshotWriter getSnapshotWriter() {
+    if (snapshotWriter == null) {
+      snapshotWriter = new SnapshotWriter(FileControl.getDataPath(), SAVE_FILE);
+    }
+    return snapshotWriter;
+  }
+
+  /**
+   * Returns the {@link SnapshotWriter} for the autosave file.
+   *
+   * @return {@link SnapshotWriter} : The {@link #autosaveWriter}.
+   */
+  private static synchronized SnapshotWriter getAutosaveWriter() {
+    if (autosaveWriter == null) {
+      autosaveWriter = new SnapshotWriter(FileControl.getDataPath(), AUTOSAVE_FILE);
+    }
+    return autosaveWriter;
+  }
+
   /**
    * Saves the {@link JsonValue} produced by the
-   * {@link GameLogic#serialise()} function.
+   * {@link GameLogic#serialise()} function as a full snapshot.
+   * <br>
+   * The file is written on a background thread.
    *
    * @param gameLogic {@link GameLogic} : The {@link GameLogic} to save.
    */
   public static void saveGame(GameLogic gameLogic) {
     JsonValue save = gameLogic.serialise();
-    FileControl.saveJsonData("save.json", save);
+    getSnapshotWriter().save(save);
+  }
+
+  /**
+   * Saves only the parts of the {@link JsonValue} produced by the
+   * {@link GameLogic#serialise()} function that have changed since
+   * the last autosave, to the autosave file.
+   * <br>
+   * The file is written on a background thread.
+   *
+   * @param gameLogic {@link GameLogic} : The {@link GameLogic} to save.
+   */
+  public static void autosave(GameLogic gameLogic) {
+    JsonValue save = gameLogic.serialise();
+    getAutosaveWriter().saveIncremental(save);
+  }
+
+  /**
+   * Saves the {@link JsonValue} produced by the {@link GameLogic#serialise()}
+   * function as Json, which is useful for debugging.
+   *
+   * @param gameLogic {@link GameLogic} : The {@link GameLogic} to save.
+   */
+  public static void exportJson(GameLogic gameLogic) {
+    JsonValue save = gameLogic.serialise();
+    FileControl.saveJsonData(JSON_SAVE_FILE, save);
+  }
+
+  /**
+   * Waits for any saves that are being written to finish.
+   */
+  public static void flush() {
+    if (snapshotWriter != null) {
+      snapshotWriter.flush();
+    }
+    if (autosaveWriter != null) {
+      autosaveWriter.flush();
+    }
+  }
+
+  /**
+   * Forgets what was last autosaved, so that the next autosave is a full
+   * snapshot. This should be called whenever a game is started or loaded,
+   * so that autosaves don't only write what changed since a different game.
+   */
+  public static void reset() {
+    if (autosaveWriter != null) {
+      autosaveWriter.reset();
+    }
   }
 
   /**
    * Loads the save {@link JsonValue} and returns it.
+   * <br>
+   * If there is no snapshot save, or it can't be read, then the
+   * Json save is loaded instead.
    *
    * @return {@link JsonValue} : The save data.
    */
   public static JsonValue loadGameJson() {
-    return FileControl.loadJsonData("save.json");
+    // Make sure the save isn't still being written
+    flush();
+    JsonValue snapshot = loadSnapshot(new File(FileControl.dirAndName(
+            FileControl.getDataPath(), SAVE_FILE)));
+    if (snapshot != null) {
+      return snapshot;
+    }
+    return FileControl.loadJsonData(JSON_SAVE_FILE);
+  }
+
+  /**
+   * Loads the autosave {@link JsonValue} and returns it.
+   *
+   * @return {@link JsonValue} : The autosave data, or {@code null} if
+   *         there is no autosave.
+   */
+  public static JsonValue loadAutosaveJson() {
+    // Make sure the autosave isn't still being written
+    flush();
+    return loadSnapshot(new File(FileControl.dirAndName(
+            FileControl.getDataPath(), AUTOSAVE_FILE)));
+  }
+
+  /**
+   * Loads a binary snapshot save file.
+   *
+   * @param file {@link File} : The snapshot file.
+   * @return {@link JsonValue} : The save data, or {@code null} if it
+   *         doesn't exist or couldn't be read.
+   */
+  public static JsonValue loadSnapshot(File file) {
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      InputStream in = new BufferedInputStream(new FileInputStream(file));
+      try {
+        return SnapshotCodec.readSnapshot(in);
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      Log.FILES.error("Couldn't read snapshot {}.", file.getPath(), e);
+      return null;
+    }
   }
 
   /**
    * Loads a {@link JsonValue} of save data, and loads it into
-   * a {@link GameLogic}.
+   * a {@link GameLogic} once it has finished loading.
    *
    * @param gameLogic {@link GameLogic} : The {@link GameLogic} to load to.
    * @param saveData  {@link JsonValue} : The save Json.
    */
   public static void loadGame(GameLogic gameLogic, JsonValue saveData) {
-    gameLogic.deserialise(saveData);
+    gameLogic.deserialiseWhenLoaded(saveData);
   }
 }
@@ -0,0 +1,430 @@
+package com.undercooked.game.util;
+
+/**
+ * A hierarchical timing wheel, which calls a {@link Timer}'s {@link Listener}
+ * once the time it was scheduled for has passed.
+ * <br><br>
+ * Time is split into ticks of {@link #getTickLength()} seconds. The wheel has
+ * {@link #LEVELS} levels of {@link #SLOTS} slots, where each slot of a level
+ * covers all of the slots of the level below it. A {@link Timer} is put in the
+ * slot of the lowest level that its deadline fits in, and is moved down a level
+ * whenever the level below it wraps around to its slot, until it's in the
+ * lowest level and is called.
+ * <br><br>
+ * This way scheduling and cancelling a {@link Timer} is constant time, and
+ * the {@link Timer}s that aren't due yet aren't looked at on each tick, so
+ * things that are waiting don't cost anything until they need to be called.
+ * <br><br>
+ * The wheel has its own clock, which moves {@link #getRate()} times as fast
+ * as the time it is given in {@link #advance(float)}, so all the
+ * {@link Timer}s on it can be sped up or slowed down at once, and it can be
+ * paused using {@link #setPaused(boolean)}.
+ */
+public class TimingWheel {
+
+  /**
+   * A deadline that can be scheduled on a {@link TimingWheel}, which tells
+   * its {@link Listener} when it has been reached.
+   * <br>
+   * A {@link Timer} can be scheduled again once it has been called or
+   * cancelled, so they are meant to be kept rather than made each time.
+   */
+  public static class Timer {
+
+    /**
+     * The {@link Listener} to tell when the {@link Timer} has been reached.
+     */
+    private final Listener<Timer> listener;
+
+    /**
+     * The {@link TimingWheel} that the {@link Timer} is scheduled on,
+     * or {@code null} if it isn't scheduled.
+     */
+    private TimingWheel wheel;
+
+    /**
+     * The tick that the {@link Timer} is due on.
+     */
+    private long deadline;
+
+    /**
+     * The index of the slot that the {@link Timer} is in.
+     */
+    private int slot;
+
+    /**
+     * The previous {@link Timer} in the same slot.
+     */
+    private Timer previous;
+
+    /**
+     * The next {@link Timer} in the same slot.
+     */
+    private Timer next;
+
+    /**
+     * Constructor for the {@link Timer}.
+     *
+     * @param listener {@link Listener}&lt;{@link Timer}&gt; : The {@link Listener}
+     *                 to tell when the {@link Timer} has been reached.
+     */
+    public Timer(Listener<Timer> listener) {
+      this.listener = listener;
+    }
+
+    /**
+     * Returns whether the {@link Timer} is currently scheduled or not.
+     *
+     * @return {@code boolean} : {@code true} if it is scheduled,
+     *                           {@code false} if not.
+     */
+    public boolean isScheduled() {
+      return wheel != null;
+    }
+
+    /**
+     * Returns the time left before the {@link Timer} is called, in the time
+     * of the {@link TimingWheel} it's scheduled on.
+     *
+     * @return {@code float} : The time left, or {@code 0} if it isn't scheduled.
+     */
+    public float getRemaining() {
+      if (wheel == null) {
+        return 0;
+      }
+      return wheel.getRemaining(this);
+    }
+
+    /**
+     * Cancel the {@link Timer}, if it is scheduled.
+     */
+    public void cancel() {
+      if (wheel == null) {
+        return;
+      }
+      wheel.cancel(this);
+    }
+  }
+
+  /**
+   * The number of bits of a tick that each level covers.
+   */
+  private static final int SLOT_BITS = 6;
+
+  /**
+   * The number of slots in each level.
+   */
+  public static final int SLOTS = 1 << SLOT_BITS;
+
+  /**
+   * The mask of the slot of a tick.
+   */
+  private static final int SLOT_MASK = SLOTS - 1;
+
+  /**
+   * The number of levels of the wheel.
+   */
+  public static final int LEVELS = 4;
+
+  /**
+   * The number of ticks that the highest level can cover. Any {@link Timer}
+   * further away than this is put in the highest level, and then put back
+   * in again each time its slot comes around until it fits.
+   */
+  private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+
+  /**
+   * The first {@link Timer} in each slot, for every level.
+   */
+  private final Timer[] slots;
+
+  /**
+   * The length of a tick, in seconds.
+   */
+  private final float tickLength;
+
+  /**
+   * The current tick.
+   */
+  private long now;
+
+  /**
+   * The time that has passed since the current tick.
+   */
+  private float accumulator;
+
+  /**
+   * How fast the wheel's clock moves.
+   */
+  private float rate;
+
+  /**
+   * Whether the wheel is paused or not.
+   */
+  private boolean paused;
+
+  /**
+   * The number of {@link Timer}s that are scheduled.
+   */
+  private int size;
+
+  /**
+   * Constructor for the {@link TimingWheel}.
+   *
+   * @param tickRate {@code float} : The number of ticks per second.
+   */
+  public TimingWheel(float tickRate) {
+    this.slots = new Timer[SLOTS * LEVELS];
+    this.tickLength = 1f / tickRate;
+    this.rate = 1f;
+  }
+
+  /**
+   * Schedule a {@link Timer} to be called once an amount of time has passed
+   * on the wheel. If it's already scheduled, it's moved to the new time.
+   * <br>
+   * A {@link Timer} is always called on a later tick, even if the time
+   * is {@code 0} or less.
+   *
+   * @param timer   {@link Timer} : The {@link Timer} to schedule.
+   * @param seconds {@code float} : The time before the {@link Timer} is called.
+   */
+  public void schedule(Timer timer, float seconds) {
+    timer.cancel();
+    // Round up to the tick that's at least that far away, counting the time
+    // that has already passed since the current tick. A little is taken off
+    // so that float error doesn't push it a tick later.
+    long ticks = (long) Math.ceil((seconds + accumulator) / tickLength - 0.001f);
+    timer.deadline = now + Math.max(1, ticks);
+    timer.wheel = this;
+    place(timer);
+    size++;
+  }
+
+  /**
+   * Cancel a {@link Timer}, if it's scheduled on this wheel.
+   *
+   * @param timer {@link Timer} : The {@link Timer} to cancel.
+   */
+  public void cancel(Timer timer) {
+    if (timer.wheel != this) {
+      return;
+    }
+    unlink(timer);
+    timer.wheel = null;
+    size--;
+  }
+
+  /**
+   * Returns the time left before a {@link Timer} is called, in the wheel's time.
+   *
+   * @param timer {@link Timer} : The {@link Timer}.
+   * @return {@code float} : The time left, or {@code 0} if it isn't scheduled on this wheel.
+   */
+  public float getRemaining(Timer timer) {
+    if (timer.wheel != this) {
+      return 0;
+    }
+    return Math.max(0, (timer.deadline - now) * tickLength - accumulator);
+  }
+
+  /**
+   * Move the wheel's clock forward, calling any {@link Timer}s that are
+   * reached. Nothing happens while the wheel is paused.
+   *
+   * @param delta {@code float} : The time that has passed, which is scaled
+   *              by the {@link #getRate()}.
+   */
+  public void advance(float delta) {
+    if (paused) {
+      return;
+    }
+    accumulator += delta * rate;
+    if (accumulator < tickLength) {
+      return;
+    }
+    // If there's nothing scheduled, just move the clock
+    if (size == 0) {
+      long ticks = (long) (accumulator / tickLength);
+      now += ticks;
+      accumulator -= ticks * tickLength;
+      return;
+    }
+    while (accumulator >= tickLength) {
+      accumulator -= tickLength;
+      tick();
+    }
+  }
+
+  /**
+   * Move forward a single tick, moving {@link Timer}s down from the higher
+   * levels when the level below wraps around, and then calling the
+   * {@link Timer}s that are due.
+   */
+  private void tick() {
+    now++;
+    // Cascade from the levels above, for each one that has wrapped around
+    for (int level = 1; level < LEVELS; level++) {
+      if ((now & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+        break;
+      }
+      cascade(level);
+    }
+    // Then call everything in the current slot. Each is taken off before
+    // being called, so that the Listener can schedule or cancel any Timer.
+    int index = (int) (now & SLOT_MASK);
+    Timer timer;
+    while ((timer = slots[index]) != null) {
+      unlink(timer);
+      timer.wheel = null;
+      size--;
+      timer.listener.tell(timer);
+    }
+  }
+
+  /**
+   * Move all of the {@link Timer}s in the current slot of a level
+   * into the lower levels.
+   *
+   * @param level {@code int} : The level to cascade.
+   */
+  private void cascade(int level) {
+    int index = level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK);
+    Timer timer = slots[index];
+    slots[index] = null;
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.previous = null;
+      timer.next = null;
+      place(timer);
+      timer = next;
+    }
+  }
+
+  /**
+   * Put a {@link Timer} in the slot for its deadline.
+   *
+   * @param timer {@link Timer} : The {@link Timer} to place.
+   */
+  private void place(Timer timer) {
+    long ticks = timer.deadline - now;
+    long deadline = timer.deadline;
+    int level = 0;
+    if (ticks >= RANGE) {
+      // Too far away, so put it at the end of the highest level
+      level = LEVELS - 1;
+      deadline = now + RANGE - 1;
+    } else {
+      while (level < LEVELS - 1 && ticks >= (1L << (SLOT_BITS * (level + 1)))) {
+        level++;
+      }
+    }
+    int index = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+    // Add it to the front of the slot
+    Timer head = slots[index];
+    timer.slot = index;
+    timer.previous = null;
+    timer.next = head;
+    if (head != null) {
+      head.previous = timer;
+    }
+    slots[index] = timer;
+  }
+
+  /**
+   * Take a {@link Timer} out of its slot.
+   *
+   * @param timer {@link Timer} : The {@link Timer} to take out.
+   */
+  private void unlink(Timer timer) {
+    if (timer.previous != null) {
+      timer.previous.next = timer.next;
+    } else {
+      slots[timer.slot] = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+    timer.previous = null;
+    timer.next = null;
+  }
+
+  /**
+   * Cancel all of the {@link Timer}s, and reset the wheel's clock.
+   */
+  public void clear() {
+    for (int i = 0; i < slots.length; i++) {
+      Timer timer = slots[i];
+      slots[i] = null;
+      while (timer != null) {
+        Timer next = timer.next;
+        timer.previous = null;
+        timer.next = null;
+        timer.wheel = null;
+        timer = next;
+      }
+    }
+    size = 0;
+    now = 0;
+    accumulator = 0;
+  }
+
+  /**
+   * Set how fast the wheel's clock moves compared to the time it's given.
+   * Changing it changes how fast all of the {@link Timer}s on it count down.
+   *
+   * @param rate {@code float} : The rate, where {@code 1} is normal speed,
+   *             and {@code 0} stops the clock.
+   */
+  public void setRate(float rate) {
+    this.rate = Math.max(0, rate);
+  }
+
+  /**
+   * Returns how fast the wheel's clock moves.
+   *
+   * @return {@code float} : The rate of the clock.
+   */
+  public float getRate() {
+    return rate;
+  }
+
+  /**
+   * Set whether the wheel is paused. While paused, {@link #advance(float)}
+   * doesn't do anything.
+   *
+   * @param paused {@code boolean} : {@code true} to pause the wheel,
+   *               {@code false} to resume it.
+   */
+  public void setPaused(boolean paused) {
+    this.paused = paused;
+  }
+
+  /**
+   * Returns whether the wheel is paused or not.
+   *
+   * @return {@code boolean} : {@code true} if it is paused,
+   *                           {@code false} if not.
+   */
+  public boolean isPaused() {
+    return paused;
+  }
+
+  /**
+   * Returns the number of {@link Timer}s that are scheduled.
+   *
+   * @return {@code int} : The number of scheduled {@link Timer}s.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the length of a tick.
+   *
+   * @return {@code float} : The length of a tick, in seconds.
+   */
+  public float getTickLength() {
+    return tickLength;
+  }
+}
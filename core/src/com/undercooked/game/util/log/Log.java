@@ -0,0 +1,257 @@
+package com.undercooked.game.util.log;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * A class composing of static functions, with no constructor,
+ * to log messages from the different parts of the game.
+ * <br>
+ * Each part of the game has its own {@link Logger}, which only logs the
+ * messages at or above its level. Those that aren't are not built at all,
+ * so logging in the game's hot paths costs nothing while they're disabled.
+ * <br><br>
+ * Logged messages are printed to the console, if {@link #setConsole(boolean)}
+ * is enabled, and are written to the {@link LogFileSink} if one has been
+ * set using {@link #setFileSink(LogFileSink)}.
+ */
+public class Log {
+
+  //region Levels
+  /**
+   * Messages used while debugging, such as those logged for every
+   * asset or item. These are often logged many times a frame.
+   */
+  public static final int DEBUG = 0;
+
+  /**
+   * Messages of the game's progress, such as loading a file.
+   */
+  public static final int INFO = 1;
+
+  /**
+   * Something went wrong, but the game can carry on as normal.
+   */
+  public static final int WARN = 2;
+
+  /**
+   * Something went wrong, and the game may not work as expected.
+   */
+  public static final int ERROR = 3;
+
+  /**
+   * Used as a {@link Logger}'s level to not log anything.
+   */
+  public static final int OFF = 4;
+
+  /**
+   * The names of the levels, as they are written.
+   */
+  private static final String[] LEVEL_NAMES = {"DEBUG", "INFO", "WARN", "ERROR"};
+  //endregion
+
+  /**
+   * The level that {@link Logger}s are given when they are made.
+   */
+  private static int defaultLevel = INFO;
+
+  /**
+   * The {@link Logger}s of each category.
+   */
+  private static final ObjectMap<String, Logger> loggers = new ObjectMap<>();
+
+  /**
+   * Whether messages are printed to the console or not.
+   */
+  private static volatile boolean console = true;
+
+  /**
+   * The {@link LogFileSink} that messages are written to, if there is one.
+   */
+  private static volatile LogFileSink fileSink;
+
+  //region Categories
+  /**
+   * The {@link com.undercooked.game.assets.TextureManager}.
+   */
+  public static final Logger TEXTURES = get("Textures");
+
+  /**
+   * The {@link com.undercooked.game.assets.AudioManager}.
+   */
+  public static final Logger AUDIO = get("Audio");
+
+  /**
+   * The {@link com.undercooked.game.food.Items}.
+   */
+  public static final Logger ITEMS = get("Items");
+
+  /**
+   * The {@link com.undercooked.game.interactions.Interactions}.
+   */
+  public static final Logger INTERACTIONS = get("Interactions");
+
+  /**
+   * The {@link com.undercooked.game.files.FileControl}.
+   */
+  public static final Logger FILES = get("Files");
+
+  /**
+   * The {@link com.undercooked.game.input.InputController}.
+   */
+  public static final Logger INPUT = get("Input");
+
+  /**
+   * The {@link com.undercooked.game.screen.Screen}s.
+   */
+  public static final Logger SCREENS = get("Screens");
+  //endregion
+
+  /**
+   * Returns the {@link Logger} of a category, making it
+   * if it doesn't exist yet.
+   *
+   * @param category {@link String} : The name of the category.
+   * @return {@link Logger} : The {@link Logger} of the category.
+   */
+  public static Logger get(String category) {
+    synchronized (loggers) {
+      Logger logger = loggers.get(category);
+      if (logger == null) {
+        logger = new Logger(category, defaultLevel);
+        loggers.put(category, logger);
+      }
+      return logger;
+    }
+  }
+
+  /**
+   * Set the level of every {@link Logger}, including those made after.
+   *
+   * @param level {@code int} : The level, from {@link #DEBUG} to {@link #OFF}.
+   */
+  public static void setLevel(int level) {
+    synchronized (loggers) {
+      defaultLevel = level;
+      for (Logger logger : loggers.values()) {
+        logger.setLevel(level);
+      }
+    }
+  }
+
+  /**
+   * Set whether messages are printed to the console or not.
+   *
+   * @param console {@code boolean} : {@code true} to print them,
+   *                                  {@code false} to not.
+   */
+  public static void setConsole(boolean console) {
+    Log.console = console;
+  }
+
+  /**
+   * Set the {@link LogFileSink} that messages are written to, closing
+   * the one before it.
+   *
+   * @param fileSink {@link LogFileSink} : The {@link LogFileSink}, or
+   *                                       {@code null} to not write to a file.
+   */
+  public static void setFileSink(LogFileSink fileSink) {
+    LogFileSink previous = Log.fileSink;
+    Log.fileSink = fileSink;
+    if (previous != null && previous != fileSink) {
+      previous.close();
+    }
+  }
+
+  /**
+   * Returns the {@link LogFileSink} that messages are written to.
+   *
+   * @return {@link LogFileSink} : The {@link LogFileSink}, or {@code null} if there isn't one.
+   */
+  public static LogFileSink getFileSink() {
+    return fileSink;
+  }
+
+  /**
+   * Returns the name of a level.
+   *
+   * @param level {@code int} : The level.
+   * @return {@link String} : The name of the level.
+   */
+  public static String getLevelName(int level) {
+    if (level < 0 || level >= LEVEL_NAMES.length) {
+      return "OFF";
+    }
+    return LEVEL_NAMES[level];
+  }
+
+  /**
+   * Put values in place of the {@code {}}s of a message, in order.
+   * If there are fewer {@code {}}s than values, the rest are ignored.
+   *
+   * @param message {@link String} : The message.
+   * @param count   {@code int} : The number of values, up to 3.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   * @param arg3    {@link Object} : The third value.
+   * @return {@link String} : The message with the values in it.
+   */
+  static String format(String message, int count, Object arg1, Object arg2, Object arg3) {
+    if (message == null) {
+      return null;
+    }
+    StringBuilder builder = new StringBuilder(message.length() + 16 * count);
+    int start = 0;
+    for (int i = 0; i < count; i++) {
+      int index = message.indexOf("{}", start);
+      if (index == -1) {
+        break;
+      }
+      builder.append(message, start, index);
+      builder.append(i == 0 ? arg1 : (i == 1 ? arg2 : arg3));
+      start = index + 2;
+    }
+    builder.append(message, start, message.length());
+    return builder.toString();
+  }
+
+  /**
+   * Write a message to the console and the {@link LogFileSink}.
+   * <br>
+   * This is only called by the {@link Logger}s, once they have
+   * checked that the level is enabled.
+   *
+   * @param level    {@code int} : The level of the message.
+   * @param category {@link String} : The category of the message.
+   * @param message  {@link String} : The message.
+   * @param cause    {@link Throwable} : What caused the message, or {@code null}.
+   */
+  static void write(int level, String category, String message, Throwable cause) {
+    boolean toConsole = console;
+    LogFileSink sink = fileSink;
+    if (!toConsole && sink == null) {
+      return;
+    }
+    String line = "[" + getLevelName(level) + "] [" + category + "] " + message;
+    if (cause != null) {
+      // Add the stack trace on to the end
+      StringWriter trace = new StringWriter();
+      cause.printStackTrace(new PrintWriter(trace));
+      line += System.lineSeparator() + trace.toString().trim();
+    }
+    if (toConsole) {
+      // Warnings and errors go to the error stream
+      if (level >= WARN) {
+        System.err.println(line);
+      } else {
+        System.out.println(line);
+      }
+    }
+    if (sink != null) {
+      sink.write(line);
+    }
+  }
+}
@@ -0,0 +1,260 @@
+package com.undercooked.game.util.log;
+
+import com.undercooked.game.files.FileControl;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes logged lines to a file on a background thread, so that
+ * logging never waits on the disk.
+ * <br><br>
+ * Lines are put into a ring buffer of a fixed size, which the background
+ * thread empties into the file. If the game logs faster than the file can
+ * be written and the buffer fills up, new lines are dropped rather than
+ * making the game wait, and the number dropped is written once there is
+ * space again.
+ */
+public class LogFileSink {
+
+  /**
+   * The default number of lines that can be waiting to be written.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /**
+   * The ring buffer of lines waiting to be written.
+   */
+  private final String[] lines;
+
+  /**
+   * The index of the oldest line in {@link #lines}.
+   */
+  private int head;
+
+  /**
+   * The number of lines in {@link #lines}.
+   */
+  private int size;
+
+  /**
+   * The number of lines dropped since the last were written.
+   */
+  private int dropped;
+
+  /**
+   * The total number of lines dropped.
+   */
+  private long totalDropped;
+
+  /**
+   * Whether the background thread is writing lines that
+   * have been taken from {@link #lines}.
+   */
+  private boolean writing;
+
+  /**
+   * Whether the {@link LogFileSink} has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * The file that the lines are written to.
+   */
+  private final File file;
+
+  /**
+   * The background thread writing the lines.
+   */
+  private final Thread thread;
+
+  /**
+   * Constructor for the {@link LogFileSink}.
+   *
+   * @param dir      {@link String} : The directory to write the file in.
+   * @param fileName {@link String} : The name of the file, which is overwritten.
+   * @param capacity {@code int} : The number of lines that can be waiting to be written.
+   */
+  public LogFileSink(String dir, String fileName, int capacity) {
+    this.lines = new String[Math.max(1, capacity)];
+    this.file = new File(FileControl.dirAndName(dir, fileName));
+    this.thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        writeLoop();
+      }
+    }, "Log Writer");
+    // Don't stop the game from closing
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Constructor for the {@link LogFileSink}, with the
+   * {@link #DEFAULT_CAPACITY}.
+   *
+   * @param dir      {@link String} : The directory to write the file in.
+   * @param fileName {@link String} : The name of the file, which is overwritten.
+   */
+  public LogFileSink(String dir, String fileName) {
+    this(dir, fileName, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Add a line to be written. If the buffer is full,
+   * the line is dropped instead.
+   *
+   * @param line {@link String} : The line to write.
+   * @return {@code boolean} : {@code true} if it will be written,
+   *                           {@code false} if it was dropped.
+   */
+  public boolean write(String line) {
+    synchronized (lines) {
+      if (closed || size == lines.length) {
+        dropped++;
+        totalDropped++;
+        return false;
+      }
+      lines[(head + size) % lines.length] = line;
+      size++;
+      // Only the writer waits on the lines, so only wake it
+      // up when there wasn't anything for it to write
+      if (size == 1) {
+        lines.notifyAll();
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Waits for all of the lines that have been added to be written.
+   */
+  public void flush() {
+    synchronized (lines) {
+      while ((size > 0 || writing) && thread.isAlive()) {
+        try {
+          lines.wait(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the lines that are waiting, and then stops writing to the file.
+   * Any lines added after are dropped.
+   */
+  public void close() {
+    synchronized (lines) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      lines.notifyAll();
+    }
+    try {
+      thread.join(1000);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the total number of lines that have been dropped.
+   *
+   * @return {@code long} : The number of dropped lines.
+   */
+  public long getDroppedCount() {
+    synchronized (lines) {
+      return totalDropped;
+    }
+  }
+
+  /**
+   * Returns the file that the lines are written to.
+   *
+   * @return {@link File} : The log file.
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Takes lines from the buffer and writes them to the file until
+   * closed. This is run on the background thread.
+   */
+  private void writeLoop() {
+    Writer out = null;
+    try {
+      File directory = file.getParentFile();
+      if (directory != null && !directory.exists() && !directory.mkdirs()) {
+        throw new IOException("Could not create directory: " + directory.getAbsolutePath());
+      }
+      out = new BufferedWriter(new FileWriter(file, false));
+      String[] batch = new String[lines.length];
+      while (true) {
+        int count;
+        int droppedCount;
+        synchronized (lines) {
+          while (size == 0 && !closed) {
+            lines.wait();
+          }
+          if (size == 0) {
+            // Closed, and there's nothing left to write
+            break;
+          }
+          // Take all of the lines, so the game can carry on adding more
+          count = size;
+          for (int i = 0; i < count; i++) {
+            int index = (head + i) % lines.length;
+            batch[i] = lines[index];
+            lines[index] = null;
+          }
+          head = (head + count) % lines.length;
+          size = 0;
+          droppedCount = dropped;
+          dropped = 0;
+          writing = true;
+        }
+        try {
+          for (int i = 0; i < count; i++) {
+            out.write(batch[i]);
+            out.write(System.lineSeparator());
+            batch[i] = null;
+          }
+          if (droppedCount > 0) {
+            out.write("[WARN] [Log] " + droppedCount + " lines dropped.");
+            out.write(System.lineSeparator());
+          }
+          out.flush();
+        } finally {
+          synchronized (lines) {
+            writing = false;
+            lines.notifyAll();
+          }
+        }
+      }
+    } catch (IOException e) {
+      System.err.println("Couldn't write log file " + file.getPath() + ": " + e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (out != null) {
+        try {
+          out.close();
+        } catch (IOException ignored) {
+        }
+      }
+      synchronized (lines) {
+        // Nothing more will be written, so stop taking lines
+        closed = true;
+        lines.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package com.undercooked.game.util.log;
+
+/**
+ * A logger for a single category of the game, such as the textures or
+ * the audio, which has its own level.
+ * <br><br>
+ * Messages are only built if their level is enabled. Any values are given
+ * separately and put in place of the {@code {}}s in the message, so that
+ * when the level is disabled, logging costs just a comparison:
+ * <pre>
+ *   Log.TEXTURES.debug("Getting Texture: {}", path);
+ * </pre>
+ * If working out the values costs anything, check {@link #isDebug()} first.
+ */
+public class Logger {
+
+  /**
+   * The name of the category.
+   */
+  private final String category;
+
+  /**
+   * The lowest level of message that is logged.
+   */
+  private int level;
+
+  /**
+   * Constructor for the {@link Logger}. {@link Log#get(String)}
+   * should be used to get a {@link Logger} instead.
+   *
+   * @param category {@link String} : The name of the category.
+   * @param level    {@code int} : The lowest level of message to log.
+   */
+  Logger(String category, int level) {
+    this.category = category;
+    this.level = level;
+  }
+
+  /**
+   * Set the lowest level of message that is logged.
+   *
+   * @param level {@code int} : The level, from {@link Log#DEBUG} to {@link Log#OFF}.
+   */
+  public void setLevel(int level) {
+    this.level = level;
+  }
+
+  /**
+   * Returns the lowest level of message that is logged.
+   *
+   * @return {@code int} : The level.
+   */
+  public int getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns the name of the category.
+   *
+   * @return {@link String} : The name of the category.
+   */
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * Returns whether messages of a level are logged or not.
+   *
+   * @param level {@code int} : The level.
+   * @return {@code boolean} : {@code true} if they are logged,
+   *                           {@code false} if not.
+   */
+  public boolean isEnabled(int level) {
+    return level >= this.level;
+  }
+
+  /**
+   * Returns whether debug messages are logged or not.
+   *
+   * @return {@code boolean} : {@code true} if they are logged,
+   *                           {@code false} if not.
+   */
+  public boolean isDebug() {
+    return Log.DEBUG >= level;
+  }
+
+  //region Debug
+  /**
+   * Log a debug message.
+   *
+   * @param message {@link String} : The message.
+   */
+  public void debug(String message) {
+    if (Log.DEBUG >= level) {
+      Log.write(Log.DEBUG, category, message, null);
+    }
+  }
+
+  /**
+   * Log a debug message, with a value in place of its {@code {}}.
+   *
+   * @param message {@link String} : The message.
+   * @param arg     {@link Object} : The value.
+   */
+  public void debug(String message, Object arg) {
+    if (Log.DEBUG >= level) {
+      Log.write(Log.DEBUG, category, Log.format(message, 1, arg, null, null), null);
+    }
+  }
+
+  /**
+   * Log a debug message, with values in place of its {@code {}}s.
+   *
+   * @param message {@link String} : The message.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   */
+  public void debug(String message, Object arg1, Object arg2) {
+    if (Log.DEBUG >= level) {
+      Log.write(Log.DEBUG, category, Log.format(message, 2, arg1, arg2, null), null);
+    }
+  }
+
+  /**
+   * Log a debug message, with values in place of its {@code {}}s.
+   *
+   * @param message {@link String} : The message.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   * @param arg3    {@link Object} : The third value.
+   */
+  public void debug(String message, Object arg1, Object arg2, Object arg3) {
+    if (Log.DEBUG >= level) {
+      Log.write(Log.DEBUG, category, Log.format(message, 3, arg1, arg2, arg3), null);
+    }
+  }
+  //endregion
+
+  //region Info
+  /**
+   * Log an info message.
+   *
+   * @param message {@link String} : The message.
+   */
+  public void info(String message) {
+    if (Log.INFO >= level) {
+      Log.write(Log.INFO, category, message, null);
+    }
+  }
+
+  /**
+   * Log an info message, with a value in place of its {@code {}}.
+   *
+   * @param message {@link String} : The message.
+   * @param arg     {@link Object} : The value.
+   */
+  public void info(String message, Object arg) {
+    if (Log.INFO >= level) {
+      Log.write(Log.INFO, category, Log.format(message, 1, arg, null, null), null);
+    }
+  }
+
+  /**
+   * Log an info message, with values in place of its {@code {}}s.
+   *
+   * @param message {@link String} : The message.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   */
+  public void info(String message, Object arg1, Object arg2) {
+    if (Log.INFO >= level) {
+      Log.write(Log.INFO, category, Log.format(message, 2, arg1, arg2, null), null);
+    }
+  }
+  //endregion
+
+  //region Warn
+  /**
+   * Log a warning.
+   *
+   * @param message {@link String} : The message.
+   */
+  public void warn(String message) {
+    if (Log.WARN >= level) {
+      Log.write(Log.WARN, category, message, null);
+    }
+  }
+
+  /**
+   * Log a warning, with a value in place of its {@code {}}.
+   *
+   * @param message {@link String} : The message.
+   * @param arg     {@link Object} : The value.
+   */
+  public void warn(String message, Object arg) {
+    if (Log.WARN >= level) {
+      Log.write(Log.WARN, category, Log.format(message, 1, arg, null, null), null);
+    }
+  }
+
+  /**
+   * Log a warning, with values in place of its {@code {}}s.
+   *
+   * @param message {@link String} : The message.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   */
+  public void warn(String message, Object arg1, Object arg2) {
+    if (Log.WARN >= level) {
+      Log.write(Log.WARN, category, Log.format(message, 2, arg1, arg2, null), null);
+    }
+  }
+  //endregion
+
+  //region Error
+  /**
+   * Log an error.
+   *
+   * @param message {@link String} : The message.
+   */
+  public void error(String message) {
+    if (Log.ERROR >= level) {
+      Log.write(Log.ERROR, category, message, null);
+    }
+  }
+
+  /**
+   * Log an error, along with the {@link Throwable} that caused it.
+   *
+   * @param message {@link String} : The message.
+   * @param cause   {@link Throwable} : What caused the error.
+   */
+  public void error(String message, Throwable cause) {
+    if (Log.ERROR >= level) {
+      Log.write(Log.ERROR, category, message, cause);
+    }
+  }
+
+  /**
+   * Log an error, with a value in place of its {@code {}}, along with
+   * the {@link Throwable} that caused it.
+   *
+   * @param message {@link String} : The message.
+   * @param arg     {@link Object} : The value.
+   * @param cause   {@link Throwable} : What caused the error.
+   */
+  public void error(String message, Object arg, Throwable cause) {
+    if (Log.ERROR >= level) {
+      Log.write(Log.ERROR, category, Log.format(message, 1, arg, null, null), cause);
+    }
+  }
+
+  /**
+   * Log an error, with values in place of its {@code {}}s, along with
+   * the {@link Throwable} that caused it.
+   *
+   * @param message {@link String} : The message.
+   * @param arg1    {@link Object} : The first value.
+   * @param arg2    {@link Object} : The second value.
+   * @param cause   {@link Throwable} : What caused the error.
+   */
+  public void error(String message, Object arg1, Object arg2, Throwable cause) {
+    if (Log.ERROR >= level) {
+      Log.write(Log.ERROR, category, Log.format(message, 2, arg1, arg2, null), cause);
+    }
+  }
+  //endregion
+}
@@ -0,0 +1,406 @@
+package com.undercooked.game.util.profiler;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.undercooked.game.files.FileControl;
+
+/**
+ * A class composing of static functions, with no constructor,
+ * to time the different sections of each frame.
+ * <br>
+ * Timing a section is done by getting the start time from {@link #begin()},
+ * and then passing it to {@link #end(String, long)} once the section is
+ * finished. When the {@link Profiler} is disabled, neither of these do
+ * anything, so they can be left in the game at no real cost.
+ * <br><br>
+ * While enabled, it keeps the most recent timings of each section to find
+ * their percentiles, and records every timing into a trace which can be
+ * saved in the Chrome trace format using {@link #dumpTrace()}.
+ * <br><br>
+ * It can also keep counters, such as the number of render calls, which
+ * are set each frame using {@link #count(String, int)}.
+ */
+public class Profiler {
+
+  //region Sections
+  /**
+   * The whole frame.
+   */
+  public static final String FRAME = "Frame";
+
+  /**
+   * Updating the inputs.
+   */
+  public static final String INPUT = "Input";
+
+  /**
+   * Updating the {@link com.undercooked.game.station.Station}s.
+   */
+  public static final String STATIONS = "Stations";
+
+  /**
+   * Updating the {@link com.undercooked.game.entity.cook.Cook}s.
+   */
+  public static final String COOKS = "Cooks";
+
+  /**
+   * Updating the {@link com.undercooked.game.entity.customer.Customer}s.
+   */
+  public static final String CUSTOMERS = "Customers";
+
+  /**
+   * Updating the {@link com.undercooked.game.entity.PowerUp}s.
+   */
+  public static final String POWER_UPS = "Power Ups";
+
+  /**
+   * Advancing the game's {@link com.undercooked.game.util.TimingWheel}, which
+   * spawns the {@link com.undercooked.game.entity.PowerUp}s and, in Endless,
+   * the {@link com.undercooked.game.entity.customer.Customer}s.
+   */
+  public static final String TIMERS = "Timers";
+
+  /**
+   * Rendering the game.
+   */
+  public static final String RENDER = "Render";
+
+  /**
+   * Rendering the game's UI.
+   */
+  public static final String RENDER_UI = "Render UI";
+
+  /**
+   * Loading assets on the {@link com.undercooked.game.screen.LoadScreen}.
+   */
+  public static final String LOADING = "Loading";
+  //endregion
+
+  //region Counters
+  /**
+   * The number of render calls made while rendering the world.
+   */
+  public static final String RENDER_CALLS = "Render Calls";
+
+  /**
+   * The number of render calls made while rendering the floor.
+   */
+  public static final String FLOOR_CALLS = "Floor Calls";
+
+  /**
+   * The number of entities and customers drawn.
+   */
+  public static final String VISIBLE = "Visible";
+
+  /**
+   * The number of entities and customers skipped for being out of view.
+   */
+  public static final String CULLED = "Culled";
+
+  /**
+   * The number of floor cells drawn.
+   */
+  public static final String TILES_VISIBLE = "Tiles Visible";
+
+  /**
+   * The number of floor cells skipped for being out of view.
+   */
+  public static final String TILES_CULLED = "Tiles Culled";
+
+  /**
+   * The number of {@link com.undercooked.game.station.Station}s with an
+   * interaction, which are the only ones updated.
+   */
+  public static final String STATIONS_ACTIVE = "Stations Active";
+
+  /**
+   * The number of {@link com.undercooked.game.station.Station}s in the game.
+   */
+  public static final String STATIONS_TOTAL = "Stations Total";
+  //endregion
+
+  /**
+   * The number of timings kept for each section to find the percentiles.
+   */
+  public static final int SAMPLE_COUNT = 600;
+
+  /**
+   * The number of timings kept for the trace, after which the oldest
+   * are replaced.
+   */
+  public static final int TRACE_CAPACITY = 65536;
+
+  /**
+   * Whether the {@link Profiler} is timing sections or not.
+   */
+  private static volatile boolean enabled;
+
+  /**
+   * The sections, in the order they were first timed.
+   */
+  private static final Array<ProfilerSection> sections = new Array<>();
+
+  /**
+   * A map of the section names to their {@link ProfilerSection}.
+   */
+  private static final ObjectMap<String, ProfilerSection> sectionMap = new ObjectMap<>();
+
+  /**
+   * The names of the counters, in the order they were first counted.
+   */
+  private static final Array<String> counterNames = new Array<>();
+
+  /**
+   * The latest value of each counter.
+   */
+  private static final ObjectIntMap<String> counters = new ObjectIntMap<>();
+
+  // The trace ring buffer. Each timing is stored across the arrays at
+  // the same index. They are only made once the Profiler is first enabled.
+  private static int[] traceSection;
+  private static long[] traceThread;
+  private static long[] traceStart;
+  private static long[] traceDuration;
+  private static int traceIndex;
+  private static int traceCount;
+
+  /**
+   * The time that the trace timestamps are relative to.
+   */
+  private static long traceOrigin = TimeUtils.nanoTime();
+
+  /**
+   * Returns the start time to pass to {@link #end(String, long)}.
+   *
+   * @return {@code long} : The current time in nanoseconds, or {@code 0}
+   *         if the {@link Profiler} is disabled.
+   */
+  public static long begin() {
+    if (!enabled) {
+      return 0;
+    }
+    return TimeUtils.nanoTime();
+  }
+
+  /**
+   * Records the time taken by a section, from the start time
+   * returned by {@link #begin()}.
+   *
+   * @param sectionName {@link String} : The name of the section.
+   * @param start       {@code long} : The start time from {@link #begin()}.
+   */
+  public static void end(String sectionName, long start) {
+    // If it was disabled when it started, or is now, then ignore it
+    if (!enabled || start == 0) {
+      return;
+    }
+    long duration = TimeUtils.nanoTime() - start;
+    record(sectionName, start, duration);
+  }
+
+  /**
+   * Records a timing into the section and the trace.
+   * <br>
+   * This is synchronized, as sections can be timed on other threads.
+   *
+   * @param sectionName {@link String} : The name of the section.
+   * @param start       {@code long} : The start time, in nanoseconds.
+   * @param duration    {@code long} : The time taken, in nanoseconds.
+   */
+  private static synchronized void record(String sectionName, long start, long duration) {
+    ProfilerSection section = getSection(sectionName);
+    section.add(duration);
+
+    traceSection[traceIndex] = section.index;
+    traceThread[traceIndex] = Thread.currentThread().getId();
+    traceStart[traceIndex] = start;
+    traceDuration[traceIndex] = duration;
+    traceIndex = (traceIndex + 1) % TRACE_CAPACITY;
+    traceCount = Math.min(traceCount + 1, TRACE_CAPACITY);
+  }
+
+  /**
+   * Returns the {@link ProfilerSection} of a name, creating it if it
+   * doesn't exist yet.
+   *
+   * @param sectionName {@link String} : The name of the section.
+   * @return {@link ProfilerSection} : The section of the name.
+   */
+  public static synchronized ProfilerSection getSection(String sectionName) {
+    ProfilerSection section = sectionMap.get(sectionName);
+    if (section == null) {
+      section = new ProfilerSection(sectionName, sections.size, SAMPLE_COUNT);
+      sections.add(section);
+      sectionMap.put(sectionName, section);
+    }
+    return section;
+  }
+
+  /**
+   * Returns all of the sections that have been timed, in the order
+   * that they were first timed.
+   *
+   * @return {@link Array}&lt;{@link ProfilerSection}&gt; : The sections.
+   */
+  public static Array<ProfilerSection> getSections() {
+    return sections;
+  }
+
+  /**
+   * Sets the value of a counter, such as the number of render calls made
+   * this frame. This does nothing if the {@link Profiler} is disabled.
+   *
+   * @param counterName {@link String} : The name of the counter.
+   * @param value       {@code int} : The value of the counter.
+   */
+  public static void count(String counterName, int value) {
+    if (!enabled) {
+      return;
+    }
+    setCounter(counterName, value);
+  }
+
+  /**
+   * Sets the value of a counter.
+   *
+   * @param counterName {@link String} : The name of the counter.
+   * @param value       {@code int} : The value of the counter.
+   */
+  private static synchronized void setCounter(String counterName, int value) {
+    if (!counters.containsKey(counterName)) {
+      counterNames.add(counterName);
+    }
+    counters.put(counterName, value);
+  }
+
+  /**
+   * Returns the names of all the counters that have been set, in the
+   * order that they were first set.
+   *
+   * @return {@link Array}&lt;{@link String}&gt; : The names of the counters.
+   */
+  public static Array<String> getCounterNames() {
+    return counterNames;
+  }
+
+  /**
+   * Returns the latest value of a counter.
+   *
+   * @param counterName {@link String} : The name of the counter.
+   * @return {@code int} : The value of the counter, or {@code 0} if it
+   *         hasn't been set.
+   */
+  public static synchronized int getCounter(String counterName) {
+    return counters.get(counterName, 0);
+  }
+
+  /**
+   * Recalculates the percentiles of every section.
+   */
+  public static synchronized void updatePercentiles() {
+    for (ProfilerSection section : sections) {
+      section.updatePercentiles();
+    }
+  }
+
+  /**
+   * Clears all of the timings and the trace.
+   */
+  public static synchronized void reset() {
+    for (ProfilerSection section : sections) {
+      section.reset();
+    }
+    counters.clear();
+    counterNames.clear();
+    traceIndex = 0;
+    traceCount = 0;
+    traceOrigin = TimeUtils.nanoTime();
+  }
+
+  /**
+   * Enable or disable the {@link Profiler}.
+   * <br>
+   * Enabling it clears the previous timings, so that the percentiles
+   * and trace are only of the time it has been enabled.
+   *
+   * @param enabled {@code boolean} : {@code true} to enable it,
+   *                {@code false} to disable it.
+   */
+  public static void setEnabled(boolean enabled) {
+    if (enabled && !Profiler.enabled) {
+      allocateTrace();
+      reset();
+    }
+    Profiler.enabled = enabled;
+  }
+
+  /**
+   * Makes the trace ring buffer, if it hasn't been made yet, so that
+   * its memory is only used if the {@link Profiler} is enabled.
+   */
+  private static synchronized void allocateTrace() {
+    if (traceSection != null) {
+      return;
+    }
+    traceSection = new int[TRACE_CAPACITY];
+    traceThread = new long[TRACE_CAPACITY];
+    traceStart = new long[TRACE_CAPACITY];
+    traceDuration = new long[TRACE_CAPACITY];
+  }
+
+  /**
+   * Returns whether the {@link Profiler} is enabled or not.
+   *
+   * @return {@code boolean} : {@code true} if it is enabled,
+   *         {@code false} if not.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the trace in the Chrome trace event format, which can be
+   * opened in {@code chrome://tracing} or Perfetto.
+   *
+   * @return {@link String} : The trace as Json.
+   */
+  public static synchronized String toChromeTrace() {
+    StringBuilder trace = new StringBuilder(128 + traceCount * 96);
+    trace.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+    // Start from the oldest timing in the ring buffer
+    int start = (traceIndex - traceCount + TRACE_CAPACITY) % TRACE_CAPACITY;
+    for (int i = 0; i < traceCount; i++) {
+      int index = (start + i) % TRACE_CAPACITY;
+      if (i > 0) {
+        trace.append(',');
+      }
+      // Complete events, with the times in microseconds
+      trace.append("{\"name\":\"").append(sections.get(traceSection[index]).name)
+              .append("\",\"cat\":\"game\",\"ph\":\"X\",\"pid\":1,\"tid\":")
+              .append(traceThread[index])
+              .append(",\"ts\":").append((traceStart[index] - traceOrigin) / 1000.0)
+              .append(",\"dur\":").append(traceDuration[index] / 1000.0)
+              .append('}');
+    }
+    trace.append("]}");
+    return trace.toString();
+  }
+
+  /**
+   * Saves the trace to the traces folder in the data path, as a Chrome
+   * trace format Json file.
+   *
+   * @return {@link String} : The name of the file saved, or {@code null}
+   *         if there was nothing to save.
+   */
+  public static String dumpTrace() {
+    if (traceCount == 0) {
+      return null;
+    }
+    String fileName = "trace-" + TimeUtils.millis() + ".json";
+    FileControl.saveToFile(FileControl.getDataPath("/traces/"), fileName, toChromeTrace());
+    return fileName;
+  }
+}
@@ -0,0 +1,171 @@
+package com.undercooked.game.util.profiler;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.input.InputController;
+import com.undercooked.game.input.Keys;
+import com.undercooked.game.util.Constants;
+
+/**
+ * A class that draws the percentiles of the {@link Profiler}'s sections
+ * over the top of the game, and handles the keys to toggle it and to
+ * save the trace.
+ */
+public class ProfilerOverlay {
+
+  /**
+   * How often, in seconds, the percentiles shown are updated.
+   */
+  public static final float REFRESH_TIME = 0.25f;
+
+  /**
+   * The height of each line of text.
+   */
+  private static final float LINE_HEIGHT = 22;
+
+  /**
+   * Whether the overlay is being shown or not.
+   */
+  private boolean visible;
+
+  /**
+   * The time since the percentiles were last updated.
+   */
+  private float refreshTimer;
+
+  /**
+   * The lines of text to draw, which are only rebuilt when the
+   * percentiles are updated.
+   */
+  private final Array<String> lines;
+
+  /**
+   * A message that is shown at the bottom of the overlay, such as
+   * where the trace was saved to.
+   */
+  private String message;
+
+  /**
+   * Constructor for the {@link ProfilerOverlay}.
+   */
+  public ProfilerOverlay() {
+    this.lines = new Array<>();
+  }
+
+  /**
+   * Check the inputs for the overlay, and update the percentiles
+   * shown if it's time to.
+   *
+   * @param delta {@code float} : The time since the last frame.
+   */
+  public void update(float delta) {
+    // Toggle the overlay, which also turns the Profiler on and off
+    if (InputController.pollJustPressed(Keys.profiler)) {
+      setVisible(!visible);
+    }
+    // Save the trace, if the Profiler is on
+    if (InputController.pollJustPressed(Keys.profiler_dump) && Profiler.isEnabled()) {
+      String fileName = Profiler.dumpTrace();
+      message = fileName == null ? "Nothing to save." : "Saved " + fileName;
+    }
+
+    if (!visible) {
+      return;
+    }
+    refreshTimer += delta;
+    if (refreshTimer >= REFRESH_TIME) {
+      refreshTimer = 0;
+      refreshLines();
+    }
+  }
+
+  /**
+   * Recalculates the percentiles and rebuilds the {@link #lines}.
+   */
+  private void refreshLines() {
+    Profiler.updatePercentiles();
+    lines.clear();
+    lines.add(String.format("%-10s %7s %7s %7s", "ms", "p50", "p95", "p99"));
+    Array<ProfilerSection> sections = Profiler.getSections();
+    for (int i = 0; i < sections.size; i++) {
+      ProfilerSection section = sections.get(i);
+      lines.add(String.format("%-10s %7.2f %7.2f %7.2f", section.name,
+              section.getP50Millis(), section.getP95Millis(), section.getP99Millis()));
+    }
+    Array<String> counterNames = Profiler.getCounterNames();
+    for (int i = 0; i < counterNames.size; i++) {
+      String counterName = counterNames.get(i);
+      lines.add(String.format("%-18s %7d", counterName, Profiler.getCounter(counterName)));
+    }
+    if (message != null) {
+      lines.add(message);
+    }
+  }
+
+  /**
+   * Draw the overlay in the top left of the screen, if it is visible.
+   *
+   * @param batch  {@link SpriteBatch} : The {@link SpriteBatch} to use.
+   * @param shape  {@link ShapeRenderer} : The {@link ShapeRenderer} to use.
+   * @param font   {@link BitmapFont} : The {@link BitmapFont} to draw the text with.
+   * @param camera {@link OrthographicCamera} : The UI camera.
+   */
+  public void draw(SpriteBatch batch, ShapeRenderer shape, BitmapFont font,
+                   OrthographicCamera camera) {
+    if (!visible || lines.size == 0) {
+      return;
+    }
+    float height = lines.size * LINE_HEIGHT + 16;
+    float top = Constants.V_HEIGHT - 80;
+
+    // Draw a translucent background
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    shape.setProjectionMatrix(camera.combined);
+    shape.begin(ShapeRenderer.ShapeType.Filled);
+    shape.setColor(0, 0, 0, 0.6f);
+    shape.rect(0, top - height, 420, height);
+    shape.end();
+
+    // Then the text over it
+    batch.setProjectionMatrix(camera.combined);
+    batch.begin();
+    font.getData().setScale(0.5f);
+    font.setColor(Color.WHITE);
+    for (int i = 0; i < lines.size; i++) {
+      font.draw(batch, lines.get(i), 8, top - 8 - i * LINE_HEIGHT);
+    }
+    font.getData().setScale(1f);
+    batch.end();
+  }
+
+  /**
+   * Show or hide the overlay. Showing it enables the {@link Profiler},
+   * and hiding it disables it.
+   *
+   * @param visible {@code boolean} : {@code true} to show it,
+   *                {@code false} to hide it.
+   */
+  public void setVisible(boolean visible) {
+    this.visible = visible;
+    Profiler.setEnabled(visible);
+    refreshTimer = REFRESH_TIME;
+    message = null;
+    lines.clear();
+  }
+
+  /**
+   * Returns whether the overlay is visible or not.
+   *
+   * @return {@code boolean} : {@code true} if it is visible,
+   *         {@code false} if not.
+   */
+  public boolean isVisible() {
+    return visible;
+  }
+}
@@ -0,0 +1,158 @@
+package com.undercooked.game.util.profiler;
+
+import java.util.Arrays;
+
+/**
+ * A class which stores the most recent timings of a single section
+ * of the frame for the {@link Profiler}, and calculates rolling
+ * percentiles from them.
+ */
+public class ProfilerSection {
+
+  /**
+   * The name of the section.
+   */
+  public final String name;
+
+  /**
+   * The index of the section, used to refer to it in the trace.
+   */
+  final int index;
+
+  /**
+   * A ring buffer of the most recent timings, in nanoseconds.
+   */
+  private final long[] samples;
+
+  /**
+   * A copy of the {@link #samples}, which is sorted to find the percentiles.
+   */
+  private final long[] sorted;
+
+  /**
+   * The index the next sample will be written to.
+   */
+  private int sampleIndex;
+
+  /**
+   * The number of samples in the {@link #samples} buffer.
+   */
+  private int sampleCount;
+
+  /**
+   * The most recent timing, in nanoseconds.
+   */
+  private long last;
+
+  private long p50;
+  private long p95;
+  private long p99;
+
+  /**
+   * Constructor for the {@link ProfilerSection}.
+   *
+   * @param name     {@link String} : The name of the section.
+   * @param index    {@code int} : The index of the section.
+   * @param capacity {@code int} : The number of samples to keep.
+   */
+  ProfilerSection(String name, int index, int capacity) {
+    this.name = name;
+    this.index = index;
+    this.samples = new long[capacity];
+    this.sorted = new long[capacity];
+  }
+
+  /**
+   * Add a timing to the section, replacing the oldest if it is full.
+   *
+   * @param nanos {@code long} : The time taken, in nanoseconds.
+   */
+  void add(long nanos) {
+    samples[sampleIndex] = nanos;
+    sampleIndex = (sampleIndex + 1) % samples.length;
+    sampleCount = Math.min(sampleCount + 1, samples.length);
+    last = nanos;
+  }
+
+  /**
+   * Recalculates the percentiles from the samples that are currently stored.
+   */
+  void updatePercentiles() {
+    if (sampleCount == 0) {
+      p50 = p95 = p99 = 0;
+      return;
+    }
+    System.arraycopy(samples, 0, sorted, 0, sampleCount);
+    Arrays.sort(sorted, 0, sampleCount);
+    p50 = percentile(0.5f);
+    p95 = percentile(0.95f);
+    p99 = percentile(0.99f);
+  }
+
+  /**
+   * Returns a percentile of the {@link #sorted} samples, using the
+   * nearest-rank method.
+   *
+   * @param percentile {@code float} : The percentile, between 0 and 1.
+   * @return {@code long} : The timing at that percentile, in nanoseconds.
+   */
+  private long percentile(float percentile) {
+    int rank = (int) Math.ceil(percentile * sampleCount) - 1;
+    return sorted[Math.max(0, Math.min(sampleCount - 1, rank))];
+  }
+
+  /**
+   * Clears all of the samples.
+   */
+  void reset() {
+    sampleIndex = 0;
+    sampleCount = 0;
+    last = 0;
+    p50 = p95 = p99 = 0;
+  }
+
+  /**
+   * Returns the number of samples stored.
+   *
+   * @return {@code int} : The number of samples.
+   */
+  public int getSampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * Returns the most recent timing.
+   *
+   * @return {@code float} : The most recent timing, in milliseconds.
+   */
+  public float getLastMillis() {
+    return last / 1000000f;
+  }
+
+  /**
+   * Returns the 50th percentile, as of the last time they were updated.
+   *
+   * @return {@code float} : The p50 timing, in milliseconds.
+   */
+  public float getP50Millis() {
+    return p50 / 1000000f;
+  }
+
+  /**
+   * Returns the 95th percentile, as of the last time they were updated.
+   *
+   * @return {@code float} : The p95 timing, in milliseconds.
+   */
+  public float getP95Millis() {
+    return p95 / 1000000f;
+  }
+
+  /**
+   * Returns the 99th percentile, as of the last time they were updated.
+   *
+   * @return {@code float} : The p99 timing, in milliseconds.
+   */
+  public float getP99Millis() {
+    return p99 / 1000000f;
+  }
+}
@@ -2,6 +2,7 @@ package de.tomgrill.gdxtesting.tests.assetsTests;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.undercooked.game.assets.TextureManager;
 import com.undercooked.game.util.Constants;
 import de.tomgrill.gdxtesting.GdxTestRunner;
@@ -11,6 +12,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(GdxTestRunner.class)
@@ -34,4 +38,32 @@ public class TextureManagerTests {
 		assertTrue("Default texture has not loaded",
 				assetManager.isLoaded(Constants.DEFAULT_TEXTURE, Texture.class));
 	}
+
+	@Test
+	public void t10PackGroup() {
+		textureManager.load("packTest", "interactions/select_box.png");
+		textureManager.loadAsset("packTest", "<main>:item/burger.png");
+		assetManager.finishLoading();
+
+		assertTrue("Texture group was not packed.", textureManager.pack("packTest"));
+		assertTrue("Texture group is not marked as packed.", textureManager.isPacked("packTest"));
+
+		TextureRegion selectBox = textureManager.getRegion("interactions/select_box.png");
+		TextureRegion burger = textureManager.getAssetRegion("<main>:item/burger.png");
+		assertNotNull("Region for the select box is null.", selectBox);
+		assertNotNull("Region for the burger is null.", burger);
+		assertEquals("Packed regions are not on the same Texture.",
+				selectBox.getTexture(), burger.getTexture());
+	}
+
+	@Test
+	public void t11UnloadPackedGroup() {
+		textureManager.unload("packTest");
+
+		assertFalse("Texture group is still marked as packed.", textureManager.isPacked("packTest"));
+		// The region should now fall back to the default texture
+		TextureRegion selectBox = textureManager.getRegion("interactions/select_box.png");
+		assertEquals("Unloaded region did not fall back to the default texture.",
+				assetManager.get(Constants.DEFAULT_TEXTURE, Texture.class), selectBox.getTexture());
+	}
 }
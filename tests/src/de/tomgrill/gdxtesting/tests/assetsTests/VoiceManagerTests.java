@@ -0,0 +1,101 @@
+package de.tomgrill.gdxtesting.tests.assetsTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.VoiceManager;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class VoiceManagerTests {
+
+  static AudioManager audioManager;
+  static VoiceManager voices;
+  static VoiceManager.SoundHandle chopping;
+  static VoiceManager.SoundHandle frying;
+
+  @BeforeClass
+  public static void setup() {
+    AssetManager assetManager = new AssetManager();
+    audioManager = new AudioManager(assetManager);
+    audioManager.loadSoundAsset("<main>:chopping.mp3", "game");
+    audioManager.loadSoundAsset("<main>:frying.mp3", "game");
+    assetManager.finishLoading();
+    voices = audioManager.getVoices();
+    chopping = voices.getHandle("<main>:chopping.mp3", "game");
+    frying = voices.getHandle("<main>:frying.mp3", "game");
+  }
+
+  @Test
+  public void t00_handles() {
+    // The same path gives the same handle
+    assertSame(chopping, voices.getHandle("<main>:chopping.mp3", "game"));
+    assertNotSame(chopping, frying);
+    assertNull(voices.getHandle(null, "game"));
+  }
+
+  @Test
+  public void t10_play() {
+    VoiceManager.Voice first = new VoiceManager.Voice();
+    VoiceManager.Voice second = new VoiceManager.Voice();
+    // Each voice can play the same sound
+    assertTrue(voices.play(first, chopping, 0));
+    assertTrue(voices.play(second, chopping, 0));
+    assertEquals(2, voices.getPlayingCount());
+
+    // Playing it again doesn't add another
+    assertTrue(voices.play(first, chopping, 0));
+    assertEquals(2, voices.getPlayingCount());
+
+    // Stopping a different sound doesn't stop it
+    voices.stop(first, frying);
+    assertTrue(first.isPlaying(chopping));
+    voices.stopAll();
+    assertFalse(first.isPlaying());
+    assertEquals(0, voices.getPlayingCount());
+  }
+
+  @Test
+  public void t20_steal() {
+    voices.setMaxVoices(2);
+    VoiceManager.Voice oldest = new VoiceManager.Voice();
+    VoiceManager.Voice newer = new VoiceManager.Voice();
+    VoiceManager.Voice same = new VoiceManager.Voice();
+    VoiceManager.Voice higher = new VoiceManager.Voice();
+    voices.play(oldest, chopping, 0);
+    voices.play(newer, frying, 0);
+
+    // The same priority can't take a place
+    assertFalse(voices.play(same, chopping, 0));
+    assertEquals(2, voices.getPlayingCount());
+
+    // But a higher one takes the oldest's place
+    assertTrue(voices.play(higher, chopping, 1));
+    assertFalse(oldest.isPlaying());
+    assertTrue(newer.isPlaying());
+    assertEquals(2, voices.getPlayingCount());
+
+    voices.stopAll();
+    voices.setMaxVoices(VoiceManager.DEFAULT_MAX_VOICES);
+  }
+
+  @Test
+  public void t30_unload() {
+    VoiceManager.Voice voice = new VoiceManager.Voice();
+    voices.play(voice, chopping, 0);
+    // Unloading the group stops the sounds in it
+    audioManager.unload("game");
+    assertFalse(voice.isPlaying());
+    assertFalse(voices.play(voice, chopping, 0));
+  }
+}
@@ -0,0 +1,142 @@
+package de.tomgrill.gdxtesting.tests.entityTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.entity.customer.Customer;
+import com.undercooked.game.entity.customer.CustomerController;
+import com.undercooked.game.entity.customer.CustomerTarget;
+import com.undercooked.game.food.Request;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapEntity;
+import com.undercooked.game.map.MapManager;
+import com.undercooked.game.map.Register;
+import com.undercooked.game.util.Constants;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CustomerControllerTests {
+
+  static TextureManager textureManager;
+  static CustomerController customerController;
+  static Customer customer1;
+  static Customer customer2;
+
+  // A register, without needing the station data
+  static class RegisterEntity extends MapEntity {
+    RegisterEntity() {
+      id = Constants.REGISTER_ID;
+      setWidth(1);
+      setHeight(1);
+    }
+  }
+
+  @BeforeClass
+  public static void setup() {
+    AssetManager assetManager = new AssetManager();
+    textureManager = new TextureManager(assetManager);
+    // No map, so there are no registers to go to
+    customerController = new CustomerController(textureManager);
+  }
+
+  @Test
+  public void t00_spawn() {
+    assertTrue(customerController.canSpawn());
+    customer1 = customerController.spawnCustomer(new Request("<main>:burger"));
+
+    // It's in the spawn cell, which blocks the next one
+    assertTrue(customerController.customerInSquareGrid(3, -1));
+    assertFalse(customerController.customerInSquareGrid(3, -1, customer1));
+    assertFalse(customerController.canSpawn());
+    assertSame(customer1, customerController.customerWaiting());
+
+    // So the next one has to wait to spawn
+    customer2 = customerController.spawnCustomer(new Request("<main>:salad"));
+    assertSame(customer1, customerController.customerWaiting());
+  }
+
+  @Test
+  public void t10_moveUp() {
+    // Keep updating until the second one spawns
+    for (int i = 0; i < 40 && !customerController.customerInSquareGrid(3, -1, customer1); i++) {
+      customerController.update(0.25f);
+    }
+    assertTrue(customerController.customerInSquareGrid(3, -1));
+    assertFalse(customerController.customerInSquareGrid(3, -1, customer2));
+
+    // The first one should be in the cell they've walked to
+    int customerY = MapManager.posToGridFloor(customer1.posY);
+    assertTrue(customerY > 0);
+    assertTrue(customerController.customerInSquareGrid(3, customerY));
+    assertSame(customer1, customerController.customerWaiting());
+  }
+
+  @Test
+  public void t20_register() {
+    Map map = new Map(5, 5);
+    Register register = new Register(map.getCell(0, 2));
+    customerController.customerOnRegister(customer1, register);
+
+    // Now the second customer is the one waiting
+    assertSame(customer2, customerController.customerWaiting());
+    customerController.customerOnRegister(customer2, new Register(map.getCell(0, 3)));
+    assertNull(customerController.customerWaiting());
+  }
+
+  @Test
+  public void t30_reset() {
+    customerController.reset();
+    assertFalse(customerController.customerInSquareGrid(3, -1));
+    assertNull(customerController.customerWaiting());
+    assertTrue(customerController.canSpawn());
+  }
+
+  @Test
+  public void t40_registers() {
+    Map map = new Map(5, 5);
+    map.addFullMapEntity(new RegisterEntity(), 0, 1, null, true);
+    map.addFullMapEntity(new RegisterEntity(), 0, 3, null, true);
+    map.addFullMapEntity(new RegisterEntity(), 0, 2, null, true);
+    CustomerController registerController = new CustomerController(textureManager, map);
+    registerController.findRegisters();
+
+    // The farthest is the highest, and the closest the lowest
+    registerController.setTargetType(CustomerTarget.CLOSEST);
+    assertEquals(1, registerController.getOpenRegister().getRegisterCell().getY());
+    registerController.setTargetType(CustomerTarget.FARTHEST);
+    assertEquals(3, registerController.getOpenRegister().getRegisterCell().getY());
+
+    // Looking them up
+    Register register = registerController.getRegisterAtPos(0, 2);
+    assertNotNull(register);
+    assertSame(register, registerController.getRegisterFromCell(map.getCell(0, 2)));
+    assertNull(registerController.getRegisterAtPos(1, 2));
+    assertNull(registerController.getRegisterFromCell(map.getCell(1, 2)));
+
+    // Once the farthest is taken, the next farthest is used
+    Customer customer = registerController.spawnCustomer(new Request("<main>:burger"));
+    assertEquals(3, customer.getRegister().getRegisterCell().getY());
+    assertEquals(2, registerController.getOpenRegister().getRegisterCell().getY());
+
+    // Random only gives open ones
+    registerController.setTargetType(CustomerTarget.RANDOM);
+    for (int i = 0; i < 20; i++) {
+      assertFalse(registerController.getOpenRegister().hasCustomer());
+    }
+
+    // And they're all open again after a reset
+    registerController.reset();
+    registerController.setTargetType(CustomerTarget.FARTHEST);
+    assertEquals(3, registerController.getOpenRegister().getRegisterCell().getY());
+  }
+}
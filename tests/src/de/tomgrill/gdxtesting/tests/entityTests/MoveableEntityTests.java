@@ -5,8 +5,10 @@ import static org.junit.Assert.*;
 import org.junit.*;
 import org.junit.runners.MethodSorters;
 
+import com.undercooked.game.entity.Entity;
 import com.undercooked.game.entity.MoveableEntity;
 import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapEntity;
 import com.undercooked.game.map.MapManager;
 
 import org.junit.runner.RunWith;
@@ -48,9 +50,152 @@ public class MoveableEntityTests {
     assertEquals(moveableEntity.moveCalc(10, 1f), moveableEntity.pos.y, 0.01);
   }
 
-  // TODO: Complete this test
-  // @Test
-  // public void t20_moveAndCollide() {
-  // moveableEntity.moveAndCollide(map, 10, 10, 1f);
-  // }
+  @Test
+  public void t20_moveAndCollide() {
+    // Put a wall in the way, two cells to the right
+    Map wallMap = new Map(10, 10);
+    MapEntity wall = new MapEntity();
+    wall.setWidth(1);
+    wall.setHeight(1);
+    wallMap.addFullMapEntity(wall, 4, 2, null, true);
+
+    MoveableEntity mover = new MoveableEntity();
+    mover.speed = 1;
+    mover.collision.setSize(32, 32);
+    mover.setX(MapManager.gridToPos(2));
+    mover.setY(MapManager.gridToPos(2) + 16);
+
+    // Move far enough to go through the wall if it didn't collide
+    mover.moveAndCollide(wallMap, 5, 0, 1f);
+    assertEquals("Should stop at the wall.",
+            MapManager.gridToPos(4) - 32, mover.collision.x, 0.02);
+
+    // Moving up should still be possible, as it slides along the wall
+    float startY = mover.collision.y;
+    mover.moveAndCollide(wallMap, 1, 1, 0.1f);
+    assertEquals("Should slide along the wall.",
+            startY + mover.moveCalc(1, 0.1f), mover.collision.y, 0.02);
+  }
+
+  @Test
+  public void t30_steppedMatchesSwept() {
+    Map wallMap = newWallMap();
+    MoveableEntity stepped = newMover(MoveableEntity.MovementMode.STEPPED);
+    MoveableEntity swept = newMover(MoveableEntity.MovementMode.SWEPT);
+
+    // Both modes should end up in the same place, moving into the
+    // wall and then around the edges of the map
+    float[][] dirs = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}, {1, 0}};
+    for (float[] dir : dirs) {
+      for (int i = 0; i < 20; i++) {
+        stepped.moveAndCollide(wallMap, dir[0], dir[1], 0.25f);
+        swept.moveAndCollide(wallMap, dir[0], dir[1], 0.25f);
+        assertEquals("X differs between the modes.",
+                stepped.collision.x, swept.collision.x, 0.05);
+        assertEquals("Y differs between the modes.",
+                stepped.collision.y, swept.collision.y, 0.05);
+      }
+    }
+  }
+
+  @Test
+  public void t40_sweptQueriesLess() {
+    CountingMap steppedMap = new CountingMap();
+    CountingMap sweptMap = new CountingMap();
+    MoveableEntity stepped = newMover(MoveableEntity.MovementMode.STEPPED);
+    MoveableEntity swept = newMover(MoveableEntity.MovementMode.SWEPT);
+
+    // Move into the wall from a cell away
+    moveIntoWall(steppedMap, stepped);
+    moveIntoWall(sweptMap, swept);
+
+    // Sweeping only asks the Map once for each axis
+    assertEquals("Swept should query once per axis.", 2, sweptMap.queries);
+    // Stepping moves a pixel at a time, and then walks up to the wall
+    // 0.01 pixels at a time, asking the Map at every step
+    assertTrue("Stepped only made " + steppedMap.queries + " queries.",
+            steppedMap.queries > 10 * sweptMap.queries);
+  }
+
+  @Test
+  public void t50_interpolate() {
+    MoveableEntity mover = new MoveableEntity();
+    mover.speed = 1;
+    mover.setX(100);
+    mover.setY(100);
+    // With nothing saved since it was placed, it's drawn where it is
+    mover.interpolate(0.5f);
+    assertEquals(100, mover.pos.x, 0.01);
+    mover.endInterpolate();
+
+    mover.savePosition();
+    mover.move(1, 0, 1f);
+    float tickX = mover.pos.x;
+    // Halfway through the next update, it's drawn halfway between
+    mover.interpolate(0.5f);
+    assertEquals(100 + (tickX - 100) / 2, mover.pos.x, 0.01);
+    assertEquals(100, mover.pos.y, 0.01);
+    mover.endInterpolate();
+    assertEquals(tickX, mover.pos.x, 0.01);
+  }
+
+  private static Map newWallMap() {
+    // A wall two cells to the right of where the movers start
+    Map wallMap = new Map(10, 10);
+    addWall(wallMap);
+    return wallMap;
+  }
+
+  private static void addWall(Map wallMap) {
+    MapEntity wall = new MapEntity();
+    wall.setWidth(1);
+    wall.setHeight(1);
+    wallMap.addFullMapEntity(wall, 4, 2, null, true);
+  }
+
+  private static MoveableEntity newMover(MoveableEntity.MovementMode movementMode) {
+    MoveableEntity mover = new MoveableEntity();
+    mover.setMovementMode(movementMode);
+    mover.speed = 1;
+    mover.collision.setSize(32, 32);
+    mover.setX(MapManager.gridToPos(2));
+    mover.setY(MapManager.gridToPos(2) + 16);
+    return mover;
+  }
+
+  private static void moveIntoWall(Map wallMap, MoveableEntity mover) {
+    mover.setX(MapManager.gridToPos(2));
+    mover.setY(MapManager.gridToPos(2) + 16);
+    mover.moveAndCollide(wallMap, 2, 0, 1f);
+  }
+
+  /**
+   * A wall {@link Map} that counts how many times it is asked for collisions.
+   */
+  private static class CountingMap extends Map {
+    int queries;
+
+    CountingMap() {
+      super(10, 10);
+      addWall(this);
+    }
+
+    @Override
+    public boolean checkCollision(Entity entity, float x, float y) {
+      queries++;
+      return super.checkCollision(entity, x, y);
+    }
+
+    @Override
+    public float sweepX(float rectX, float rectY, float rectWidth, float rectHeight, float moveX) {
+      queries++;
+      return super.sweepX(rectX, rectY, rectWidth, rectHeight, moveX);
+    }
+
+    @Override
+    public float sweepY(float rectX, float rectY, float rectWidth, float rectHeight, float moveY) {
+      queries++;
+      return super.sweepY(rectX, rectY, rectWidth, rectHeight, moveY);
+    }
+  }
 }
@@ -0,0 +1,122 @@
+package de.tomgrill.gdxtesting.tests.filesTests;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.benchmarks.HeadlessTextureManager;
+import com.undercooked.game.benchmarks.SimulationRunner;
+import com.undercooked.game.files.SnapshotCodec;
+import com.undercooked.game.files.SnapshotWriter;
+import com.undercooked.game.logic.Difficulty;
+import com.undercooked.game.logic.EndlessLogic;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.MapManager;
+import com.undercooked.game.util.SaveLoadGame;
+import de.tomgrill.gdxtesting.GdxTestRunner;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SnapshotTests {
+
+  static GameLogic logic;
+
+  @BeforeClass
+  public static void setup() {
+    // Play an Endless game for a minute, so there is something to save
+    AssetManager assetManager = new AssetManager();
+    TextureManager textureManager = new HeadlessTextureManager(assetManager);
+    AudioManager audioManager = new AudioManager(assetManager);
+    logic = new EndlessLogic(null, textureManager, audioManager);
+    logic.setId("<main>:everything");
+    logic.setDifficulty(Difficulty.MEDIUM);
+    SimulationRunner runner = new SimulationRunner(logic,
+            new MapManager(textureManager, audioManager));
+    runner.load(assetManager);
+    runner.run((int) (GameLogic.TICK_RATE * 60));
+  }
+
+  private static byte[] writeFull(JsonValue root) throws IOException {
+    Array<String> names = new Array<>();
+    Array<byte[]> sections = new Array<>();
+    for (JsonValue child = root.child; child != null; child = child.next) {
+      names.add(child.name());
+      sections.add(SnapshotCodec.encodeValue(child));
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SnapshotCodec.writeRecord(out, SnapshotCodec.RECORD_FULL, names, sections);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void t00_roundTrip() throws IOException {
+    JsonValue save = logic.serialise();
+    JsonValue loaded = SnapshotCodec.readSnapshot(new ByteArrayInputStream(writeFull(save)));
+
+    assertNotNull("Snapshot did not load.", loaded);
+    assertEquals("Snapshot does not match the Json it was saved from.",
+            save.toJson(JsonWriter.OutputType.json),
+            loaded.toJson(JsonWriter.OutputType.json));
+  }
+
+  @Test
+  public void t10_size() throws IOException {
+    JsonValue save = logic.serialise();
+    byte[] jsonData = save.toJson(JsonWriter.OutputType.json).getBytes(StandardCharsets.UTF_8);
+    byte[] snapshotData = writeFull(save);
+
+    assertTrue("Snapshot is not smaller than the Json.", snapshotData.length < jsonData.length);
+    // The Json should still be able to be read back
+    assertNotNull(new JsonReader().parse(new String(jsonData, StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void t20_incremental() throws IOException {
+    File dir = Files.createTempDirectory("snapshot").toFile();
+    SnapshotWriter writer = new SnapshotWriter(dir.getPath(), SaveLoadGame.SAVE_FILE);
+
+    // A full save first
+    writer.save(logic.serialise());
+    writer.flush();
+    long fullSize = writer.getFile().length();
+    assertTrue("Snapshot was not written.", fullSize > 0);
+
+    // Nothing has changed, so nothing should be added
+    writer.saveIncremental(logic.serialise());
+    writer.flush();
+    assertEquals("Unchanged autosave added to the snapshot.", fullSize, writer.getFile().length());
+
+    // Change the money, which should only add that section
+    logic.money += 100;
+    writer.saveIncremental(logic.serialise());
+    writer.flush();
+    long newSize = writer.getFile().length();
+    assertTrue("Changed autosave was not added.", newSize > fullSize);
+    assertTrue("Autosave wrote more than what changed.", newSize - fullSize < fullSize / 2);
+
+    JsonValue loaded = SaveLoadGame.loadSnapshot(writer.getFile());
+    assertNotNull("Snapshot with autosave did not load.", loaded);
+    assertEquals("Autosave was not applied.", logic.getMoney(), loaded.getInt("money"));
+  }
+}
@@ -0,0 +1,99 @@
+package de.tomgrill.gdxtesting.tests.interactionsTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.interactions.InteractionProgram;
+import com.undercooked.game.interactions.InteractionStep;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class InteractionProgramTests {
+
+  // A step with its success and failure steps, without needing the Json
+  static class TestStep extends InteractionStep {
+    TestStep(String name) {
+      value = name;
+    }
+
+    TestStep success(InteractionStep... steps) {
+      success = new Array<>(steps);
+      return this;
+    }
+
+    TestStep failure(InteractionStep... steps) {
+      failure = new Array<>(steps);
+      return this;
+    }
+  }
+
+  static InteractionStep a;
+  static InteractionStep b;
+  static InteractionStep c;
+  static InteractionStep d;
+  static InteractionStep e;
+  static InteractionStep f;
+  static InteractionProgram program;
+
+  @BeforeClass
+  public static void setup() {
+    // A -> success: [B -> failure: [C], D], failure: [E]
+    // F
+    c = new TestStep("c");
+    b = new TestStep("b").failure(c);
+    d = new TestStep("d");
+    e = new TestStep("e");
+    a = new TestStep("a").success(b, d).failure(e);
+    f = new TestStep("f");
+    program = InteractionProgram.compile(new Array<>(new InteractionStep[] {a, f}));
+  }
+
+  // Run the program, with the result of each step in order
+  private static Array<InteractionStep> run(boolean... results) {
+    Array<InteractionStep> ran = new Array<>();
+    int index = program.getStart();
+    int result = 0;
+    while (index != InteractionProgram.END) {
+      ran.add(program.getStep(index));
+      index = program.getNext(index, result >= results.length || results[result]);
+      result++;
+    }
+    return ran;
+  }
+
+  @Test
+  public void t00_compile() {
+    assertEquals(6, program.size());
+    assertSame(a, program.getStep(program.getStart()));
+    assertNull(program.getStep(InteractionProgram.END));
+  }
+
+  @Test
+  public void t10_success() {
+    // All succeeding goes through the success steps, and then on to F
+    assertEquals(new Array<>(new InteractionStep[] {a, b, d, f}), run());
+  }
+
+  @Test
+  public void t20_failure() {
+    // A failing goes to E, and then carries on to F
+    assertEquals(new Array<>(new InteractionStep[] {a, e, f}), run(false));
+    // B failing goes to C, and then carries on to D and F
+    assertEquals(new Array<>(new InteractionStep[] {a, b, c, d, f}), run(true, false));
+  }
+
+  @Test
+  public void t30_empty() {
+    assertEquals(InteractionProgram.END, InteractionProgram.compile(null).getStart());
+    assertEquals(0, InteractionProgram.compile(new Array<InteractionStep>()).size());
+  }
+}
@@ -0,0 +1,102 @@
+package de.tomgrill.gdxtesting.tests.interactionsTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.food.Item;
+import com.undercooked.game.food.ItemStack;
+import com.undercooked.game.interactions.InteractionObject;
+import com.undercooked.game.interactions.InteractionStep;
+import com.undercooked.game.interactions.RecipeIndex;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RecipeIndexTests {
+
+  static RecipeIndex recipes;
+  static InteractionObject burger;
+  static InteractionObject burgerAgain;
+  static InteractionObject doublePatty;
+  static InteractionObject empty;
+  static Item bun;
+  static Item patty;
+  static Item lettuce;
+
+  private static InteractionObject recipe(String... itemIds) {
+    return new InteractionObject(new Array<InteractionStep>(), new Array<>(itemIds));
+  }
+
+  private static ItemStack stack(Item... items) {
+    ItemStack stack = new ItemStack();
+    for (Item item : items) {
+      stack.add(item);
+    }
+    return stack;
+  }
+
+  @BeforeClass
+  public static void setup() {
+    bun = new Item("<main>:bun");
+    patty = new Item("<main>:patty");
+    lettuce = new Item("<main>:lettuce");
+    burger = recipe("<main>:bun", "<main>:patty");
+    burgerAgain = recipe("<main>:patty", "<main>:bun");
+    doublePatty = recipe("<main>:patty", "<main>:bun", "<main>:patty");
+    empty = recipe();
+
+    recipes = new RecipeIndex();
+    recipes.add(burger);
+    recipes.add(burgerAgain);
+    recipes.add(doublePatty);
+    recipes.add(empty);
+  }
+
+  @Test
+  public void t00_order() {
+    // The order the items are in doesn't matter
+    assertSame(burger, recipes.find(stack(bun, patty)));
+    assertSame(burger, recipes.find(stack(patty, bun)));
+    assertSame(empty, recipes.find(stack()));
+    // But there being more of one does
+    assertSame(doublePatty, recipes.find(stack(patty, patty, bun)));
+    assertNull(recipes.find(stack(bun, bun, patty)));
+    assertNull(recipes.find(stack(bun, patty, lettuce)));
+  }
+
+  @Test
+  public void t10_incremental() {
+    // The key should be the same after adding and removing
+    ItemStack stack = stack(bun);
+    assertNull(recipes.find(stack));
+    stack.add(patty);
+    assertSame(burger, recipes.find(stack));
+    stack.add(patty);
+    assertSame(doublePatty, recipes.find(stack));
+    stack.pop();
+    assertEquals(stack(patty, bun).getKey(), stack.getKey());
+    stack.clear();
+    assertSame(empty, recipes.find(stack));
+  }
+
+  @Test
+  public void t20_remove() {
+    // With the first gone, the next with the same items is used
+    recipes.remove(burger);
+    assertSame(burgerAgain, recipes.find(stack(bun, patty)));
+    recipes.remove(burgerAgain);
+    assertNull(recipes.find(stack(bun, patty)));
+
+    recipes.clear();
+    assertEquals(0, recipes.size());
+    assertNull(recipes.find(stack()));
+  }
+}
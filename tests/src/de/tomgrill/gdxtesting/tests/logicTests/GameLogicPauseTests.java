@@ -0,0 +1,90 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.benchmarks.HeadlessTextureManager;
+import com.undercooked.game.benchmarks.SimulationRunner;
+import com.undercooked.game.logic.Difficulty;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.logic.ScenarioLogic;
+import com.undercooked.game.map.MapManager;
+import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GameLogicPauseTests {
+
+  static GameLogic logic;
+  static Array<TimingWheel.Timer> called;
+
+  @BeforeClass
+  public static void setup() {
+    AssetManager assetManager = new AssetManager();
+    TextureManager textureManager = new HeadlessTextureManager(assetManager);
+    AudioManager audioManager = new AudioManager(assetManager);
+    logic = new ScenarioLogic(null, textureManager, audioManager);
+    logic.setId("<main>:burger_salad");
+    logic.setDifficulty(Difficulty.MEDIUM);
+    SimulationRunner runner = new SimulationRunner(logic,
+            new MapManager(textureManager, audioManager));
+    runner.setPlayed(false);
+    runner.load(assetManager);
+    called = new Array<>();
+  }
+
+  private static TimingWheel.Timer newTimer() {
+    return new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer timer) {
+        called.add(timer);
+      }
+    });
+  }
+
+  // Update the game by a number of seconds
+  private static void update(float seconds) {
+    for (int i = 0; i < (int) (GameLogic.TICK_RATE * seconds); i++) {
+      logic.update(GameLogic.TICK_DELTA);
+    }
+  }
+
+  @Test
+  public void t00_pauseStopsTimers() {
+    called.clear();
+    TimingWheel.Timer customerTimer = newTimer();
+    TimingWheel.Timer stationTimer = newTimer();
+    logic.getCustomerController().getTimers().schedule(customerTimer, 1f);
+    logic.getStationController().getTimers().schedule(stationTimer, 1f);
+
+    logic.pause();
+    assertTrue("Game was not paused.", logic.isPaused());
+    // Even if it's still updated, the timers shouldn't move
+    update(10);
+    assertEquals("Timers ran while paused.", 0, called.size);
+    assertEquals(1f, customerTimer.getRemaining(), 0.0001f);
+    assertEquals(1f, stationTimer.getRemaining(), 0.0001f);
+  }
+
+  @Test
+  public void t10_tickResumes() {
+    // Ticking the game again resumes it, and the timers carry on
+    logic.tick(GameLogic.TICK_DELTA);
+    assertFalse("Game was not resumed.", logic.isPaused());
+    update(2);
+    assertEquals("Timers didn't run after resuming.", 2, called.size);
+  }
+}
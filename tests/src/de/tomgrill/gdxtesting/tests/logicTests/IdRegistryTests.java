@@ -0,0 +1,55 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.undercooked.game.food.Item;
+import com.undercooked.game.food.ItemStack;
+import com.undercooked.game.util.IdRegistry;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IdRegistryTests {
+
+  @Test
+  public void t00_register() {
+    IdRegistry registry = new IdRegistry();
+    assertEquals(IdRegistry.NONE, registry.get("a"));
+
+    // Ids count up from 0, and are the same when registered again
+    assertEquals(0, registry.register("a"));
+    assertEquals(1, registry.register("b"));
+    assertEquals(0, registry.register(new String("a")));
+    assertEquals(2, registry.size());
+
+    assertEquals(1, registry.get("b"));
+    assertEquals("b", registry.getName(1));
+    assertNull(registry.getName(2));
+    assertEquals(IdRegistry.NONE, registry.register(null));
+  }
+
+  @Test
+  public void t10_items() {
+    // Items with the same id have the same int id
+    Item item = new Item("<main>:id_test_item");
+    Item same = new Item(new String("<main>:id_test_item"));
+    Item other = new Item("<main>:id_test_other");
+    assertEquals(item.getIntId(), same.getIntId());
+    assertNotEquals(item.getIntId(), other.getIntId());
+
+    ItemStack stack = new ItemStack();
+    stack.add(item);
+    assertTrue(stack.hasId(same.getIntId()));
+    assertTrue(stack.hasId("<main>:id_test_item"));
+    assertFalse(stack.hasId(other.getIntId()));
+    assertFalse(stack.hasId("<main>:id_never_registered"));
+  }
+}
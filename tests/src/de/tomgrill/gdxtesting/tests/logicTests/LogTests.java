@@ -0,0 +1,104 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.undercooked.game.util.log.Log;
+import com.undercooked.game.util.log.LogFileSink;
+import com.undercooked.game.util.log.Logger;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class LogTests {
+
+  static Logger logger;
+  static File dir;
+
+  @BeforeClass
+  public static void setup() throws IOException {
+    logger = Log.get("Test");
+    dir = Files.createTempDirectory("logTests").toFile();
+    Log.setConsole(false);
+  }
+
+  @AfterClass
+  public static void cleanup() {
+    Log.setFileSink(null);
+    Log.setConsole(true);
+  }
+
+  @Test
+  public void t00_levels() {
+    // The same category gives the same logger
+    assertSame(logger, Log.get("Test"));
+
+    logger.setLevel(Log.WARN);
+    assertFalse(logger.isDebug());
+    assertFalse(logger.isEnabled(Log.INFO));
+    assertTrue(logger.isEnabled(Log.WARN));
+    assertTrue(logger.isEnabled(Log.ERROR));
+
+    logger.setLevel(Log.OFF);
+    assertFalse(logger.isEnabled(Log.ERROR));
+  }
+
+  @Test
+  public void t10_file() throws IOException {
+    LogFileSink sink = new LogFileSink(dir.getPath(), "test.log");
+    Log.setFileSink(sink);
+
+    // Only the messages at or above the level are written
+    logger.setLevel(Log.INFO);
+    logger.debug("Hidden {}", 0);
+    logger.info("Value {} and {}", 1, 2);
+    logger.warn("Missing {}", "value", "extra");
+    logger.info("No {} values");
+    sink.flush();
+
+    List<String> lines = Files.readAllLines(sink.getFile().toPath(), StandardCharsets.UTF_8);
+    assertEquals(3, lines.size());
+    assertEquals("[INFO] [Test] Value 1 and 2", lines.get(0));
+    assertEquals("[WARN] [Test] Missing value", lines.get(1));
+    assertEquals("[INFO] [Test] No {} values", lines.get(2));
+  }
+
+  @Test
+  public void t15_errorCause() throws IOException {
+    LogFileSink sink = new LogFileSink(dir.getPath(), "error.log");
+    Log.setFileSink(sink);
+
+    // The value fills the message, and the cause's stack trace follows it
+    logger.setLevel(Log.INFO);
+    logger.error("Couldn't load {}.", "file.png", new IOException("Broken"));
+    sink.flush();
+
+    List<String> lines = Files.readAllLines(sink.getFile().toPath(), StandardCharsets.UTF_8);
+    assertTrue(lines.size() > 2);
+    assertEquals("[ERROR] [Test] Couldn't load file.png.", lines.get(0));
+    assertEquals("java.io.IOException: Broken", lines.get(1));
+    assertTrue(lines.get(2).trim().startsWith("at "));
+  }
+
+  @Test
+  public void t20_closed() {
+    LogFileSink sink = Log.getFileSink();
+    Log.setFileSink(null);
+    // Once closed, any lines are dropped
+    assertFalse(sink.write("Dropped"));
+    assertEquals(1, sink.getDroppedCount());
+  }
+}
@@ -0,0 +1,62 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import com.undercooked.game.food.Items;
+import com.undercooked.game.logic.ScenarioPreloader;
+import com.undercooked.game.station.StationController;
+import de.tomgrill.gdxtesting.GdxTestRunner;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ScenarioPreloaderTest {
+
+  static ScenarioPreloader preloader;
+
+  @Test
+  public void t00_preloadScenario() {
+    preloader = new ScenarioPreloader();
+    preloader.start("<main>:burger_salad");
+    preloader.await();
+
+    assertTrue("Preloader did not finish.", preloader.isFinished());
+    assertEquals("Preloader progress is not full.", 1f, preloader.getProgress(), 0.0001f);
+    assertNotNull("Scenario was not read.",
+            preloader.getJson("<main>:burger_salad", ScenarioPreloader.SCENARIOS));
+    assertNotNull("Map was not read.",
+            preloader.getJson("<main>:burger_salad", ScenarioPreloader.MAPS));
+    assertTrue("Files failed to be read: " + preloader.getFailures().keySet(),
+            preloader.getFailures().isEmpty());
+  }
+
+  @Test
+  public void t10_addTo() {
+    StationController stationController = new StationController();
+    Items items = new Items();
+    preloader.addTo(stationController, items);
+
+    assertTrue("Counter StationData was not created.",
+            stationController.hasId("<main>:counter"));
+    assertTrue("No Items were created.", items.getItems().size > 0);
+  }
+
+  @Test
+  public void t20_missingScenario() {
+    ScenarioPreloader missing = new ScenarioPreloader();
+    missing.start("<main>:does_not_exist");
+    missing.await();
+
+    assertTrue("Preloader did not finish.", missing.isFinished());
+    assertNull("Missing scenario was read.",
+            missing.getJson("<main>:does_not_exist", ScenarioPreloader.SCENARIOS));
+  }
+}
@@ -0,0 +1,82 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.undercooked.game.assets.AudioManager;
+import com.undercooked.game.assets.TextureManager;
+import com.undercooked.game.benchmarks.HeadlessTextureManager;
+import com.undercooked.game.benchmarks.SimulationLauncher;
+import com.undercooked.game.benchmarks.SimulationRunner;
+import com.undercooked.game.logic.Difficulty;
+import com.undercooked.game.logic.EndlessLogic;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.map.MapManager;
+import de.tomgrill.gdxtesting.GdxTestRunner;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SimulationRunnerTest {
+
+  // Three minutes of game time
+  static final int TICKS = (int) (GameLogic.TICK_RATE * 180);
+
+  static final long SEED = 12345L;
+
+  private static SimulationRunner.Result simulateScenario(long seed) {
+    return SimulationLauncher.simulate("<main>:burger_salad", false, TICKS, seed);
+  }
+
+  @Test
+  public void t00_scenario() {
+    SimulationRunner.Result result = simulateScenario(SEED);
+    assertTrue("No ticks were run.", result.ticks > 0);
+    assertTrue("The cook didn't walk.", result.cookDistance > 0);
+  }
+
+  @Test
+  public void t01_scenarioSeeded() {
+    // The same seed should play out the same way
+    SimulationRunner.Result first = simulateScenario(SEED);
+    SimulationRunner.Result second = simulateScenario(SEED);
+    assertEquals(first.ticks, second.ticks);
+    assertEquals(first.customersServed, second.customersServed);
+    assertEquals(first.cookDistance, second.cookDistance, 0.001);
+  }
+
+  @Test
+  public void t02_scenarioOtherSeed() {
+    // A different seed should walk the cook somewhere else
+    SimulationRunner.Result first = simulateScenario(SEED);
+    SimulationRunner.Result other = simulateScenario(SEED + 1);
+    assertTrue("Different seeds walked the same distance.",
+            first.cookDistance != other.cookDistance);
+  }
+
+  @Test
+  public void t10_endless() {
+    AssetManager assetManager = new AssetManager();
+    TextureManager textureManager = new HeadlessTextureManager(assetManager);
+    AudioManager audioManager = new AudioManager(assetManager);
+    EndlessLogic logic = new EndlessLogic(null, textureManager, audioManager);
+    logic.setId("<main>:everything");
+    logic.setDifficulty(Difficulty.MEDIUM);
+
+    SimulationRunner runner = new SimulationRunner(logic,
+            new MapManager(textureManager, audioManager));
+    runner.setSeed(SEED);
+    runner.load(assetManager);
+    SimulationRunner.Result result = runner.run(TICKS);
+    assertNotNull(logic.getMap());
+    assertTrue("No ticks were run.", result.ticks > 0);
+    assertTrue("The cook didn't walk.", result.cookDistance > 0);
+  }
+}
@@ -0,0 +1,166 @@
+package de.tomgrill.gdxtesting.tests.logicTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.util.Listener;
+import com.undercooked.game.util.TimingWheel;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TimingWheelTests {
+
+  static TimingWheel wheel;
+  static Array<TimingWheel.Timer> called;
+
+  private static TimingWheel.Timer newTimer() {
+    return new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer timer) {
+        called.add(timer);
+      }
+    });
+  }
+
+  // Advance the wheel by a number of game ticks
+  private static void advance(int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      wheel.advance(GameLogic.TICK_DELTA);
+    }
+  }
+
+  @Before
+  public void setup() {
+    wheel = new TimingWheel(GameLogic.TICK_RATE);
+    called = new Array<>();
+  }
+
+  @Test
+  public void t00_order() {
+    TimingWheel.Timer late = newTimer();
+    TimingWheel.Timer early = newTimer();
+    wheel.schedule(late, 0.5f);
+    wheel.schedule(early, 0.25f);
+    assertEquals(2, wheel.size());
+
+    // Not called a tick early
+    advance(29);
+    assertEquals(0, called.size);
+    advance(1);
+    assertEquals(1, called.size);
+    assertSame(early, called.first());
+    assertFalse(early.isScheduled());
+
+    advance(30);
+    assertEquals(2, called.size);
+    assertSame(late, called.peek());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void t10_cascade() {
+    // Far enough to be in every level of the wheel
+    float[] times = {0.1f, 1f, 45f, 700f, 20000f};
+    TimingWheel.Timer[] timers = new TimingWheel.Timer[times.length];
+    for (int i = 0; i < times.length; i++) {
+      timers[i] = newTimer();
+      wheel.schedule(timers[i], times[i]);
+    }
+
+    for (int i = 0; i < times.length; i++) {
+      // Move to just before it
+      while (wheel.getRemaining(timers[i]) > GameLogic.TICK_DELTA * 1.5f) {
+        wheel.advance(Math.min(1f, wheel.getRemaining(timers[i]) - GameLogic.TICK_DELTA));
+      }
+      assertEquals(i, called.size);
+      advance(2);
+      assertEquals(i + 1, called.size);
+      assertSame(timers[i], called.peek());
+    }
+  }
+
+  @Test
+  public void t20_cancel() {
+    TimingWheel.Timer timer = newTimer();
+    wheel.schedule(timer, 1f);
+    timer.cancel();
+    assertFalse(timer.isScheduled());
+    advance(240);
+    assertEquals(0, called.size);
+
+    // Scheduling again moves it
+    wheel.schedule(timer, 1f);
+    advance(60);
+    wheel.schedule(timer, 1f);
+    advance(60);
+    assertEquals(0, called.size);
+    advance(60);
+    assertEquals(1, called.size);
+  }
+
+  @Test
+  public void t30_rate() {
+    TimingWheel.Timer timer = newTimer();
+    wheel.schedule(timer, 3f);
+
+    // At 3x speed it should take a second
+    wheel.setRate(3f);
+    advance(119);
+    assertEquals(0, called.size);
+    advance(1);
+    assertEquals(1, called.size);
+
+    // And at 0 it should never run out
+    wheel.setRate(0f);
+    wheel.schedule(timer, 1f);
+    advance(1000);
+    assertEquals(1, called.size);
+    assertEquals(1f, timer.getRemaining(), 0.0001f);
+  }
+
+  @Test
+  public void t40_pause() {
+    TimingWheel.Timer timer = newTimer();
+    wheel.schedule(timer, 1f);
+    advance(60);
+    wheel.setPaused(true);
+    advance(1000);
+    assertEquals(0, called.size);
+    assertEquals(0.5f, timer.getRemaining(), 0.0001f);
+
+    wheel.setPaused(false);
+    advance(60);
+    assertEquals(1, called.size);
+  }
+
+  @Test
+  public void t50_reschedule() {
+    // A timer that keeps rescheduling itself, like a spawn timer
+    final int[] count = {0};
+    TimingWheel.Timer repeating = new TimingWheel.Timer(new Listener<TimingWheel.Timer>() {
+      @Override
+      public void tell(TimingWheel.Timer timer) {
+        count[0]++;
+        wheel.schedule(timer, 0.5f);
+      }
+    });
+    wheel.schedule(repeating, 0.5f);
+    advance(120 * 10);
+    assertEquals(20, count[0]);
+    assertTrue(repeating.isScheduled());
+
+    wheel.clear();
+    assertFalse(repeating.isScheduled());
+    assertEquals(0, wheel.size());
+  }
+}
@@ -0,0 +1,116 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapCell;
+import com.undercooked.game.map.MapEntity;
+import com.undercooked.game.map.MapManager;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MapCollisionTests {
+
+  static Map map;
+  static MapEntity mapEntity;
+  static final Rectangle scratchRect = new Rectangle();
+  static final Array<MapCell> scratchCells = new Array<>();
+
+  @BeforeClass
+  public static void setup() {
+    map = new Map(10, 10);
+    mapEntity = new MapEntity();
+    mapEntity.setWidth(1);
+    mapEntity.setHeight(1);
+    map.addFullMapEntity(mapEntity, 5, 5, null, true);
+  }
+
+  @Test
+  public void t00_checkCollision() {
+    float cellPos = MapManager.gridToPos(5);
+    assertTrue("Should collide with the entity.",
+            map.checkCollision(cellPos + 10, cellPos + 10, 16, 16, Map.MapCellType.COLLIDABLE));
+    assertFalse("Should not collide with an empty cell.",
+            map.checkCollision(64, 64, 16, 16, Map.MapCellType.COLLIDABLE));
+    assertTrue("Should collide outside of the map.",
+            map.checkCollision(-100, -100, 16, 16, Map.MapCellType.COLLIDABLE));
+  }
+
+  @Test
+  public void t10_getCollisionClosest() {
+    float cellPos = MapManager.gridToPos(5);
+    assertSame("Should find the entity's cell.", map.getCellFull(5, 5),
+            map.getCollision(cellPos + 10, cellPos + 10, 16, 16,
+                    true, Map.MapCellType.INTERACTABLE));
+    assertNull("Should not find a cell.",
+            map.getCollision(64, 64, 16, 16, true, Map.MapCellType.INTERACTABLE));
+  }
+
+  @Test
+  public void t15_scratchResults() {
+    float cellPos = MapManager.gridToPos(5);
+    // The box found is written to the caller's rectangle
+    scratchRect.set(0, 0, 0, 0);
+    assertSame(map.getCellFull(5, 5), map.getCollision(cellPos + 10, cellPos + 10, 16, 16,
+            false, Map.MapCellType.COLLIDABLE, scratchRect));
+    assertEquals(mapEntity.collision, scratchRect);
+
+    // Every overlapping cell is added to the caller's array
+    assertEquals(1, map.getCollisions(cellPos - 16, cellPos - 16, 32, 32,
+            Map.MapCellType.COLLIDABLE, scratchCells));
+    assertSame(map.getCellFull(5, 5), scratchCells.first());
+    assertEquals(0, map.getCollisions(64, 64, 16, 16,
+            Map.MapCellType.COLLIDABLE, scratchCells));
+  }
+
+  @Test
+  public void t20_noAllocation() {
+    // Only run if the JVM can measure allocations
+    Assume.assumeTrue(ManagementFactory.getThreadMXBean()
+            instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+    long threadId = Thread.currentThread().getId();
+
+    // Warm up first, then measure
+    runQueries(10000);
+    long before = threadBean.getThreadAllocatedBytes(threadId);
+    runQueries(100000);
+    long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+    // Allow a little for the measuring itself
+    assertTrue("Collision queries allocated " + allocated + " bytes.", allocated < 1024);
+  }
+
+  @Test
+  public void t30_removeEntity() {
+    float cellPos = MapManager.gridToPos(5);
+    map.removeEntity(mapEntity);
+    assertFalse("Should not collide after the entity is removed.",
+            map.checkCollision(cellPos + 10, cellPos + 10, 16, 16, Map.MapCellType.COLLIDABLE));
+  }
+
+  private static void runQueries(int count) {
+    for (int i = 0; i < count; i++) {
+      float pos = i % 640;
+      map.checkCollision(pos, pos, 16, 16, Map.MapCellType.COLLIDABLE);
+      map.getCollision(pos, pos, 16, 16, true, Map.MapCellType.INTERACTABLE);
+      map.getCollision(pos, pos, 16, 16, true, Map.MapCellType.COLLIDABLE, scratchRect);
+      map.getCollisions(pos, pos, 16, 16, Map.MapCellType.COLLIDABLE, scratchCells);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapEntity;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MapEntityIndexTests {
+
+  // The size of the generated map with many entities
+  static final int LARGE_SIZE = 200;
+
+  static Map map;
+  static MapEntity wideEntity;
+
+  @BeforeClass
+  public static void setup() {
+    map = new Map(10, 10);
+  }
+
+  @Test
+  public void t00_addEntity() {
+    wideEntity = TestMapEntities.newEntity(2, 1);
+    map.addFullMapEntity(wideEntity, 2, 2, null, true);
+
+    assertTrue("Entity should be on the map.", map.hasEntity(wideEntity));
+    assertEquals("Entity taking two cells should only be listed once.",
+            1, map.getEntityCount());
+    assertSame(wideEntity, map.getCellFull(2, 2).getMapEntity());
+    assertSame(wideEntity, map.getCellFull(3, 2).getMapEntity());
+  }
+
+  @Test
+  public void t10_replaceEntity() {
+    // Placing over half of the wide entity removes all of it
+    MapEntity replacement = TestMapEntities.newEntity(1, 1);
+    Array<?> removed = map.addFullMapEntity(replacement, 3, 2, null, true);
+
+    assertTrue("Replaced entity should be returned.", removed.contains(wideEntity, true));
+    assertFalse("Replaced entity should not be on the map.", map.hasEntity(wideEntity));
+    assertNull("Replaced entity's other cell should be empty.",
+            map.getCellFull(2, 2).getMapEntity());
+    assertEquals(1, map.getEntityCount());
+    assertTrue(map.getAllEntities().contains(replacement, true));
+  }
+
+  @Test
+  public void t20_removeEntity() {
+    MapEntity entity = map.getAllEntities().first();
+
+    assertTrue("Entity should be removed.", map.removeEntity(entity));
+    assertFalse("Entity should not be removed twice.", map.removeEntity(entity));
+    assertEquals(0, map.getEntityCount());
+    assertNull(map.getCellFull(3, 2).getMapEntity());
+  }
+
+  @Test
+  public void t30_manyEntities() {
+    int size = LARGE_SIZE;
+    Map bigMap = new Map(size, size);
+    Array<MapEntity> placed = new Array<>();
+
+    // Generate rows of stations, with a gap between each row
+    for (int y = 0; y < size; y += 2) {
+      for (int x = 0; x < size; x++) {
+        MapEntity entity = TestMapEntities.newEntity(1, 1);
+        bigMap.addFullMapEntity(entity, x, y, null, true);
+        placed.add(entity);
+      }
+    }
+    assertEquals(placed.size, bigMap.getEntityCount());
+
+    // Get all the entities, as ScenarioLogic.reset does
+    Array<MapEntity> all = bigMap.getAllEntities();
+    assertEquals(placed.size, all.size);
+
+    // Remove them all again
+    for (MapEntity entity : placed) {
+      assertTrue(bigMap.removeEntity(entity));
+    }
+    assertEquals(0, bigMap.getEntityCount());
+    assertEquals(0, bigMap.getAllEntities().size);
+  }
+}
@@ -0,0 +1,108 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapCell;
+import com.undercooked.game.map.MapEntity;
+import com.undercooked.game.map.MapGrid;
+import com.undercooked.game.util.Constants;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MapGridTests {
+
+  static MapGrid grid;
+
+  @BeforeClass
+  public static void setup() {
+    grid = new MapGrid(8, 4);
+  }
+
+  @Test
+  public void t00_indexing() {
+    // Rows are stored one after another
+    assertEquals(0, grid.index(0, 0));
+    assertEquals(1, grid.index(1, 0));
+    assertEquals(8, grid.index(0, 1));
+    assertEquals(3, grid.getX(grid.index(3, 2)));
+    assertEquals(2, grid.getY(grid.index(3, 2)));
+    assertEquals(32, grid.size());
+  }
+
+  @Test
+  public void t10_viewWritesThrough() {
+    int index = grid.index(3, 2);
+    MapCell cell = grid.getCell(index);
+
+    assertSame("Views should be reused.", cell, grid.getCell(index));
+    assertEquals(3, cell.getX());
+    assertEquals(2, cell.getY());
+    assertEquals(192f, cell.getCollisionX(), 0.0001f);
+
+    cell.setCollidable(true);
+    cell.setBase(true);
+    assertTrue(grid.isCollidable(index));
+    assertTrue(grid.isBase(index));
+    assertFalse(grid.isInteractable(index));
+
+    MapEntity entity = new MapEntity();
+    cell.setMapEntity(entity);
+    assertSame(entity, grid.getEntity(index));
+    assertEquals(cell.getCollisionX(), entity.getX(), 0.0001f);
+  }
+
+  @Test
+  public void t20_floorIds() {
+    // Cells with the same floor tile share the same id
+    grid.setFloorPath(0, "<main>:floor/customer_tile_mid.png");
+    grid.setFloorPath(1, "<main>:floor/customer_tile_mid.png");
+    grid.setFloorPath(2, null);
+
+    assertEquals(grid.getFloorId(0), grid.getFloorId(1));
+    assertEquals(MapGrid.NONE, grid.getFloorId(2));
+    assertEquals("<main>:floor/customer_tile_mid.png", grid.getFloorPath(1));
+    assertEquals(1, grid.getFloorPaths().size);
+  }
+
+  @Test
+  public void t30_handles() {
+    MapEntity entity = new MapEntity();
+    grid.setEntity(4, entity);
+    grid.setEntity(5, entity);
+    assertEquals(2, grid.getEntityCells(entity).size);
+
+    // Once it's off every cell, it's no longer on the grid
+    grid.setEntity(4, null);
+    assertTrue(grid.hasEntity(entity));
+    grid.setEntity(5, null);
+    assertFalse(grid.hasEntity(entity));
+    assertNull(grid.getEntityCells(entity));
+  }
+
+  @Test
+  public void t40_mapUsesGrid() {
+    Map map = new Map(6, 6);
+    MapCell cell = map.getCellFull(1, 1);
+    assertEquals(Constants.DEFAULT_FLOOR_TILE, cell.getBelowTile());
+
+    MapEntity entity = TestMapEntities.newEntity(1, 1);
+    map.addFullMapEntity(entity, 1, 1, null, true);
+    assertSame(cell, map.getCellFull(1, 1));
+    assertSame(entity, cell.getMapEntity());
+    assertTrue(cell.isCollidable());
+    assertNull(cell.getBelowTile());
+
+    // The open cells should no longer include it
+    assertFalse(map.openCellsFull().contains(cell, true));
+  }
+}
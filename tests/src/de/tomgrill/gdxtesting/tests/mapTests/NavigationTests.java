@@ -0,0 +1,167 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.undercooked.game.map.FlowField;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapCell;
+import com.undercooked.game.map.MapEntity;
+import com.undercooked.game.map.NavigationGrid;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class NavigationTests {
+
+  // The size of the generated kitchen, and the agents walking in it
+  static final int KITCHEN_SIZE = 100;
+  static final int AGENTS = 100;
+
+  static Map map;
+  static MapEntity station;
+
+  @BeforeClass
+  public static void setup() {
+    // A 10x10 map with a wall across the middle, with a gap on the right
+    map = new Map(10, 10);
+    for (int x = 0; x < 9; x++) {
+      map.addFullMapEntity(TestMapEntities.newEntity(1, 1), x, 5, null, true);
+    }
+    station = TestMapEntities.newEntity(1, 1);
+    map.addFullMapEntity(station, 0, 8, null, true);
+  }
+
+  @Test
+  public void t00_flowField() {
+    NavigationGrid navigation = map.getNavigation();
+    FlowField flowField = navigation.getFlowField(station);
+
+    // The cells next to the station are the goals
+    assertTrue(flowField.isGoal(index(1, 8)));
+    assertTrue(flowField.isGoal(index(0, 9)));
+    assertTrue(flowField.isGoal(index(0, 7)));
+    assertFalse(flowField.isReachable(index(3, 5)));
+
+    // From below the wall, it has to go around through the gap
+    int cell = index(0, 0);
+    int steps = 0;
+    while (!flowField.isGoal(cell)) {
+      int next = navigation.getNextCell(station, cell);
+      assertNotEquals(FlowField.UNREACHABLE, next);
+      assertTrue(navigation.isWalkable(next));
+      cell = next;
+      steps++;
+    }
+    assertEquals(flowField.getDistance(index(0, 0)), steps);
+    // 14 steps to the gap, and then 11 more to be next to the station
+    assertEquals(14 + 11, steps);
+
+    // Asking again uses the same one
+    assertSame(flowField, navigation.getFlowField(station));
+    assertEquals(1, navigation.getFlowFieldCount());
+  }
+
+  @Test
+  public void t10_nextStep() {
+    Vector2 step = new Vector2();
+    // From just under the left of the wall, the only way closer is right
+    assertTrue(map.getNavigation().getNextStep(station, 32, 288, step));
+    // It should give the centre of the next cell
+    assertEquals(96, step.x, 0.0001f);
+    assertEquals(288, step.y, 0.0001f);
+  }
+
+  @Test
+  public void t20_invalidate() {
+    NavigationGrid navigation = map.getNavigation();
+    int built = navigation.getFlowFieldsBuilt();
+    navigation.getFlowField(station);
+    assertEquals("It shouldn't be rebuilt if nothing changed.",
+            built, navigation.getFlowFieldsBuilt());
+
+    // Closing the gap means the bottom can no longer reach it
+    MapEntity wall = TestMapEntities.newEntity(1, 1);
+    map.addFullMapEntity(wall, 9, 5, null, true);
+    FlowField flowField = navigation.getFlowField(station);
+    assertEquals(built + 1, navigation.getFlowFieldsBuilt());
+    assertFalse(flowField.isReachable(index(0, 0)));
+
+    // And opening it again makes it reachable
+    map.removeEntity(wall);
+    assertTrue(navigation.getFlowField(station).isReachable(index(0, 0)));
+  }
+
+  @Test
+  public void t30_findPath() {
+    NavigationGrid navigation = map.getNavigation();
+    IntArray path = new IntArray();
+    assertTrue(navigation.findPath(index(0, 0), index(0, 9), path));
+    assertEquals(index(0, 0), path.first());
+    assertEquals(index(0, 9), path.peek());
+    // 14 steps to the gap, 13 more to the end, plus the start
+    assertEquals(14 + 13 + 1, path.size);
+
+    // Can't path into a wall
+    assertFalse(navigation.findPath(index(0, 0), index(3, 5), path));
+  }
+
+  @Test
+  public void t40_manyAgents() {
+    int size = KITCHEN_SIZE;
+    Map kitchen = new Map(size, size);
+    // Rows of counters, with a gap every 10 cells
+    Array<MapEntity> stations = new Array<>();
+    for (int y = 3; y < size; y += 4) {
+      for (int x = 0; x < size; x++) {
+        if (x % 10 == 5) {
+          continue;
+        }
+        MapEntity counter = TestMapEntities.newEntity(1, 1);
+        kitchen.addFullMapEntity(counter, x, y, null, true);
+        stations.add(counter);
+      }
+    }
+    NavigationGrid navigation = kitchen.getNavigation();
+
+    // Each agent starts in a random open cell, walking to a random station
+    int[] agentCells = new int[AGENTS];
+    MapEntity[] agentTargets = new MapEntity[AGENTS];
+    for (int i = 0; i < AGENTS; i++) {
+      MapCell cell = kitchen.randomOpenCellFull(Map.MapCellType.COLLIDABLE, null);
+      agentCells[i] = cell.getIndex();
+      agentTargets[i] = stations.get(MathUtils.random(stations.size - 1));
+    }
+
+    int ticks = 0;
+    int arrived = 0;
+    while (arrived < AGENTS) {
+      arrived = 0;
+      for (int i = 0; i < AGENTS; i++) {
+        int next = navigation.getNextCell(agentTargets[i], agentCells[i]);
+        assertNotEquals(FlowField.UNREACHABLE, next);
+        if (next == agentCells[i]) {
+          arrived++;
+        }
+        agentCells[i] = next;
+      }
+      ticks++;
+      assertTrue("Agents should arrive within the size of the map.", ticks < size * size);
+    }
+  }
+
+  private static int index(int x, int y) {
+    return y * map.getFullWidth() + x;
+  }
+}
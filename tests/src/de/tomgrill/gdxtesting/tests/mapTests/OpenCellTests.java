@@ -0,0 +1,100 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Predicate;
+import com.undercooked.game.map.Map;
+import com.undercooked.game.map.MapCell;
+import com.undercooked.game.map.MapEntity;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class OpenCellTests {
+
+  // The size of the generated map with many entities
+  static final int LARGE_SIZE = 200;
+
+  static Map map;
+
+  @BeforeClass
+  public static void setup() {
+    map = new Map(10, 10);
+  }
+
+  @Test
+  public void t00_placeAndReset() {
+    assertEquals(100, map.openCellCount(Map.MapCellType.ANY));
+
+    MapEntity entity = TestMapEntities.newEntity(1, 1);
+    map.addFullMapEntity(entity, 4, 4, null, true);
+    assertEquals(99, map.openCellCount(Map.MapCellType.ANY));
+    assertEquals(99, map.openCellCount(Map.MapCellType.COLLIDABLE));
+    assertEquals(99, map.openCellCount(Map.MapCellType.INTERACTABLE));
+
+    map.removeEntity(entity);
+    assertEquals(100, map.openCellCount(Map.MapCellType.ANY));
+  }
+
+  @Test
+  public void t10_exclude() {
+    // Exclude everything but one cell
+    Predicate<MapCell> onlyOne = new Predicate<MapCell>() {
+      @Override
+      public boolean evaluate(MapCell cell) {
+        return !(cell.getX() == 7 && cell.getY() == 2);
+      }
+    };
+    for (int i = 0; i < 20; i++) {
+      assertSame(map.getCellFull(7, 2), map.randomOpenCellFull(Map.MapCellType.ANY, onlyOne));
+    }
+
+    // Exclude everything
+    Predicate<MapCell> none = new Predicate<MapCell>() {
+      @Override
+      public boolean evaluate(MapCell cell) {
+        return true;
+      }
+    };
+    assertNull(map.randomOpenCellFull(Map.MapCellType.ANY, none));
+  }
+
+  @Test
+  public void t20_range() {
+    // The play area leaves out its last column and row, like openCells
+    for (int i = 0; i < 200; i++) {
+      MapCell cell = map.randomOpenCell();
+      assertNotNull(cell);
+      assertTrue(cell.getX() < 9 && cell.getY() < 9);
+      assertTrue(map.openCells().contains(cell, true));
+    }
+  }
+
+  @Test
+  public void t30_largeMap() {
+    int size = LARGE_SIZE;
+    Map bigMap = new Map(size, size);
+    // Fill every other row with stations
+    for (int y = 0; y < size; y += 2) {
+      for (int x = 0; x < size; x++) {
+        bigMap.addFullMapEntity(TestMapEntities.newEntity(1, 1), x, y, null, true);
+      }
+    }
+
+    // Only the rows without stations are open
+    assertEquals(size * size / 2, bigMap.openCellCount(Map.MapCellType.ANY));
+    for (int i = 0; i < 100; i++) {
+      MapCell cell = bigMap.randomOpenCell(Map.MapCellType.ANY);
+      assertNotNull(cell);
+      assertEquals("Random open cell is in a row of stations.", 1, cell.getY() % 2);
+    }
+  }
+}
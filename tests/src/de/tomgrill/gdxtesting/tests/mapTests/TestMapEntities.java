@@ -0,0 +1,27 @@
+package de.tomgrill.gdxtesting.tests.mapTests;
+
+import com.undercooked.game.map.MapEntity;
+
+/**
+ * The {@link MapEntity}s that the map tests place, so that each test
+ * doesn't need to make its own.
+ */
+public final class TestMapEntities {
+
+  private TestMapEntities() {
+  }
+
+  /**
+   * Returns a new {@link MapEntity} with a size in cells.
+   *
+   * @param width  {@code int} : The width, in cells.
+   * @param height {@code int} : The height, in cells.
+   * @return {@link MapEntity} : The new {@link MapEntity}.
+   */
+  public static MapEntity newEntity(int width, int height) {
+    MapEntity entity = new MapEntity();
+    entity.setWidth(width);
+    entity.setHeight(height);
+    return entity;
+  }
+}
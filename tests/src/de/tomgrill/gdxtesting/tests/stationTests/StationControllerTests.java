@@ -0,0 +1,161 @@
+package de.tomgrill.gdxtesting.tests.stationTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import com.badlogic.gdx.utils.Array;
+import com.undercooked.game.entity.cook.Cook;
+import com.undercooked.game.food.Items;
+import com.undercooked.game.interactions.InteractResult;
+import com.undercooked.game.interactions.InteractionInstance;
+import com.undercooked.game.interactions.InteractionObject;
+import com.undercooked.game.interactions.InteractionStep;
+import com.undercooked.game.logic.GameLogic;
+import com.undercooked.game.station.Station;
+import com.undercooked.game.station.StationController;
+import com.undercooked.game.station.StationData;
+import com.undercooked.game.util.profiler.Profiler;
+
+import org.junit.runner.RunWith;
+
+import de.tomgrill.gdxtesting.GdxTestRunner;
+
+@RunWith(GdxTestRunner.class)
+// ! TESTS ARE RUN IN ALPHABETICAL ORDER !
+// * Start every test with t[0-9][0-9][...] to determine the order they run in
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StationControllerTests {
+
+  // A step that counts how many times it has been updated
+  static class CountingStep extends InteractionStep {
+    int updates;
+
+    @Override
+    public void update(InteractionInstance instance, Cook cook,
+                       float delta, float powerUpMultiplier) {
+      updates++;
+    }
+  }
+
+  static StationController controller;
+  static Station station;
+  static Station otherStation;
+  static CountingStep step;
+  static InteractionObject interaction;
+
+  @BeforeClass
+  public static void setup() {
+    step = new CountingStep();
+    interaction = new InteractionObject(new Array<>(new InteractionStep[] {step}),
+            new Array<String>());
+  }
+
+  @Before
+  public void newController() {
+    controller = new StationController();
+    station = newStation();
+    otherStation = newStation();
+    controller.addStation(station);
+    controller.addStation(otherStation);
+    step.updates = 0;
+  }
+
+  private static Station newStation() {
+    StationData data = new StationData("test_station");
+    data.setWidth(1);
+    data.setHeight(1);
+    Station newStation = new Station(data);
+    newStation.makeInteractionController(null, new Items());
+    return newStation;
+  }
+
+  @Test
+  public void t00_joinsOnInteraction() {
+    assertEquals("No station has an interaction yet.", 0, controller.getActiveCount());
+
+    station.getInteractControl().setCurrentInteraction(interaction);
+    assertEquals(1, controller.getActiveCount());
+
+    // Setting it again shouldn't add it twice
+    station.getInteractControl().setCurrentInteraction(interaction);
+    assertEquals(1, controller.getActiveCount());
+  }
+
+  @Test
+  public void t10_leavesOnStop() {
+    station.getInteractControl().setCurrentInteraction(interaction);
+    assertEquals(1, controller.getActiveCount());
+
+    // Finishing the only step ends the interaction
+    InteractResult result = station.getInteractControl().finished(null, null, null, true);
+    assertEquals(InteractResult.STOP, result);
+    assertEquals(0, controller.getActiveCount());
+  }
+
+  @Test
+  public void t11_leavesOnClear() {
+    station.getInteractControl().setCurrentInteraction(interaction);
+    station.getInteractControl().clear();
+    assertEquals(0, controller.getActiveCount());
+
+    // Clearing the Station's items also clears its interaction
+    station.getInteractControl().setCurrentInteraction(interaction);
+    station.clear();
+    assertEquals(0, controller.getActiveCount());
+  }
+
+  @Test
+  public void t20_removeStation() {
+    station.getInteractControl().setCurrentInteraction(interaction);
+    controller.removeStation(station);
+    assertEquals(0, controller.getActiveCount());
+
+    // Once removed, starting an interaction shouldn't add it back
+    station.getInteractControl().setCurrentInteraction(interaction);
+    assertEquals(0, controller.getActiveCount());
+  }
+
+  @Test
+  public void t21_clear() {
+    station.getInteractControl().setCurrentInteraction(interaction);
+    otherStation.getInteractControl().setCurrentInteraction(interaction);
+    assertEquals(2, controller.getActiveCount());
+
+    controller.clear();
+    assertEquals(0, controller.getActiveCount());
+    assertEquals(0, controller.stations.size);
+  }
+
+  @Test
+  public void t30_onlyActiveUpdated() {
+    station.getInteractControl().setCurrentInteraction(interaction);
+    controller.update(GameLogic.TICK_DELTA, 1f);
+    // Only the Station with the interaction updates the step
+    assertEquals(1, step.updates);
+
+    station.getInteractControl().clear();
+    controller.update(GameLogic.TICK_DELTA, 1f);
+    assertEquals(1, step.updates);
+  }
+
+  @Test
+  public void t40_profilerCounters() {
+    boolean wasEnabled = Profiler.isEnabled();
+    Profiler.setEnabled(true);
+    try {
+      station.getInteractControl().setCurrentInteraction(interaction);
+      controller.update(GameLogic.TICK_DELTA, 1f);
+      assertEquals(1, Profiler.getCounter(Profiler.STATIONS_ACTIVE));
+      assertEquals(2, Profiler.getCounter(Profiler.STATIONS_TOTAL));
+
+      station.getInteractControl().clear();
+      controller.update(GameLogic.TICK_DELTA, 1f);
+      assertEquals(0, Profiler.getCounter(Profiler.STATIONS_ACTIVE));
+      assertEquals(2, Profiler.getCounter(Profiler.STATIONS_TOTAL));
+    } finally {
+      Profiler.setEnabled(wasEnabled);
+    }
+  }
+}